@@ -0,0 +1,56 @@
+package com.backend.dashboard_tool.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Benchmarks cache hits through the Spring Cache abstraction on the caches built by CacheConfig,
+ * with the composite keys the layer services use.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CacheBenchmark {
+    private static final int KEYS = 1_000;
+
+    private Cache cache;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        CacheManager cacheManager = new CacheConfig().cacheManager(List.of("ictByProcess"), 100_000, Duration.ofMinutes(10));
+        cache = cacheManager.getCache("ictByProcess");
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "application-" + i;
+            cache.put(keys[i], List.of("application " + i));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object hit(Cursor cursor) {
+        cursor.next = (cursor.next + 1) % KEYS;
+        return cache.get(keys[cursor.next]).get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object hitWithKeyConcatenation(Cursor cursor) {
+        cursor.next = (cursor.next + 1) % KEYS;
+        return cache.get("application" + '-' + cursor.next).get();
+    }
+}
@@ -0,0 +1,107 @@
+package com.backend.dashboard_tool.database;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+
+/**
+ * Benchmarks creating rows through Hibernate with identity columns, which Hibernate cannot batch
+ * since it needs every generated id right away, against pooled sequences with JDBC batching,
+ * as configured in application.properties.
+ * Runs on an in-memory H2 database; to measure with network round-trips, pass a PostgreSQL URL with
+ * -Dbenchmark.jdbc.url=..., -Dbenchmark.jdbc.user=... and -Dbenchmark.jdbc.password=...
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGenerationBenchmark {
+    @Param({"100", "1000"})
+    public int rows;
+
+    private SessionFactory identity;
+    private SessionFactory pooled;
+
+    @Entity(name = "benchmark_identity_row")
+    public static class IdentityRow {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+        private String name;
+
+        public IdentityRow() {
+        }
+
+        IdentityRow(String name) {
+            this.name = name;
+        }
+    }
+
+    @Entity(name = "benchmark_pooled_row")
+    public static class PooledRow {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE)
+        private Long id;
+        private String name;
+
+        public PooledRow() {
+        }
+
+        PooledRow(String name) {
+            this.name = name;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        identity = sessionFactory(IdentityRow.class);
+        pooled = sessionFactory(PooledRow.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        identity.close();
+        pooled.close();
+    }
+
+    private static SessionFactory sessionFactory(Class<?> entity) {
+        return new Configuration()
+            .addAnnotatedClass(entity)
+            .setProperty(AvailableSettings.JAKARTA_JDBC_URL,
+                System.getProperty("benchmark.jdbc.url", "jdbc:h2:mem:id-generation;DB_CLOSE_DELAY=-1"))
+            .setProperty(AvailableSettings.JAKARTA_JDBC_USER, System.getProperty("benchmark.jdbc.user", "sa"))
+            .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, System.getProperty("benchmark.jdbc.password", ""))
+            .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+            .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+            .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+            .buildSessionFactory();
+    }
+
+    @Benchmark
+    public void createWithIdentity() {
+        identity.inTransaction(session -> {
+            for (int i = 0; i < rows; i++) {
+                session.persist(new IdentityRow("Row " + i));
+            }
+        });
+    }
+
+    @Benchmark
+    public void createWithPooledSequence() {
+        pooled.inTransaction(session -> {
+            for (int i = 0; i < rows; i++) {
+                session.persist(new PooledRow("Row " + i));
+            }
+        });
+    }
+}
@@ -0,0 +1,82 @@
+package com.backend.dashboard_tool.entity.Process_Data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.backend.dashboard_tool.entity.Strategy.Audit;
+import com.backend.dashboard_tool.entity.Strategy.KPI;
+import com.backend.dashboard_tool.sipocrecords.ProcessDataflowPair;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Benchmarks ProcessEntity.copy() and Jackson serialization of processes,
+ * which go through @JsonIdentityInfo for every process written.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProcessEntityBenchmark {
+    @Param({"10", "1000"})
+    public int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ProcessEntity process;
+    private List<ProcessEntity> processes;
+    private List<ProcessDataflowPair> pairs;
+
+    @Setup
+    public void setUp() {
+        process = process(0L);
+        for (int i = 0; i < size; i++) {
+            process.getAudits().add(new Audit());
+            process.getKpis().add(new KPI());
+            process.getSubProcesses().add(process(i + 1L));
+        }
+
+        processes = new ArrayList<>(size);
+        pairs = new ArrayList<>(size);
+        ProcessEntity target = process(-1L);
+        for (int i = 0; i < size; i++) {
+            ProcessEntity source = process(i + 1L);
+            processes.add(source);
+            Dataflow dataflow = new Dataflow();
+            dataflow.setId((long) i);
+            dataflow.setName("Dataflow " + i);
+            dataflow.setSourceProcess(source);
+            dataflow.setTargetProcess(target);
+            pairs.add(new ProcessDataflowPair(source, dataflow));
+        }
+    }
+
+    private static ProcessEntity process(Long id) {
+        ProcessEntity process = new ProcessEntity();
+        process.setId(id);
+        process.setName("Process " + id);
+        process.setType("Primary");
+        process.setLevel(1);
+        process.setDescription("Synthetic process used by the benchmark");
+        return process;
+    }
+
+    @Benchmark
+    public ProcessEntity copy() {
+        return process.copy();
+    }
+
+    @Benchmark
+    public String serializeProcesses() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(processes);
+    }
+
+    @Benchmark
+    public String serializeInputPairs() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(pairs);
+    }
+}
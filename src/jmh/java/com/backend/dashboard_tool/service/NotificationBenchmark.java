@@ -0,0 +1,64 @@
+package com.backend.dashboard_tool.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.backend.dashboard_tool.config.CacheConfig;
+
+/**
+ * Benchmarks parsing and dispatching LISTEN/NOTIFY payloads in DatabaseNotificationListener.
+ * The process graph is not loaded, so only parsing, coalescing and cache eviction are measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NotificationBenchmark {
+    private static final List<String> CACHE_NAMES = List.of("dataflows", "inputDataflows", "outputDataflows",
+        "process", "processes", "triggers", "results", "controls", "controlByProcess", "icts", "ictByProcess",
+        "infrastructures", "infrastructureByProcess", "initiatives", "initiativesByProcess", "people",
+        "peopleByProcess", "performances", "performancesByProcess", "relevances", "relevancesByProcess", "layersByProcess");
+
+    @Param({"1", "100"})
+    public int batchSize;
+
+    private DatabaseNotificationListener listener;
+    private List<String> payloads;
+
+    @Setup
+    public void setUp() {
+        listener = new DatabaseNotificationListener();
+        ReflectionTestUtils.setField(listener, "cacheManager",
+            new CacheConfig().cacheManager(CACHE_NAMES, 100_000, Duration.ofMinutes(10)));
+        ReflectionTestUtils.setField(listener, "processGraph", new ProcessGraph(null, null, null, null, null));
+        ReflectionTestUtils.setField(listener, "meterRegistry", new SimpleMeterRegistry());
+
+        payloads = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            payloads.add(switch (i % 4) {
+                case 0 -> "process:UPDATE:" + i;
+                case 1 -> "process_audit:INSERT:" + i + ":" + (i + 1);
+                case 2 -> "employee:UPDATE:" + i;
+                default -> "information_flow:DELETE:" + i;
+            });
+        }
+    }
+
+    @Benchmark
+    public void handleSingleNotification() {
+        listener.handleNotification(payloads.get(0));
+    }
+
+    @Benchmark
+    public void handleBatch() {
+        listener.handleNotifications(payloads);
+    }
+}
@@ -0,0 +1,83 @@
+package com.backend.dashboard_tool.service;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.backend.dashboard_tool.database.ResultRepository;
+import com.backend.dashboard_tool.database.TriggerRepository;
+import com.backend.dashboard_tool.entity.People.Organization;
+import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+import com.backend.dashboard_tool.entity.Process_Data.Result;
+import com.backend.dashboard_tool.entity.Process_Data.Trigger;
+import com.backend.dashboard_tool.sipocrecords.OrgTriggerPair;
+import com.backend.dashboard_tool.sipocrecords.ResultOrgPair;
+
+/**
+ * Benchmarks mapping loaded triggers and results to OrgTriggerPair/ResultOrgPair
+ * in TriggerService and ResultService. The repositories are stubbed, so only the
+ * mapping and the Organization copies are measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PairMappingBenchmark {
+    @Param({"10", "1000"})
+    public int rows;
+
+    private TriggerService triggerService;
+    private ResultService resultService;
+
+    @Setup
+    public void setUp() {
+        ProcessEntity process = new ProcessEntity();
+        process.setId(1L);
+        List<Trigger> triggers = new ArrayList<>(rows);
+        List<Result> results = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Organization organization = new Organization();
+            organization.setId((long) i);
+            organization.setName("Organization " + i);
+
+            Trigger trigger = new Trigger();
+            trigger.setId((long) i);
+            trigger.setSourceOrganization(organization);
+            trigger.setTargetProcess(process);
+            triggers.add(trigger);
+
+            Result result = new Result();
+            result.setId((long) i);
+            result.setSourceProcess(process);
+            result.setTargetOrganization(organization);
+            results.add(result);
+        }
+        triggerService = new TriggerService(stub(TriggerRepository.class, "findByTargetProcessId", triggers), null, null);
+        resultService = new ResultService(stub(ResultRepository.class, "findBySourceProcessId", results), null, null);
+    }
+
+    @Benchmark
+    public Iterable<OrgTriggerPair> mapTriggers() {
+        return triggerService.getTriggersByProcessId(1L);
+    }
+
+    @Benchmark
+    public Iterable<ResultOrgPair> mapResults() {
+        return resultService.getResultsByProcessId(1L);
+    }
+
+    private static <T> T stub(Class<T> repository, String method, Object answer) {
+        return repository.cast(Proxy.newProxyInstance(repository.getClassLoader(), new Class<?>[] {repository},
+            (proxy, invoked, args) -> {
+                if (invoked.getName().equals(method)) {
+                    return answer;
+                }
+                throw new UnsupportedOperationException(invoked.getName());
+            }));
+    }
+}
@@ -0,0 +1,42 @@
+package com.backend.dashboard_tool.DTO;
+
+import com.backend.dashboard_tool.entity.Process_Data.Dataflow;
+import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+
+/**
+ * DataflowEdge is a read-only snapshot of the scalar columns of a dataflow,
+ * together with the IDs of its source and target processes.
+ * It is produced by a JPQL constructor projection and is used to build
+ * the in-memory process graph.
+ */
+public record DataflowEdge(Long id,
+                           String name,
+                           String type,
+                           String soort,
+                           Boolean internal,
+                           Integer level,
+                           String description,
+                           Long sourceId,
+                           Long targetId) {
+
+    /**
+     * Creates a detached Dataflow holding the scalar columns of this snapshot.
+     *
+     * @param source the detached source process to attach
+     * @param target the detached target process to attach
+     * @return a new, unmanaged Dataflow
+     */
+    public Dataflow toDataflow(ProcessEntity source, ProcessEntity target) {
+        Dataflow dataflow = new Dataflow();
+        dataflow.setId(id);
+        dataflow.setName(name);
+        dataflow.setType(type);
+        dataflow.setSoort(soort);
+        dataflow.setInternal(internal);
+        dataflow.setLevel(level);
+        dataflow.setDescription(description);
+        dataflow.setSourceProcess(source);
+        dataflow.setTargetProcess(target);
+        return dataflow;
+    }
+}
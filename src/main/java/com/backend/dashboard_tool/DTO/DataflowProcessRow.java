@@ -0,0 +1,42 @@
+package com.backend.dashboard_tool.DTO;
+
+/**
+ * DataflowProcessRow is a read-only snapshot of a dataflow together with the
+ * scalar columns of the process on its other end (the supplier of an input
+ * dataflow or the consumer of an output dataflow).
+ * It is produced by a single JPQL constructor projection, so listing the
+ * dataflows of a process takes one statement regardless of the number of rows.
+ */
+public record DataflowProcessRow(Long id,
+                                 String name,
+                                 String type,
+                                 String soort,
+                                 Boolean internal,
+                                 Integer level,
+                                 String description,
+                                 Long sourceId,
+                                 Long targetId,
+                                 Long processId,
+                                 String processName,
+                                 String processType,
+                                 String processSoort,
+                                 Boolean processInternal,
+                                 Integer processLevel,
+                                 String processDescription,
+                                 Long processParentId) {
+
+    /**
+     * @return the dataflow columns of this row
+     */
+    public DataflowEdge edge() {
+        return new DataflowEdge(id, name, type, soort, internal, level, description, sourceId, targetId);
+    }
+
+    /**
+     * @return the columns of the process on the other end of the dataflow
+     */
+    public ProcessNode process() {
+        return new ProcessNode(processId, processName, processType, processSoort, processInternal,
+            processLevel, processDescription, processParentId);
+    }
+}
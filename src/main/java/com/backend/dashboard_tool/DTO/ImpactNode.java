@@ -0,0 +1,13 @@
+package com.backend.dashboard_tool.DTO;
+
+/**
+ * ImpactNode is a process or organization that is reachable in an impact analysis.
+ * It contains the kind of node ("process" or "organization"), its ID, name and type,
+ * and the number of information flows between it and the start process.
+ */
+public record ImpactNode(String kind,
+                         Long id,
+                         String name,
+                         String type,
+                         int depth) {
+}
@@ -0,0 +1,16 @@
+package com.backend.dashboard_tool.DTO;
+
+import java.util.List;
+
+/**
+ * ImpactResult is the response of an impact analysis.
+ * It contains the start process, the direction and depth that were used,
+ * the reachable nodes ordered by depth, and whether the result was cut off
+ * because it reached the maximum number of nodes.
+ */
+public record ImpactResult(Long processId,
+                           String direction,
+                           int depth,
+                           boolean truncated,
+                           List<ImpactNode> nodes) {
+}
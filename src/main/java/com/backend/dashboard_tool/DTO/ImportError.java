@@ -0,0 +1,10 @@
+package com.backend.dashboard_tool.DTO;
+
+/**
+ * ImportError describes why a row of a bulk import was rejected.
+ *
+ * @param line the line of the row in the uploaded file, starting at 1
+ * @param message what is wrong with the row
+ */
+public record ImportError(long line, String message) {
+}
@@ -0,0 +1,26 @@
+package com.backend.dashboard_tool.DTO;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ImportReport is the response of a bulk import.
+ * An import is applied completely or not at all: when any row is rejected nothing is imported,
+ * and the errors list the rejected rows, up to ImportService.MAX_ERRORS of them.
+ *
+ * @param imported the number of imported rows per table
+ * @param errors the rejected rows, ordered by line
+ * @param errorCount the total number of rejected rows
+ */
+public record ImportReport(Map<String, Long> imported,
+                           List<ImportError> errors,
+                           long errorCount) {
+    /**
+     * Whether the import was applied.
+     *
+     * @return true if no row was rejected
+     */
+    public boolean succeeded() {
+        return errorCount == 0;
+    }
+}
@@ -0,0 +1,10 @@
+package com.backend.dashboard_tool.DTO;
+
+/**
+ * LayerItem is the lightweight form of a layer entity, as listed in a LayerSummary.
+ *
+ * @param id the ID of the entity
+ * @param name the name of the entity
+ */
+public record LayerItem(Long id, String name) {
+}
@@ -0,0 +1,60 @@
+package com.backend.dashboard_tool.DTO;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * LayerQuery selects a page of layer entities with keyset pagination: the entities are ordered
+ * by ID and a page holds at most limit entities with an ID greater than after.
+ * The optional filters narrow the entities down by name (case-insensitive, partial match),
+ * soort and internal. It is bound from the request parameters of the layer endpoints
+ * and is also used as cache key, so every page is cached on its own.
+ *
+ * @param after the ID of the last entity of the previous page, or null for the first page
+ * @param limit the maximum number of entities in the page, or null for DEFAULT_LIMIT
+ * @param name the part of the name to match (optional)
+ * @param soort the soort to match (optional)
+ * @param internal the internal flag to match (optional)
+ */
+public record LayerQuery(Long after,
+                         Integer limit,
+                         String name,
+                         String soort,
+                         Boolean internal) {
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    /**
+     * Whether none of the parameters were given, in which case the endpoints return all entities.
+     *
+     * @return true if neither a cursor, a limit nor a filter is set
+     */
+    public boolean isEmpty() {
+        return after == null && limit == null && name == null && soort == null && internal == null;
+    }
+
+    /**
+     * The number of entities to fetch for this page.
+     *
+     * @return the limit, or DEFAULT_LIMIT if no limit was given
+     * @throws ResponseStatusException if the limit is not between 1 and MAX_LIMIT
+     */
+    public int pageSize() {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Limit must be between 1 and " + MAX_LIMIT + ": " + limit);
+        }
+        return limit;
+    }
+
+    /**
+     * The same filters without the cursor and the limit, as used to count the matching entities.
+     *
+     * @return a LayerQuery holding only the filters
+     */
+    public LayerQuery withoutCursor() {
+        return new LayerQuery(null, null, name, soort, internal);
+    }
+}
@@ -0,0 +1,13 @@
+package com.backend.dashboard_tool.DTO;
+
+import java.util.List;
+
+/**
+ * LayerSummary holds the entities of one layer type that are linked to a process:
+ * the number of linked entities and the first of them, ordered by ID.
+ *
+ * @param count the number of linked entities
+ * @param items at most the requested number of linked entities
+ */
+public record LayerSummary(long count, List<LayerItem> items) {
+}
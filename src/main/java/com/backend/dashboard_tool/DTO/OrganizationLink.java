@@ -0,0 +1,15 @@
+package com.backend.dashboard_tool.DTO;
+
+/**
+ * OrganizationLink is a read-only snapshot of a trigger or a result,
+ * reduced to the IDs of the organization and the process it connects.
+ * A trigger runs from the organization to the process,
+ * a result runs from the process to the organization.
+ * It is produced by a JPQL constructor projection and is used to build
+ * the in-memory process graph.
+ */
+public record OrganizationLink(Long id,
+                               Long organizationId,
+                               Long processId,
+                               boolean trigger) {
+}
@@ -0,0 +1,26 @@
+package com.backend.dashboard_tool.DTO;
+
+import java.util.Map;
+
+/**
+ * ProcessLayers summarizes every layer of a process, read with a single query.
+ * The layers are grouped like in the SIPOC view, by layer and then by type,
+ * e.g. layers.get("people").get("employee"); every type is present, also when nothing is linked.
+ *
+ * @param processId the ID of the process
+ * @param name the name of the process
+ * @param layers the LayerSummary per type, per layer
+ */
+public record ProcessLayers(Long processId, String name, Map<String, Map<String, LayerSummary>> layers) {
+    /**
+     * The number of items over all layers, which is what the cache weighs this summary by.
+     *
+     * @return the total number of items
+     */
+    public int itemCount() {
+        return layers.values().stream()
+            .flatMap(byType -> byType.values().stream())
+            .mapToInt(summary -> summary.items().size())
+            .sum();
+    }
+}
@@ -0,0 +1,37 @@
+package com.backend.dashboard_tool.DTO;
+
+import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+
+/**
+ * ProcessNode is a read-only snapshot of the scalar columns of a process.
+ * It is produced by a JPQL constructor projection, so no Hibernate proxy
+ * or lazy collection is attached to it.
+ * It is used to build the in-memory process graph.
+ */
+public record ProcessNode(Long id,
+                          String name,
+                          String type,
+                          String soort,
+                          Boolean internal,
+                          Integer level,
+                          String description,
+                          Long parentId) {
+
+    /**
+     * Creates a detached ProcessEntity holding only the scalar columns of this snapshot.
+     * The parent and all collections are left empty, so serializing it never hits the database.
+     *
+     * @return a new, unmanaged ProcessEntity
+     */
+    public ProcessEntity toEntity() {
+        ProcessEntity process = new ProcessEntity();
+        process.setId(id);
+        process.setName(name);
+        process.setType(type);
+        process.setSoort(soort);
+        process.setInternal(internal);
+        process.setLevel(level);
+        process.setDescription(description);
+        return process;
+    }
+}
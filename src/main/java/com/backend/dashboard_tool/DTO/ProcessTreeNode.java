@@ -0,0 +1,27 @@
+package com.backend.dashboard_tool.DTO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ProcessTreeNode is a read-only snapshot of a process inside a process tree.
+ * It is produced by a JPQL constructor projection over the closure table;
+ * the children are filled in afterwards when the tree is assembled.
+ * The depth is relative to the root of the requested tree.
+ */
+public record ProcessTreeNode(Long id,
+                              String name,
+                              String type,
+                              String soort,
+                              Boolean internal,
+                              Integer level,
+                              String description,
+                              Long parentId,
+                              int depth,
+                              List<ProcessTreeNode> children) {
+
+    public ProcessTreeNode(Long id, String name, String type, String soort, Boolean internal,
+                           Integer level, String description, Long parentId, int depth) {
+        this(id, name, type, soort, internal, level, description, parentId, depth, new ArrayList<>());
+    }
+}
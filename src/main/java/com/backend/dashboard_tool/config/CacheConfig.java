@@ -0,0 +1,117 @@
+package com.backend.dashboard_tool.config;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.backend.dashboard_tool.DTO.ProcessLayers;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * Cache configuration for the application.
+ * The caches hold result lists of very different sizes, so they are bounded by
+ * the total number of cached elements instead of by the number of entries.
+ * Statistics are recorded for every cache, so that the actuator exposes their hit ratio
+ * and size-based evictions as the cache.gets, cache.evictions and cache.eviction.weight meters.
+ * Lookups and updates are timed as the cache phase of the current request, see RequestPhases.
+ */
+@Configuration
+public class CacheConfig {
+    /**
+     * Weighs a cached value by the number of elements it holds.
+     * Collections and maps weigh one per element plus one for the entry itself,
+     * and so do the layer summaries per item; any other value weighs one.
+     */
+    static final Weigher<Object, Object> SIZE_WEIGHER = (key, value) -> {
+        if (value instanceof ProcessLayers layers) {
+            return layers.itemCount() + 1;
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.size() + 1;
+        }
+        if (value instanceof Map<?, ?> map) {
+            return map.size() + 1;
+        }
+        return 1;
+    };
+
+    /**
+     * Creates the Caffeine cache manager with weight-bounded caches.
+     *
+     * @param cacheNames the names of the caches to create up front
+     * @param maximumWeight the maximum total weight per cache
+     * @param expireAfterAccess how long an entry stays cached after its last access
+     * @return the configured CacheManager
+     */
+    @Bean
+    public CacheManager cacheManager(
+        @Value("${spring.cache.cache-names}") List<String> cacheNames,
+        @Value("${app.cache.maximum-weight:100000}") long maximumWeight,
+        @Value("${app.cache.expire-after-access:600s}") Duration expireAfterAccess
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new PhaseTimedCache(name, cache, isAllowNullValues());
+            }
+        };
+        cacheManager.setCaffeine(caffeine(maximumWeight, expireAfterAccess));
+        cacheManager.setCacheNames(cacheNames.stream().map(String::trim).toList());
+        return cacheManager;
+    }
+
+    /**
+     * Builds the Caffeine specification shared by all caches.
+     *
+     * @param maximumWeight the maximum total weight per cache
+     * @param expireAfterAccess how long an entry stays cached after its last access
+     * @return the Caffeine builder
+     */
+    static Caffeine<Object, Object> caffeine(long maximumWeight, Duration expireAfterAccess) {
+        return Caffeine.newBuilder()
+            .maximumWeight(maximumWeight)
+            .weigher(SIZE_WEIGHER)
+            .expireAfterAccess(expireAfterAccess)
+            .recordStats();
+    }
+
+    /**
+     * Caffeine cache that adds the time of every lookup and update to the cache phase of the current request.
+     * It stays a CaffeineCache, so the cache metrics and the native cache remain available.
+     */
+    static class PhaseTimedCache extends CaffeineCache {
+        PhaseTimedCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache, boolean allowNullValues) {
+            super(name, cache, allowNullValues);
+        }
+
+        @Override
+        protected Object lookup(Object key) {
+            long start = System.nanoTime();
+            try {
+                return super.lookup(key);
+            } finally {
+                RequestPhases.addCache(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            long start = System.nanoTime();
+            try {
+                super.put(key, value);
+            } finally {
+                RequestPhases.addCache(System.nanoTime() - start);
+            }
+        }
+    }
+}
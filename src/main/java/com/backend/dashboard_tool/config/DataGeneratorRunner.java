@@ -0,0 +1,108 @@
+package com.backend.dashboard_tool.config;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.backend.dashboard_tool.database.SyntheticDataGenerator;
+
+/**
+ * DataGeneratorRunner fills the configured database with a synthetic enterprise model
+ * when the application is started with the 'generate' profile, for instance:
+ * java -jar dashboard-tool.jar --spring.profiles.active=generate --app.generator.processes=100000
+ * The sizes are read from the app.generator.* properties; counts and fan-outs take per-table
+ * overrides as a comma-separated list such as employee=5000,application=2000.
+ * By default the application exits when the data has been generated; with
+ * app.generator.exit=false it keeps running and serves the generated data.
+ */
+@Component
+@Profile("generate")
+public class DataGeneratorRunner implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(DataGeneratorRunner.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationContext applicationContext;
+    private final SyntheticDataGenerator.Settings settings;
+    private final boolean exit;
+
+    /**
+     * Constructor for DataGeneratorRunner.
+     * Unset properties fall back to SyntheticDataGenerator.Settings.defaults().
+     */
+    public DataGeneratorRunner(
+        JdbcTemplate jdbcTemplate,
+        ApplicationContext applicationContext,
+        @Value("${app.generator.processes:10000}") int processes,
+        @Value("${app.generator.entities:1000}") int entities,
+        @Value("${app.generator.counts:}") List<String> counts,
+        @Value("${app.generator.depth:4}") int depth,
+        @Value("${app.generator.branching:8}") int branching,
+        @Value("${app.generator.dataflows-per-process:5.0}") double dataflowsPerProcess,
+        @Value("${app.generator.sibling-share:0.6}") double siblingShare,
+        @Value("${app.generator.triggers-per-process:1.0}") double triggersPerProcess,
+        @Value("${app.generator.results-per-process:1.0}") double resultsPerProcess,
+        @Value("${app.generator.fan-out:3}") int fanOut,
+        @Value("${app.generator.fan-outs:}") List<String> fanOuts,
+        @Value("${app.generator.batch-size:1000}") int batchSize,
+        @Value("${app.generator.seed:42}") long seed,
+        @Value("${app.generator.exit:true}") boolean exit
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.applicationContext = applicationContext;
+        this.settings = new SyntheticDataGenerator.Settings(processes, entities, parseCounts(counts), depth, branching,
+            dataflowsPerProcess, siblingShare, triggersPerProcess, resultsPerProcess, fanOut, parseCounts(fanOuts),
+            batchSize, seed);
+        this.exit = exit;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Generating synthetic data with {}", settings);
+        long start = System.nanoTime();
+        Map<String, Integer> report = new SyntheticDataGenerator(jdbcTemplate, settings).generate();
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        long total = 0;
+        for (Map.Entry<String, Integer> entry : report.entrySet()) {
+            log.info("{}: {} rows", entry.getKey(), entry.getValue());
+            total += entry.getValue();
+        }
+        log.info("Generated {} rows in {} ms", total, millis);
+
+        if (exit) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+
+    /**
+     * Parses a list of table=count entries into a map.
+     *
+     * @param entries the entries, as given in the properties
+     * @return the counts keyed by table name
+     */
+    static Map<String, Integer> parseCounts(List<String> entries) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String entry : entries) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected table=count but got '" + entry + "'");
+            }
+            counts.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,33 @@
+package com.backend.dashboard_tool.config;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate session listener that adds the time spent executing JDBC statements and
+ * batches to the database phase of the current request.
+ * Hibernate creates one instance per session, see hibernate.session.events.auto.
+ */
+public class JdbcPhaseListener implements SessionEventListener {
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestPhases.addDb(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestPhases.addDb(System.nanoTime() - batchStart);
+    }
+}
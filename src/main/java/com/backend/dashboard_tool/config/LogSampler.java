@@ -0,0 +1,48 @@
+package com.backend.dashboard_tool.config;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * LogSampler lets at most one event per interval through, so that high-frequency events
+ * such as per-row cache invalidations are logged as a periodic sample instead of one line each.
+ * Every sampled event reports how many events were suppressed since the previous one.
+ */
+public final class LogSampler {
+    private final long intervalNanos;
+    private final LongSupplier clock;
+    private final AtomicLong nextSample;
+    private final AtomicLong suppressed = new AtomicLong();
+
+    /**
+     * Constructor for LogSampler.
+     *
+     * @param interval the minimum time between two sampled events
+     */
+    public LogSampler(Duration interval) {
+        this(interval, System::nanoTime);
+    }
+
+    LogSampler(Duration interval, LongSupplier clock) {
+        this.intervalNanos = interval.toNanos();
+        this.clock = clock;
+        this.nextSample = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * Decides whether an event should be logged.
+     *
+     * @return the number of events suppressed since the last sampled event,
+     * or -1 if this event should not be logged
+     */
+    public long sample() {
+        long now = clock.getAsLong();
+        long next = nextSample.get();
+        if (now - next >= 0 && nextSample.compareAndSet(next, now + intervalNanos)) {
+            return suppressed.getAndSet(0);
+        }
+        suppressed.incrementAndGet();
+        return -1;
+    }
+}
@@ -0,0 +1,202 @@
+package com.backend.dashboard_tool.config;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Metrics configuration that breaks every controller request down into the time spent
+ * in cache lookups, database statements, entity hydration and JSON serialization.
+ * Each phase is recorded in the http.server.requests.phase timer, tagged with the same
+ * method and uri as Spring's own http.server.requests timer, so the two can be compared.
+ * Percentiles and histograms are configured with the management.metrics.distribution.* properties.
+ * A streamed response body is written on an async thread after the controller has returned; the phases
+ * collected there are added to the request, and the time the body spends writing, apart from the cache,
+ * database and repository time, is its serialization. That includes the export, which reads with plain JDBC.
+ *
+ * @see RequestPhases
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+    /**
+     * Name of the timer of the request phases.
+     */
+    public static final String PHASE_METER = "http.server.requests.phase";
+
+    /**
+     * Request attribute holding the timings of a request, for the threads that continue it after it went async.
+     */
+    static final String TIMINGS_ATTRIBUTE = RequestPhases.class.getName() + ".timings";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    /**
+     * Constructor for MetricsConfig.
+     *
+     * @param meterRegistry the registry to record the phases in, if metrics are enabled
+     */
+    public MetricsConfig(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new PhaseInterceptor(meterRegistry));
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new PhaseCallableInterceptor());
+    }
+
+    /**
+     * Creates the JSON message converter, timing every response it writes.
+     * Spring Boot backs off its own converter when this bean is present.
+     *
+     * @param objectMapper the application's ObjectMapper
+     * @return the timed message converter
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2HttpMessageConverter(objectMapper) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+                throws IOException, HttpMessageNotWritableException {
+                long start = System.nanoTime();
+                try {
+                    super.writeInternal(object, type, outputMessage);
+                } finally {
+                    RequestPhases.addSerialization(System.nanoTime() - start);
+                }
+            }
+        };
+    }
+
+    /**
+     * Adds a listener to every Spring Data repository that adds the duration of each call
+     * to the repository time of the current request.
+     *
+     * @return the BeanPostProcessor customizing the repository factories
+     */
+    @Bean
+    static BeanPostProcessor repositoryPhasePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(
+                        invocation -> RequestPhases.addRepository(invocation.getDuration(TimeUnit.NANOSECONDS))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Starts collecting the phases when a request reaches a controller and records them when it completes.
+     * A request that goes async keeps its timings in a request attribute, and they are recorded when
+     * the request is dispatched again after the async work is done.
+     */
+    static class PhaseInterceptor implements AsyncHandlerInterceptor {
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        PhaseInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+            if (request.getDispatcherType() == DispatcherType.ASYNC
+                && request.getAttribute(TIMINGS_ATTRIBUTE) instanceof RequestPhases.Timings timings) {
+                RequestPhases.attach(timings);
+            } else {
+                RequestPhases.start();
+                request.setAttribute(TIMINGS_ATTRIBUTE, RequestPhases.current());
+            }
+            return true;
+        }
+
+        @Override
+        public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+            // The request continues on another thread, this one goes on to serve other requests
+            RequestPhases.attach(null);
+        }
+
+        @Override
+        public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+            Map<RequestPhases.Phase, Long> phases = RequestPhases.stop();
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                return;
+            }
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+            phases.forEach((phase, nanos) -> Timer.builder(PHASE_METER)
+                .description("Time spent per phase of serving a request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .tag("phase", phase.tag())
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS));
+        }
+    }
+
+    /**
+     * Continues collecting the phases of a request on the async thread that runs its Callable,
+     * which is how Spring writes a StreamingResponseBody. The controllers only go async to stream
+     * a response body, so the time the Callable takes, apart from the phases it collects itself,
+     * is added as serialization.
+     */
+    static class PhaseCallableInterceptor implements CallableProcessingInterceptor {
+        private static final String START_ATTRIBUTE = PhaseCallableInterceptor.class.getName() + ".start";
+        private static final String DATA_ATTRIBUTE = PhaseCallableInterceptor.class.getName() + ".data";
+
+        @Override
+        public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+            if (!(request.getAttribute(TIMINGS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof RequestPhases.Timings timings)) {
+                return;
+            }
+            RequestPhases.attach(timings);
+            request.setAttribute(DATA_ATTRIBUTE, timings.data(), RequestAttributes.SCOPE_REQUEST);
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime(), RequestAttributes.SCOPE_REQUEST);
+        }
+
+        @Override
+        public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+            RequestPhases.Timings timings = RequestPhases.current();
+            if (timings != null && request.getAttribute(START_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Long start
+                && request.getAttribute(DATA_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Long data) {
+                long elapsed = System.nanoTime() - start;
+                RequestPhases.addSerialization(Math.max(0, elapsed - (timings.data() - data)));
+            }
+            RequestPhases.attach(null);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.backend.dashboard_tool.config;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RequestPhases collects, per request thread, the time spent in each phase of serving a request.
+ * The phases are measured where they happen: cache lookups in the Caffeine caches, JDBC statements
+ * in Hibernate's session events, repository calls in the Spring Data invocation listener and JSON
+ * serialization in the Jackson message converter. Outside of a request nothing is collected.
+ * Entity hydration has no hook of its own, so it is the repository time minus the database time.
+ * Work a request hands to other threads is collected as well when it is wrapped with propagate,
+ * and a streamed response body is timed by MetricsConfig on the async thread that writes it.
+ */
+public final class RequestPhases {
+    /**
+     * The phases a request is broken down into.
+     */
+    public enum Phase {
+        CACHE, DB, HYDRATION, SERIALIZATION;
+
+        /**
+         * @return the phase name as used in the metric tags
+         */
+        public String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    /**
+     * The nanoseconds collected for one request.
+     * A request may be served by more than one thread, so the counters are safe to add to concurrently.
+     */
+    public static final class Timings {
+        private final LongAdder cache = new LongAdder();
+        private final LongAdder db = new LongAdder();
+        private final LongAdder repository = new LongAdder();
+        private final LongAdder serialization = new LongAdder();
+
+        private Timings() {
+        }
+
+        /**
+         * @return the nanoseconds spent in the cache, the database and the repositories, which are not serialization
+         */
+        long data() {
+            return cache.sum() + Math.max(repository.sum(), db.sum());
+        }
+    }
+
+    private static final ThreadLocal<Timings> CURRENT = new ThreadLocal<>();
+
+    private RequestPhases() {
+    }
+
+    /**
+     * Starts collecting for the request on the current thread.
+     */
+    public static void start() {
+        CURRENT.set(new Timings());
+    }
+
+    /**
+     * Stops collecting for the request on the current thread.
+     *
+     * @return the nanoseconds per phase, or an empty map if no request was being collected
+     */
+    public static Map<Phase, Long> stop() {
+        Timings timings = CURRENT.get();
+        CURRENT.remove();
+        Map<Phase, Long> phases = new EnumMap<>(Phase.class);
+        if (timings != null) {
+            long db = timings.db.sum();
+            phases.put(Phase.CACHE, timings.cache.sum());
+            phases.put(Phase.DB, db);
+            phases.put(Phase.HYDRATION, Math.max(0, timings.repository.sum() - db));
+            phases.put(Phase.SERIALIZATION, timings.serialization.sum());
+        }
+        return phases;
+    }
+
+    /**
+     * @return the timings of the request on the current thread, or null outside of a request
+     */
+    public static Timings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Continues collecting for a request on the current thread, e.g. on a thread the request handed work to.
+     *
+     * @param timings the timings of the request, or null to stop collecting on this thread
+     * @return the timings the current thread was collecting for before, to be attached again afterwards
+     */
+    public static Timings attach(Timings timings) {
+        Timings previous = CURRENT.get();
+        if (timings == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(timings);
+        }
+        return previous;
+    }
+
+    /**
+     * Wraps a task so that it adds to the timings of the request that creates it, on whatever thread it runs.
+     * Phases of tasks that run at the same time are summed, so they can add up to more than the request took.
+     *
+     * @param <T> the result type of the task
+     * @param task the task to run for the current request
+     * @return the task collecting for the current request, or the task itself outside of a request
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        Timings timings = CURRENT.get();
+        if (timings == null) {
+            return task;
+        }
+        return () -> {
+            Timings previous = attach(timings);
+            try {
+                return task.call();
+            } finally {
+                attach(previous);
+            }
+        };
+    }
+
+    /**
+     * Adds time spent in a cache lookup or update.
+     *
+     * @param nanos the elapsed nanoseconds
+     */
+    public static void addCache(long nanos) {
+        Timings timings = CURRENT.get();
+        if (timings != null) {
+            timings.cache.add(nanos);
+        }
+    }
+
+    /**
+     * Adds time spent executing JDBC statements.
+     *
+     * @param nanos the elapsed nanoseconds
+     */
+    public static void addDb(long nanos) {
+        Timings timings = CURRENT.get();
+        if (timings != null) {
+            timings.db.add(nanos);
+        }
+    }
+
+    /**
+     * Adds time spent in a repository call, including its JDBC statements.
+     *
+     * @param nanos the elapsed nanoseconds
+     */
+    public static void addRepository(long nanos) {
+        Timings timings = CURRENT.get();
+        if (timings != null) {
+            timings.repository.add(nanos);
+        }
+    }
+
+    /**
+     * Adds time spent writing the response body as JSON.
+     *
+     * @param nanos the elapsed nanoseconds
+     */
+    public static void addSerialization(long nanos) {
+        Timings timings = CURRENT.get();
+        if (timings != null) {
+            timings.serialization.add(nanos);
+        }
+    }
+}
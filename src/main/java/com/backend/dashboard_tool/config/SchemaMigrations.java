@@ -0,0 +1,241 @@
+package com.backend.dashboard_tool.config;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+/**
+ * SchemaMigrations brings the database schema up to date with the versioned SQL scripts in
+ * db/migration before Hibernate validates it, in the manner of Flyway.
+ * Scripts are named V{version}__{description}.sql; those in db/migration/common run on every database,
+ * those in a folder named after the database (postgresql, h2) only on that database.
+ * Every applied script is recorded with its checksum in the schema_history table, and startup fails when an
+ * applied script has been changed since. A database that has tables but no history, because it was created
+ * by ddl-auto=update, is baselined at version 1 and only gets the scripts after it.
+ *
+ * @see SchemaMigrationsAutoConfiguration
+ */
+public class SchemaMigrations {
+    private static final Logger log = LoggerFactory.getLogger(SchemaMigrations.class);
+
+    /**
+     * The table that records the applied migrations.
+     */
+    public static final String HISTORY_TABLE = "schema_history";
+
+    static final int BASELINE_VERSION = 1;
+
+    private static final String LOCATION = "db/migration";
+    private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+    // Serializes the migrations of application instances that start at the same time
+    private static final long POSTGRES_LOCK_KEY = 0x5343484d41L;
+
+    private final DataSource dataSource;
+
+    /**
+     * A migration script.
+     *
+     * @param version the version, which sets the order of the scripts
+     * @param description the description, from the file name
+     * @param script the file name
+     * @param sql the contents
+     */
+    record Migration(int version, String description, String script, String sql) {
+        int checksum() {
+            CRC32 crc = new CRC32();
+            crc.update(sql.replace("\r\n", "\n").getBytes(StandardCharsets.UTF_8));
+            return (int) crc.getValue();
+        }
+    }
+
+    /**
+     * Constructor for SchemaMigrations.
+     *
+     * @param dataSource the DataSource to migrate
+     */
+    public SchemaMigrations(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Applies the pending migrations, each in its own transaction.
+     *
+     * @throws IllegalStateException if a migration fails or an applied one has been changed
+     */
+    public void migrate() {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                migrate(connection);
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to migrate the database schema", e);
+        }
+    }
+
+    private void migrate(Connection connection) throws SQLException {
+        String vendor = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+        List<Migration> migrations = load(vendor);
+        boolean postgres = "postgresql".equals(vendor);
+
+        lock(connection, postgres);
+        if (!hasTable(connection, HISTORY_TABLE)) {
+            boolean existing = hasTable(connection, "%");
+            createHistory(connection);
+            if (existing) {
+                record(connection, new Migration(BASELINE_VERSION, "<< baseline >>", null, null), null, 0);
+                log.info("Baselined the existing schema at version {}", BASELINE_VERSION);
+            }
+        }
+        connection.commit();
+
+        int applied = 0;
+        for (Migration migration : migrations) {
+            lock(connection, postgres);
+            Map<Integer, Integer> history = history(connection);
+            if (history.containsKey(migration.version())) {
+                Integer checksum = history.get(migration.version());
+                if (checksum != null && checksum != migration.checksum()) {
+                    connection.rollback();
+                    throw new IllegalStateException("Migration " + migration.script() + " has been changed since it was applied");
+                }
+                connection.commit();
+                continue;
+            }
+            long start = System.currentTimeMillis();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(migration.sql());
+                record(connection, migration, migration.checksum(), (int) (System.currentTimeMillis() - start));
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw new IllegalStateException("Migration " + migration.script() + " failed", e);
+            }
+            log.info("Applied migration {} in {} ms", migration.script(), System.currentTimeMillis() - start);
+            applied++;
+        }
+        log.info("Database schema is up to date, {} migration(s) applied", applied);
+    }
+
+    /**
+     * Reads the migration scripts of a database, ordered by version.
+     *
+     * @param vendor the lower-case database product name
+     * @return the migrations
+     * @throws IllegalStateException if two scripts have the same version or a script cannot be read
+     */
+    static List<Migration> load(String vendor) {
+        ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        List<Migration> migrations = new ArrayList<>();
+        Map<Integer, String> scripts = new HashMap<>();
+        try {
+            for (String folder : List.of("common", vendor)) {
+                for (Resource resource : resolver.getResources("classpath*:" + LOCATION + "/" + folder + "/V*__*.sql")) {
+                    Matcher matcher = SCRIPT_NAME.matcher(resource.getFilename());
+                    if (!matcher.matches()) {
+                        continue;
+                    }
+                    int version = Integer.parseInt(matcher.group(1));
+                    String previous = scripts.put(version, resource.getFilename());
+                    if (previous != null) {
+                        throw new IllegalStateException("Migrations " + previous + " and " + resource.getFilename()
+                            + " have the same version");
+                    }
+                    migrations.add(new Migration(version, matcher.group(2).replace('_', ' '), resource.getFilename(),
+                        resource.getContentAsString(StandardCharsets.UTF_8)));
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read the migrations", e);
+        }
+        migrations.sort(Comparator.comparingInt(Migration::version));
+        return migrations;
+    }
+
+    private static void lock(Connection connection, boolean postgres) throws SQLException {
+        if (postgres) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SELECT pg_advisory_xact_lock(" + POSTGRES_LOCK_KEY + ")");
+            }
+        }
+    }
+
+    private static boolean hasTable(Connection connection, String name) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        String pattern = metaData.storesUpperCaseIdentifiers() ? name.toUpperCase(Locale.ROOT) : name;
+        try (ResultSet tables = metaData.getTables(connection.getCatalog(), connection.getSchema(), pattern,
+                new String[] {"TABLE"})) {
+            return tables.next();
+        }
+    }
+
+    private static void createHistory(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE " + HISTORY_TABLE + " ("
+                + "version INTEGER NOT NULL PRIMARY KEY, "
+                + "description VARCHAR(200) NOT NULL, "
+                + "script VARCHAR(1000), "
+                + "checksum INTEGER, "
+                + "installed_on TIMESTAMP NOT NULL, "
+                + "execution_time INTEGER NOT NULL)");
+        }
+    }
+
+    private static Map<Integer, Integer> history(Connection connection) throws SQLException {
+        Map<Integer, Integer> history = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT version, checksum FROM " + HISTORY_TABLE)) {
+            while (rows.next()) {
+                int version = rows.getInt(1);
+                int checksum = rows.getInt(2);
+                history.put(version, rows.wasNull() ? null : checksum);
+            }
+        }
+        return history;
+    }
+
+    private static void record(Connection connection, Migration migration, Integer checksum, int executionTime)
+        throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO " + HISTORY_TABLE
+                + " (version, description, script, checksum, installed_on, execution_time) VALUES (?, ?, ?, ?, ?, ?)")) {
+            statement.setInt(1, migration.version());
+            statement.setString(2, migration.description());
+            statement.setString(3, migration.script());
+            if (checksum == null) {
+                statement.setNull(4, Types.INTEGER);
+            } else {
+                statement.setInt(4, checksum);
+            }
+            statement.setTimestamp(5, new Timestamp(System.currentTimeMillis()));
+            statement.setInt(6, executionTime);
+            statement.executeUpdate();
+        }
+    }
+}
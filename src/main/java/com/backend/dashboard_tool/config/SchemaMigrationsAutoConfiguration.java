@@ -0,0 +1,46 @@
+package com.backend.dashboard_tool.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Runs the SchemaMigrations against the application's DataSource before the EntityManagerFactory is built,
+ * so that Hibernate validates the migrated schema.
+ * It is an auto-configuration rather than a component so that the @DataJpaTest slices, which list it in
+ * their AutoConfigureDataJpa imports, test the repositories against the migrated schema as well.
+ * Migrations can be turned off with app.migrations.enabled=false, for instance by tests that let
+ * Hibernate create the schema.
+ */
+@AutoConfiguration(after = DataSourceAutoConfiguration.class, before = HibernateJpaAutoConfiguration.class)
+@ConditionalOnBean(DataSource.class)
+@ConditionalOnProperty(name = "app.migrations.enabled", havingValue = "true", matchIfMissing = true)
+@Import(SchemaMigrationsAutoConfiguration.EntityManagerFactoryDependsOnMigrations.class)
+public class SchemaMigrationsAutoConfiguration {
+    /**
+     * Creates the SchemaMigrations, which migrate the database when the bean is initialized.
+     *
+     * @param dataSource the DataSource to migrate
+     * @return the SchemaMigrations
+     */
+    @Bean(initMethod = "migrate")
+    public SchemaMigrations schemaMigrations(DataSource dataSource) {
+        return new SchemaMigrations(dataSource);
+    }
+
+    /**
+     * Makes the EntityManagerFactory depend on the schemaMigrations bean.
+     */
+    static class EntityManagerFactoryDependsOnMigrations extends EntityManagerFactoryDependsOnPostProcessor {
+        EntityManagerFactoryDependsOnMigrations() {
+            super("schemaMigrations");
+        }
+    }
+}
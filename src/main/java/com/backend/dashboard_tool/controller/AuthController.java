@@ -2,6 +2,8 @@ package com.backend.dashboard_tool.controller;
 
 import java.util.*;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -20,6 +22,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
+    private static final Logger log = LoggerFactory.getLogger(AuthController.class);
+
     /**
      * The password hash for the user "metadata@Ret2025".
      * This hash is used to verify the password provided during login.
@@ -47,7 +51,7 @@ public class AuthController {
      */
     @PostMapping("/login")
     public ResponseEntity<?> login(@RequestBody String password) {
-        System.out.println("Login attempt received");
+        log.debug("Login attempt received");
         
         // Trim the password to handle JSON formatting
         password = password.trim();
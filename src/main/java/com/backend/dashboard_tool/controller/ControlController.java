@@ -9,7 +9,10 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.backend.dashboard_tool.DTO.LayerQuery;
+import com.backend.dashboard_tool.service.JsonStreamService;
 import com.backend.dashboard_tool.service.ControlService;
 
 @RestController
@@ -19,22 +22,57 @@ public class ControlController {
     @Autowired
     private ControlService controlService;
 
+    @Autowired
+    private JsonStreamService jsonStreamService;
+
         /**
      * Retrieves all asset-related entities of a specific type.
      * This endpoint fetches all records for the specified asset type.
      *
      * @param type The type of asset entity to retrieve (e.g., "audit", "legislation").
+     * @param query The cursor, limit and filters of a page (optional); without them all entities are returned.
      * @return A ResponseEntity containing the list of entities for the specified type,
      *         or a bad request response if the type is unknown.
      */
     @GetMapping("/all")
-    public ResponseEntity<?> getAllControlByType(@RequestParam String type) {
+    public ResponseEntity<?> getAllControlByType(@RequestParam String type, LayerQuery query) {
+        if (!query.isEmpty()) {
+            // Pages are returned as they are, an empty page marks the end
+            return ResponseEntity.ok(controlService.getControlsPage(type.toLowerCase(), query));
+        }
         List<?> items = controlService.getAllControlsByType(type.toLowerCase());
         if (items.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
         return ResponseEntity.ok(items);
     }
+
+    /**
+     * Streams all control-related entities of a specific type as a JSON array, writing every entity
+     * as soon as it is read from the database instead of collecting them first.
+     * Streamed listings are not cached and an empty type gives an empty array instead of not found.
+     *
+     * @param type The type of control entity to retrieve.
+     * @return A ResponseEntity with a body that writes the entities ordered by ID.
+     */
+    @GetMapping(value = "/all", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllControlsByType(@RequestParam String type) {
+        return jsonStreamService.streamArray(() -> controlService.streamAllControlsByType(type.toLowerCase()));
+    }
+
+    /**
+     * Counts the control-related entities of a specific type, optionally narrowed down by the filters
+     * of a page query, without loading them.
+     *
+     * @param type The type of control entity to count.
+     * @param query The filters to match (optional).
+     * @return A ResponseEntity containing the number of matching entities.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countControls(@RequestParam String type, LayerQuery query) {
+        return ResponseEntity.ok(controlService.countControls(type.toLowerCase(), query));
+    }
+
     /**
      * Retrieves a specific control entity by type and process ID.
      * This endpoint fetches a single entity corresponding to the specified control type and process ID.
@@ -5,6 +5,7 @@ import com.backend.dashboard_tool.service.DataflowService;
 import com.backend.dashboard_tool.sipocrecords.DataflowProcessPair;
 import com.backend.dashboard_tool.sipocrecords.ProcessDataflowPair;
 import com.backend.dashboard_tool.DTO.DataflowDTO;
+import com.backend.dashboard_tool.DTO.ImpactResult;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -94,4 +95,23 @@ public class DataflowController {
     ){
         return dataflowService.getOutputDataflows(processId, parentId, type);
     }
+
+    /**
+     * Endpoint for retrieving all processes and organizations that are reachable from a process
+     * through dataflows, triggers and results, up to a maximum depth.
+     * This replaces calling /inputs or /outputs recursively.
+     *
+     * @param processId The id of the start process.
+     * @param direction "downstream" to follow flows forwards, "upstream" to follow them backwards.
+     * @param depth The maximum number of flows between the start process and a returned node (default 3).
+     * @return An ImpactResult with the reachable nodes ordered by depth.
+     */
+    @GetMapping("/impact")
+    public ImpactResult getImpact(
+        @RequestParam Long processId,
+        @RequestParam(defaultValue = "downstream") String direction,
+        @RequestParam(defaultValue = "3") int depth
+    ){
+        return dataflowService.getImpact(processId, direction, depth);
+    }
 }
@@ -0,0 +1,60 @@
+package com.backend.dashboard_tool.controller;
+
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.backend.dashboard_tool.service.ExportService;
+
+/**
+ * Controller for exporting the whole enterprise model.
+ * The export is streamed as newline-delimited JSON while it is read from the database.
+ */
+@RestController
+@CrossOrigin(origins = "${frontend.url}")
+@RequestMapping("/export")
+public class ExportController {
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final ExportService exportService;
+
+    /**
+     * Constructor for ExportController.
+     *
+     * @param exportService the ExportService instance
+     */
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    /**
+     * Exports every process, information flow, layer entity and join row, one row per line.
+     *
+     * @param gzip whether to compress the response, sent with Content-Encoding gzip
+     * @return a ResponseEntity with a body that writes the export
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "false") boolean gzip) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("export.ndjson").build().toString());
+        if (!gzip) {
+            return response.body(exportService::export);
+        }
+        return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(out -> {
+            GZIPOutputStream compressed = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+            exportService.export(compressed);
+            // Finish instead of close, the container closes the response stream
+            compressed.finish();
+        });
+    }
+}
@@ -9,6 +9,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.backend.dashboard_tool.DTO.LayerQuery;
+import com.backend.dashboard_tool.service.JsonStreamService;
 import com.backend.dashboard_tool.service.ICTService;
 
 @RestController
@@ -18,22 +21,57 @@ public class ICTController {
     @Autowired
     private ICTService ictService;
 
+    @Autowired
+    private JsonStreamService jsonStreamService;
+
     /**
      * Retrieves all layers of a specific type.
      * This endpoint fetches all entities corresponding to the specified layer type.
      *
      * @param type The type of layer to retrieve ("datastore", "application", "system").
+     * @param query The cursor, limit and filters of a page (optional); without them all entities are returned.
      * @return A ResponseEntity containing the list of entities for the specified layer type,
      *         or a bad request response if the type is unknown.
      */
     @GetMapping("/all")
-    public ResponseEntity<?> getAllLayersByType(@RequestParam String type) {
+    public ResponseEntity<?> getAllLayersByType(@RequestParam String type, LayerQuery query) {
+        if (!query.isEmpty()) {
+            // Pages are returned as they are, an empty page marks the end
+            return ResponseEntity.ok(ictService.getIctsPage(type.toLowerCase(), query));
+        }
         List<?> items = ictService.getAllIctsByType(type.toLowerCase());
         if (items.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
         return ResponseEntity.ok(items);
     }
+
+    /**
+     * Streams all ict-related entities of a specific type as a JSON array, writing every entity
+     * as soon as it is read from the database instead of collecting them first.
+     * Streamed listings are not cached and an empty type gives an empty array instead of not found.
+     *
+     * @param type The type of ict entity to retrieve.
+     * @return A ResponseEntity with a body that writes the entities ordered by ID.
+     */
+    @GetMapping(value = "/all", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllIctsByType(@RequestParam String type) {
+        return jsonStreamService.streamArray(() -> ictService.streamAllIctsByType(type.toLowerCase()));
+    }
+
+    /**
+     * Counts the ict-related entities of a specific type, optionally narrowed down by the filters
+     * of a page query, without loading them.
+     *
+     * @param type The type of ict entity to count.
+     * @param query The filters to match (optional).
+     * @return A ResponseEntity containing the number of matching entities.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countIcts(@RequestParam String type, LayerQuery query) {
+        return ResponseEntity.ok(ictService.countIcts(type.toLowerCase(), query));
+    }
+
     /**
      * Retrieves a specific layer entity by type and process ID.
      * This endpoint fetches a single entity corresponding to the specified layer type and process ID.
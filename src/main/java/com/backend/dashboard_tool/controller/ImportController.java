@@ -0,0 +1,77 @@
+package com.backend.dashboard_tool.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.backend.dashboard_tool.DTO.ImportReport;
+import com.backend.dashboard_tool.service.ImportService;
+
+/**
+ * Controller for importing a process model in bulk.
+ * The request body is read while it is imported, and may be sent with Content-Encoding gzip.
+ */
+@RestController
+@CrossOrigin(origins = "${frontend.url}")
+@RequestMapping("/import")
+public class ImportController {
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final ImportService importService;
+
+    /**
+     * Constructor for ImportController.
+     *
+     * @param importService the ImportService instance
+     */
+    public ImportController(ImportService importService) {
+        this.importService = importService;
+    }
+
+    /**
+     * Imports processes, information flows and process join rows, one {"table":...,"row":{...}} object per line.
+     *
+     * @param body the request body
+     * @param encoding the Content-Encoding of the body (optional)
+     * @return a ResponseEntity with the ImportReport, 400 if any row was rejected and nothing was imported
+     * @throws IOException if the body cannot be read
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ImportReport> importNdjson(InputStream body,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String encoding) throws IOException {
+        return respond(importService.importNdjson(decode(body, encoding)));
+    }
+
+    /**
+     * Imports the rows of one table as CSV, with the column names in the first line.
+     *
+     * @param table the table the rows belong to, such as process or information_flow
+     * @param body the request body
+     * @param encoding the Content-Encoding of the body (optional)
+     * @return a ResponseEntity with the ImportReport, 400 if any row was rejected and nothing was imported
+     * @throws IOException if the body cannot be read
+     */
+    @PostMapping(consumes = "text/csv")
+    public ResponseEntity<ImportReport> importCsv(@RequestParam String table, InputStream body,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String encoding) throws IOException {
+        return respond(importService.importCsv(table, decode(body, encoding)));
+    }
+
+    private static InputStream decode(InputStream body, String encoding) throws IOException {
+        return "gzip".equalsIgnoreCase(encoding) ? new GZIPInputStream(body, GZIP_BUFFER_SIZE) : body;
+    }
+
+    private static ResponseEntity<ImportReport> respond(ImportReport report) {
+        return report.succeeded() ? ResponseEntity.ok(report) : ResponseEntity.badRequest().body(report);
+    }
+}
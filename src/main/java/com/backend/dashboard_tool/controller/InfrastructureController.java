@@ -9,6 +9,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.backend.dashboard_tool.DTO.LayerQuery;
+import com.backend.dashboard_tool.service.JsonStreamService;
 import com.backend.dashboard_tool.service.InfrastructureService;
 
 /**
@@ -22,16 +25,24 @@ public class InfrastructureController {
     @Autowired
     private InfrastructureService infrastructureService;
 
+    @Autowired
+    private JsonStreamService jsonStreamService;
+
     /**
      * Retrieves all asset-related entities of a specific type.
      * This endpoint fetches all records for the specified asset type.
      *
      * @param type The type of asset entity to retrieve (e.g., "asset", "facility", "location").
+     * @param query The cursor, limit and filters of a page (optional); without them all entities are returned.
      * @return A ResponseEntity containing the list of entities for the specified type,
      *         or a bad request response if the type is unknown.
      */
     @GetMapping("/all")
-    public ResponseEntity<?> getAllAssetsByType(@RequestParam String type) {
+    public ResponseEntity<?> getAllAssetsByType(@RequestParam String type, LayerQuery query) {
+        if (!query.isEmpty()) {
+            // Pages are returned as they are, an empty page marks the end
+            return ResponseEntity.ok(infrastructureService.getInfrastructuresPage(type.toLowerCase(), query));
+        }
         List<?> items = infrastructureService.getAllInfrastructuresByType(type.toLowerCase());
         if (items.isEmpty()) {
             return ResponseEntity.notFound().build();
@@ -39,6 +50,32 @@ public class InfrastructureController {
         return ResponseEntity.ok(items);
     }
 
+    /**
+     * Streams all infrastructure-related entities of a specific type as a JSON array, writing every entity
+     * as soon as it is read from the database instead of collecting them first.
+     * Streamed listings are not cached and an empty type gives an empty array instead of not found.
+     *
+     * @param type The type of infrastructure entity to retrieve.
+     * @return A ResponseEntity with a body that writes the entities ordered by ID.
+     */
+    @GetMapping(value = "/all", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllInfrastructuresByType(@RequestParam String type) {
+        return jsonStreamService.streamArray(() -> infrastructureService.streamAllInfrastructuresByType(type.toLowerCase()));
+    }
+
+    /**
+     * Counts the infrastructure-related entities of a specific type, optionally narrowed down by the filters
+     * of a page query, without loading them.
+     *
+     * @param type The type of infrastructure entity to count.
+     * @param query The filters to match (optional).
+     * @return A ResponseEntity containing the number of matching entities.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countInfrastructures(@RequestParam String type, LayerQuery query) {
+        return ResponseEntity.ok(infrastructureService.countInfrastructures(type.toLowerCase(), query));
+    }
+
     /**
      * Retrieves a specific asset entity by type and process ID.
      * This endpoint fetches a single entity corresponding to the specified asset type and process ID.
@@ -8,7 +8,10 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.backend.dashboard_tool.DTO.LayerQuery;
+import com.backend.dashboard_tool.service.JsonStreamService;
 import com.backend.dashboard_tool.service.PeopleService;
 
 /**
@@ -20,14 +23,17 @@ import com.backend.dashboard_tool.service.PeopleService;
 @RequestMapping("/people")
 public class PeopleController {
     private final PeopleService peopleService;
+    private final JsonStreamService jsonStreamService;
 
     /**
      * Constructor for PeopleController.
      *
      * @param peopleService the PeopleService instance
+     * @param jsonStreamService the JsonStreamService instance
      */
-    public PeopleController(PeopleService peopleService) {
+    public PeopleController(PeopleService peopleService, JsonStreamService jsonStreamService) {
         this.peopleService = peopleService;
+        this.jsonStreamService = jsonStreamService;
     }
 
     /**
@@ -35,11 +41,16 @@ public class PeopleController {
      * This endpoint fetches all records for the specified people type.
      *
      * @param type The type of people entity to retrieve (e.g., "department", "employee", "function", "organization", "role").
+     * @param query The cursor, limit and filters of a page (optional); without them all entities are returned.
      * @return A ResponseEntity containing the list of entities for the specified type,
      *         or a bad request response if the type is unknown.
      */
     @GetMapping("/all")
-    public ResponseEntity<?> getAllPeopleByType(@RequestParam String type) {
+    public ResponseEntity<?> getAllPeopleByType(@RequestParam String type, LayerQuery query) {
+        if (!query.isEmpty()) {
+            // Pages are returned as they are, an empty page marks the end
+            return ResponseEntity.ok(peopleService.getPeoplePage(type.toLowerCase(), query));
+        }
         List<?> items = peopleService.getAllPeopleByType(type.toLowerCase());
         if (items.isEmpty()) {
             return ResponseEntity.notFound().build();
@@ -47,6 +58,32 @@ public class PeopleController {
         return ResponseEntity.ok(items);
     }
 
+    /**
+     * Streams all people-related entities of a specific type as a JSON array, writing every entity
+     * as soon as it is read from the database instead of collecting them first.
+     * Streamed listings are not cached and an empty type gives an empty array instead of not found.
+     *
+     * @param type The type of people entity to retrieve.
+     * @return A ResponseEntity with a body that writes the entities ordered by ID.
+     */
+    @GetMapping(value = "/all", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllPeopleByType(@RequestParam String type) {
+        return jsonStreamService.streamArray(() -> peopleService.streamAllPeopleByType(type.toLowerCase()));
+    }
+
+    /**
+     * Counts the people-related entities of a specific type, optionally narrowed down by the filters
+     * of a page query, without loading them.
+     *
+     * @param type The type of people entity to count.
+     * @param query The filters to match (optional).
+     * @return A ResponseEntity containing the number of matching entities.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countPeople(@RequestParam String type, LayerQuery query) {
+        return ResponseEntity.ok(peopleService.countPeople(type.toLowerCase(), query));
+    }
+
     /**
      * Retrieves a specific people entity by type and process ID.
      * This endpoint fetches a single entity corresponding to the specified people type and process ID.
@@ -5,11 +5,20 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.backend.dashboard_tool.database.ProcessRepository;
 import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+import com.backend.dashboard_tool.service.JsonStreamService;
+import com.backend.dashboard_tool.service.LayerSummaryService;
 import com.backend.dashboard_tool.service.ProcessService;
+import com.backend.dashboard_tool.service.SipocService;
+import com.backend.dashboard_tool.sipocrecords.SipocView;
+import com.backend.dashboard_tool.DTO.LayerQuery;
 import com.backend.dashboard_tool.DTO.ProcessDTO;
+import com.backend.dashboard_tool.DTO.ProcessLayers;
+import com.backend.dashboard_tool.DTO.ProcessNode;
+import com.backend.dashboard_tool.DTO.ProcessTreeNode;
 
 /**
  * Controller for handling process-related requests.
@@ -29,16 +38,34 @@ public class ProcessController {
      * Process service for accessing process data.
      */
     private final ProcessService processService;
+    /**
+     * Sipoc service for building the aggregated view of a process.
+     */
+    private final SipocService sipocService;
+    /**
+     * Json stream service for streaming large listings.
+     */
+    private final JsonStreamService jsonStreamService;
+    /**
+     * Layer summary service for reading all layers of a process at once.
+     */
+    private final LayerSummaryService layerSummaryService;
 
     /**
      * Constructor for ProcessController.
      * 
      * @param processRepository the ProcessRepository instance
      * @param processService the ProcessService instance
+     * @param sipocService the SipocService instance
+     * @param jsonStreamService the JsonStreamService instance
+     * @param layerSummaryService the LayerSummaryService instance
      */
-    public ProcessController(ProcessRepository processRepository, ProcessService processService) {
+    public ProcessController(ProcessRepository processRepository, ProcessService processService, SipocService sipocService, JsonStreamService jsonStreamService, LayerSummaryService layerSummaryService) {
         this.processRepository = processRepository;
         this.processService = processService;
+        this.sipocService = sipocService;
+        this.jsonStreamService = jsonStreamService;
+        this.layerSummaryService = layerSummaryService;
     }
 
     @PostMapping("/create")
@@ -61,6 +88,18 @@ public class ProcessController {
         return processRepository.findAll();
     }
 
+    /**
+     * Endpoint for streaming all processes, selected with stream=true.
+     * The processes are written one by one as they are read from the database,
+     * so that the whole table is never held in memory.
+     * 
+     * @return a ResponseEntity with a body that writes the processes ordered by ID
+     */
+    @GetMapping(value = "/all", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllProcesses() {
+        return jsonStreamService.streamArray(processRepository::streamAllByOrderByIdAsc);
+    }
+
     /**
      * Endpoint for retrieving a specific process by ID.
      * This method returns the process record with the specified ID.
@@ -80,14 +119,57 @@ public class ProcessController {
      * 
      * @param parentId the ID of the parent process (optional)
      * @param type the type of the process (optional)
-     * @return an iterable of ProcessEntity objects matching the criteria
+     * @return an iterable of ProcessNode snapshots matching the criteria
      */
     @GetMapping("/subprocess")
-    public Iterable<ProcessEntity> getSubProcesses(
+    public Iterable<ProcessNode> getSubProcesses(
         @RequestParam(required = false) Long parentId,
         @RequestParam(required = false) String type
     ){
         return processService.getSubProcesses(parentId, type);
     }
-}
 
+    /**
+     * Endpoint for retrieving the whole subtree below a process.
+     * The subtree is fetched with a single query on the process closure table.
+     * 
+     * @param rootId the ID of the root process
+     * @param maxDepth the maximum number of levels below the root (optional)
+     * @return the root ProcessTreeNode with nested children
+     */
+    @GetMapping("/tree")
+    public ProcessTreeNode getProcessTree(
+        @RequestParam Long rootId,
+        @RequestParam(required = false) Integer maxDepth
+    ){
+        return processService.getProcessTree(rootId, maxDepth);
+    }
+
+    /**
+     * Endpoint for retrieving everything the dashboard shows for a single process.
+     * This combines the trigger, result, dataflow and all layer endpoints into one
+     * request, which are gathered concurrently.
+     * 
+     * @param id the ID of the process
+     * @return the SipocView of the process
+     */
+    @GetMapping("/{id}/sipoc")
+    public SipocView getSipoc(@PathVariable Long id) {
+        return sipocService.getSipoc(id);
+    }
+
+    /**
+     * Endpoint for retrieving the number of linked entities and the first linked entities
+     * of every layer type of a process, grouped by layer like in the SIPOC view.
+     * All layers are read with a single query, which makes this the cheap way to show
+     * the layer overview of a process.
+     *
+     * @param id the ID of the process
+     * @param limit the maximum number of entities per type (optional, 0 for only the counts)
+     * @return the ProcessLayers of the process
+     */
+    @GetMapping("/{id}/layers")
+    public ProcessLayers getLayers(@PathVariable Long id, @RequestParam(required = false) Integer limit) {
+        return layerSummaryService.getLayers(id, limit == null ? LayerQuery.DEFAULT_LIMIT : limit);
+    }
+}
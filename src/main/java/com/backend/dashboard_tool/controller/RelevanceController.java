@@ -9,6 +9,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.backend.dashboard_tool.DTO.LayerQuery;
+import com.backend.dashboard_tool.service.JsonStreamService;
 import com.backend.dashboard_tool.service.RelevanceService;
 
 @RestController
@@ -18,16 +21,24 @@ public class RelevanceController {
     @Autowired
     private RelevanceService relevanceService;
 
+    @Autowired
+    private JsonStreamService jsonStreamService;
+
     /**
      * Retrieves all layers of a specific type.
      * This endpoint fetches all entities corresponding to the specified layer type.
      *
      * @param type The type of layer to retrieve ("cost", "revenue", "product", "service", "goal").
+     * @param query The cursor, limit and filters of a page (optional); without them all entities are returned.
      * @return A ResponseEntity containing the list of entities for the specified layer type,
      *         or a bad request response if the type is unknown.
      */
     @GetMapping("/all")
-    public ResponseEntity<?> getAllLayersByType(@RequestParam String type) {
+    public ResponseEntity<?> getAllLayersByType(@RequestParam String type, LayerQuery query) {
+        if (!query.isEmpty()) {
+            // Pages are returned as they are, an empty page marks the end
+            return ResponseEntity.ok(relevanceService.getRelevancesPage(type.toLowerCase(), query));
+        }
         List<?> items = relevanceService.getAllRelevancesByType(type.toLowerCase());
         if (items.isEmpty()) {
             return ResponseEntity.notFound().build();
@@ -35,6 +46,32 @@ public class RelevanceController {
         return ResponseEntity.ok(items);
     }
 
+    /**
+     * Streams all relevance-related entities of a specific type as a JSON array, writing every entity
+     * as soon as it is read from the database instead of collecting them first.
+     * Streamed listings are not cached and an empty type gives an empty array instead of not found.
+     *
+     * @param type The type of relevance entity to retrieve.
+     * @return A ResponseEntity with a body that writes the entities ordered by ID.
+     */
+    @GetMapping(value = "/all", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllRelevancesByType(@RequestParam String type) {
+        return jsonStreamService.streamArray(() -> relevanceService.streamAllRelevancesByType(type.toLowerCase()));
+    }
+
+    /**
+     * Counts the relevance-related entities of a specific type, optionally narrowed down by the filters
+     * of a page query, without loading them.
+     *
+     * @param type The type of relevance entity to count.
+     * @param query The filters to match (optional).
+     * @return A ResponseEntity containing the number of matching entities.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countRelevances(@RequestParam String type, LayerQuery query) {
+        return ResponseEntity.ok(relevanceService.countRelevances(type.toLowerCase(), query));
+    }
+
     /**
      * Retrieves a specific layer entity by type and process ID.
      * This endpoint fetches a single entity corresponding to the specified layer type and process ID.
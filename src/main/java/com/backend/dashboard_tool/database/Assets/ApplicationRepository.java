@@ -1,16 +1,16 @@
 package com.backend.dashboard_tool.database.Assets;
 
 import java.util.List;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import com.backend.dashboard_tool.database.LayerRepository;
 import com.backend.dashboard_tool.entity.Assets_Facilities.Application;
 
 /**
  * Repository interface for accessing Application data.
- * This interface extends JpaRepository to provide CRUD operations for the Application entity.
+ * This interface extends LayerRepository to provide CRUD operations and keyset pagination for the Application entity.
  */
-public interface ApplicationRepository extends JpaRepository<Application, Long>{
+public interface ApplicationRepository extends LayerRepository<Application> {
     /**
      * Retrieves all Application entities associated with a specific process ID.
      *
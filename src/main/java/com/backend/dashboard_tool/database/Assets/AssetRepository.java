@@ -1,7 +1,7 @@
 package com.backend.dashboard_tool.database.Assets;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 
+import com.backend.dashboard_tool.database.LayerRepository;
 import com.backend.dashboard_tool.entity.Assets_Facilities.Asset;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,9 +10,9 @@ import java.util.List;
 
 /**
  * Repository interface for accessing Asset data.
- * This interface extends JpaRepository to provide CRUD operations for the Asset entity.
+ * This interface extends LayerRepository to provide CRUD operations and keyset pagination for the Asset entity.
  */
-public interface AssetRepository extends JpaRepository<Asset, Long>{
+public interface AssetRepository extends LayerRepository<Asset> {
     /**
      * Retrieves all Asset entities associated with a specific process ID.
      *
@@ -1,12 +1,12 @@
 package com.backend.dashboard_tool.database.Assets;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
+import com.backend.dashboard_tool.database.LayerRepository;
 import com.backend.dashboard_tool.entity.Assets_Facilities.Location;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface LocationRepository extends JpaRepository<Location, Long>{
+public interface LocationRepository extends LayerRepository<Location> {
     /**
      * Retrieves all Location entities associated with a specific process ID.
      *
@@ -2,13 +2,13 @@ package com.backend.dashboard_tool.database.Assets;
 
 import java.util.List;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.backend.dashboard_tool.database.LayerRepository;
 import com.backend.dashboard_tool.entity.Assets_Facilities.SystemEntity;
 
-public interface SystemEntityRepository extends JpaRepository<SystemEntity, Long> {
+public interface SystemEntityRepository extends LayerRepository<SystemEntity> {
     /**
      * Retrieves all SystemEntity records associated with a specific process ID.
      *
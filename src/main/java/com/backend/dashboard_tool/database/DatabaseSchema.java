@@ -0,0 +1,128 @@
+package com.backend.dashboard_tool.database;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Describes the tables of the current schema as read from the JDBC metadata, with lower-case names.
+ * Tools that work on every table, such as the synthetic data generator and the export, use it
+ * so that new entities and join tables are picked up without changes.
+ */
+public final class DatabaseSchema {
+    private DatabaseSchema() {
+    }
+
+    /**
+     * A column as described by the JDBC metadata.
+     */
+    public record Column(String name, int sqlType, boolean nullable) {
+    }
+
+    /**
+     * A table as described by the JDBC metadata, with its foreign keys mapped from column to referenced table.
+     */
+    public record Table(String name, List<Column> columns, Map<String, String> foreignKeys) {
+        public boolean hasId() {
+            return columns.stream().anyMatch(column -> "id".equals(column.name()));
+        }
+
+        public boolean isJoinTable() {
+            return !hasId() && foreignKeys.size() == 2 && columns.size() == 2;
+        }
+
+        public String selfReference() {
+            return foreignKeys.entrySet().stream()
+                .filter(entry -> entry.getValue().equals(name))
+                .map(Map.Entry::getKey)
+                .findFirst().orElse(null);
+        }
+    }
+
+    /**
+     * Reads the tables of the current schema, sorted by name.
+     *
+     * @param jdbcTemplate the JdbcTemplate of the database to read
+     * @return the tables with their columns and foreign keys
+     */
+    public static List<Table> read(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Table>>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String catalog = connection.getCatalog();
+            String schema = connection.getSchema();
+            List<String> names = new ArrayList<>();
+            try (ResultSet rs = metaData.getTables(catalog, schema, "%", new String[] {"TABLE"})) {
+                while (rs.next()) {
+                    names.add(rs.getString("TABLE_NAME"));
+                }
+            }
+            List<Table> tables = new ArrayList<>();
+            for (String name : names) {
+                List<Column> columns = new ArrayList<>();
+                try (ResultSet rs = metaData.getColumns(catalog, schema, name, "%")) {
+                    while (rs.next()) {
+                        columns.add(new Column(lower(rs.getString("COLUMN_NAME")), rs.getInt("DATA_TYPE"),
+                            rs.getInt("NULLABLE") != DatabaseMetaData.columnNoNulls));
+                    }
+                }
+                Map<String, String> foreignKeys = new LinkedHashMap<>();
+                try (ResultSet rs = metaData.getImportedKeys(catalog, schema, name)) {
+                    while (rs.next()) {
+                        foreignKeys.put(lower(rs.getString("FKCOLUMN_NAME")), lower(rs.getString("PKTABLE_NAME")));
+                    }
+                }
+                tables.add(new Table(lower(name), columns, foreignKeys));
+            }
+            tables.sort((a, b) -> a.name().compareTo(b.name()));
+            return tables;
+        });
+    }
+
+    /**
+     * Orders the entity tables so that every table comes after the tables it references.
+     *
+     * @param tables the tables of the schema
+     * @return the tables with an id column, in dependency order
+     */
+    public static List<Table> entityTablesInDependencyOrder(List<Table> tables) {
+        Map<String, Table> byName = new LinkedHashMap<>();
+        for (Table table : tables) {
+            if (table.hasId()) {
+                byName.put(table.name(), table);
+            }
+        }
+        Set<String> visited = new LinkedHashSet<>();
+        for (String name : byName.keySet()) {
+            visit(name, byName, visited, new LinkedHashSet<>());
+        }
+        return visited.stream().map(byName::get).toList();
+    }
+
+    private static void visit(String name, Map<String, Table> byName, Set<String> visited, Set<String> path) {
+        if (visited.contains(name) || !byName.containsKey(name)) {
+            return;
+        }
+        if (!path.add(name)) {
+            throw new IllegalStateException("Foreign key cycle through table " + name);
+        }
+        for (String referenced : byName.get(name).foreignKeys().values()) {
+            if (!referenced.equals(name)) {
+                visit(referenced, byName, visited, path);
+            }
+        }
+        visited.add(name);
+    }
+
+    private static String lower(String name) {
+        return name == null ? null : name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,11 +1,14 @@
 package com.backend.dashboard_tool.database;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.backend.dashboard_tool.DTO.DataflowEdge;
+import com.backend.dashboard_tool.DTO.DataflowProcessRow;
 import com.backend.dashboard_tool.entity.Process_Data.*;
 
 /**
@@ -76,4 +79,75 @@ public interface DataflowRepository extends JpaRepository<Dataflow, Long> {
         AND ((:parentId IS NULL AND (target.type <> :type OR target.parentProcess.id IS NOT NULL)) OR (:parentId IS NOT NULL AND (target.parentProcess.id IS NULL OR target.parentProcess.id <> :parentId)))
         """)
     List<Dataflow> findOutputDataflows(@Param("processId") Long processId, @Param("parentId") Long parentId, @Param("type") String type);
+
+    /**
+     * Finds the input dataflows of a process together with the scalar columns of their source process.
+     * This uses the same filter as findInputDataflows, but reads everything in a single statement.
+     *
+     * @param processId the ID of the process
+     * @param parentId the ID of the parent process
+     * @param type the type of the process
+     * @return a list of DataflowProcessRow snapshots ordered by dataflow ID
+     */
+    @Query(
+        """
+        SELECT new com.backend.dashboard_tool.DTO.DataflowProcessRow(
+            d.id, d.name, d.type, d.soort, d.internal, d.level, d.description, source.id, d.targetProcess.id,
+            source.id, source.name, source.type, source.soort, source.internal, source.level, source.description, source.parentProcess.id)
+        FROM Dataflow d
+        JOIN d.sourceProcess source
+        WHERE d.targetProcess.id = :processId
+        AND ((:parentId IS NULL AND (source.type <> :type OR source.parentProcess.id IS NOT NULL)) OR (:parentId IS NOT NULL AND (source.parentProcess.id IS NULL OR source.parentProcess.id <> :parentId)))
+        ORDER BY d.id
+        """)
+    List<DataflowProcessRow> findInputDataflowRows(@Param("processId") Long processId, @Param("parentId") Long parentId, @Param("type") String type);
+
+    /**
+     * Finds the output dataflows of a process together with the scalar columns of their target process.
+     * This uses the same filter as findOutputDataflows, but reads everything in a single statement.
+     *
+     * @param processId the ID of the process
+     * @param parentId the ID of the parent process
+     * @param type the type of the process
+     * @return a list of DataflowProcessRow snapshots ordered by dataflow ID
+     */
+    @Query(
+        """
+        SELECT new com.backend.dashboard_tool.DTO.DataflowProcessRow(
+            d.id, d.name, d.type, d.soort, d.internal, d.level, d.description, d.sourceProcess.id, target.id,
+            target.id, target.name, target.type, target.soort, target.internal, target.level, target.description, target.parentProcess.id)
+        FROM Dataflow d
+        JOIN d.targetProcess target
+        WHERE d.sourceProcess.id = :processId
+        AND ((:parentId IS NULL AND (target.type <> :type OR target.parentProcess.id IS NOT NULL)) OR (:parentId IS NOT NULL AND (target.parentProcess.id IS NULL OR target.parentProcess.id <> :parentId)))
+        ORDER BY d.id
+        """)
+    List<DataflowProcessRow> findOutputDataflowRows(@Param("processId") Long processId, @Param("parentId") Long parentId, @Param("type") String type);
+
+    /**
+     * Finds the scalar columns and endpoint IDs of all dataflows.
+     * This is used to build the in-memory process graph without hydrating entities.
+     *
+     * @return a list of DataflowEdge snapshots for every dataflow
+     */
+    @Query("""
+        SELECT new com.backend.dashboard_tool.DTO.DataflowEdge(
+            d.id, d.name, d.type, d.soort, d.internal, d.level, d.description, d.sourceProcess.id, d.targetProcess.id)
+        FROM Dataflow d
+        """)
+    List<DataflowEdge> findAllEdges();
+
+    /**
+     * Finds the scalar columns and endpoint IDs of a single dataflow.
+     *
+     * @param id the ID of the dataflow
+     * @return an Optional containing the DataflowEdge snapshot, or empty if no dataflow has this ID
+     */
+    @Query("""
+        SELECT new com.backend.dashboard_tool.DTO.DataflowEdge(
+            d.id, d.name, d.type, d.soort, d.internal, d.level, d.description, d.sourceProcess.id, d.targetProcess.id)
+        FROM Dataflow d
+        WHERE d.id = :id
+        """)
+    Optional<DataflowEdge> findEdgeById(@Param("id") Long id);
 }
@@ -2,7 +2,6 @@ package com.backend.dashboard_tool.database;
 
 import java.util.List;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -10,9 +9,9 @@ import com.backend.dashboard_tool.entity.Document;
 
 /**
  * Repository interface for accessing Document data.
- * This interface extends JpaRepository to provide CRUD operations for the Document entity.
+ * This interface extends LayerRepository to provide CRUD operations and keyset pagination for the Document entity.
  */
-public interface DocumentRepository extends JpaRepository<Document, Long>{
+public interface DocumentRepository extends LayerRepository<Document> {
     /**
      * Retrieves all Document entities associated with a specific process ID.
      *
@@ -1,17 +1,17 @@
 package com.backend.dashboard_tool.database.Finance;
 import java.util.List;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.backend.dashboard_tool.database.LayerRepository;
 import com.backend.dashboard_tool.entity.Finance.Cost;
 
 /**
  * Repository interface for accessing Cost data.
- * This interface extends JpaRepository to provide CRUD operations for the Cost entity.
+ * This interface extends LayerRepository to provide CRUD operations and keyset pagination for the Cost entity.
  */
-public interface CostRepository extends JpaRepository<Cost, Long> {
+public interface CostRepository extends LayerRepository<Cost> {
     /**
      * Retrieves all Cost entities associated with a specific process ID.
      *
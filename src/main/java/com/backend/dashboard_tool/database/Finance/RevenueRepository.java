@@ -2,17 +2,17 @@ package com.backend.dashboard_tool.database.Finance;
 
 import java.util.List;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.backend.dashboard_tool.database.LayerRepository;
 import com.backend.dashboard_tool.entity.Finance.Revenue;
 
 /**
  * Repository interface for accessing Revenue data.
- * This interface extends JpaRepository to provide CRUD operations for the Revenue entity.
+ * This interface extends LayerRepository to provide CRUD operations and keyset pagination for the Revenue entity.
  */
-public interface RevenueRepository extends JpaRepository<Revenue, Long> {
+public interface RevenueRepository extends LayerRepository<Revenue> {
     /**
      * Retrieves all Revenue entities associated with a specific process ID.
      *
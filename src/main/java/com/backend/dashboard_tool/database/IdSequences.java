@@ -0,0 +1,87 @@
+package com.backend.dashboard_tool.database;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * The entity IDs come from one sequence per table, named after the table with a _seq suffix,
+ * which Hibernate reads with its pooled optimizer: every value v of a sequence hands out the
+ * block of ALLOCATION_SIZE IDs up to and including v, so an application instance needs one
+ * round-trip per ALLOCATION_SIZE new rows and can batch its inserts.
+ * Tools that insert rows with SQL, such as the import and the synthetic data generator, use these
+ * helpers to take IDs from the same blocks, so they never collide with the application.
+ */
+public final class IdSequences {
+    /**
+     * The increment of every sequence, which is the default allocationSize of the entities.
+     */
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdSequences() {
+    }
+
+    /**
+     * The name of the sequence of a table.
+     *
+     * @param table the table name
+     * @return the sequence name
+     */
+    public static String sequenceName(String table) {
+        return table + "_seq";
+    }
+
+    /**
+     * The SQL expression that takes the next value of the sequence of a table.
+     *
+     * @param jdbcTemplate the JdbcTemplate of the database
+     * @param table the table name
+     * @return nextval(...) on PostgreSQL, the standard NEXT VALUE FOR elsewhere
+     */
+    public static String nextValueExpression(JdbcTemplate jdbcTemplate, String table) {
+        boolean postgres = jdbcTemplate.execute(
+            (ConnectionCallback<Boolean>) connection -> "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+        return postgres ? "nextval('" + sequenceName(table) + "')" : "NEXT VALUE FOR " + sequenceName(table);
+    }
+
+    /**
+     * Reserves a block of ALLOCATION_SIZE consecutive IDs for a table.
+     *
+     * @param jdbcTemplate the JdbcTemplate of the database
+     * @param table the table name
+     * @return the first ID of the block
+     */
+    public static long reserveBlock(JdbcTemplate jdbcTemplate, String table) {
+        String sql = "SELECT " + nextValueExpression(jdbcTemplate, table);
+        long last;
+        do {
+            // The first value of a new sequence has no full block below it
+            last = jdbcTemplate.queryForObject(sql, Long.class);
+        } while (last < ALLOCATION_SIZE);
+        return last - ALLOCATION_SIZE + 1;
+    }
+
+    /**
+     * Finds the first ID above every row of a table and every block that has been handed out so far.
+     * Rows inserted from there on must be followed by restartAfter.
+     *
+     * @param jdbcTemplate the JdbcTemplate of the database
+     * @param table the table name
+     * @return the first free ID
+     */
+    public static long nextFreeId(JdbcTemplate jdbcTemplate, String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        long reserved = reserveBlock(jdbcTemplate, table) + ALLOCATION_SIZE - 1;
+        return Math.max(max == null ? 0 : max, reserved) + 1;
+    }
+
+    /**
+     * Restarts the sequence of a table so that the next block starts after an ID.
+     *
+     * @param jdbcTemplate the JdbcTemplate of the database
+     * @param table the table name
+     * @param lastId the highest ID in use
+     */
+    public static void restartAfter(JdbcTemplate jdbcTemplate, String table, long lastId) {
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequenceName(table) + " RESTART WITH " + (lastId + ALLOCATION_SIZE));
+    }
+}
@@ -0,0 +1,97 @@
+package com.backend.dashboard_tool.database;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import com.backend.dashboard_tool.DTO.LayerQuery;
+
+import jakarta.persistence.QueryHint;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Base interface of the repositories of the layer entities.
+ * Besides the CRUD operations of JpaRepository it fetches pages with keyset pagination,
+ * counts the matching entities without loading them and streams whole tables.
+ *
+ * @param <T> the layer entity
+ */
+@NoRepositoryBean
+public interface LayerRepository<T> extends JpaRepository<T, Long>, JpaSpecificationExecutor<T> {
+    /**
+     * The number of rows the JDBC driver fetches per round-trip when streaming.
+     * Without it the PostgreSQL driver reads the whole result set into memory.
+     */
+    String STREAM_FETCH_SIZE = "500";
+
+    /**
+     * Streams all entities ordered by ID through a forward-only cursor.
+     * The entities are loaded read-only, so Hibernate keeps no snapshots of them.
+     * Must be called inside a transaction and the Stream must be closed after use.
+     *
+     * @return a Stream of all entities
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<T> streamAllByOrderByIdAsc();
+
+    /**
+     * Retrieves one page of entities ordered by ID.
+     * The page starts after the cursor of the query, so the database seeks on the primary key
+     * instead of skipping the rows of the previous pages.
+     *
+     * @param query the cursor, limit and filters of the page
+     * @return at most query.pageSize() entities
+     */
+    default List<T> findPage(LayerQuery query) {
+        int limit = query.pageSize();
+        return findBy(matching(query), q -> q.sortBy(Sort.by("id")).limit(limit).all());
+    }
+
+    /**
+     * Counts the entities matching the filters of a query with a single COUNT query.
+     *
+     * @param query the filters to match, the cursor and limit are ignored
+     * @return the number of matching entities
+     */
+    default long countMatching(LayerQuery query) {
+        return count(matching(query.withoutCursor()));
+    }
+
+    /**
+     * Builds the where clause for a query. Every layer entity has a name, soort and internal column.
+     *
+     * @param query the cursor and filters
+     * @return the Specification combining the given conditions
+     */
+    static <T> Specification<T> matching(LayerQuery query) {
+        return (root, criteriaQuery, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (query.after() != null) {
+                predicates.add(builder.greaterThan(root.get("id"), query.after()));
+            }
+            if (query.name() != null) {
+                String pattern = "%" + query.name().toLowerCase()
+                    .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+                predicates.add(builder.like(builder.lower(root.get("name")), pattern, '\\'));
+            }
+            if (query.soort() != null) {
+                predicates.add(builder.equal(root.get("soort"), query.soort()));
+            }
+            if (query.internal() != null) {
+                predicates.add(builder.equal(root.get("internal"), query.internal()));
+            }
+            return builder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
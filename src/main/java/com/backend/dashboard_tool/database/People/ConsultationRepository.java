@@ -2,17 +2,17 @@ package com.backend.dashboard_tool.database.People;
 
 import java.util.List;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.backend.dashboard_tool.database.LayerRepository;
 import com.backend.dashboard_tool.entity.People.Consultation;
 
 /**
  * Repository interface for accessing Consultation data.
- * This interface extends JpaRepository to provide CRUD operations for the Consultation entity.
+ * This interface extends LayerRepository to provide CRUD operations and keyset pagination for the Consultation entity.
  */
-public interface ConsultationRepository extends JpaRepository<Consultation, Long>{
+public interface ConsultationRepository extends LayerRepository<Consultation> {
     /**
      * Retrieves all Consultation entities associated with a specific process ID.
      *
@@ -2,17 +2,17 @@ package com.backend.dashboard_tool.database.People;
 
 import java.util.List;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.backend.dashboard_tool.database.LayerRepository;
 import com.backend.dashboard_tool.entity.People.Department;
 
 /**
  * Repository interface for accessing Department data.
- * This interface extends JpaRepository to provide CRUD operations for the Department entity.
+ * This interface extends LayerRepository to provide CRUD operations and keyset pagination for the Department entity.
  */
-public interface DepartmentRepository extends JpaRepository<Department, Long>{
+public interface DepartmentRepository extends LayerRepository<Department> {
     /**
      * Retrieves all Department entities associated with a specific process ID.
      *
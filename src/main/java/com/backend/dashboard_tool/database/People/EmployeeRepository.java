@@ -2,19 +2,19 @@ package com.backend.dashboard_tool.database.People;
 
 import java.util.List;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.backend.dashboard_tool.database.LayerRepository;
 import com.backend.dashboard_tool.entity.People.Employee;
 
 /**
  * Repository interface for accessing Employee data.
- * This interface extends JpaRepository to provide CRUD operations for the Employee entity.
+ * This interface extends LayerRepository to provide CRUD operations and keyset pagination for the Employee entity.
  */
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends LayerRepository<Employee> {
     // Find employees by department ID
     List<Employee> findByDepartmentId(Long departmentId);
 
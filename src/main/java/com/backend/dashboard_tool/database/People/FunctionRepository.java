@@ -2,17 +2,17 @@ package com.backend.dashboard_tool.database.People;
 
 import java.util.List;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.backend.dashboard_tool.database.LayerRepository;
 import com.backend.dashboard_tool.entity.People.Function;
 
 /**
  * Repository interface for accessing Function data.
- * This interface extends JpaRepository to provide CRUD operations for the Function entity.
+ * This interface extends LayerRepository to provide CRUD operations and keyset pagination for the Function entity.
  */
-public interface FunctionRepository extends JpaRepository<Function, Long> {
+public interface FunctionRepository extends LayerRepository<Function> {
     /**
      * Retrieves all Function entities associated with a specific process ID.
      *
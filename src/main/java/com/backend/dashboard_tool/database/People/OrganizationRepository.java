@@ -2,17 +2,17 @@ package com.backend.dashboard_tool.database.People;
 
 import java.util.List;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.backend.dashboard_tool.database.LayerRepository;
 import com.backend.dashboard_tool.entity.People.Organization;
 
 /**
  * Repository interface for accessing Organization data.
- * This interface extends JpaRepository to provide CRUD operations for the Organization entity.
+ * This interface extends LayerRepository to provide CRUD operations and keyset pagination for the Organization entity.
  */
-public interface OrganizationRepository extends JpaRepository<Organization, Long>{
+public interface OrganizationRepository extends LayerRepository<Organization> {
     /**
      * Retrieves all Organization entities associated with a specific process ID.
      *
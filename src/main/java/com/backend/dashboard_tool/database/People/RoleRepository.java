@@ -2,17 +2,17 @@ package com.backend.dashboard_tool.database.People;
 
 import java.util.List;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.backend.dashboard_tool.database.LayerRepository;
 import com.backend.dashboard_tool.entity.People.Role;
 
 /**
  * Repository interface for accessing Role data.
- * This interface extends JpaRepository to provide CRUD operations for the Role entity.
+ * This interface extends LayerRepository to provide CRUD operations and keyset pagination for the Role entity.
  */
-public interface RoleRepository extends JpaRepository<Role, Long>{
+public interface RoleRepository extends LayerRepository<Role> {
     /**
      * Retrieves all Role entities associated with a specific process ID.
      *
@@ -0,0 +1,54 @@
+package com.backend.dashboard_tool.database;
+
+import java.util.*;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.backend.dashboard_tool.DTO.ProcessTreeNode;
+import com.backend.dashboard_tool.entity.Process_Data.ProcessClosure;
+
+/**
+ * Repository interface for accessing the process hierarchy closure table.
+ * This interface extends JpaRepository to provide CRUD operations for the ProcessClosure.
+ */
+public interface ProcessClosureRepository extends JpaRepository<ProcessClosure, ProcessClosure.Key> {
+    /**
+     * Adds the closure rows of a newly created process: one row to itself at depth 0
+     * and one row for every ancestor of its parent.
+     * Nothing is inserted when the rows already exist, for instance because the
+     * database trigger has already maintained them.
+     * @param id the ID of the new process
+     * @param parentId the ID of the parent process, or null for a top-level process
+     * @return the number of inserted rows
+     */
+    @Modifying
+    @Query(value = """
+    INSERT INTO process_closure (ancestor_id, descendant_id, depth)
+    SELECT s.ancestor_id, s.descendant_id, s.depth FROM (
+        SELECT CAST(:id AS BIGINT) AS ancestor_id, CAST(:id AS BIGINT) AS descendant_id, 0 AS depth
+        UNION ALL
+        SELECT c.ancestor_id, CAST(:id AS BIGINT), c.depth + 1 FROM process_closure c
+        WHERE c.descendant_id = CAST(:parentId AS BIGINT)
+    ) s
+    WHERE NOT EXISTS (SELECT 1 FROM process_closure e WHERE e.descendant_id = :id)
+    """, nativeQuery = true)
+    int insertForProcess(@Param("id") Long id, @Param("parentId") Long parentId);
+
+    /**
+     * Finds the subtree below a process, including the process itself, in a single query.
+     * The rows are ordered by depth, so a parent always comes before its children.
+     * @param rootId the ID of the root process
+     * @param maxDepth the maximum number of levels below the root
+     * @return a flat list of ProcessTreeNode snapshots without children
+     */
+    @Query("""
+    SELECT new com.backend.dashboard_tool.DTO.ProcessTreeNode(
+        p.id, p.name, p.type, p.soort, p.internal, p.level, p.description, p.parentProcess.id, c.depth)
+    FROM process_closure c JOIN process p ON p.id = c.descendantId
+    WHERE c.ancestorId = :rootId AND c.depth <= :maxDepth
+    ORDER BY c.depth, p.id
+    """)
+    List<ProcessTreeNode> findSubtree(@Param("rootId") Long rootId, @Param("maxDepth") int maxDepth);
+}
@@ -1,10 +1,17 @@
 package com.backend.dashboard_tool.database;
 
 import java.util.*;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import com.backend.dashboard_tool.DTO.ProcessNode;
 import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.QueryHint;
 
 /**
  * Repository interface for accessing Process data.
@@ -20,6 +27,18 @@ public interface ProcessRepository extends JpaRepository<ProcessEntity, Long> {
     @NonNull
     Optional<ProcessEntity> findById(@NonNull Long id);
 
+    /**
+     * Streams all processes ordered by ID through a forward-only cursor, see LayerRepository.
+     * Must be called inside a transaction and the Stream must be closed after use.
+     *
+     * @return a Stream of all ProcessEntity instances
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = LayerRepository.STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ProcessEntity> streamAllByOrderByIdAsc();
+
     /**
      * Finds all ProcessEntity instances with the specified type.
      *
@@ -46,4 +65,55 @@ public interface ProcessRepository extends JpaRepository<ProcessEntity, Long> {
      */
     @Query("SELECT p FROM process p WHERE p.parentProcess.id = :parentId")
     List<ProcessEntity> findSubprocessByParentId(Long parentId);
+
+    /**
+     * Finds the scalar columns of all processes.
+     * This is used to build the in-memory process graph without hydrating entities.
+     * @return a list of ProcessNode snapshots for every process
+     */
+    @Query("""
+    SELECT new com.backend.dashboard_tool.DTO.ProcessNode(
+        p.id, p.name, p.type, p.soort, p.internal, p.level, p.description, p.parentProcess.id)
+    FROM process p
+    """)
+    List<ProcessNode> findAllNodes();
+
+    /**
+     * Finds the scalar columns of a single process.
+     * @param id the ID of the process
+     * @return an Optional containing the ProcessNode snapshot, or empty if not found
+     */
+    @Query("""
+    SELECT new com.backend.dashboard_tool.DTO.ProcessNode(
+        p.id, p.name, p.type, p.soort, p.internal, p.level, p.description, p.parentProcess.id)
+    FROM process p
+    WHERE p.id = :id
+    """)
+    Optional<ProcessNode> findNodeById(Long id);
+
+    /**
+     * Finds the scalar columns of all top-level processes of a type.
+     * @param type the type of the processes
+     * @return a list of ProcessNode snapshots at level 0 with the specified type
+     */
+    @Query("""
+    SELECT new com.backend.dashboard_tool.DTO.ProcessNode(
+        p.id, p.name, p.type, p.soort, p.internal, p.level, p.description, p.parentProcess.id)
+    FROM process p
+    WHERE p.type = :type AND p.level = 0
+    """)
+    List<ProcessNode> findNodesByTypeLevel0(String type);
+
+    /**
+     * Finds the scalar columns of the subprocesses of a given parent process.
+     * @param parentId the ID of the parent process
+     * @return a list of ProcessNode snapshots belonging to the parent process
+     */
+    @Query("""
+    SELECT new com.backend.dashboard_tool.DTO.ProcessNode(
+        p.id, p.name, p.type, p.soort, p.internal, p.level, p.description, p.parentProcess.id)
+    FROM process p
+    WHERE p.parentProcess.id = :parentId
+    """)
+    List<ProcessNode> findSubprocessNodesByParentId(Long parentId);
 }
@@ -1,11 +1,13 @@
 package com.backend.dashboard_tool.database;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.backend.dashboard_tool.DTO.OrganizationLink;
 import com.backend.dashboard_tool.entity.Process_Data.Result;
 
 public interface ResultRepository extends JpaRepository<Result, Long>{
@@ -17,4 +19,29 @@ public interface ResultRepository extends JpaRepository<Result, Long>{
      */
     @Query("SELECT r FROM Result r WHERE r.sourceProcess.id = :id")
     List<Result> findBySourceProcessId(@Param("id") Long id);
+
+    /**
+     * Finds the organization and process IDs of all results.
+     * This is used to build the in-memory process graph without hydrating entities.
+     *
+     * @return a list of OrganizationLink snapshots for every result
+     */
+    @Query("""
+        SELECT new com.backend.dashboard_tool.DTO.OrganizationLink(r.id, r.targetOrganization.id, r.sourceProcess.id, false)
+        FROM Result r
+        """)
+    List<OrganizationLink> findAllLinks();
+
+    /**
+     * Finds the organization and process IDs of a single result.
+     *
+     * @param id the ID of the result
+     * @return an Optional containing the OrganizationLink snapshot, or empty if no result has this ID
+     */
+    @Query("""
+        SELECT new com.backend.dashboard_tool.DTO.OrganizationLink(r.id, r.targetOrganization.id, r.sourceProcess.id, false)
+        FROM Result r
+        WHERE r.id = :id
+        """)
+    Optional<OrganizationLink> findLinkById(@Param("id") Long id);
 }
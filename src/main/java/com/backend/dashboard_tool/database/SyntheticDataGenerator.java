@@ -0,0 +1,538 @@
+package com.backend.dashboard_tool.database;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.backend.dashboard_tool.database.DatabaseSchema.Column;
+import com.backend.dashboard_tool.database.DatabaseSchema.Table;
+import com.backend.dashboard_tool.entity.Strategy.RiskLevel;
+
+/**
+ * Populates the database with a synthetic enterprise model for benchmarks and load tests.
+ * The tables are discovered from the JDBC metadata, so every entity package is covered:
+ * tables with an id column are filled with the configured number of rows, many-to-one
+ * columns point at generated rows of the referenced table, self-referencing tables such as
+ * process get a hierarchy of the configured depth, information_flow gets dataflows, triggers
+ * and results, and every join table gets a random fan-out per owning row.
+ * Rows are written with batched JDBC inserts and explicit ids, appended after the existing
+ * rows and the ID blocks handed out so far, after which the sequences are restarted behind
+ * the generated ids (see IdSequences). Meant for a database nobody else writes to meanwhile.
+ *
+ * On PostgreSQL, keep reWriteBatchedInserts=true in the JDBC URL so that each batch is sent
+ * as a single multi-row insert.
+ */
+public class SyntheticDataGenerator {
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final String[] PROCESS_TYPES = {"Primary", "Facilitating", "Management"};
+    private static final LocalDate BASE_DATE = LocalDate.of(2020, 1, 1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Settings settings;
+    private final Random random;
+
+    private final Map<String, Range> generated = new HashMap<>();
+    private final Map<String, Hierarchy> hierarchies = new HashMap<>();
+    private int currentFlowRow = -1;
+    private int currentFlowSource;
+
+    /**
+     * Settings of a generator run.
+     *
+     * @param processes the number of processes to generate
+     * @param entities the number of rows for every other entity table
+     * @param counts per-table overrides of the number of rows, keyed by table name
+     * @param depth the number of levels of every self-referencing hierarchy
+     * @param branching how many times larger each level of a hierarchy is than the one above
+     * @param dataflowsPerProcess the average number of dataflows leaving a process
+     * @param siblingShare the share of dataflows whose target is a sibling of the source
+     * @param triggersPerProcess the average number of triggers entering a process
+     * @param resultsPerProcess the average number of results leaving a process
+     * @param fanOut the average number of links per owning row in every join table
+     * @param fanOuts per-table overrides of the fan-out, keyed by join table name
+     * @param batchSize the number of rows per JDBC batch
+     * @param seed the seed of the random generator, so that runs are repeatable
+     */
+    public record Settings(
+        int processes,
+        int entities,
+        Map<String, Integer> counts,
+        int depth,
+        int branching,
+        double dataflowsPerProcess,
+        double siblingShare,
+        double triggersPerProcess,
+        double resultsPerProcess,
+        int fanOut,
+        Map<String, Integer> fanOuts,
+        int batchSize,
+        long seed
+    ) {
+        /**
+         * @return the default settings: 10000 processes in 4 levels with 5 dataflows each,
+         * 1000 rows for every other entity table and an average fan-out of 3
+         */
+        public static Settings defaults() {
+            return new Settings(10_000, 1_000, Map.of(), 4, 8, 5.0, 0.6, 1.0, 1.0, 3, Map.of(), 1_000, 42);
+        }
+
+        /**
+         * @param table the name of an entity table
+         * @return the number of rows to generate for the table
+         */
+        int count(String table) {
+            Integer count = counts.get(table);
+            if (count != null) {
+                return count;
+            }
+            return "process".equals(table) ? processes : entities;
+        }
+
+        /**
+         * @param table the name of a join table
+         * @return the average number of links per owning row
+         */
+        int fanOut(String table) {
+            return fanOuts.getOrDefault(table, fanOut);
+        }
+    }
+
+    /**
+     * The ids generated for a table: first, first + 1, ..., first + count - 1.
+     */
+    record Range(long first, int count) {
+        long id(int index) {
+            return first + index;
+        }
+    }
+
+    /**
+     * The shape of a generated hierarchy: the parent index and level of every row, by row index.
+     * Rows of the same level are consecutive, and the parents of a level are spread evenly over
+     * the level above, so that every parent gets about the same number of children.
+     */
+    record Hierarchy(int[] parent, int[] level, int[][] children, int[] roots) {
+        static Hierarchy of(int rows, int depth, int branching) {
+            int[] sizes = levelSizes(rows, Math.max(1, depth), Math.max(1, branching));
+            int[] parent = new int[rows];
+            int[] level = new int[rows];
+            int[] childCount = new int[rows];
+            int start = 0;
+            int previousStart = 0;
+            for (int l = 0; l < sizes.length; l++) {
+                for (int j = 0; j < sizes[l]; j++) {
+                    int row = start + j;
+                    level[row] = l;
+                    parent[row] = l == 0 ? -1 : previousStart + j % sizes[l - 1];
+                    if (parent[row] >= 0) {
+                        childCount[parent[row]]++;
+                    }
+                }
+                previousStart = start;
+                start += sizes[l];
+            }
+            int[][] children = new int[rows][];
+            for (int row = 0; row < rows; row++) {
+                children[row] = new int[childCount[row]];
+                childCount[row] = 0;
+            }
+            for (int row = 0; row < rows; row++) {
+                if (parent[row] >= 0) {
+                    children[parent[row]][childCount[parent[row]]++] = row;
+                }
+            }
+            int[] roots = new int[sizes.length == 0 ? 0 : sizes[0]];
+            Arrays.setAll(roots, i -> i);
+            return new Hierarchy(parent, level, children, roots);
+        }
+
+        /**
+         * Splits the rows over the levels in proportion to branching^level, with at least one row at the top.
+         */
+        private static int[] levelSizes(int rows, int depth, int branching) {
+            if (rows == 0) {
+                return new int[0];
+            }
+            double[] weights = new double[depth];
+            double total = 0;
+            for (int l = 0; l < depth; l++) {
+                weights[l] = Math.pow(branching, l);
+                total += weights[l];
+            }
+            int[] sizes = new int[depth];
+            int assigned = 0;
+            for (int l = 0; l < depth; l++) {
+                sizes[l] = (int) Math.floor(rows * weights[l] / total);
+                assigned += sizes[l];
+            }
+            sizes[depth - 1] += rows - assigned;
+            if (sizes[0] == 0) {
+                sizes[0] = 1;
+                for (int l = depth - 1; l > 0; l--) {
+                    if (sizes[l] > 0) {
+                        sizes[l]--;
+                        break;
+                    }
+                }
+            }
+            int levels = depth;
+            while (levels > 1 && sizes[levels - 1] == 0) {
+                levels--;
+            }
+            return Arrays.copyOf(sizes, levels);
+        }
+
+        int[] siblings(int row) {
+            return parent[row] < 0 ? roots : children[parent[row]];
+        }
+    }
+
+    /**
+     * Constructor for SyntheticDataGenerator.
+     *
+     * @param jdbcTemplate the JdbcTemplate to write the rows with
+     * @param settings the settings of the run
+     */
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, Settings settings) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.settings = settings;
+        this.random = new Random(settings.seed());
+    }
+
+    /**
+     * Generates the synthetic model.
+     *
+     * @return the number of generated rows per table, in the order the tables were filled
+     */
+    public Map<String, Integer> generate() {
+        List<Table> tables = DatabaseSchema.read(jdbcTemplate);
+        Map<String, Integer> report = new LinkedHashMap<>();
+        for (Table table : DatabaseSchema.entityTablesInDependencyOrder(tables)) {
+            report.put(table.name(), insertEntities(table));
+        }
+        if (generated.containsKey("process") && tables.stream().anyMatch(table -> "process_closure".equals(table.name()))) {
+            report.put("process_closure", insertProcessClosure());
+        }
+        for (Table table : tables) {
+            if (table.isJoinTable()) {
+                report.put(table.name(), insertLinks(table));
+            }
+        }
+        return report;
+    }
+
+    private int insertEntities(Table table) {
+        String name = table.name();
+        int rows = "information_flow".equals(name) ? informationFlowCount() : settings.count(name);
+        if (rows <= 0) {
+            return 0;
+        }
+        Range range = new Range(nextId(name), rows);
+        generated.put(name, range);
+        String selfReference = table.selfReference();
+        if (selfReference != null) {
+            hierarchies.put(name, Hierarchy.of(rows, settings.depth(), settings.branching()));
+        }
+
+        List<IntFunction<Object>> values = new ArrayList<>();
+        for (Column column : table.columns()) {
+            values.add(valueSource(table, column, range));
+        }
+        insert(table, rows, values);
+        restartSequence(name, range.id(rows) - 1);
+        return rows;
+    }
+
+    /**
+     * Builds the function that yields the value of one column for a row index.
+     */
+    private IntFunction<Object> valueSource(Table table, Column column, Range range) {
+        String name = table.name();
+        String columnName = column.name();
+        Hierarchy hierarchy = hierarchies.get(name);
+        if ("id".equals(columnName)) {
+            return range::id;
+        }
+        if ("information_flow".equals(name) && table.foreignKeys().containsKey(columnName)) {
+            return informationFlowEndpoint(columnName);
+        }
+        if (columnName.equals(table.selfReference())) {
+            return row -> hierarchy.parent()[row] < 0 ? null : range.id(hierarchy.parent()[row]);
+        }
+        if (table.foreignKeys().containsKey(columnName)) {
+            Range referenced = generated.get(table.foreignKeys().get(columnName));
+            return referenced == null ? row -> null : row -> referenced.id(random.nextInt(referenced.count()));
+        }
+        switch (columnName) {
+            case "name":
+                String label = Character.toUpperCase(name.charAt(0)) + name.substring(1).replace('_', ' ');
+                return row -> label + " " + range.id(row);
+            case "type":
+                if ("process".equals(name)) {
+                    return row -> PROCESS_TYPES[rootOf(hierarchy, row) % PROCESS_TYPES.length];
+                }
+                return row -> "Type " + (row % 5 + 1);
+            case "soort":
+                return row -> "Soort " + (row % 3 + 1);
+            case "level":
+                return hierarchy == null ? row -> 0 : row -> hierarchy.level()[row];
+            case "description":
+                return row -> "Synthetic " + name.replace('_', ' ');
+            case "risk_level":
+                RiskLevel[] levels = RiskLevel.values();
+                return row -> levels[random.nextInt(levels.length)].name();
+            default:
+                return valueSourceForType(name, column);
+        }
+    }
+
+    private IntFunction<Object> valueSourceForType(String table, Column column) {
+        switch (column.sqlType()) {
+            case Types.BOOLEAN, Types.BIT:
+                return row -> random.nextBoolean();
+            case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT:
+                return row -> random.nextInt(100);
+            case Types.REAL, Types.FLOAT, Types.DOUBLE, Types.NUMERIC, Types.DECIMAL:
+                return row -> Math.round(random.nextDouble() * 1_000_000) / 100.0;
+            case Types.DATE:
+                return row -> Date.valueOf(BASE_DATE.plusDays(random.nextInt(2_000)));
+            case Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.NCHAR, Types.NVARCHAR, Types.LONGNVARCHAR:
+                return row -> column.name() + " " + (row + 1);
+            default:
+                if (!column.nullable()) {
+                    throw new IllegalStateException("Cannot generate values for " + table + "." + column.name());
+                }
+                return row -> null;
+        }
+    }
+
+    private static int rootOf(Hierarchy hierarchy, int row) {
+        while (hierarchy.parent()[row] >= 0) {
+            row = hierarchy.parent()[row];
+        }
+        return row;
+    }
+
+    private int dataflowCount() {
+        return (int) Math.round(settings.count("process") * settings.dataflowsPerProcess());
+    }
+
+    private int triggerCount() {
+        return generated.containsKey("organization")
+            ? (int) Math.round(settings.count("process") * settings.triggersPerProcess()) : 0;
+    }
+
+    private int resultCount() {
+        return generated.containsKey("organization")
+            ? (int) Math.round(settings.count("process") * settings.resultsPerProcess()) : 0;
+    }
+
+    private int informationFlowCount() {
+        return generated.containsKey("process") ? dataflowCount() + triggerCount() + resultCount() : 0;
+    }
+
+    /**
+     * Builds the endpoint columns of information_flow. The first rows are dataflows between
+     * processes, most of them between siblings, followed by the triggers and then the results.
+     * The source and target of a dataflow are drawn together and remembered for the next column.
+     */
+    private IntFunction<Object> informationFlowEndpoint(String columnName) {
+        Range processes = generated.get("process");
+        Range organizations = generated.get("organization");
+        Hierarchy hierarchy = hierarchies.get("process");
+        int dataflows = dataflowCount();
+        int triggers = triggerCount();
+        return row -> {
+            boolean dataflow = row < dataflows;
+            boolean trigger = !dataflow && row < dataflows + triggers;
+            boolean result = !dataflow && !trigger;
+            Long id = null;
+            switch (columnName) {
+                case "source_process_id":
+                    if (dataflow) {
+                        id = processes.id(dataflowSource(row, processes));
+                    } else if (result) {
+                        id = processes.id(random.nextInt(processes.count()));
+                    }
+                    break;
+                case "target_process_id":
+                    if (dataflow) {
+                        id = processes.id(dataflowTarget(row, processes, hierarchy));
+                    } else if (trigger) {
+                        id = processes.id(random.nextInt(processes.count()));
+                    }
+                    break;
+                case "source_organization_id":
+                    if (trigger) {
+                        id = organizations.id(random.nextInt(organizations.count()));
+                    }
+                    break;
+                case "target_organization_id":
+                    if (result) {
+                        id = organizations.id(random.nextInt(organizations.count()));
+                    }
+                    break;
+                default:
+                    break;
+            }
+            return id;
+        };
+    }
+
+    private int dataflowSource(int row, Range processes) {
+        if (row != currentFlowRow) {
+            currentFlowRow = row;
+            currentFlowSource = random.nextInt(processes.count());
+        }
+        return currentFlowSource;
+    }
+
+    private int dataflowTarget(int row, Range processes, Hierarchy hierarchy) {
+        int source = dataflowSource(row, processes);
+        int target;
+        int[] siblings = hierarchy == null ? new int[0] : hierarchy.siblings(source);
+        if (siblings.length > 1 && random.nextDouble() < settings.siblingShare()) {
+            target = siblings[random.nextInt(siblings.length)];
+        } else {
+            target = random.nextInt(processes.count());
+        }
+        return target == source ? (source + 1) % processes.count() : target;
+    }
+
+    /**
+     * Inserts the closure rows of the generated processes, unless the database trigger has already done so.
+     */
+    private int insertProcessClosure() {
+        Range processes = generated.get("process");
+        Integer existing = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM process_closure WHERE descendant_id = ?", Integer.class, processes.first());
+        if (existing != null && existing > 0) {
+            return 0;
+        }
+        Hierarchy hierarchy = hierarchies.get("process");
+        List<long[]> rows = new ArrayList<>();
+        for (int row = 0; row < processes.count(); row++) {
+            int depth = 0;
+            for (int ancestor = row; ancestor >= 0; ancestor = hierarchy.parent()[ancestor]) {
+                rows.add(new long[] {processes.id(ancestor), processes.id(row), depth++});
+            }
+        }
+        batch("INSERT INTO process_closure (ancestor_id, descendant_id, depth) VALUES (?, ?, ?)", rows.size(), (ps, i) -> {
+            long[] closure = rows.get(i);
+            ps.setLong(1, closure[0]);
+            ps.setLong(2, closure[1]);
+            ps.setInt(3, (int) closure[2]);
+        });
+        return rows.size();
+    }
+
+    /**
+     * Links every row of the owning side of a join table to a random run of distinct rows of the other side.
+     * The owning side is the process table when it takes part, and otherwise the first column.
+     */
+    private int insertLinks(Table table) {
+        List<String> columns = new ArrayList<>(table.foreignKeys().keySet());
+        if ("process".equals(table.foreignKeys().get(columns.get(1)))) {
+            columns = List.of(columns.get(1), columns.get(0));
+        }
+        Range owners = generated.get(table.foreignKeys().get(columns.get(0)));
+        Range targets = generated.get(table.foreignKeys().get(columns.get(1)));
+        if (owners == null || targets == null) {
+            return 0;
+        }
+        int maxFanOut = Math.min(2 * settings.fanOut(table.name()), targets.count());
+        List<long[]> links = new ArrayList<>();
+        for (int owner = 0; owner < owners.count(); owner++) {
+            int fanOut = random.nextInt(maxFanOut + 1);
+            int first = random.nextInt(targets.count());
+            for (int j = 0; j < fanOut; j++) {
+                links.add(new long[] {owners.id(owner), targets.id((first + j) % targets.count())});
+            }
+        }
+        batch("INSERT INTO " + table.name() + " (" + columns.get(0) + ", " + columns.get(1) + ") VALUES (?, ?)",
+            links.size(), (ps, i) -> {
+                ps.setLong(1, links.get(i)[0]);
+                ps.setLong(2, links.get(i)[1]);
+            });
+        return links.size();
+    }
+
+    private void insert(Table table, int rows, List<IntFunction<Object>> values) {
+        List<Column> columns = table.columns();
+        String sql = "INSERT INTO " + table.name() + " ("
+            + String.join(", ", columns.stream().map(Column::name).toList()) + ") VALUES ("
+            + String.join(", ", columns.stream().map(column -> "?").toList()) + ")";
+        batch(sql, rows, (ps, row) -> {
+            for (int i = 0; i < columns.size(); i++) {
+                Object value = values.get(i).apply(row);
+                if (value == null) {
+                    ps.setNull(i + 1, columns.get(i).sqlType());
+                } else {
+                    ps.setObject(i + 1, value);
+                }
+            }
+        });
+    }
+
+    private long nextId(String table) {
+        try {
+            return IdSequences.nextFreeId(jdbcTemplate, table);
+        } catch (DataAccessException e) {
+            // A table without a sequence, which is not mapped by an entity
+            Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+            return max == null ? 1 : max + 1;
+        }
+    }
+
+    /**
+     * Moves the sequence of a table past the generated ids, so that rows created
+     * by the application afterwards do not collide with them.
+     */
+    private void restartSequence(String table, long lastId) {
+        try {
+            IdSequences.restartAfter(jdbcTemplate, table, lastId);
+        } catch (DataAccessException e) {
+            log.warn("Could not restart the id sequence of {}: {}", table, e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowSetter {
+        void set(PreparedStatement ps, int row) throws SQLException;
+    }
+
+    private void batch(String sql, int rows, RowSetter setter) {
+        for (int from = 0; from < rows; from += settings.batchSize()) {
+            int offset = from;
+            int size = Math.min(settings.batchSize(), rows - from);
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    setter.set(ps, offset + i);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+        }
+    }
+}
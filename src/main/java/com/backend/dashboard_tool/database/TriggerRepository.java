@@ -1,11 +1,13 @@
 package com.backend.dashboard_tool.database;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.backend.dashboard_tool.DTO.OrganizationLink;
 import com.backend.dashboard_tool.entity.Process_Data.Trigger;
 
 /**
@@ -21,4 +23,29 @@ public interface TriggerRepository extends JpaRepository<Trigger, Long> {
      */
     @Query("SELECT t FROM Trigger t WHERE t.targetProcess.id = :id")
     List<Trigger> findByTargetProcessId(@Param("id") Long id);
+
+    /**
+     * Finds the organization and process IDs of all triggers.
+     * This is used to build the in-memory process graph without hydrating entities.
+     *
+     * @return a list of OrganizationLink snapshots for every trigger
+     */
+    @Query("""
+        SELECT new com.backend.dashboard_tool.DTO.OrganizationLink(t.id, t.sourceOrganization.id, t.targetProcess.id, true)
+        FROM Trigger t
+        """)
+    List<OrganizationLink> findAllLinks();
+
+    /**
+     * Finds the organization and process IDs of a single trigger.
+     *
+     * @param id the ID of the trigger
+     * @return an Optional containing the OrganizationLink snapshot, or empty if no trigger has this ID
+     */
+    @Query("""
+        SELECT new com.backend.dashboard_tool.DTO.OrganizationLink(t.id, t.sourceOrganization.id, t.targetProcess.id, true)
+        FROM Trigger t
+        WHERE t.id = :id
+        """)
+    Optional<OrganizationLink> findLinkById(@Param("id") Long id);
 }
@@ -25,7 +25,7 @@ public class Asset {
      * The unique identifier for the asset.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
     private String name;
     private String type;
@@ -22,7 +22,7 @@ public abstract class CashFlow {
 	 * The unique identifier for the cost.
 	 */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
     private String name;
     private String type;
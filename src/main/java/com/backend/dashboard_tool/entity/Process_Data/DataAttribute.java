@@ -20,7 +20,7 @@ public class DataAttribute {
      * The unique identifier for the data attribute.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
     private String name;
     private String type;
@@ -23,7 +23,7 @@ public class DataStore {
      * The unique identifier for the datastore.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
     private String name;
     private String type;
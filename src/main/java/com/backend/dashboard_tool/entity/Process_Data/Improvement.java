@@ -22,7 +22,7 @@ public class Improvement {
      * The unique identifier for the improvement.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
     private String name;
     private String type;
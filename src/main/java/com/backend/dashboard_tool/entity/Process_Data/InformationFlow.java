@@ -34,7 +34,7 @@ public abstract class InformationFlow {
      * The unique identifier for the information flow.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
     private String name;
     private String type;
@@ -0,0 +1,55 @@
+package com.backend.dashboard_tool.entity.Process_Data;
+
+import java.io.Serializable;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * This class is used to represent the ancestor/descendant closure of the process hierarchy.
+ * Every process has a row pointing to itself at depth 0, and one row for every
+ * ancestor above it, with the depth being the number of levels between the two.
+ * This allows a whole subtree to be fetched with a single indexed query instead of
+ * one query per level.
+ * The ids are stored as plain columns so deleting a process is never blocked by
+ * a foreign key; the database trigger cleans up the rows instead.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+@Entity(name = "process_closure")
+@Table(
+    name = "process_closure",
+    indexes = {
+        @Index(name = "idx_process_closure_descendant", columnList = "descendant_id, ancestor_id")
+    }
+)
+@IdClass(ProcessClosure.Key.class)
+public class ProcessClosure {
+    @Id
+    @Column(name = "ancestor_id")
+    private Long ancestorId;
+
+    @Id
+    @Column(name = "descendant_id")
+    private Long descendantId;
+
+    private int depth;
+
+    /**
+     * Composite primary key of the closure table (ancestor_id, descendant_id).
+     * The primary key index also serves the subtree lookup by ancestor.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+    }
+}
@@ -10,6 +10,8 @@ import com.backend.dashboard_tool.entity.Document;
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import org.hibernate.Hibernate;
+
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -32,7 +34,7 @@ public class ProcessEntity {
      * The unique identifier for the process.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
     private String name;
     private String type;
@@ -314,6 +316,13 @@ public class ProcessEntity {
     )
     private List<Document> documents = new ArrayList<>();
 
+    /**
+     * Creates a detached copy of this process.
+     * Collections that have not been loaded yet are left empty instead of being
+     * initialized, so copying a process never triggers a lazy load.
+     * 
+     * @return a new, unmanaged ProcessEntity
+     */
     public ProcessEntity copy(){
         ProcessEntity copy = new ProcessEntity();
         copy.setId(this.id);
@@ -323,40 +332,44 @@ public class ProcessEntity {
         copy.setInternal(this.internal);
         copy.setLevel(this.level);
         copy.setDescription(this.description);
-        copy.setSubProcesses(new ArrayList<>(this.subProcesses));
+        copy.setSubProcesses(copyIfLoaded(this.subProcesses));
         copy.setParentProcess(this.parentProcess);
-        copy.setProblems(new ArrayList<>(this.problems));
-        copy.setImprovements(new ArrayList<>(this.improvements));
-        copy.setOutgoingFlows(new ArrayList<>(this.outgoingFlows));
-        copy.setIncomingFlows(new ArrayList<>(this.incomingFlows));
-        copy.setOutgoingResults(new ArrayList<>(this.outgoingResults));
-        copy.setIncomingTriggers(new ArrayList<>(this.incomingTriggers));
-        copy.setDataStores(new ArrayList<>(this.dataStores));
-        copy.setCosts(new ArrayList<>(this.costs));
-        copy.setRevenues(new ArrayList<>(this.revenues));
-        copy.setGoals(new ArrayList<>(this.goals));
-        copy.setPrograms(new ArrayList<>(this.programs));
-        copy.setKpis(new ArrayList<>(this.kpis));
-        copy.setRisks(new ArrayList<>(this.risks));
-        copy.setMitigationMeasures(new ArrayList<>(this.mitigationMeasures));
-        copy.setAudits(new ArrayList<>(this.audits));
-        copy.setProducts(new ArrayList<>(this.products));
-        copy.setServices(new ArrayList<>(this.services));
-        copy.setLegislations(new ArrayList<>(this.legislations));
-        copy.setProjects(new ArrayList<>(this.projects));
-        copy.setSystems(new ArrayList<>(this.systems));
-        copy.setAssets(new ArrayList<>(this.assets));
-        copy.setFacilities(new ArrayList<>(this.facilities));
-        copy.setApplications(new ArrayList<>(this.applications));
-        copy.setLocations(new ArrayList<>(this.locations));
-        copy.setRoles(new ArrayList<>(this.roles));
-        copy.setOrganizations(new ArrayList<>(this.organizations));
-        copy.setDepartments(new ArrayList<>(this.departments));
-        copy.setEmployees(new ArrayList<>(this.employees));
-        copy.setFunctions(new ArrayList<>(this.functions));
-        copy.setConsultations(new ArrayList<>(this.consultations));
-        copy.setDocuments(new ArrayList<>(this.documents));
+        copy.setProblems(copyIfLoaded(this.problems));
+        copy.setImprovements(copyIfLoaded(this.improvements));
+        copy.setOutgoingFlows(copyIfLoaded(this.outgoingFlows));
+        copy.setIncomingFlows(copyIfLoaded(this.incomingFlows));
+        copy.setOutgoingResults(copyIfLoaded(this.outgoingResults));
+        copy.setIncomingTriggers(copyIfLoaded(this.incomingTriggers));
+        copy.setDataStores(copyIfLoaded(this.dataStores));
+        copy.setCosts(copyIfLoaded(this.costs));
+        copy.setRevenues(copyIfLoaded(this.revenues));
+        copy.setGoals(copyIfLoaded(this.goals));
+        copy.setPrograms(copyIfLoaded(this.programs));
+        copy.setKpis(copyIfLoaded(this.kpis));
+        copy.setRisks(copyIfLoaded(this.risks));
+        copy.setMitigationMeasures(copyIfLoaded(this.mitigationMeasures));
+        copy.setAudits(copyIfLoaded(this.audits));
+        copy.setProducts(copyIfLoaded(this.products));
+        copy.setServices(copyIfLoaded(this.services));
+        copy.setLegislations(copyIfLoaded(this.legislations));
+        copy.setProjects(copyIfLoaded(this.projects));
+        copy.setSystems(copyIfLoaded(this.systems));
+        copy.setAssets(copyIfLoaded(this.assets));
+        copy.setFacilities(copyIfLoaded(this.facilities));
+        copy.setApplications(copyIfLoaded(this.applications));
+        copy.setLocations(copyIfLoaded(this.locations));
+        copy.setRoles(copyIfLoaded(this.roles));
+        copy.setOrganizations(copyIfLoaded(this.organizations));
+        copy.setDepartments(copyIfLoaded(this.departments));
+        copy.setEmployees(copyIfLoaded(this.employees));
+        copy.setFunctions(copyIfLoaded(this.functions));
+        copy.setConsultations(copyIfLoaded(this.consultations));
+        copy.setDocuments(copyIfLoaded(this.documents));
 
         return copy;
     }
-}
\ No newline at end of file
+
+    private static <T> List<T> copyIfLoaded(List<T> collection) {
+        return Hibernate.isInitialized(collection) ? new ArrayList<>(collection) : new ArrayList<>();
+    }
+}
@@ -24,7 +24,7 @@ public class Legislation {
      * The unique identifier for the legislation.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
     private String name;
     private String type;
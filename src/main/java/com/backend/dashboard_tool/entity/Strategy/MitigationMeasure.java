@@ -23,7 +23,7 @@ public class MitigationMeasure {
      * The unique identifier for the mitigation measure.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
     private String name;
     private String type;
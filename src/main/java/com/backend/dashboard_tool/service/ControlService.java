@@ -3,12 +3,15 @@ package com.backend.dashboard_tool.service;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.backend.dashboard_tool.DTO.LayerQuery;
+import com.backend.dashboard_tool.database.LayerRepository;
 import com.backend.dashboard_tool.database.Strategy.AuditRepository;
 import com.backend.dashboard_tool.database.Strategy.LegislationRepository;
 import com.backend.dashboard_tool.database.DocumentRepository;
-import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
 import java.util.List;
+import java.util.stream.Stream;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.http.HttpStatus;
 
@@ -43,12 +46,47 @@ public class ControlService {
     @Transactional(readOnly = true)
     @Cacheable(value = "controls", key = "#type")
     public List<?> getAllControlsByType(String type) {
-        return switch (type.toLowerCase()) {
-            case "audit" -> auditRepository.findAll();
-            case "legislation" -> legislationRepository.findAll();
-            case "document" -> documentRepository.findAll();
-            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown control type: " + type);
-        };
+        return repositoryFor(type).findAll();
+    }
+
+    /**
+     * Retrieves one page of control-related entities of a specific type, ordered by ID.
+     * Every page is cached on its own, so that no cache entry holds the whole table.
+     *
+     * @param type The type of control entity to retrieve.
+     * @param query The cursor, limit and filters of the page.
+     * @return A list of at most query.pageSize() entities, or throws an exception if the type is unknown.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = "controls", key = "#type + ':' + #query")
+    public List<?> getControlsPage(String type, LayerQuery query) {
+        return repositoryFor(type).findPage(query);
+    }
+
+    /**
+     * Counts the control-related entities of a specific type that match the filters of a query,
+     * without loading them.
+     *
+     * @param type The type of control entity to count.
+     * @param query The filters to match; the cursor and limit are ignored.
+     * @return The number of matching entities, or throws an exception if the type is unknown.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = "controls", key = "#type + ':count:' + #query.withoutCursor()")
+    public long countControls(String type, LayerQuery query) {
+        return repositoryFor(type).countMatching(query);
+    }
+
+    /**
+     * Streams all control-related entities of a specific type ordered by ID, without caching them.
+     * The caller must consume and close the Stream inside a read-only transaction, see JsonStreamService.
+     *
+     * @param type The type of control entity to stream.
+     * @return A Stream of all entities for the specified type, or throws an exception if the type is unknown.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<?> streamAllControlsByType(String type) {
+        return repositoryFor(type).streamAllByOrderByIdAsc();
     }
 
     /**
@@ -63,10 +101,7 @@ public class ControlService {
     @Transactional(readOnly = true)
     @Cacheable(value = "controlByProcess", key = "#type + '-' + #processId")
     public List<?> getControlsByTypeAndProcessId(String type, Long processId) {
-        ProcessEntity process = processService.getProcessById(processId);
-        if (process == null) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Process with ID " + processId + " not found.");
-        }
+        processService.requireProcess(processId);
 
         return switch (type.toLowerCase()) {
             case "audit" -> auditRepository.findByProcessId(processId);
@@ -75,4 +110,19 @@ public class ControlService {
             default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown control type: " + type);
         };
     }
+
+    /**
+     * Finds the repository of a control type.
+     *
+     * @param type The type of control entity.
+     * @return The LayerRepository of the type, or throws an exception if the type is unknown.
+     */
+    private LayerRepository<?> repositoryFor(String type) {
+        return switch (type.toLowerCase()) {
+            case "audit" -> auditRepository;
+            case "legislation" -> legislationRepository;
+            case "document" -> documentRepository;
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown control type: " + type);
+        };
+    }
 }
@@ -2,25 +2,82 @@ package com.backend.dashboard_tool.service;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.postgresql.PGConnection;
 import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
+import com.backend.dashboard_tool.config.LogSampler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 
 /**
  * DatabaseNotificationListener listens for database notifications
  * on the 'cache_update' channel and processes them
  * to manage cache invalidation for specific entities.
+ * The listener blocks on the connection until a notification arrives, so changes
+ * are applied as soon as they are committed. When the connection drops, it
+ * reconnects with an exponential backoff and invalidates everything once,
+ * since notifications sent while disconnected are lost.
+ * Every invalidation is counted in the cache.invalidations meter, tagged by cache,
+ * table, operation and scope, where the scope is "targeted" for evicted keys and
+ * key prefixes and "clear" for a cache that was cleared as a whole.
+ * The details of every batch are logged at DEBUG; at INFO only a sampled summary
+ * is logged, at most once per SUMMARY_INTERVAL, so bursts of changes do not flood the log.
  */
 @Service
 public class DatabaseNotificationListener {
+    private static final Logger log = LoggerFactory.getLogger(DatabaseNotificationListener.class);
+
+    /**
+     * Maximum time to block waiting for notifications before the connection is checked.
+     */
+    static final int WAIT_TIMEOUT_MS = 10_000;
+    /**
+     * Time to wait for the connection check to answer.
+     */
+    static final int VALIDATION_TIMEOUT_S = 5;
+    /**
+     * First delay before reconnecting, doubled after every failed attempt.
+     */
+    static final long INITIAL_BACKOFF_MS = 1_000;
+    /**
+     * Upper bound for the delay between reconnect attempts.
+     */
+    static final long MAX_BACKOFF_MS = 30_000;
+    /**
+     * Time to keep collecting notifications after the first one, so that a burst
+     * of row changes is applied as one invalidation.
+     */
+    static final int COALESCE_WINDOW_MS = 100;
+    /**
+     * Maximum number of notifications applied as one batch.
+     */
+    static final int MAX_BATCH_SIZE = 10_000;
+    /**
+     * Name of the counter of cache invalidations caused by database notifications.
+     */
+    static final String INVALIDATIONS_METER = "cache.invalidations";
+    /**
+     * Minimum time between two summaries of the applied batches, and between two warnings
+     * about invalid payloads.
+     */
+    static final Duration SUMMARY_INTERVAL = Duration.ofMinutes(1);
 
     @Autowired
     private CacheManager cacheManager;
@@ -28,57 +85,215 @@ public class DatabaseNotificationListener {
     @Autowired
     private DataSourceProperties dbProps; 
 
+    @Autowired
+    private ProcessGraph processGraph;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private volatile boolean running;
+    private volatile Thread listenerThread;
+    long initialBackoffMillis = INITIAL_BACKOFF_MS;
+    private final AtomicLong receivedInvalidations = new AtomicLong();
+    private final AtomicLong appliedInvalidations = new AtomicLong();
+    private final LogSampler summarySampler = new LogSampler(SUMMARY_INTERVAL);
+    private final LogSampler invalidPayloadSampler = new LogSampler(SUMMARY_INTERVAL);
+
     /**
      * Initializes the listener for database notifications.
-     * This method starts a new thread that listens for notifications
+     * This method starts a dedicated virtual thread that listens for notifications
      * and processes them to clear or evict caches as needed.
      */
     @PostConstruct
     public void listenForDatabaseChanges() {
-        new Thread(() -> {
-            try (Connection conn = DriverManager.getConnection(dbProps.getUrl(), dbProps.getUsername(), dbProps.getPassword())) {
+        running = true;
+        listenerThread = Thread.ofVirtual().name("db-notification-listener").start(this::listen);
+    }
+
+    /**
+     * Stops the listener thread when the application shuts down.
+     */
+    @PreDestroy
+    public void stopListening() {
+        running = false;
+        Thread thread = listenerThread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Keeps a LISTEN connection open for as long as the listener is running.
+     * Any failure closes the connection and a new one is opened after the backoff,
+     * so cache invalidation never stops silently.
+     */
+    void listen() {
+        long backoff = initialBackoffMillis;
+        boolean connectedBefore = false;
+        while (running) {
+            try (Connection conn = openConnection()) {
                 try (Statement stmt = conn.createStatement()) {
                     stmt.execute("LISTEN cache_update"); 
                 }
-
                 PGConnection pgConn = conn.unwrap(PGConnection.class);
 
-                while (true) {
-                    PGNotification[] notifications = pgConn.getNotifications();
-                    if (notifications != null) {
-                        for (PGNotification notification : notifications) {
-                            System.out.println("Received raw notification: " + notification.getParameter());
-                            handleNotification(notification.getParameter());
+                if (connectedBefore) {
+                    log.info("Reconnected, invalidating all caches.");
+                    handleReconnect();
+                }
+                connectedBefore = true;
+                backoff = initialBackoffMillis;
+
+                while (running) {
+                    PGNotification[] notifications = pgConn.getNotifications(WAIT_TIMEOUT_MS);
+                    if (notifications == null || notifications.length == 0) {
+                        // Nothing arrived, make sure the connection is still alive
+                        if (!conn.isValid(VALIDATION_TIMEOUT_S)) {
+                            throw new SQLException("Notification connection is no longer valid.");
+                        }
+                        continue;
+                    }
+                    List<String> payloads = new ArrayList<>();
+                    try {
+                        collect(notifications, payloads);
+                        // Keep draining for a short window, so a burst becomes a single batch
+                        long deadline = System.currentTimeMillis() + COALESCE_WINDOW_MS;
+                        long remaining;
+                        while (payloads.size() < MAX_BATCH_SIZE && (remaining = deadline - System.currentTimeMillis()) > 0) {
+                            PGNotification[] more = pgConn.getNotifications((int) remaining);
+                            if (more == null || more.length == 0) {
+                                break;
+                            }
+                            collect(more, payloads);
+                        }
+                    } finally {
+                        // Whatever was received is applied, even if the connection dropped while draining
+                        try {
+                            handleNotifications(payloads);
+                        } catch (RuntimeException e) {
+                            log.error("Failed to handle {} notification(s)", payloads.size(), e);
                         }
                     }
-
-                    Thread.sleep(500);
                 }
-            } catch (InterruptedException e) {
-                System.err.println("DatabaseNotificationListener thread interrupted.");
-                Thread.currentThread().interrupt();
             } catch (Exception e) {
-                System.err.println("Error in DatabaseNotificationListener: " + e.getMessage());
-                e.printStackTrace();
+                if (!running) {
+                    break;
+                }
+                log.warn("Notification connection failed, reconnecting in {} ms: {}", backoff, e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MS);
             }
-        }, "db-notification-listener").start();
+        }
+        log.info("Listener thread stopped.");
+    }
+
+    private static void collect(PGNotification[] notifications, List<String> payloads) {
+        for (PGNotification notification : notifications) {
+            payloads.add(notification.getParameter());
+        }
+    }
+
+    /**
+     * Opens the dedicated connection used for LISTEN.
+     * A pooled connection is not used, since it would be held forever.
+     *
+     * @return a new connection to the database
+     * @throws SQLException if the connection cannot be opened
+     */
+    Connection openConnection() throws SQLException {
+        return DriverManager.getConnection(dbProps.getUrl(), dbProps.getUsername(), dbProps.getPassword());
+    }
+
+    /**
+     * Invalidates every cache and rebuilds the process graph after a reconnect,
+     * since any notification sent while the connection was down has been lost.
+     */
+    void handleReconnect() {
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+                countInvalidation(new Invalidation(cacheName, "*", "RECONNECT", false), 1);
+            }
+        }
+        try {
+            processGraph.rebuild();
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild process graph after reconnect", e);
+        }
     }
 
     /**
-     * Handles the notification payload received from the database.
-     * The payload format is expected to be "tableName:operation:entityId".
+     * Handles a single notification payload received from the database.
+     * The payload format is expected to be "tableName:operation:entityId", or
+     * "tableName:operation:processId:relatedId" for the process join tables.
      *
      * @param payload the notification payload
      */
     void handleNotification(String payload) {
+        handleNotifications(List.of(Objects.requireNonNullElse(payload, "")));
+    }
+
+    /**
+     * Handles a batch of notification payloads as one coalesced invalidation.
+     * Every cache region touched by the batch is cleared once, however many rows
+     * changed, and every changed process or information flow is refreshed once.
+     *
+     * @param payloads the notification payloads, in the order they were received
+     */
+    void handleNotifications(List<String> payloads) {
+        InvalidationBatch batch = new InvalidationBatch();
+        for (String payload : payloads) {
+            CacheEvent event = parse(payload);
+            if (event != null) {
+                receivedInvalidations.incrementAndGet();
+                batch.add(event);
+            }
+        }
+        if (!batch.isEmpty()) {
+            apply(batch);
+        }
+    }
+
+    /**
+     * Returns the number of valid notifications received so far.
+     *
+     * @return the number of received invalidations
+     */
+    public long getReceivedInvalidations() {
+        return receivedInvalidations.get();
+    }
+
+    /**
+     * Returns the number of cache clears and evictions actually performed so far.
+     * This is lower than the received count when notifications were coalesced.
+     *
+     * @return the number of applied invalidations
+     */
+    public long getAppliedInvalidations() {
+        return appliedInvalidations.get();
+    }
+
+    /**
+     * Parses a notification payload into a CacheEvent.
+     *
+     * @param payload the notification payload
+     * @return the parsed CacheEvent, or null if the payload is invalid
+     */
+    CacheEvent parse(String payload) {
         if (payload == null || payload.isEmpty()) {
-            System.err.println("Received empty notification payload.");
-            return;
+            warnInvalidPayload("Received empty notification payload.", payload);
+            return null;
         }
         String[] parts = payload.split(":");
         if (parts.length < 2) {
-            System.err.println("Invalid notification payload format: " + payload + ". Expected tableName:OPERATION[:entityId]");
-            return;
+            warnInvalidPayload("Invalid notification payload format, expected tableName:OPERATION[:entityId].", payload);
+            return null;
         }
 
         String tableName = parts[0].toLowerCase().trim();
@@ -89,231 +304,316 @@ public class DatabaseNotificationListener {
             try {
                 entityId = Long.parseLong(parts[2].trim());
             } catch (NumberFormatException e) {
-                System.err.println("Could not parse entity ID from payload: " + payload);
+                warnInvalidPayload("Could not parse entity ID from payload.", payload);
             }
         }
-
-        System.out.println("Processing notification for Table: " + tableName + ", Operation: " + operation + (entityId != null ? ", ID: " + entityId : ""));
-
-        switch (tableName) {
-            case "process":
-                handleProcessEntityChange(operation, entityId);
-                break;
-            case "information_flow":
-                handleInformationflowChange(operation, entityId);
-                break;
-            case "audit", "legislation", "document", "process_audit", "process_legislation", "process_document":
-                handleControlServiceChange(operation);
-                break;
-            case "data_store", "application", "system", "process_datastore", "process_application", "process_system":
-                handleIctServiceChange(operation);
-                break;
-            case "asset", "facility", "location", "process_asset", "process_facility", "process_location":
-                handleInfrastructureServiceChange(operation);
-                break;
-            case "improvement", "project", "process_improvement", "process_project":
-                handleInitiativeServiceChange(operation);
-                break;
-            case "department", "employee", "function", "organization", "role", "consultation", 
-                 "process_department", "process_employee", "process_function", "process_organization", "process_role", "process_consultation":
-                handlePeopleServiceChange(operation);
-                break;
-            case "kpi", "risk", "mitigation_measure", "process_kpi", "process_risk", "process_mitigation_measure":
-                handlePerformanceServiceChange(operation);
-                break;
-            case "cost", "revenue", "product", "service", "goal", 
-                 "process_cost", "process_revenue", "process_product", "process_service", "process_goal":
-                handleRelevanceServiceChange(operation);
-                break;
-            default:
-                System.out.println("No specific cache handling defined for table: " + tableName);
+        Long relatedId = null;
+        if (parts.length > 3 && !parts[3].trim().isEmpty() && !parts[3].trim().equalsIgnoreCase("NULL")) {
+            try {
+                relatedId = Long.parseLong(parts[3].trim());
+            } catch (NumberFormatException e) {
+                warnInvalidPayload("Could not parse related ID from payload.", payload);
+            }
         }
+        return new CacheEvent(tableName, operation, entityId, relatedId);
     }
 
     /**
-     * Handles changes to the Process entity, clearing relevant caches.
-     *
-     * @param operation the type of operation (INSERT, UPDATE, DELETE)
-     * @param entityId the ID of the affected Process entity (optional)
+     * Logs an invalid payload as a warning, sampled so that a misbehaving trigger cannot flood the log.
      */
-    void handleProcessEntityChange(String operation, Long entityId) {
-        if (entityId != null && (operation.equals("UPDATE") || operation.equals("DELETE"))) {
-            Cache processCache = cacheManager.getCache("process");
-            if (processCache != null) {
-                processCache.evict(entityId);
-                System.out.println("Evicted from 'process' cache, ID: " + entityId);
-            }
-        }
-
-        Cache processesCache = cacheManager.getCache("processes");
-        if (processesCache != null) {
-            processesCache.clear();
-            System.out.println("Cleared 'processes' cache due to 'process' table change (" + operation + ").");
+    private void warnInvalidPayload(String message, String payload) {
+        long skipped = invalidPayloadSampler.sample();
+        if (skipped >= 0) {
+            log.warn("{} Payload: '{}', {} similar warning(s) not logged.", message, payload, skipped);
+        } else {
+            log.debug("{} Payload: '{}'", message, payload);
         }
     }
 
     /**
-     * Handles changes to the Informationflow entity, clearing relevant caches.
+     * Applies a coalesced batch: first the process graph, then the targeted
+     * evictions and finally one clear per cache region.
      *
-     * @param operation the type of operation (INSERT, UPDATE, DELETE)
-     * @param entityId the ID of the affected Informationflow entity (optional)
+     * @param batch the InvalidationBatch to apply
      */
-    void handleInformationflowChange(String operation, Long entityId) {
-        Cache dataflowsCache = cacheManager.getCache("dataflows");
-        if (dataflowsCache != null) {
-            dataflowsCache.clear();
-            System.out.println("Cleared 'dataflows' cache due to Dataflow change (" + operation + ").");
+    private void apply(InvalidationBatch batch) {
+        log.debug("Processing {} notification(s) for tables {}", batch.size(), batch.tables);
+
+        // A failing graph update must not keep the caches below from being invalidated
+        if (batch.rebuildGraph()) {
+            updateGraph(processGraph::rebuild);
+        } else {
+            batch.processChanges.forEach((id, operation) -> updateGraph(() -> processGraph.refreshProcess(operation, id)));
+            batch.flowChanges.forEach((id, operation) -> updateGraph(() -> processGraph.refreshInformationFlow(operation, id)));
         }
 
-        Cache inputDataflowsCache = cacheManager.getCache("inputDataflows");
-        if (inputDataflowsCache != null) {
-            inputDataflowsCache.clear();
-            System.out.println("Cleared 'inputDataflows' cache due to Dataflow change (" + operation + ").");
-        }
-
-        Cache outputDataflowsCache = cacheManager.getCache("outputDataflows");
-        if (outputDataflowsCache != null) {
-            outputDataflowsCache.clear();
-            System.out.println("Cleared 'outputDataflows' cache due to Dataflow change (" + operation + ").");
+        batch.evictedKeys.forEach((region, keys) -> {
+            Cache cache = batch.regions.contains(region) ? null : cacheManager.getCache(region);
+            if (cache != null) {
+                for (Object key : keys) {
+                    cache.evict(key);
+                    appliedInvalidations.incrementAndGet();
+                }
+                log.debug("Evicted from '{}' cache, keys: {}", region, keys);
+            }
+        });
+
+        batch.evictedPrefixes.forEach((region, prefixes) -> {
+            Cache cache = batch.regions.contains(region) ? null : cacheManager.getCache(region);
+            if (cache != null) {
+                for (String prefix : prefixes) {
+                    evictByPrefix(cache, prefix);
+                    appliedInvalidations.incrementAndGet();
+                }
+                log.debug("Evicted from '{}' cache, key prefixes: {}", region, prefixes);
+            }
+        });
+
+        for (String region : batch.regions) {
+            Cache cache = cacheManager.getCache(region);
+            if (cache != null) {
+                cache.clear();
+                appliedInvalidations.incrementAndGet();
+                log.debug("Cleared '{}' cache due to changes on {}.", region, batch.tables);
+            }
         }
 
-        Cache resultCache = cacheManager.getCache("results");
-        if (resultCache != null) {
-            resultCache.clear();
-            System.out.println("Cleared 'results' cache due to Result change (" + operation + ").");
+        // A targeted eviction in a cache that was cleared anyway is counted as part of the clear
+        batch.invalidations.forEach((invalidation, count) -> countInvalidation(batch.regions.contains(invalidation.cache())
+            ? new Invalidation(invalidation.cache(), invalidation.table(), invalidation.operation(), false)
+            : invalidation, count));
+
+        long skipped = summarySampler.sample();
+        if (skipped >= 0) {
+            log.atInfo()
+                .addKeyValue("received", receivedInvalidations.get())
+                .addKeyValue("applied", appliedInvalidations.get())
+                .log("Processed {} notification(s) for tables {}, {} earlier batch(es) not logged; {} received and {} applied in total.",
+                    batch.size(), batch.tables, skipped, receivedInvalidations.get(), appliedInvalidations.get());
         }
+    }
 
-        Cache triggerCache = cacheManager.getCache("triggers");
-        if (triggerCache != null) {
-            triggerCache.clear();
-            System.out.println("Cleared 'triggers' cache due to Trigger change (" + operation + ").");
+    /**
+     * Evicts every entry whose key starts with the given prefix.
+     * Only a Caffeine cache can be searched by key; any other cache is cleared instead.
+     */
+    @SuppressWarnings("unchecked")
+    private static void evictByPrefix(Cache cache, String prefix) {
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) nativeCache).asMap().keySet()
+                .removeIf(key -> key.toString().startsWith(prefix));
+        } else {
+            cache.clear();
         }
     }
 
     /**
-     * Handles changes to ControlService entities like Audit, Legislation, and Document
-     * @param operation the type of operation (INSERT, UPDATE, DELETE)
+     * Adds to the invalidation counter of a cache, table, operation and scope.
+     *
+     * @param invalidation the tags of the counter
+     * @param count the number of notifications that asked for the invalidation
      */
-    void handleControlServiceChange(String operation) {
-        Cache controlAllCache = cacheManager.getCache("controls");
-        if (controlAllCache != null) {
-            controlAllCache.clear();
-            System.out.println("Cleared 'controls' cache due to ControlService change (" + operation + ").");
-        }
+    private void countInvalidation(Invalidation invalidation, int count) {
+        Counter.builder(INVALIDATIONS_METER)
+            .description("Cache invalidations caused by database notifications")
+            .tag("cache", invalidation.cache())
+            .tag("table", invalidation.table())
+            .tag("operation", invalidation.operation())
+            .tag("scope", invalidation.targeted() ? "targeted" : "clear")
+            .register(meterRegistry)
+            .increment(count);
+    }
 
-        Cache controlByProcessCache = cacheManager.getCache("controlByProcess");
-        if (controlByProcessCache != null) {
-            controlByProcessCache.clear();
-            System.out.println("Cleared 'controlByProcess' cache due to ControlService change (" + operation + ").");
+    private static void updateGraph(Runnable update) {
+        try {
+            update.run();
+        } catch (RuntimeException e) {
+            log.error("Failed to update process graph", e);
         }
     }
 
+    /**
+     * The caches of a layer service: one keyed by type, or by "type:" followed by the page or count
+     * query, and one keyed by "type-processId".
+     *
+     * @param byType the name of the cache keyed by type
+     * @param byProcess the name of the cache keyed by type and process ID
+     */
+    record LayerCaches(String byType, String byProcess) {}
+
+    private static final LayerCaches CONTROL = new LayerCaches("controls", "controlByProcess");
+    private static final LayerCaches ICT = new LayerCaches("icts", "ictByProcess");
+    private static final LayerCaches INFRASTRUCTURE = new LayerCaches("infrastructures", "infrastructureByProcess");
+    private static final LayerCaches INITIATIVE = new LayerCaches("initiatives", "initiativesByProcess");
+    private static final LayerCaches PEOPLE = new LayerCaches("people", "peopleByProcess");
+    private static final LayerCaches PERFORMANCE = new LayerCaches("performances", "performancesByProcess");
+    private static final LayerCaches RELEVANCE = new LayerCaches("relevances", "relevancesByProcess");
 
     /**
-     * Handles changes to ICT entities like DataStore, Application, and System
-     * @param operation the type of operation (INSERT, UPDATE, DELETE)
+     * The cache of the layer summaries of LayerSummaryService, keyed by "processId-limit".
      */
-    void handleIctServiceChange(String operation) {
-        Cache ictAllCache = cacheManager.getCache("icts");
-        if (ictAllCache != null) {
-            ictAllCache.clear();
-            System.out.println("Cleared 'icts' cache due to ICT change (" + operation + ").");
-        }
+    static final String LAYER_SUMMARIES = "layersByProcess";
 
-        Cache ictByProcessCache = cacheManager.getCache("ictByProcess");
-        if (ictByProcessCache != null) {
-            ictByProcessCache.clear();
-            System.out.println("Cleared 'ictByProcess' cache due to ICT change (" + operation + ").");
-        }
+    /**
+     * The layer caches per type, where the type is the one the layer services use in their cache keys.
+     */
+    static final Map<String, LayerCaches> LAYER_CACHES = Map.ofEntries(
+        Map.entry("audit", CONTROL), Map.entry("legislation", CONTROL), Map.entry("document", CONTROL),
+        Map.entry("datastore", ICT), Map.entry("application", ICT), Map.entry("system", ICT),
+        Map.entry("asset", INFRASTRUCTURE), Map.entry("facility", INFRASTRUCTURE), Map.entry("location", INFRASTRUCTURE),
+        Map.entry("improvement", INITIATIVE), Map.entry("project", INITIATIVE),
+        Map.entry("department", PEOPLE), Map.entry("employee", PEOPLE), Map.entry("function", PEOPLE),
+        Map.entry("organization", PEOPLE), Map.entry("role", PEOPLE), Map.entry("consultation", PEOPLE),
+        Map.entry("kpi", PERFORMANCE), Map.entry("risk", PERFORMANCE), Map.entry("mitigation-measure", PERFORMANCE),
+        Map.entry("cost", RELEVANCE), Map.entry("revenue", RELEVANCE), Map.entry("product", RELEVANCE),
+        Map.entry("service", RELEVANCE), Map.entry("goal", RELEVANCE)
+    );
+
+    /**
+     * Finds the layer type of a layer table or of a process join table,
+     * e.g. "data_store" and "process_datastore" both map to "datastore".
+     *
+     * @param tableName the name of the changed table
+     * @return the layer type as used in the cache keys
+     */
+    static String layerType(String tableName) {
+        String name = tableName.startsWith("process_") ? tableName.substring("process_".length()) : tableName;
+        return name.equals("data_store") ? "datastore" : name.replace('_', '-');
     }
 
     /**
-     * Handles changes to Infrastructure entities like Asset, Facility, and Location
+     * A single parsed notification.
+     *
+     * @param table the name of the changed table
      * @param operation the type of operation (INSERT, UPDATE, DELETE)
+     * @param entityId the ID of the affected row, or the process ID for a join table (optional)
+     * @param relatedId the ID of the linked layer entity for a join table (optional)
      */
-    void handleInfrastructureServiceChange(String operation) {
-        Cache infrastructureAllCache = cacheManager.getCache("infrastructures");
-        if (infrastructureAllCache != null) {
-            infrastructureAllCache.clear();
-            System.out.println("Cleared 'infrastructures' cache due to Infrastructure change (" + operation + ").");
-        }
-
-        Cache infrastructureByProcessCache = cacheManager.getCache("infrastructureByProcess");
-        if (infrastructureByProcessCache != null) {
-            infrastructureByProcessCache.clear();
-            System.out.println("Cleared 'infrastructureByProcess' cache due to Infrastructure change (" + operation + ").");
-        }
-    }
+    record CacheEvent(String table, String operation, Long entityId, Long relatedId) {}
 
     /**
-     * Handles changes to Initiative entities like Improvement and Project
+     * The tags of one invalidation counter.
+     *
+     * @param cache the name of the invalidated cache
+     * @param table the name of the changed table
      * @param operation the type of operation (INSERT, UPDATE, DELETE)
+     * @param targeted true when keys or key prefixes were evicted, false when the cache was cleared
      */
-    void handleInitiativeServiceChange(String operation) {
-        Cache initiativeAllCache = cacheManager.getCache("initiatives");
-        if (initiativeAllCache != null) {
-            initiativeAllCache.clear();
-            System.out.println("Cleared 'initiatives' cache due to Initiative change (" + operation + ").");
+    record Invalidation(String cache, String table, String operation, boolean targeted) {}
+
+    /**
+     * Collects the invalidations of a batch of notifications, so that each cache
+     * region and each changed row is handled only once.
+     */
+    static final class InvalidationBatch {
+        /**
+         * Above this many changed rows, reloading the whole graph is cheaper than refreshing them one by one.
+         */
+        static final int GRAPH_REBUILD_THRESHOLD = 256;
+
+        final Set<String> tables = new LinkedHashSet<>();
+        final Set<String> regions = new LinkedHashSet<>();
+        final Map<String, Set<Object>> evictedKeys = new LinkedHashMap<>();
+        final Map<String, Set<String>> evictedPrefixes = new LinkedHashMap<>();
+        final Map<Long, String> processChanges = new LinkedHashMap<>();
+        final Map<Long, String> flowChanges = new LinkedHashMap<>();
+        final Map<Invalidation, Integer> invalidations = new LinkedHashMap<>();
+        private CacheEvent current;
+        private boolean graphChangeWithoutId;
+        private int size;
+
+        void add(CacheEvent event) {
+            String table = event.table();
+            current = event;
+            switch (table) {
+                case "process" -> {
+                    clear("processes");
+                    if (event.entityId() == null) {
+                        graphChangeWithoutId = true;
+                        break;
+                    }
+                    // The last operation wins, the graph reads the current row anyway
+                    processChanges.put(event.entityId(), event.operation());
+                    if (event.operation().equals("UPDATE") || event.operation().equals("DELETE")) {
+                        evict("process", event.entityId());
+                        evictPrefix(LAYER_SUMMARIES, event.entityId() + "-");
+                    }
+                }
+                case "information_flow" -> {
+                    clear("dataflows", "inputDataflows", "outputDataflows", "results", "triggers");
+                    if (event.entityId() == null) {
+                        graphChangeWithoutId = true;
+                        break;
+                    }
+                    flowChanges.put(event.entityId(), event.operation());
+                }
+                default -> {
+                    String type = layerType(table);
+                    LayerCaches caches = LAYER_CACHES.get(type);
+                    if (caches == null) {
+                        log.debug("No specific cache handling defined for table: {}", table);
+                        return;
+                    }
+                    if (table.startsWith("process_")) {
+                        // A link changed: only the list of that process is affected
+                        if (event.entityId() != null) {
+                            evict(caches.byProcess(), type + "-" + event.entityId());
+                            evictPrefix(LAYER_SUMMARIES, event.entityId() + "-");
+                        } else {
+                            evictPrefix(caches.byProcess(), type + "-");
+                            clear(LAYER_SUMMARIES);
+                        }
+                    } else {
+                        // An entity changed: every list, page and count of its type may contain it
+                        evict(caches.byType(), type);
+                        evictPrefix(caches.byType(), type + ":");
+                        evictPrefix(caches.byProcess(), type + "-");
+                        // The summaries do not say which entities they hold, and a new entity is not linked yet
+                        if (!event.operation().equals("INSERT")) {
+                            clear(LAYER_SUMMARIES);
+                        }
+                        if (type.equals("organization")) {
+                            // Triggers and results are returned together with their organization
+                            clear("triggers", "results");
+                        }
+                    }
+                }
+            }
+            size++;
+            tables.add(table);
         }
 
-        Cache initiativeByProcessCache = cacheManager.getCache("initiativeByProcess");
-        if (initiativeByProcessCache != null) {
-            initiativeByProcessCache.clear();
-            System.out.println("Cleared 'initiativeByProcess' cache due to Initiative change (" + operation + ").");
+        private void clear(String... names) {
+            for (String region : names) {
+                regions.add(region);
+                count(region, false);
+            }
         }
-    }
 
-    /**
-     * Handles changes to People entities like Department, Employee, Function, Organization, Role, and Consultation
-     * @param operation the type of operation (INSERT, UPDATE, DELETE)
-     */
-    void handlePeopleServiceChange(String operation) {
-        Cache peopleAllCache = cacheManager.getCache("people");
-        if (peopleAllCache != null) {
-            peopleAllCache.clear();
-            System.out.println("Cleared 'people' cache due to People change (" + operation + ").");
+        private void evict(String region, Object key) {
+            evictedKeys.computeIfAbsent(region, r -> new LinkedHashSet<>()).add(key);
+            count(region, true);
         }
 
-        Cache peopleByProcessCache = cacheManager.getCache("peopleByProcess");
-        if (peopleByProcessCache != null) {
-            peopleByProcessCache.clear();
-            System.out.println("Cleared 'peopleByProcess' cache due to People change (" + operation + ").");
+        private void evictPrefix(String region, String prefix) {
+            evictedPrefixes.computeIfAbsent(region, r -> new LinkedHashSet<>()).add(prefix);
+            count(region, true);
         }
-    }
 
-    /**
-     * Handles changes to Performance entities like KPI, Risk, and Mitigation Measure
-     * @param operation the type of operation (INSERT, UPDATE, DELETE)
-     */
-    void handlePerformanceServiceChange(String operation) {
-        Cache performanceAllCache = cacheManager.getCache("performances");
-        if (performanceAllCache != null) {
-            performanceAllCache.clear();
-            System.out.println("Cleared 'performances' cache due to Performance change (" + operation + ").");
+        private void count(String region, boolean targeted) {
+            invalidations.merge(new Invalidation(region, current.table(), current.operation(), targeted), 1, Integer::sum);
         }
 
-        Cache performanceByProcessCache = cacheManager.getCache("performanceByProcess");
-        if (performanceByProcessCache != null) {
-            performanceByProcessCache.clear();
-            System.out.println("Cleared 'performanceByProcess' cache due to Performance change (" + operation + ").");
+        boolean rebuildGraph() {
+            return graphChangeWithoutId || processChanges.size() + flowChanges.size() > GRAPH_REBUILD_THRESHOLD;
         }
-    }
 
-    /**
-     * Handles changes to Relevance entities like Cost, Revenue, Product, Service, and Goal
-     * @param operation the type of operation (INSERT, UPDATE, DELETE)
-     */
-    void handleRelevanceServiceChange(String operation) {
-        Cache relevanceAllCache = cacheManager.getCache("relevances");
-        if (relevanceAllCache != null) {
-            relevanceAllCache.clear();
-            System.out.println("Cleared 'relevances' cache due to Relevance change (" + operation + ").");
+        boolean isEmpty() {
+            return size == 0;
         }
 
-        Cache relevanceByProcessCache = cacheManager.getCache("relevanceByProcess");
-        if (relevanceByProcessCache != null) {
-            relevanceByProcessCache.clear();
-            System.out.println("Cleared 'relevanceByProcess' cache due to Relevance change (" + operation + ").");
+        int size() {
+            return size;
         }
     }
 }
@@ -10,7 +10,12 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
 
 import com.backend.dashboard_tool.DTO.DataflowDTO;
+import com.backend.dashboard_tool.DTO.ImpactNode;
+import com.backend.dashboard_tool.DTO.ImpactResult;
+import com.backend.dashboard_tool.DTO.ProcessNode;
 import com.backend.dashboard_tool.database.DataflowRepository;
+import com.backend.dashboard_tool.database.People.OrganizationRepository;
+import com.backend.dashboard_tool.entity.People.Organization;
 import com.backend.dashboard_tool.entity.Process_Data.Dataflow;
 import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
 import com.backend.dashboard_tool.sipocrecords.DataflowProcessPair;
@@ -20,12 +25,34 @@ import java.util.*;
 
 @Service
 public class DataflowService {
+    /**
+     * The maximum depth of an impact analysis. Larger requested depths are reduced to this value.
+     */
+    public static final int MAX_IMPACT_DEPTH = 10;
+    /**
+     * The maximum number of nodes returned by an impact analysis.
+     */
+    public static final int MAX_IMPACT_NODES = 1000;
+
     private final DataflowRepository dataflowRepository;
+    private final OrganizationRepository organizationRepository;
     private final ProcessService processService;
+    private final ProcessGraph processGraph;
 
-    public DataflowService(DataflowRepository dataflowRepository, ProcessService processService) {
+    /**
+     * Constructor for DataflowService.
+     *
+     * @param dataflowRepository the DataflowRepository instance
+     * @param organizationRepository the OrganizationRepository instance
+     * @param processService the ProcessService instance
+     * @param processGraph the in-memory ProcessGraph, used instead of the database once it is loaded
+     */
+    public DataflowService(DataflowRepository dataflowRepository, OrganizationRepository organizationRepository,
+                           ProcessService processService, ProcessGraph processGraph) {
         this.dataflowRepository = dataflowRepository;
+        this.organizationRepository = organizationRepository;
         this.processService = processService;
+        this.processGraph = processGraph;
     }
 
     /**
@@ -41,11 +68,14 @@ public class DataflowService {
         @RequestParam(required = false) Long parentId,
         @RequestParam(required = false) String type
     ){
-        List<ProcessEntity> processes = processService.getSubProcesses(parentId, type);
+        List<ProcessNode> processes = processService.getSubProcesses(parentId, type);
         List<Long> processIds = processes.stream()
-            .map(ProcessEntity::getId)
+            .map(ProcessNode::id)
             .toList();
 
+        if (processGraph.isReady()) {
+            return processGraph.findDataflowsBetween(processIds);
+        }
         return dataflowRepository.findByProcessIds(processIds);
     }
 
@@ -66,16 +96,8 @@ public class DataflowService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, 
                 "Source and target process IDs must be different.");
         }
-        ProcessEntity sourceProcess = processService.getProcessById(dataflowDTO.source());
-        if (sourceProcess == null) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, 
-                "Source process not found with ID: " + dataflowDTO.source());
-        }
-        ProcessEntity targetProcess = processService.getProcessById(dataflowDTO.target());
-        if (targetProcess == null) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, 
-                "Target process not found with ID: " + dataflowDTO.target());
-        }
+        ProcessEntity sourceProcess = processService.getProcessReference(dataflowDTO.source(), "Source process");
+        ProcessEntity targetProcess = processService.getProcessReference(dataflowDTO.target(), "Target process");
         
         Dataflow dataflow = new Dataflow();
         dataflow.setName(dataflowDTO.name());
@@ -85,7 +107,9 @@ public class DataflowService {
         dataflow.setSourceProcess(sourceProcess);
         dataflow.setTargetProcess(targetProcess);
 
-        return dataflowRepository.save(dataflow);
+        Dataflow savedDataflow = dataflowRepository.save(dataflow);
+        processGraph.putDataflowAfterCommit(savedDataflow);
+        return savedDataflow;
     } 
 
     /**
@@ -102,9 +126,14 @@ public class DataflowService {
         @RequestParam(required = false) Long parentId,
         @RequestParam String type
     ) {
-        List<Dataflow> dataflows = dataflowRepository.findInputDataflows(processId, parentId, type);
-        return dataflows.stream()
-            .map(dataflow -> new ProcessDataflowPair(dataflow.getSourceProcess().copy(), dataflow))
+        if (processGraph.isReady()) {
+            return processGraph.findInputDataflows(processId, parentId, type);
+        }
+        return dataflowRepository.findInputDataflowRows(processId, parentId, type).stream()
+            .map(row -> {
+                ProcessEntity supplier = row.process().toEntity();
+                return new ProcessDataflowPair(supplier, row.edge().toDataflow(supplier, processStub(row.targetId())));
+            })
             .toList();
     }
 
@@ -122,9 +151,79 @@ public class DataflowService {
         @RequestParam(required = false) Long parentId,
         @RequestParam String type
     ) {
-        List<Dataflow> dataflows = dataflowRepository.findOutputDataflows(processId, parentId, type);
-        return dataflows.stream()
-            .map(dataflow -> new DataflowProcessPair(dataflow, dataflow.getTargetProcess().copy()))
+        if (processGraph.isReady()) {
+            return processGraph.findOutputDataflows(processId, parentId, type);
+        }
+        return dataflowRepository.findOutputDataflowRows(processId, parentId, type).stream()
+            .map(row -> {
+                ProcessEntity consumer = row.process().toEntity();
+                return new DataflowProcessPair(row.edge().toDataflow(processStub(row.sourceId()), consumer), consumer);
+            })
+            .toList();
+    }
+
+    /**
+     * Creates a detached process that only carries an ID.
+     * Dataflows serialize their processes by ID, so this is all the far end of a pair needs.
+     *
+     * @param id the ID of the process
+     * @return a new, unmanaged ProcessEntity with only its ID set
+     */
+    private static ProcessEntity processStub(Long id) {
+        ProcessEntity process = new ProcessEntity();
+        process.setId(id);
+        return process;
+    }
+
+    /**
+     * Retrieves every process and organization that is affected by, or affects, a process.
+     * The search follows dataflows, triggers and results in one pass over the in-memory process graph.
+     * The names of reached organizations are loaded with a single query afterwards.
+     *
+     * @param processId the ID of the start process
+     * @param direction "downstream" to follow flows forwards, "upstream" to follow them backwards
+     * @param depth the maximum number of flows between the start process and a returned node, at most MAX_IMPACT_DEPTH
+     * @return an ImpactResult with the reachable nodes ordered by depth
+     */
+    @Transactional(readOnly = true)
+    public ImpactResult getImpact(Long processId, String direction, int depth) {
+        boolean downstream = switch (direction.toLowerCase()) {
+            case "downstream" -> true;
+            case "upstream" -> false;
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown direction: " + direction);
+        };
+        if (depth < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Depth must be at least 1.");
+        }
+        if (!processGraph.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Process graph is still loading.");
+        }
+
+        ImpactResult impact = processGraph.findImpact(processId, downstream, Math.min(depth, MAX_IMPACT_DEPTH), MAX_IMPACT_NODES);
+        if (impact == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Process not found.");
+        }
+
+        List<Long> organizationIds = impact.nodes().stream()
+            .filter(node -> node.kind().equals("organization"))
+            .map(ImpactNode::id)
+            .toList();
+        if (organizationIds.isEmpty()) {
+            return impact;
+        }
+        Map<Long, Organization> organizations = new HashMap<>();
+        for (Organization organization : organizationRepository.findAllById(organizationIds)) {
+            organizations.put(organization.getId(), organization);
+        }
+        List<ImpactNode> nodes = impact.nodes().stream()
+            .map(node -> {
+                Organization organization = node.kind().equals("organization") ? organizations.get(node.id()) : null;
+                if (organization == null) {
+                    return node;
+                }
+                return new ImpactNode(node.kind(), node.id(), organization.getName(), organization.getType(), node.depth());
+            })
             .toList();
+        return new ImpactResult(impact.processId(), impact.direction(), impact.depth(), impact.truncated(), nodes);
     }
 }
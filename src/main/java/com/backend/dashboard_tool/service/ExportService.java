@@ -0,0 +1,167 @@
+package com.backend.dashboard_tool.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.backend.dashboard_tool.config.SchemaMigrations;
+import com.backend.dashboard_tool.database.DatabaseSchema;
+import com.backend.dashboard_tool.database.DatabaseSchema.Table;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * ExportService writes the whole enterprise model as newline-delimited JSON: one line per row,
+ * of the form {"table":"employee","row":{"id":1,"name":"..."}}.
+ * Entity tables come first, ordered so that every table follows the tables it references and
+ * each ordered by ID, followed by the join tables. The tables are discovered from the database,
+ * so every process, information flow, layer entity and process_* join row is included.
+ * All tables are read in one read-only, repeatable-read transaction for a consistent snapshot,
+ * with forward-only cursors and a fixed fetch size, so no table is ever held in memory.
+ */
+@Service
+public class ExportService {
+    private static final Logger log = LoggerFactory.getLogger(ExportService.class);
+
+    /**
+     * The number of rows the JDBC driver fetches per round-trip.
+     */
+    static final int FETCH_SIZE = 1000;
+
+    /**
+     * Tables that are derived from other tables and therefore not exported.
+     */
+    static final Set<String> DERIVED_TABLES = Set.of("process_closure");
+
+    /**
+     * Tables that belong to the database rather than to the model and are not exported.
+     */
+    static final Set<String> SYSTEM_TABLES = Set.of(SchemaMigrations.HISTORY_TABLE);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Constructor for ExportService.
+     *
+     * @param dataSource the DataSource to export
+     * @param objectMapper the ObjectMapper used for the regular responses
+     * @param transactionManager the PlatformTransactionManager to open the export transaction with
+     */
+    public ExportService(DataSource dataSource, ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * Writes every exported row to an output stream. The stream is flushed but not closed.
+     *
+     * @param out the OutputStream to write the lines to
+     * @return the number of exported rows per table, in export order
+     */
+    public Map<String, Long> export(OutputStream out) {
+        long start = System.nanoTime();
+        Map<String, Long> report = transactionTemplate.execute(status -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                // Every line ends with its own newline instead of a separator between lines
+                generator.setRootValueSeparator(null);
+                Map<String, Long> rows = new LinkedHashMap<>();
+                for (Table table : exportedTables()) {
+                    rows.put(table.name(), exportTable(table, generator));
+                    generator.flush();
+                }
+                return rows;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        log.info("Exported {} rows from {} tables in {} ms",
+            report.values().stream().mapToLong(Long::longValue).sum(), report.size(), (System.nanoTime() - start) / 1_000_000);
+        return report;
+    }
+
+    /**
+     * The tables to export: the entity tables in dependency order, then the other tables by name.
+     */
+    private List<Table> exportedTables() {
+        List<Table> tables = DatabaseSchema.read(jdbcTemplate).stream()
+            .filter(table -> !DERIVED_TABLES.contains(table.name()) && !SYSTEM_TABLES.contains(table.name()))
+            .toList();
+        return Stream.concat(
+            DatabaseSchema.entityTablesInDependencyOrder(tables).stream(),
+            tables.stream().filter(table -> !table.hasId())
+        ).toList();
+    }
+
+    private long exportTable(Table table, JsonGenerator generator) {
+        String sql = "SELECT * FROM " + table.name() + (table.hasId() ? " ORDER BY id" : "");
+        long[] rows = {0};
+        jdbcTemplate.query(sql, rs -> {
+            try {
+                writeRow(table.name(), rs, generator);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    private static void writeRow(String table, ResultSet rs, JsonGenerator generator) throws SQLException, IOException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        generator.writeStartObject();
+        generator.writeStringField("table", table);
+        generator.writeObjectFieldStart("row");
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            generator.writeFieldName(metaData.getColumnLabel(i).toLowerCase(Locale.ROOT));
+            generator.writeObject(jsonValue(rs.getObject(i)));
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * Converts the JDBC date and time types to java.time, which Jackson writes as ISO-8601 strings.
+     */
+    private static Object jsonValue(Object value) {
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        if (value instanceof Time time) {
+            return time.toLocalTime();
+        }
+        return value;
+    }
+}
@@ -3,12 +3,15 @@ package com.backend.dashboard_tool.service;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.backend.dashboard_tool.DTO.LayerQuery;
+import com.backend.dashboard_tool.database.LayerRepository;
 import com.backend.dashboard_tool.database.Process_Data.DataStoreRepository;
-import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
 import com.backend.dashboard_tool.database.Assets.ApplicationRepository;
 import com.backend.dashboard_tool.database.Assets.SystemEntityRepository;
 import java.util.List;
+import java.util.stream.Stream;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.http.HttpStatus;
 
@@ -43,12 +46,47 @@ public class ICTService {
     @Transactional(readOnly = true)
     @Cacheable(value = "icts", key = "#type")
     public List<?> getAllIctsByType(String type) {
-        return switch (type.toLowerCase()) {
-            case "datastore" -> dataStoreRepository.findAll();
-            case "application" -> applicationRepository.findAll();
-            case "system" -> systemEntityRepository.findAll();
-            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown ict type: " + type);
-        };
+        return repositoryFor(type).findAll();
+    }
+
+    /**
+     * Retrieves one page of ict-related entities of a specific type, ordered by ID.
+     * Every page is cached on its own, so that no cache entry holds the whole table.
+     *
+     * @param type The type of ict entity to retrieve.
+     * @param query The cursor, limit and filters of the page.
+     * @return A list of at most query.pageSize() entities, or throws an exception if the type is unknown.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = "icts", key = "#type + ':' + #query")
+    public List<?> getIctsPage(String type, LayerQuery query) {
+        return repositoryFor(type).findPage(query);
+    }
+
+    /**
+     * Counts the ict-related entities of a specific type that match the filters of a query,
+     * without loading them.
+     *
+     * @param type The type of ict entity to count.
+     * @param query The filters to match; the cursor and limit are ignored.
+     * @return The number of matching entities, or throws an exception if the type is unknown.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = "icts", key = "#type + ':count:' + #query.withoutCursor()")
+    public long countIcts(String type, LayerQuery query) {
+        return repositoryFor(type).countMatching(query);
+    }
+
+    /**
+     * Streams all ict-related entities of a specific type ordered by ID, without caching them.
+     * The caller must consume and close the Stream inside a read-only transaction, see JsonStreamService.
+     *
+     * @param type The type of ict entity to stream.
+     * @return A Stream of all entities for the specified type, or throws an exception if the type is unknown.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<?> streamAllIctsByType(String type) {
+        return repositoryFor(type).streamAllByOrderByIdAsc();
     }
 
     /**
@@ -63,10 +101,7 @@ public class ICTService {
     @Transactional(readOnly = true)
     @Cacheable(value = "ictByProcess", key = "#type + '-' + #processId")
     public List<?> getIctsByTypeAndProcessId(String type, Long processId) {
-        ProcessEntity process = processService.getProcessById(processId);
-        if (process == null) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Process with ID " + processId + " not found.");
-        }
+        processService.requireProcess(processId);
 
         return switch (type.toLowerCase()) {
             case "datastore" -> dataStoreRepository.findByProcessId(processId);
@@ -75,4 +110,19 @@ public class ICTService {
             default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown ict type: " + type);
         };
     }
+
+    /**
+     * Finds the repository of a ict type.
+     *
+     * @param type The type of ict entity.
+     * @return The LayerRepository of the type, or throws an exception if the type is unknown.
+     */
+    private LayerRepository<?> repositoryFor(String type) {
+        return switch (type.toLowerCase()) {
+            case "datastore" -> dataStoreRepository;
+            case "application" -> applicationRepository;
+            case "system" -> systemEntityRepository;
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown ict type: " + type);
+        };
+    }
 }
@@ -0,0 +1,763 @@
+package com.backend.dashboard_tool.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.backend.dashboard_tool.DTO.ImportError;
+import com.backend.dashboard_tool.DTO.ImportReport;
+import com.backend.dashboard_tool.database.DatabaseSchema;
+import com.backend.dashboard_tool.database.IdSequences;
+import com.backend.dashboard_tool.database.DatabaseSchema.Table;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * ImportService loads a process model in bulk, in one transaction.
+ * It accepts the lines of the export, {"table":"process","row":{"id":1,"name":"..."}}, or CSV
+ * with a header row for a single table. Processes, information flows and the process_* join rows
+ * are imported; the IDs of processes in the file are references within the file only, so
+ * parent_process_id, source_process_id, target_process_id and the process_id of a join row refer
+ * to the id of a process row of the same file, while organization and layer entity IDs refer
+ * to rows that already exist in the database.
+ *
+ * Every row is first checked on its own and staged into a temporary table, through COPY on
+ * PostgreSQL and batched inserts elsewhere. The references are then resolved and checked with
+ * a few set-wise queries, and the rows are inserted with one INSERT ... SELECT per table
+ * (per level of the process tree for the processes). If any row is rejected, the transaction
+ * is rolled back and the report lists the rejected rows.
+ */
+@Service
+public class ImportService {
+    private static final Logger log = LoggerFactory.getLogger(ImportService.class);
+
+    /**
+     * The maximum number of rejected rows listed in a report.
+     */
+    public static final int MAX_ERRORS = 1000;
+
+    /**
+     * The number of rows per batch when the rows are staged without COPY.
+     */
+    static final int BATCH_SIZE = 1000;
+
+    /**
+     * The number of characters buffered before they are sent to COPY.
+     */
+    static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The maximum length of the text columns, as generated for the entities.
+     */
+    static final int MAX_TEXT_LENGTH = 255;
+
+    static final String PROCESS = "process";
+    static final String INFORMATION_FLOW = "information_flow";
+
+    private static final String STAGED_COLUMNS = "line, ordinal, target_table, ref, name, type, soort, internal, level, description, "
+        + "parent_ref, source_ref, target_ref, source_organization_id, target_organization_id, entity_id";
+
+    private static final String CREATE_STAGE = """
+        CREATE %s TABLE import_row (
+            line BIGINT NOT NULL,
+            ordinal BIGINT NOT NULL,
+            target_table VARCHAR(255) NOT NULL,
+            ref VARCHAR(255),
+            name VARCHAR(255),
+            type VARCHAR(255),
+            soort VARCHAR(255),
+            internal BOOLEAN,
+            level INTEGER,
+            description VARCHAR(255),
+            parent_ref VARCHAR(255),
+            source_ref VARCHAR(255),
+            target_ref VARCHAR(255),
+            source_organization_id BIGINT,
+            target_organization_id BIGINT,
+            entity_id BIGINT,
+            new_id BIGINT,
+            depth INTEGER
+        ) %s
+        """;
+
+    /**
+     * A set-wise check on the staged rows: the query selects the line and the offending value of every rejected row.
+     */
+    private record Check(String message, String sql) {
+    }
+
+    private static final List<Check> CHECKS = List.of(
+        new Check("Duplicate process id ", """
+            SELECT s.line, s.ref FROM import_row s
+            WHERE s.target_table = 'process'
+              AND EXISTS (SELECT 1 FROM import_row d WHERE d.target_table = 'process' AND d.ref = s.ref AND d.line < s.line)
+            """),
+        new Check("Unknown parent process ", """
+            SELECT s.line, s.parent_ref FROM import_row s
+            WHERE s.target_table = 'process' AND s.parent_ref IS NOT NULL
+              AND NOT EXISTS (SELECT 1 FROM import_row p WHERE p.target_table = 'process' AND p.ref = s.parent_ref)
+            """),
+        new Check("Unknown source process ", """
+            SELECT s.line, s.source_ref FROM import_row s
+            WHERE s.target_table = 'information_flow' AND s.source_ref IS NOT NULL
+              AND NOT EXISTS (SELECT 1 FROM import_row p WHERE p.target_table = 'process' AND p.ref = s.source_ref)
+            """),
+        new Check("Unknown target process ", """
+            SELECT s.line, s.target_ref FROM import_row s
+            WHERE s.target_table = 'information_flow' AND s.target_ref IS NOT NULL
+              AND NOT EXISTS (SELECT 1 FROM import_row p WHERE p.target_table = 'process' AND p.ref = s.target_ref)
+            """),
+        new Check("Unknown source organization ", """
+            SELECT s.line, s.source_organization_id FROM import_row s
+            WHERE s.target_table = 'information_flow' AND s.source_organization_id IS NOT NULL
+              AND NOT EXISTS (SELECT 1 FROM organization o WHERE o.id = s.source_organization_id)
+            """),
+        new Check("Unknown target organization ", """
+            SELECT s.line, s.target_organization_id FROM import_row s
+            WHERE s.target_table = 'information_flow' AND s.target_organization_id IS NOT NULL
+              AND NOT EXISTS (SELECT 1 FROM organization o WHERE o.id = s.target_organization_id)
+            """),
+        new Check("Unknown process ", """
+            SELECT s.line, s.source_ref FROM import_row s
+            WHERE s.target_table NOT IN ('process', 'information_flow')
+              AND NOT EXISTS (SELECT 1 FROM import_row p WHERE p.target_table = 'process' AND p.ref = s.source_ref)
+            """)
+    );
+
+    private static final String INSERT_PROCESSES = """
+        INSERT INTO process (id, name, type, soort, internal, level, description, parent_process_id)
+        SELECT s.new_id, s.name, s.type, s.soort, s.internal, COALESCE(s.level, s.depth), s.description,
+               (SELECT p.new_id FROM import_row p WHERE p.target_table = 'process' AND p.ref = s.parent_ref)
+        FROM import_row s
+        WHERE s.target_table = 'process' AND s.depth = ?
+        """;
+
+    // Skips the rows that the closure trigger has already inserted on PostgreSQL
+    private static final String INSERT_CLOSURE = """
+        INSERT INTO process_closure (ancestor_id, descendant_id, depth)
+        SELECT n.ancestor_id, n.descendant_id, n.depth FROM (
+            SELECT s.new_id AS ancestor_id, s.new_id AS descendant_id, 0 AS depth
+            FROM import_row s
+            WHERE s.target_table = 'process' AND s.depth = ?
+            UNION ALL
+            SELECT c.ancestor_id, s.new_id, c.depth + 1
+            FROM import_row s
+            JOIN import_row p ON p.target_table = 'process' AND p.ref = s.parent_ref
+            JOIN process_closure c ON c.descendant_id = p.new_id
+            WHERE s.target_table = 'process' AND s.depth = ?
+        ) n
+        WHERE NOT EXISTS (
+            SELECT 1 FROM process_closure e WHERE e.ancestor_id = n.ancestor_id AND e.descendant_id = n.descendant_id
+        )
+        """;
+
+    private static final String INSERT_INFORMATION_FLOWS = """
+        INSERT INTO information_flow (id, name, type, soort, internal, level, description,
+            source_process_id, target_process_id, source_organization_id, target_organization_id)
+        SELECT s.new_id, s.name, s.type, s.soort, s.internal, s.level, s.description,
+               sp.new_id, tp.new_id, s.source_organization_id, s.target_organization_id
+        FROM import_row s
+        LEFT JOIN import_row sp ON sp.target_table = 'process' AND sp.ref = s.source_ref
+        LEFT JOIN import_row tp ON tp.target_table = 'process' AND tp.ref = s.target_ref
+        WHERE s.target_table = 'information_flow'
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ProcessGraph processGraph;
+    private final CacheManager cacheManager;
+
+    /**
+     * Constructor for ImportService.
+     *
+     * @param dataSource the DataSource to import into
+     * @param objectMapper the ObjectMapper used to read the lines
+     * @param transactionManager the PlatformTransactionManager to open the import transaction with
+     * @param processGraph the ProcessGraph to rebuild after an import
+     * @param cacheManager the CacheManager whose caches are cleared after an import
+     */
+    public ImportService(DataSource dataSource, ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                         ProcessGraph processGraph, CacheManager cacheManager) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.processGraph = processGraph;
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Imports newline-delimited JSON in the format of the export.
+     * Rows of tables that cannot be imported, such as the layer entities, are rejected.
+     *
+     * @param in the InputStream with one {"table":...,"row":{...}} object per line
+     * @return the ImportReport, with the imported rows per table or the rejected rows
+     */
+    public ImportReport importNdjson(InputStream in) {
+        return importRows(state -> {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            long line = 0;
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                JsonNode node;
+                try {
+                    node = objectMapper.readTree(text);
+                } catch (JsonProcessingException e) {
+                    state.reject(line, "Invalid JSON: " + e.getOriginalMessage());
+                    continue;
+                }
+                JsonNode table = node.get("table");
+                JsonNode row = node.get("row");
+                if (table == null || !table.isTextual() || row == null || !row.isObject()) {
+                    state.reject(line, "Expected an object with a table and a row");
+                    continue;
+                }
+                Map<String, String> fields = new HashMap<>();
+                row.fields().forEachRemaining(field -> fields.put(field.getKey().toLowerCase(Locale.ROOT),
+                    field.getValue().isNull() ? null : field.getValue().asText()));
+                state.accept(line, table.asText().toLowerCase(Locale.ROOT), fields);
+            }
+        });
+    }
+
+    /**
+     * Imports CSV rows of a single table. The first line holds the column names; an empty field is null.
+     * Fields may be quoted with double quotes, but a row must fit on one line.
+     *
+     * @param table the table the rows belong to
+     * @param in the InputStream with the CSV
+     * @return the ImportReport, with the imported rows per table or the rejected rows
+     */
+    public ImportReport importCsv(String table, InputStream in) {
+        String target = table.toLowerCase(Locale.ROOT);
+        return importRows(state -> {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String header = reader.readLine();
+            if (header == null) {
+                return;
+            }
+            List<String> columns = parseCsvLine(header.startsWith("\uFEFF") ? header.substring(1) : header);
+            long line = 1;
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                List<String> values = parseCsvLine(text);
+                if (values == null || values.size() != columns.size()) {
+                    state.reject(line, "Expected " + columns.size() + " fields");
+                    continue;
+                }
+                Map<String, String> fields = new HashMap<>();
+                for (int i = 0; i < columns.size(); i++) {
+                    fields.put(columns.get(i).trim().toLowerCase(Locale.ROOT), values.get(i));
+                }
+                state.accept(line, target, fields);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface RowSource {
+        void readInto(ImportState state) throws IOException, SQLException;
+    }
+
+    private ImportReport importRows(RowSource source) {
+        long start = System.nanoTime();
+        ImportReport report = transactionTemplate.execute(status -> {
+            ImportState state = jdbcTemplate.execute((ConnectionCallback<ImportState>) connection -> stage(connection, source));
+            if (state.errorCount == 0) {
+                checkReferences(state);
+            }
+            if (state.errorCount == 0) {
+                resolveDepths(state);
+            }
+            if (state.errorCount > 0) {
+                status.setRollbackOnly();
+                state.errors.sort(Comparator.comparingLong(ImportError::line));
+                return new ImportReport(Map.of(), state.errors, state.errorCount);
+            }
+            return new ImportReport(insert(state), List.of(), 0);
+        });
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        if (!report.succeeded()) {
+            log.info("Rejected import with {} invalid rows in {} ms", report.errorCount(), millis);
+            return report;
+        }
+        log.info("Imported {} rows in {} ms", report.imported().values().stream().mapToLong(Long::longValue).sum(), millis);
+        // The notification triggers only cover PostgreSQL, and a rebuild is cheaper than thousands of refreshes
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        try {
+            processGraph.rebuild();
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild process graph after import", e);
+        }
+        return report;
+    }
+
+    private ImportState stage(Connection connection, RowSource source) throws SQLException {
+        boolean postgres = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+        ImportState state = new ImportState(joinTables());
+        try (var statement = connection.createStatement()) {
+            // The table is dropped with the transaction, also when it is rolled back
+            statement.execute(postgres
+                ? CREATE_STAGE.formatted("TEMPORARY", "ON COMMIT DROP")
+                : CREATE_STAGE.formatted("LOCAL TEMPORARY", "ON COMMIT DROP TRANSACTIONAL"));
+        }
+        try (Stage stage = postgres ? new CopyStage(connection) : new BatchStage(connection)) {
+            state.stage = stage;
+            source.readInto(state);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try (var statement = connection.createStatement()) {
+            statement.execute("CREATE INDEX import_row_ref ON import_row (target_table, ref)");
+            statement.execute("CREATE INDEX import_row_ordinal ON import_row (target_table, ordinal)");
+            if (postgres) {
+                statement.execute("ANALYZE import_row");
+            }
+        }
+        return state;
+    }
+
+    /**
+     * The process_* join tables that can be imported, by name.
+     */
+    private Map<String, JoinTable> joinTables() {
+        Map<String, JoinTable> joinTables = new HashMap<>();
+        for (Table table : DatabaseSchema.read(jdbcTemplate)) {
+            if (!table.isJoinTable() || !table.foreignKeys().containsValue(PROCESS)) {
+                continue;
+            }
+            String processColumn = null;
+            String entityColumn = null;
+            for (Map.Entry<String, String> foreignKey : table.foreignKeys().entrySet()) {
+                if (foreignKey.getValue().equals(PROCESS) && processColumn == null) {
+                    processColumn = foreignKey.getKey();
+                } else {
+                    entityColumn = foreignKey.getKey();
+                }
+            }
+            if (entityColumn != null) {
+                joinTables.put(table.name(), new JoinTable(table.name(), processColumn, entityColumn,
+                    table.foreignKeys().get(entityColumn)));
+            }
+        }
+        return joinTables;
+    }
+
+    private void checkReferences(ImportState state) {
+        for (Check check : CHECKS) {
+            collect(state, check.message(), check.sql());
+        }
+        for (JoinTable joinTable : state.joinTables.values()) {
+            if (state.stagedTables.containsKey(joinTable.name())) {
+                collect(state, "Unknown " + joinTable.entityTable() + " ", """
+                    SELECT s.line, s.entity_id FROM import_row s
+                    WHERE s.target_table = '%s'
+                      AND NOT EXISTS (SELECT 1 FROM %s e WHERE e.id = s.entity_id)
+                    """.formatted(joinTable.name(), joinTable.entityTable()));
+            }
+        }
+    }
+
+    private void collect(ImportState state, String message, String sql) {
+        jdbcTemplate.query(sql, rs -> {
+            state.reject(rs.getLong(1), message + rs.getString(2));
+        });
+    }
+
+    /**
+     * Sets the depth of every staged process in the tree of the file, one level per update.
+     * Processes that are left without a depth are part of a parent cycle.
+     */
+    private void resolveDepths(ImportState state) {
+        int updated = jdbcTemplate.update("UPDATE import_row SET depth = 0 WHERE target_table = 'process' AND parent_ref IS NULL");
+        while (updated > 0) {
+            state.maxDepth++;
+            updated = jdbcTemplate.update("""
+                UPDATE import_row s SET depth = ?
+                WHERE s.target_table = 'process' AND s.depth IS NULL
+                  AND EXISTS (SELECT 1 FROM import_row p WHERE p.target_table = 'process' AND p.ref = s.parent_ref AND p.depth = ?)
+                """, state.maxDepth, state.maxDepth - 1);
+        }
+        state.maxDepth--;
+        collect(state, "Parent cycle through process ",
+            "SELECT line, ref FROM import_row WHERE target_table = 'process' AND depth IS NULL");
+    }
+
+    private Map<String, Long> insert(ImportState state) {
+        Map<String, Long> imported = new LinkedHashMap<>();
+        if (state.stagedTables.containsKey(PROCESS)) {
+            allocateIds(state, PROCESS);
+            boolean closure = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE LOWER(table_name) = 'process_closure'", Long.class) > 0;
+            long processes = 0;
+            for (int depth = 0; depth <= state.maxDepth; depth++) {
+                processes += jdbcTemplate.update(INSERT_PROCESSES, depth);
+                if (closure) {
+                    jdbcTemplate.update(INSERT_CLOSURE, depth, depth);
+                }
+            }
+            imported.put(PROCESS, processes);
+        }
+        if (state.stagedTables.containsKey(INFORMATION_FLOW)) {
+            allocateIds(state, INFORMATION_FLOW);
+            imported.put(INFORMATION_FLOW, (long) jdbcTemplate.update(INSERT_INFORMATION_FLOWS));
+        }
+        for (JoinTable joinTable : state.joinTables.values()) {
+            if (state.stagedTables.containsKey(joinTable.name())) {
+                imported.put(joinTable.name(), (long) jdbcTemplate.update("""
+                    INSERT INTO %s (%s, %s)
+                    SELECT DISTINCT p.new_id, s.entity_id FROM import_row s
+                    JOIN import_row p ON p.target_table = 'process' AND p.ref = s.source_ref
+                    WHERE s.target_table = '%s'
+                    """.formatted(joinTable.name(), joinTable.processColumn(), joinTable.entityColumn(), joinTable.name())));
+            }
+        }
+        return imported;
+    }
+
+    /**
+     * Gives every staged row of a table a new ID from blocks of the table's sequence, the way the application
+     * takes its IDs, so that the application keeps inserting rows during the import. Each block is assigned
+     * with one update on the rows with the next ALLOCATION_SIZE ordinals.
+     */
+    private void allocateIds(ImportState state, String table) {
+        long rows = state.stagedTables.get(table);
+        for (long ordinal = 0; ordinal < rows; ordinal += IdSequences.ALLOCATION_SIZE) {
+            long first = IdSequences.reserveBlock(jdbcTemplate, table);
+            jdbcTemplate.update("""
+                UPDATE import_row SET new_id = ? + ordinal - ?
+                WHERE target_table = ? AND ordinal >= ? AND ordinal < ?
+                """, first, ordinal, table, ordinal, ordinal + IdSequences.ALLOCATION_SIZE);
+        }
+    }
+
+    /**
+     * A process_* join table, with the column that refers to the process and the column that refers to the layer entity.
+     */
+    private record JoinTable(String name, String processColumn, String entityColumn, String entityTable) {
+    }
+
+    /**
+     * A row as it is staged, with the references still as they are in the file.
+     */
+    private record StagedRow(long line, String table, String ref, String name, String type, String soort,
+                             Boolean internal, Integer level, String description, String parentRef, String sourceRef,
+                             String targetRef, Long sourceOrganizationId, Long targetOrganizationId, Long entityId) {
+    }
+
+    /**
+     * The state of one import: the rejected rows and what has been staged.
+     */
+    private static final class ImportState {
+        private final Map<String, JoinTable> joinTables;
+        private final Map<String, Long> stagedTables = new HashMap<>();
+        private final List<ImportError> errors = new ArrayList<>();
+        private long errorCount;
+        private int maxDepth;
+        private Stage stage;
+
+        ImportState(Map<String, JoinTable> joinTables) {
+            this.joinTables = joinTables;
+        }
+
+        void reject(long line, String message) {
+            errorCount++;
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(new ImportError(line, message));
+            }
+        }
+
+        void accept(long line, String table, Map<String, String> fields) throws SQLException {
+            StagedRow row;
+            try {
+                row = switch (table) {
+                    case PROCESS -> process(line, fields);
+                    case INFORMATION_FLOW -> informationFlow(line, fields);
+                    default -> {
+                        JoinTable joinTable = joinTables.get(table);
+                        if (joinTable == null) {
+                            throw new IllegalArgumentException("Table " + table + " cannot be imported");
+                        }
+                        yield new StagedRow(line, table, null, null, null, null, null, null, null, null,
+                            required(fields, joinTable.processColumn()), null, null, null,
+                            number(fields, joinTable.entityColumn(), true));
+                    }
+                };
+            } catch (IllegalArgumentException e) {
+                reject(line, e.getMessage());
+                return;
+            }
+            // Once a row is rejected nothing will be imported, so the remaining rows are only checked
+            if (errorCount == 0) {
+                long ordinal = stagedTables.getOrDefault(table, 0L);
+                stage.add(row, ordinal);
+                stagedTables.put(table, ordinal + 1);
+            }
+        }
+
+        private static StagedRow process(long line, Map<String, String> fields) {
+            return new StagedRow(line, PROCESS, required(fields, "id"), required(fields, "name"), required(fields, "type"),
+                text(fields, "soort"), bool(fields, "internal"), integer(fields, "level"), text(fields, "description"),
+                text(fields, "parent_process_id"), null, null, null, null, null);
+        }
+
+        private static StagedRow informationFlow(long line, Map<String, String> fields) {
+            String sourceProcess = text(fields, "source_process_id");
+            String targetProcess = text(fields, "target_process_id");
+            Long sourceOrganization = number(fields, "source_organization_id", false);
+            Long targetOrganization = number(fields, "target_organization_id", false);
+            boolean dataflow = sourceProcess != null && targetProcess != null && sourceOrganization == null && targetOrganization == null;
+            boolean trigger = sourceProcess == null && targetProcess != null && sourceOrganization != null && targetOrganization == null;
+            boolean result = sourceProcess != null && targetProcess == null && sourceOrganization == null && targetOrganization != null;
+            if (!dataflow && !trigger && !result) {
+                throw new IllegalArgumentException("An information flow goes from a process or organization to a process, "
+                    + "or from a process to an organization");
+            }
+            if (dataflow && sourceProcess.equals(targetProcess)) {
+                throw new IllegalArgumentException("Source and target process must be different");
+            }
+            return new StagedRow(line, INFORMATION_FLOW, text(fields, "id"), text(fields, "name"), text(fields, "type"),
+                text(fields, "soort"), bool(fields, "internal"), integer(fields, "level"), text(fields, "description"),
+                null, sourceProcess, targetProcess, sourceOrganization, targetOrganization, null);
+        }
+
+        private static String text(Map<String, String> fields, String column) {
+            String value = fields.get(column);
+            if (value != null && value.length() > MAX_TEXT_LENGTH) {
+                throw new IllegalArgumentException(column + " is longer than " + MAX_TEXT_LENGTH + " characters");
+            }
+            return value == null || value.isEmpty() ? null : value;
+        }
+
+        private static String required(Map<String, String> fields, String column) {
+            String value = text(fields, column);
+            if (value == null) {
+                throw new IllegalArgumentException(column + " is required");
+            }
+            return value;
+        }
+
+        private static Long number(Map<String, String> fields, String column, boolean required) {
+            String value = required ? required(fields, column) : text(fields, column);
+            try {
+                return value == null ? null : Long.valueOf(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(column + " is not a number: " + value);
+            }
+        }
+
+        private static Integer integer(Map<String, String> fields, String column) {
+            Long value = number(fields, column, false);
+            if (value != null && (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)) {
+                throw new IllegalArgumentException(column + " is out of range: " + value);
+            }
+            return value == null ? null : value.intValue();
+        }
+
+        private static Boolean bool(Map<String, String> fields, String column) {
+            String value = text(fields, column);
+            if (value == null) {
+                return null;
+            }
+            if (value.equalsIgnoreCase("true") || value.equalsIgnoreCase("false")) {
+                return Boolean.valueOf(value);
+            }
+            throw new IllegalArgumentException(column + " is not true or false: " + value);
+        }
+    }
+
+    /**
+     * Writes the staged rows into the temporary table.
+     */
+    private interface Stage extends AutoCloseable {
+        void add(StagedRow row, long ordinal) throws SQLException;
+
+        @Override
+        void close() throws SQLException;
+    }
+
+    /**
+     * Streams the staged rows into the temporary table with COPY, as CSV.
+     */
+    private static final class CopyStage implements Stage {
+        private final CopyIn copy;
+        private final StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE);
+
+        CopyStage(Connection connection) throws SQLException {
+            this.copy = connection.unwrap(PGConnection.class).getCopyAPI()
+                .copyIn("COPY import_row (" + STAGED_COLUMNS + ") FROM STDIN WITH (FORMAT csv)");
+        }
+
+        @Override
+        public void add(StagedRow row, long ordinal) throws SQLException {
+            Object[] values = values(row, ordinal);
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                // An unquoted empty field is NULL, a quoted one is an empty string
+                if (values[i] instanceof String text) {
+                    buffer.append('"').append(text.replace("\"", "\"\"")).append('"');
+                } else if (values[i] != null) {
+                    buffer.append(values[i]);
+                }
+            }
+            buffer.append('\n');
+            if (buffer.length() >= COPY_BUFFER_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copy.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (!copy.isActive()) {
+                return;
+            }
+            try {
+                flush();
+                copy.endCopy();
+            } finally {
+                if (copy.isActive()) {
+                    copy.cancelCopy();
+                }
+            }
+        }
+    }
+
+    /**
+     * Inserts the staged rows into the temporary table in JDBC batches.
+     */
+    private static final class BatchStage implements Stage {
+        private static final int[] TYPES = {
+            Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.BOOLEAN,
+            Types.INTEGER, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.BIGINT, Types.BIGINT, Types.BIGINT
+        };
+
+        private final PreparedStatement statement;
+        private int batched;
+
+        BatchStage(Connection connection) throws SQLException {
+            this.statement = connection.prepareStatement(
+                "INSERT INTO import_row (" + STAGED_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        }
+
+        @Override
+        public void add(StagedRow row, long ordinal) throws SQLException {
+            Object[] values = values(row, ordinal);
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i], TYPES[i]);
+            }
+            statement.addBatch();
+            if (++batched == BATCH_SIZE) {
+                statement.executeBatch();
+                batched = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                if (batched > 0) {
+                    statement.executeBatch();
+                }
+            } finally {
+                statement.close();
+            }
+        }
+    }
+
+    private static Object[] values(StagedRow row, long ordinal) {
+        return new Object[] {
+            row.line(), ordinal, row.table(), row.ref(), row.name(), row.type(), row.soort(), row.internal(), row.level(),
+            row.description(), row.parentRef(), row.sourceRef(), row.targetRef(), row.sourceOrganizationId(),
+            row.targetOrganizationId(), row.entityId()
+        };
+    }
+
+    /**
+     * Splits a CSV line into its fields. An empty unquoted field is null, a quoted field is kept as is.
+     *
+     * @return the fields, or null if a quoted field is not closed
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.isEmpty() && !wasQuoted ? null : field.toString());
+                field.setLength(0);
+                wasQuoted = false;
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.isEmpty() && !wasQuoted ? null : field.toString());
+        return fields;
+    }
+}
@@ -3,12 +3,15 @@ package com.backend.dashboard_tool.service;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
-import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+import com.backend.dashboard_tool.DTO.LayerQuery;
+import com.backend.dashboard_tool.database.LayerRepository;
 import com.backend.dashboard_tool.database.Assets.AssetRepository;
 import com.backend.dashboard_tool.database.Assets.FacilityRepository;
 import com.backend.dashboard_tool.database.Assets.LocationRepository;
 import java.util.List;
+import java.util.stream.Stream;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.http.HttpStatus;
 
@@ -43,13 +46,47 @@ public class InfrastructureService {
     @Transactional(readOnly = true)
     @Cacheable(value = "infrastructures", key = "#type")
     public List<?> getAllInfrastructuresByType(String type) {
-        return switch (type.toLowerCase()) {
-            case "asset" -> assetRepository.findAll();
-            case "facility" -> facilityRepository.findAll();
-            case "location" -> locationRepository.findAll();
-            // add other asset-related types here if needed
-            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown infrastructure type: " + type);
-        };
+        return repositoryFor(type).findAll();
+    }
+
+    /**
+     * Retrieves one page of infrastructure-related entities of a specific type, ordered by ID.
+     * Every page is cached on its own, so that no cache entry holds the whole table.
+     *
+     * @param type The type of infrastructure entity to retrieve.
+     * @param query The cursor, limit and filters of the page.
+     * @return A list of at most query.pageSize() entities, or throws an exception if the type is unknown.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = "infrastructures", key = "#type + ':' + #query")
+    public List<?> getInfrastructuresPage(String type, LayerQuery query) {
+        return repositoryFor(type).findPage(query);
+    }
+
+    /**
+     * Counts the infrastructure-related entities of a specific type that match the filters of a query,
+     * without loading them.
+     *
+     * @param type The type of infrastructure entity to count.
+     * @param query The filters to match; the cursor and limit are ignored.
+     * @return The number of matching entities, or throws an exception if the type is unknown.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = "infrastructures", key = "#type + ':count:' + #query.withoutCursor()")
+    public long countInfrastructures(String type, LayerQuery query) {
+        return repositoryFor(type).countMatching(query);
+    }
+
+    /**
+     * Streams all infrastructure-related entities of a specific type ordered by ID, without caching them.
+     * The caller must consume and close the Stream inside a read-only transaction, see JsonStreamService.
+     *
+     * @param type The type of infrastructure entity to stream.
+     * @return A Stream of all entities for the specified type, or throws an exception if the type is unknown.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<?> streamAllInfrastructuresByType(String type) {
+        return repositoryFor(type).streamAllByOrderByIdAsc();
     }
 
     /**
@@ -64,10 +101,7 @@ public class InfrastructureService {
     @Transactional(readOnly = true)
     @Cacheable(value = "infrastructureByProcess", key = "#type + '-' + #processId")
     public List<?> getInfrastructuresByTypeAndProcessId(String type, Long processId) {
-        ProcessEntity process = processService.getProcessById(processId);
-        if (process == null) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Process with ID " + processId + " not found.");
-        }
+        processService.requireProcess(processId);
 
         return switch (type.toLowerCase()) {
             case "asset" -> assetRepository.findByProcessId(processId);
@@ -76,4 +110,20 @@ public class InfrastructureService {
             default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown infrastructure type: " + type);
         };
     }
+
+    /**
+     * Finds the repository of a infrastructure type.
+     *
+     * @param type The type of infrastructure entity.
+     * @return The LayerRepository of the type, or throws an exception if the type is unknown.
+     */
+    private LayerRepository<?> repositoryFor(String type) {
+        return switch (type.toLowerCase()) {
+            case "asset" -> assetRepository;
+            case "facility" -> facilityRepository;
+            case "location" -> locationRepository;
+            // add other asset-related types here if needed
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown infrastructure type: " + type);
+        };
+    }
 }
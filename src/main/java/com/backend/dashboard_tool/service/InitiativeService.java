@@ -3,12 +3,15 @@ package com.backend.dashboard_tool.service;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
-import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+import com.backend.dashboard_tool.DTO.LayerQuery;
+import com.backend.dashboard_tool.database.LayerRepository;
 import com.backend.dashboard_tool.database.Strategy.ProjectRepository;
 import com.backend.dashboard_tool.database.Strategy.ImprovementRepository;
 
 import java.util.List;
+import java.util.stream.Stream;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.http.HttpStatus;
 
@@ -40,12 +43,47 @@ public class InitiativeService {
     @Transactional(readOnly = true)
     @Cacheable(value = "initiatives", key = "#type")
     public List<?> getAllInitiativesByType(String type) {
-        return switch (type.toLowerCase()) {
-            case "improvement" -> improvementRepository.findAll();
-            case "project" -> projectRepository.findAll();
-            // add other initiative-related types here if needed
-            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown initiative type: " + type);
-        };
+        return repositoryFor(type).findAll();
+    }
+
+    /**
+     * Retrieves one page of initiative-related entities of a specific type, ordered by ID.
+     * Every page is cached on its own, so that no cache entry holds the whole table.
+     *
+     * @param type The type of initiative entity to retrieve.
+     * @param query The cursor, limit and filters of the page.
+     * @return A list of at most query.pageSize() entities, or throws an exception if the type is unknown.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = "initiatives", key = "#type + ':' + #query")
+    public List<?> getInitiativesPage(String type, LayerQuery query) {
+        return repositoryFor(type).findPage(query);
+    }
+
+    /**
+     * Counts the initiative-related entities of a specific type that match the filters of a query,
+     * without loading them.
+     *
+     * @param type The type of initiative entity to count.
+     * @param query The filters to match; the cursor and limit are ignored.
+     * @return The number of matching entities, or throws an exception if the type is unknown.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = "initiatives", key = "#type + ':count:' + #query.withoutCursor()")
+    public long countInitiatives(String type, LayerQuery query) {
+        return repositoryFor(type).countMatching(query);
+    }
+
+    /**
+     * Streams all initiative-related entities of a specific type ordered by ID, without caching them.
+     * The caller must consume and close the Stream inside a read-only transaction, see JsonStreamService.
+     *
+     * @param type The type of initiative entity to stream.
+     * @return A Stream of all entities for the specified type, or throws an exception if the type is unknown.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<?> streamAllInitiativesByType(String type) {
+        return repositoryFor(type).streamAllByOrderByIdAsc();
     }
 
     /**
@@ -60,10 +98,7 @@ public class InitiativeService {
     @Transactional(readOnly = true)
     @Cacheable(value = "initiativesByProcess", key = "#type + '-' + #processId")
     public List<?> getInitiativesByTypeAndProcessId(String type, Long processId) {
-        ProcessEntity process = processService.getProcessById(processId);
-        if (process == null) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Process with ID " + processId + " not found.");
-        }
+        processService.requireProcess(processId);
 
         return switch (type.toLowerCase()) {
             case "improvement" -> improvementRepository.findByProcessId(processId);
@@ -71,4 +106,19 @@ public class InitiativeService {
             default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown initiative type: " + type);
         };
     }
+
+    /**
+     * Finds the repository of a initiative type.
+     *
+     * @param type The type of initiative entity.
+     * @return The LayerRepository of the type, or throws an exception if the type is unknown.
+     */
+    private LayerRepository<?> repositoryFor(String type) {
+        return switch (type.toLowerCase()) {
+            case "improvement" -> improvementRepository;
+            case "project" -> projectRepository;
+            // add other initiative-related types here if needed
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown initiative type: " + type);
+        };
+    }
 }
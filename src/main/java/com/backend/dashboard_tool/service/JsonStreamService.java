@@ -0,0 +1,93 @@
+package com.backend.dashboard_tool.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * JsonStreamService writes large listings as a JSON array while they are read from the database,
+ * instead of collecting them in a List first. The rows are read from a JPA Stream inside a read-only
+ * transaction, every element is written as soon as it is read, and the persistence context is cleared
+ * at regular intervals, so memory use stays flat regardless of the size of the table.
+ * The response is written on an async request thread and keeps a database connection for its duration.
+ */
+@Service
+public class JsonStreamService {
+    /**
+     * Number of elements after which the persistence context is cleared and the output is flushed.
+     */
+    static final int FLUSH_INTERVAL = 500;
+
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Constructor for JsonStreamService.
+     *
+     * @param objectMapper the ObjectMapper used for the regular responses
+     * @param entityManager the shared EntityManager, bound to the transaction of the stream
+     * @param transactionManager the PlatformTransactionManager to open the read-only transaction with
+     */
+    public JsonStreamService(ObjectMapper objectMapper, EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Creates a response that streams the elements of a source as a JSON array.
+     * The source is opened when the response is written, inside a read-only transaction
+     * that stays open until the last element is written.
+     *
+     * @param source opens the Stream of elements, e.g. a repository method returning a Stream
+     * @return a ResponseEntity with a body that writes the JSON array
+     */
+    public ResponseEntity<StreamingResponseBody> streamArray(Supplier<? extends Stream<?>> source) {
+        StreamingResponseBody body = out -> transactionTemplate.executeWithoutResult(status -> writeArray(source, out));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * Writes the elements of a source as a JSON array.
+     *
+     * @param source opens the Stream of elements
+     * @param out the OutputStream of the response
+     */
+    void writeArray(Supplier<? extends Stream<?>> source, OutputStream out) {
+        try (Stream<?> items = source.get();
+             JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            Iterator<?> iterator = items.iterator();
+            int written = 0;
+            while (iterator.hasNext()) {
+                generator.writeObject(iterator.next());
+                if (++written % FLUSH_INTERVAL == 0) {
+                    // The written entities are no longer needed, and the client gets the bytes sooner
+                    entityManager.clear();
+                    generator.flush();
+                }
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
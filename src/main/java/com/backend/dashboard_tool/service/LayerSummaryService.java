@@ -0,0 +1,127 @@
+package com.backend.dashboard_tool.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.backend.dashboard_tool.DTO.LayerItem;
+import com.backend.dashboard_tool.DTO.LayerQuery;
+import com.backend.dashboard_tool.DTO.LayerSummary;
+import com.backend.dashboard_tool.DTO.ProcessLayers;
+
+/**
+ * Service class for summarizing all layers of a process in one SQL statement.
+ * Where the layer services run one query per type, this reads the process and the links of every
+ * layer type with a single UNION ALL over the process join tables, counting the links per type and
+ * keeping only the first items.
+ * The items hold the ID and name of the entities, so no entity is hydrated.
+ */
+@Service
+public class LayerSummaryService {
+    /**
+     * The summary query; its parameters are the process ID and the maximum number of items per type.
+     */
+    static final String SUMMARY_SQL = summarySql();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructor for LayerSummaryService.
+     *
+     * @param jdbcTemplate the JdbcTemplate instance
+     */
+    public LayerSummaryService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Builds the summary query from the layer types of the SIPOC view. The first branch of the union
+     * is the process itself, so an unknown process gives no rows at all. The first row of every type
+     * is always returned, since it carries the count of the type.
+     */
+    private static String summarySql() {
+        StringJoiner branches = new StringJoiner("\n    UNION ALL\n    ");
+        branches.add("SELECT 'process' AS layer, 'process' AS type, t.id, t.name FROM target t");
+        SipocService.LAYER_TYPES.forEach((layer, types) -> {
+            for (String type : types) {
+                String name = type.replace('-', '_');
+                String table = name.equals("datastore") ? "data_store" : name;
+                branches.add("SELECT '" + layer + "', '" + type + "', e.id, e.name FROM target t"
+                    + " JOIN process_" + name + " j ON j.process_id = t.id"
+                    + " JOIN " + table + " e ON e.id = j." + name + "_id");
+            }
+        });
+        return """
+            WITH target AS (SELECT id, name FROM process WHERE id = ?)
+            SELECT layer, type, id, name, total, item_rank FROM (
+                SELECT r.layer, r.type, r.id, r.name,
+                       COUNT(*) OVER (PARTITION BY r.layer, r.type) AS total,
+                       ROW_NUMBER() OVER (PARTITION BY r.layer, r.type ORDER BY r.id) AS item_rank
+                FROM (
+                %s
+                ) r
+            ) ranked
+            WHERE item_rank <= ? OR item_rank = 1
+            ORDER BY layer, type, item_rank
+            """.formatted(branches);
+    }
+
+    /**
+     * Retrieves the number of linked entities and the first linked entities of every layer type of a process.
+     *
+     * @param processId the ID of the process
+     * @param limit the maximum number of items per type, 0 for only the counts
+     * @return the ProcessLayers of the process
+     * @throws ResponseStatusException 404 if the process does not exist, 400 if the limit is out of range
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = "layersByProcess", key = "#processId + '-' + #limit")
+    public ProcessLayers getLayers(Long processId, int limit) {
+        if (limit < 0 || limit > LayerQuery.MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Limit must be between 0 and " + LayerQuery.MAX_LIMIT + ": " + limit);
+        }
+        Map<String, Long> counts = new HashMap<>();
+        Map<String, List<LayerItem>> items = new HashMap<>();
+        String[] process = new String[1];
+        boolean[] found = new boolean[1];
+        jdbcTemplate.query(SUMMARY_SQL, rs -> {
+            String layer = rs.getString("layer");
+            if (layer.equals("process")) {
+                found[0] = true;
+                process[0] = rs.getString("name");
+                return;
+            }
+            String key = layer + ":" + rs.getString("type");
+            counts.put(key, rs.getLong("total"));
+            List<LayerItem> typeItems = items.computeIfAbsent(key, k -> new ArrayList<>());
+            // The first link of every type is read for its count, also when no items are asked for
+            if (rs.getLong("item_rank") <= limit) {
+                typeItems.add(new LayerItem(rs.getLong("id"), rs.getString("name")));
+            }
+        }, processId, limit);
+        if (!found[0]) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Process with ID " + processId + " not found.");
+        }
+
+        Map<String, Map<String, LayerSummary>> layers = new LinkedHashMap<>();
+        SipocService.LAYER_TYPES.forEach((layer, types) -> {
+            Map<String, LayerSummary> byType = new LinkedHashMap<>();
+            for (String type : types) {
+                String key = layer + ":" + type;
+                byType.put(type, new LayerSummary(counts.getOrDefault(key, 0L), items.getOrDefault(key, List.of())));
+            }
+            layers.put(layer, byType);
+        });
+        return new ProcessLayers(processId, process[0], layers);
+    }
+}
@@ -3,7 +3,8 @@ package com.backend.dashboard_tool.service;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
-import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+import com.backend.dashboard_tool.DTO.LayerQuery;
+import com.backend.dashboard_tool.database.LayerRepository;
 import com.backend.dashboard_tool.database.People.ConsultationRepository;
 import com.backend.dashboard_tool.database.People.DepartmentRepository;
 import com.backend.dashboard_tool.database.People.EmployeeRepository;
@@ -12,7 +13,9 @@ import com.backend.dashboard_tool.database.People.OrganizationRepository;
 import com.backend.dashboard_tool.database.People.RoleRepository;
 
 import java.util.List;
+import java.util.stream.Stream;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.http.HttpStatus;
 
@@ -56,15 +59,47 @@ public class PeopleService {
     @Transactional(readOnly = true)
     @Cacheable(value = "people", key = "#type")
     public List<?> getAllPeopleByType(String type) {
-        return switch (type.toLowerCase()) {
-            case "department" -> departmentRepository.findAll();
-            case "employee" -> employeeRepository.findAll();
-            case "function" -> functionRepository.findAll();
-            case "organization" -> organizationRepository.findAll();
-            case "role" -> roleRepository.findAll();
-            case "consultation" -> consultationRepository.findAll();
-            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown people type: " + type);
-        };
+        return repositoryFor(type).findAll();
+    }
+
+    /**
+     * Retrieves one page of people-related entities of a specific type, ordered by ID.
+     * Every page is cached on its own, so that no cache entry holds the whole table.
+     *
+     * @param type The type of people entity to retrieve.
+     * @param query The cursor, limit and filters of the page.
+     * @return A list of at most query.pageSize() entities, or throws an exception if the type is unknown.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = "people", key = "#type + ':' + #query")
+    public List<?> getPeoplePage(String type, LayerQuery query) {
+        return repositoryFor(type).findPage(query);
+    }
+
+    /**
+     * Counts the people-related entities of a specific type that match the filters of a query,
+     * without loading them.
+     *
+     * @param type The type of people entity to count.
+     * @param query The filters to match; the cursor and limit are ignored.
+     * @return The number of matching entities, or throws an exception if the type is unknown.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = "people", key = "#type + ':count:' + #query.withoutCursor()")
+    public long countPeople(String type, LayerQuery query) {
+        return repositoryFor(type).countMatching(query);
+    }
+
+    /**
+     * Streams all people-related entities of a specific type ordered by ID, without caching them.
+     * The caller must consume and close the Stream inside a read-only transaction, see JsonStreamService.
+     *
+     * @param type The type of people entity to stream.
+     * @return A Stream of all entities for the specified type, or throws an exception if the type is unknown.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<?> streamAllPeopleByType(String type) {
+        return repositoryFor(type).streamAllByOrderByIdAsc();
     }
 
     /**
@@ -79,10 +114,7 @@ public class PeopleService {
     @Transactional(readOnly = true)
     @Cacheable(value = "peopleByProcess", key = "#type + '-' + #processId")
     public List<?> getPeopleByTypeAndProcessId(String type, Long processId) {
-        ProcessEntity process = processService.getProcessById(processId);
-        if (process == null) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Process with ID " + processId + " not found.");
-        }
+        processService.requireProcess(processId);
 
         return switch (type.toLowerCase()) {
             case "employee" -> employeeRepository.findByProcessId(processId);
@@ -94,4 +126,22 @@ public class PeopleService {
             default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown people type: " + type);
         };
     }
+
+    /**
+     * Finds the repository of a people type.
+     *
+     * @param type The type of people entity.
+     * @return The LayerRepository of the type, or throws an exception if the type is unknown.
+     */
+    private LayerRepository<?> repositoryFor(String type) {
+        return switch (type.toLowerCase()) {
+            case "department" -> departmentRepository;
+            case "employee" -> employeeRepository;
+            case "function" -> functionRepository;
+            case "organization" -> organizationRepository;
+            case "role" -> roleRepository;
+            case "consultation" -> consultationRepository;
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown people type: " + type);
+        };
+    }
 }
@@ -1,16 +1,19 @@
 package com.backend.dashboard_tool.service;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.backend.dashboard_tool.DTO.LayerQuery;
+import com.backend.dashboard_tool.database.LayerRepository;
 import com.backend.dashboard_tool.database.Strategy.KPIRepository;
 import com.backend.dashboard_tool.database.Strategy.MitigationMeasureRepository;
 import com.backend.dashboard_tool.database.Strategy.RiskRepository;
-import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -45,12 +48,47 @@ public class PerformanceService {
     @Transactional(readOnly = true)
     @Cacheable(value = "performances", key = "#type")
     public List<?> getAllPerformancesByType(String type) {
-        return switch (type.toLowerCase()) {
-            case "kpi" -> kpiRepository.findAll();
-            case "risk" -> riskRepository.findAll();
-            case "mitigation-measure" -> mitigationMeasureRepository.findAll();
-            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown performance type: " + type);
-        };
+        return repositoryFor(type).findAll();
+    }
+
+    /**
+     * Retrieves one page of performance-related entities of a specific type, ordered by ID.
+     * Every page is cached on its own, so that no cache entry holds the whole table.
+     *
+     * @param type The type of performance entity to retrieve.
+     * @param query The cursor, limit and filters of the page.
+     * @return A list of at most query.pageSize() entities, or throws an exception if the type is unknown.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = "performances", key = "#type + ':' + #query")
+    public List<?> getPerformancesPage(String type, LayerQuery query) {
+        return repositoryFor(type).findPage(query);
+    }
+
+    /**
+     * Counts the performance-related entities of a specific type that match the filters of a query,
+     * without loading them.
+     *
+     * @param type The type of performance entity to count.
+     * @param query The filters to match; the cursor and limit are ignored.
+     * @return The number of matching entities, or throws an exception if the type is unknown.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = "performances", key = "#type + ':count:' + #query.withoutCursor()")
+    public long countPerformances(String type, LayerQuery query) {
+        return repositoryFor(type).countMatching(query);
+    }
+
+    /**
+     * Streams all performance-related entities of a specific type ordered by ID, without caching them.
+     * The caller must consume and close the Stream inside a read-only transaction, see JsonStreamService.
+     *
+     * @param type The type of performance entity to stream.
+     * @return A Stream of all entities for the specified type, or throws an exception if the type is unknown.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<?> streamAllPerformancesByType(String type) {
+        return repositoryFor(type).streamAllByOrderByIdAsc();
     }
 
     /**
@@ -65,10 +103,7 @@ public class PerformanceService {
     @Transactional(readOnly = true)
     @Cacheable(value = "performancesByProcess", key = "#type + '-' + #processId")
     public List<?> getPerformancesByTypeAndProcessId(String type, Long processId) {
-        ProcessEntity process = processService.getProcessById(processId);
-        if (process == null) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Process with ID " + processId + " not found.");
-        }
+        processService.requireProcess(processId);
 
         return switch (type.toLowerCase()) {
             case "kpi" -> kpiRepository.findByProcessId(processId);
@@ -77,4 +112,19 @@ public class PerformanceService {
             default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown performance type: " + type);
         };
     }
+
+    /**
+     * Finds the repository of a performance type.
+     *
+     * @param type The type of performance entity.
+     * @return The LayerRepository of the type, or throws an exception if the type is unknown.
+     */
+    private LayerRepository<?> repositoryFor(String type) {
+        return switch (type.toLowerCase()) {
+            case "kpi" -> kpiRepository;
+            case "risk" -> riskRepository;
+            case "mitigation-measure" -> mitigationMeasureRepository;
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown performance type: " + type);
+        };
+    }
 }
@@ -0,0 +1,1126 @@
+package com.backend.dashboard_tool.service;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntToLongFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.backend.dashboard_tool.DTO.DataflowEdge;
+import com.backend.dashboard_tool.DTO.ImpactNode;
+import com.backend.dashboard_tool.DTO.ImpactResult;
+import com.backend.dashboard_tool.DTO.OrganizationLink;
+import com.backend.dashboard_tool.DTO.ProcessNode;
+import com.backend.dashboard_tool.database.DataflowRepository;
+import com.backend.dashboard_tool.database.ProcessRepository;
+import com.backend.dashboard_tool.database.ResultRepository;
+import com.backend.dashboard_tool.database.TriggerRepository;
+import com.backend.dashboard_tool.entity.Process_Data.Dataflow;
+import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+import com.backend.dashboard_tool.sipocrecords.DataflowProcessPair;
+import com.backend.dashboard_tool.sipocrecords.ProcessDataflowPair;
+
+/**
+ * ProcessGraph keeps a resident, compact copy of all processes and information flows in memory.
+ * Processes are nodes, dataflows are edges between processes, and triggers and results
+ * are links between a process and an organization.
+ * Everything is stored in slots; adjacency lists are primitive int arrays of slots,
+ * and IDs are mapped to slots with a primitive long map.
+ * No Hibernate entity or proxy is retained.
+ *
+ * The graph is loaded once the application is ready and is kept up to date
+ * incrementally by the DatabaseNotificationListener. Until it is loaded,
+ * isReady() returns false and callers should fall back to the database.
+ * A load reads all tables in one repeatable-read snapshot. Notifications that arrive while it runs
+ * are queued and applied after the new graph is in place, so a change made during the load is
+ * neither missed nor overwritten by the older snapshot.
+ */
+@Service
+public class ProcessGraph {
+    private static final Logger log = LoggerFactory.getLogger(ProcessGraph.class);
+
+    private final ProcessRepository processRepository;
+    private final DataflowRepository dataflowRepository;
+    private final TriggerRepository triggerRepository;
+    private final ResultRepository resultRepository;
+    private final TransactionTemplate snapshotTransaction;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile boolean ready = false;
+
+    // Changes notified while a rebuild runs, applied once it is done; null when no rebuild runs
+    private final Object pendingLock = new Object();
+    private List<Runnable> pending;
+    private boolean rebuildRequested;
+
+    // Process storage, indexed by process slot
+    private LongIntMap nodeIndex;
+    private ProcessNode[] nodes;
+    private IntLists outEdges;
+    private IntLists inEdges;
+    private IntLists processLinks;
+    private int nodeSlots;
+    private IntStack freeNodeSlots;
+
+    // Dataflow storage, indexed by edge slot
+    private LongIntMap edgeIndex;
+    private DataflowEdge[] edges;
+    private int[] edgeSource;
+    private int[] edgeTarget;
+    private int edgeSlots;
+    private IntStack freeEdgeSlots;
+
+    // Organization storage, indexed by organization slot.
+    // An organization is only kept while it has at least one trigger or result.
+    private LongIntMap organizationIndex;
+    private long[] organizationIds;
+    private IntLists organizationLinks;
+    private int organizationSlots;
+    private IntStack freeOrganizationSlots;
+
+    // Trigger and result storage, indexed by link slot
+    private LongIntMap linkIndex;
+    private OrganizationLink[] links;
+    private int[] linkProcess;
+    private int[] linkOrganization;
+    private int linkSlots;
+    private IntStack freeLinkSlots;
+
+    /**
+     * Constructor for ProcessGraph.
+     *
+     * @param processRepository the ProcessRepository instance
+     * @param dataflowRepository the DataflowRepository instance
+     * @param triggerRepository the TriggerRepository instance
+     * @param resultRepository the ResultRepository instance
+     * @param transactionManager the PlatformTransactionManager for the snapshot of a rebuild
+     */
+    public ProcessGraph(ProcessRepository processRepository, DataflowRepository dataflowRepository,
+                        TriggerRepository triggerRepository, ResultRepository resultRepository,
+                        PlatformTransactionManager transactionManager) {
+        this.processRepository = processRepository;
+        this.dataflowRepository = dataflowRepository;
+        this.triggerRepository = triggerRepository;
+        this.resultRepository = resultRepository;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        clear(16, 16, 16);
+    }
+
+    /**
+     * Loads the graph once the application has started.
+     * If loading fails, the graph stays unavailable and callers keep using the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            rebuild();
+            log.info("Loaded {} processes and {} dataflows.", size(), edgeCount());
+        } catch (Exception e) {
+            log.error("Failed to load process graph", e);
+        }
+    }
+
+    /**
+     * The rows of a rebuild, read in one transaction.
+     */
+    private record Snapshot(List<ProcessNode> nodes, List<DataflowEdge> edges, List<OrganizationLink> links) {
+    }
+
+    /**
+     * Rebuilds the whole graph from the database.
+     * The queries run in one read-only, repeatable-read transaction outside of the lock, so they see a
+     * single point in time and readers are only blocked while the new graph is filled.
+     * Notifications that arrive in the meantime are applied after the new graph is in place,
+     * and a rebuild asked for in the meantime runs right after this one.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            boolean again;
+            do {
+                synchronized (pendingLock) {
+                    pending = new ArrayList<>();
+                    rebuildRequested = false;
+                }
+                try {
+                    fill(snapshotTransaction.execute(status -> readSnapshot()));
+                } finally {
+                    again = applyPending();
+                }
+            } while (again);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private Snapshot readSnapshot() {
+        List<ProcessNode> allNodes = processRepository.findAllNodes();
+        List<DataflowEdge> allEdges = dataflowRepository.findAllEdges();
+        List<OrganizationLink> allLinks = new ArrayList<>(triggerRepository.findAllLinks());
+        allLinks.addAll(resultRepository.findAllLinks());
+        return new Snapshot(allNodes, allEdges, allLinks);
+    }
+
+    private void fill(Snapshot snapshot) {
+        lock.writeLock().lock();
+        try {
+            clear(snapshot.nodes().size(), snapshot.edges().size(), snapshot.links().size());
+            for (ProcessNode node : snapshot.nodes()) {
+                upsertNode(node);
+            }
+            for (DataflowEdge edge : snapshot.edges()) {
+                upsertEdge(edge);
+            }
+            for (OrganizationLink link : snapshot.links()) {
+                upsertLink(link);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Queues a change while a rebuild runs.
+     *
+     * @return true if the change was queued, false if no rebuild runs
+     */
+    private boolean defer(Runnable change) {
+        synchronized (pendingLock) {
+            if (pending == null) {
+                return false;
+            }
+            pending.add(change);
+            return true;
+        }
+    }
+
+    /**
+     * Rebuilds the graph, or once the running rebuild is done if there is one.
+     */
+    private void requestRebuild() {
+        synchronized (pendingLock) {
+            if (pending != null) {
+                rebuildRequested = true;
+                return;
+            }
+        }
+        if (ready) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Applies the changes queued during a rebuild, in the order they were notified, until none are left.
+     * A failed rebuild leaves an unloaded graph, to which the changes are not applied.
+     *
+     * @return true if another rebuild was asked for
+     */
+    private boolean applyPending() {
+        while (true) {
+            List<Runnable> changes;
+            synchronized (pendingLock) {
+                if (pending.isEmpty()) {
+                    pending = null;
+                    return rebuildRequested;
+                }
+                changes = pending;
+                pending = new ArrayList<>();
+            }
+            if (!ready) {
+                continue;
+            }
+            for (Runnable change : changes) {
+                try {
+                    change.run();
+                } catch (RuntimeException e) {
+                    log.error("Failed to apply a change notified during the rebuild of the process graph", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether the graph has been loaded and can answer queries.
+     *
+     * @return true if the graph is loaded, false otherwise
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Returns the number of processes in the graph.
+     *
+     * @return the number of processes
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodeIndex.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of dataflows in the graph.
+     *
+     * @return the number of dataflows
+     */
+    public int edgeCount() {
+        lock.readLock().lock();
+        try {
+            return edgeIndex.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of triggers and results in the graph.
+     *
+     * @return the number of triggers and results
+     */
+    public int linkCount() {
+        lock.readLock().lock();
+        try {
+            return linkIndex.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Checks whether a process is in the graph, without touching the database.
+     * A process created by another application may not be in the graph until its notification arrives.
+     *
+     * @param processId the ID of the process
+     * @return true if the graph is loaded and holds the process, false otherwise
+     */
+    public boolean containsProcess(Long processId) {
+        if (!ready || processId == null) {
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            return nodeIndex.get(processId) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applies a change notification on the 'process' table to the graph.
+     *
+     * @param operation the type of operation (INSERT, UPDATE, DELETE)
+     * @param processId the ID of the affected process (optional)
+     */
+    public void refreshProcess(String operation, Long processId) {
+        if (processId == null) {
+            requestRebuild();
+            return;
+        }
+        if (!defer(() -> applyProcess(operation, processId)) && ready) {
+            applyProcess(operation, processId);
+        }
+    }
+
+    private void applyProcess(String operation, Long processId) {
+        if (operation.equals("DELETE")) {
+            removeProcess(processId);
+            return;
+        }
+        processRepository.findNodeById(processId)
+            .ifPresentOrElse(this::putProcess, () -> removeProcess(processId));
+    }
+
+    /**
+     * Applies a change notification on the 'information_flow' table to the graph.
+     * The row is looked up as a dataflow first, then as a trigger and as a result.
+     *
+     * @param operation the type of operation (INSERT, UPDATE, DELETE)
+     * @param informationFlowId the ID of the affected information flow (optional)
+     */
+    public void refreshInformationFlow(String operation, Long informationFlowId) {
+        if (informationFlowId == null) {
+            requestRebuild();
+            return;
+        }
+        if (!defer(() -> applyInformationFlow(operation, informationFlowId)) && ready) {
+            applyInformationFlow(operation, informationFlowId);
+        }
+    }
+
+    private void applyInformationFlow(String operation, Long informationFlowId) {
+        if (operation.equals("DELETE")) {
+            removeInformationFlow(informationFlowId);
+            return;
+        }
+        Optional<DataflowEdge> edge = dataflowRepository.findEdgeById(informationFlowId);
+        if (edge.isPresent()) {
+            // Make sure both endpoints are known before the edge is added
+            ensureProcessLoaded(edge.get().sourceId());
+            ensureProcessLoaded(edge.get().targetId());
+            putDataflow(edge.get());
+            return;
+        }
+        Optional<OrganizationLink> link = triggerRepository.findLinkById(informationFlowId)
+            .or(() -> resultRepository.findLinkById(informationFlowId));
+        if (link.isPresent()) {
+            ensureProcessLoaded(link.get().processId());
+            putLink(link.get());
+            return;
+        }
+        removeInformationFlow(informationFlowId);
+    }
+
+    /**
+     * Adds or replaces a process in the graph.
+     *
+     * @param node the ProcessNode snapshot to store
+     */
+    public void putProcess(ProcessNode node) {
+        lock.writeLock().lock();
+        try {
+            upsertNode(node);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces a dataflow in the graph.
+     * The dataflow is ignored if one of its endpoints is not in the graph.
+     *
+     * @param edge the DataflowEdge snapshot to store
+     */
+    public void putDataflow(DataflowEdge edge) {
+        lock.writeLock().lock();
+        try {
+            upsertEdge(edge);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces a trigger or result in the graph.
+     * The link is ignored if its process is not in the graph.
+     *
+     * @param link the OrganizationLink snapshot to store
+     */
+    public void putLink(OrganizationLink link) {
+        lock.writeLock().lock();
+        try {
+            upsertLink(link);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a newly saved process to the graph once the current transaction commits.
+     * Without an active transaction the process is added immediately.
+     *
+     * @param process the saved ProcessEntity
+     */
+    public void putProcessAfterCommit(ProcessEntity process) {
+        if (!ready || process == null || process.getId() == null) {
+            return;
+        }
+        ProcessNode node = new ProcessNode(process.getId(), process.getName(), process.getType(),
+            process.getSoort(), process.getInternal(), process.getLevel(), process.getDescription(),
+            process.getParentProcess() != null ? process.getParentProcess().getId() : null);
+        afterCommit(() -> putProcess(node));
+    }
+
+    /**
+     * Adds a newly saved dataflow to the graph once the current transaction commits.
+     * Without an active transaction the dataflow is added immediately.
+     *
+     * @param dataflow the saved Dataflow
+     */
+    public void putDataflowAfterCommit(Dataflow dataflow) {
+        if (!ready || dataflow == null || dataflow.getId() == null
+                || dataflow.getSourceProcess() == null || dataflow.getTargetProcess() == null) {
+            return;
+        }
+        DataflowEdge edge = new DataflowEdge(dataflow.getId(), dataflow.getName(), dataflow.getType(),
+            dataflow.getSoort(), dataflow.getInternal(), dataflow.getLevel(), dataflow.getDescription(),
+            dataflow.getSourceProcess().getId(), dataflow.getTargetProcess().getId());
+        afterCommit(() -> putDataflow(edge));
+    }
+
+    /**
+     * Removes a process and all its dataflows, triggers and results from the graph.
+     *
+     * @param processId the ID of the process to remove
+     */
+    public void removeProcess(Long processId) {
+        lock.writeLock().lock();
+        try {
+            int slot = nodeIndex.get(processId);
+            if (slot < 0) {
+                return;
+            }
+            for (int edge : outEdges.toArray(slot)) {
+                removeEdgeSlot(edge);
+            }
+            for (int edge : inEdges.toArray(slot)) {
+                removeEdgeSlot(edge);
+            }
+            for (int link : processLinks.toArray(slot)) {
+                removeLinkSlot(link);
+            }
+            nodeIndex.remove(processId);
+            nodes[slot] = null;
+            freeNodeSlots.push(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a dataflow, trigger or result from the graph.
+     *
+     * @param informationFlowId the ID of the information flow to remove
+     */
+    public void removeInformationFlow(Long informationFlowId) {
+        lock.writeLock().lock();
+        try {
+            removeInformationFlowSlot(informationFlowId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves the input dataflows of a process together with their source processes.
+     * Dataflows whose source process is already shown in the current view are filtered out,
+     * with the same rules as DataflowRepository.findInputDataflows.
+     *
+     * @param processId the ID of the target process
+     * @param parentId the ID of the parent process of the current view (optional)
+     * @param type the type of the current view
+     * @return a list of ProcessDataflowPair objects ordered by dataflow ID
+     */
+    public List<ProcessDataflowPair> findInputDataflows(Long processId, Long parentId, String type) {
+        lock.readLock().lock();
+        try {
+            int slot = nodeIndex.get(processId);
+            if (slot < 0) {
+                return List.of();
+            }
+            List<ProcessDataflowPair> pairs = new ArrayList<>();
+            for (int i = 0; i < inEdges.size(slot); i++) {
+                int edge = inEdges.get(slot, i);
+                ProcessNode source = nodes[edgeSource[edge]];
+                if (isOutsideView(source, parentId, type)) {
+                    pairs.add(new ProcessDataflowPair(toEntity(source), toDataflow(edge)));
+                }
+            }
+            return pairs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves the output dataflows of a process together with their target processes.
+     * Dataflows whose target process is already shown in the current view are filtered out,
+     * with the same rules as DataflowRepository.findOutputDataflows.
+     *
+     * @param processId the ID of the source process
+     * @param parentId the ID of the parent process of the current view (optional)
+     * @param type the type of the current view
+     * @return a list of DataflowProcessPair objects ordered by dataflow ID
+     */
+    public List<DataflowProcessPair> findOutputDataflows(Long processId, Long parentId, String type) {
+        lock.readLock().lock();
+        try {
+            int slot = nodeIndex.get(processId);
+            if (slot < 0) {
+                return List.of();
+            }
+            List<DataflowProcessPair> pairs = new ArrayList<>();
+            for (int i = 0; i < outEdges.size(slot); i++) {
+                int edge = outEdges.get(slot, i);
+                ProcessNode target = nodes[edgeTarget[edge]];
+                if (isOutsideView(target, parentId, type)) {
+                    pairs.add(new DataflowProcessPair(toDataflow(edge), toEntity(target)));
+                }
+            }
+            return pairs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves all dataflows whose source and target process are both in the given set.
+     *
+     * @param processIds the IDs of the processes
+     * @return a list of Dataflow objects ordered by ID
+     */
+    public List<Dataflow> findDataflowsBetween(Collection<Long> processIds) {
+        lock.readLock().lock();
+        try {
+            LongIntMap members = new LongIntMap(processIds.size());
+            for (Long id : processIds) {
+                if (id != null) {
+                    members.put(id, 0);
+                }
+            }
+            List<Dataflow> dataflows = new ArrayList<>();
+            for (Long id : processIds) {
+                int slot = id == null ? -1 : nodeIndex.get(id);
+                if (slot < 0) {
+                    continue;
+                }
+                for (int i = 0; i < outEdges.size(slot); i++) {
+                    int edge = outEdges.get(slot, i);
+                    if (members.get(nodes[edgeTarget[edge]].id()) >= 0) {
+                        dataflows.add(toDataflow(edge));
+                    }
+                }
+            }
+            dataflows.sort(Comparator.comparing(Dataflow::getId));
+            return dataflows;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds every process and organization reachable from a process within a number of steps,
+     * using a breadth-first search.
+     * Downstream follows dataflows from source to target, results from a process to an organization
+     * and triggers from an organization to a process. Upstream follows the same flows backwards.
+     * Every node is visited at most once, so cycles end the search instead of repeating it.
+     * Organization names are not kept in the graph, so organization nodes have a null name.
+     *
+     * @param processId the ID of the start process
+     * @param downstream true to follow flows forwards, false to follow them backwards
+     * @param maxDepth the maximum number of flows between the start process and a returned node
+     * @param maxNodes the maximum number of nodes to return
+     * @return the reachable nodes ordered by depth, or null if the start process is not in the graph
+     */
+    public ImpactResult findImpact(Long processId, boolean downstream, int maxDepth, int maxNodes) {
+        lock.readLock().lock();
+        try {
+            int start = nodeIndex.get(processId);
+            if (start < 0) {
+                return null;
+            }
+            return new ImpactSearch(downstream, maxDepth, maxNodes).run(processId, start);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Checks whether a neighbouring process is not part of the current view.
+     * A view is either the level 0 processes of a type (parentId is null)
+     * or the subprocesses of a parent process.
+     *
+     * @param neighbour the neighbouring process
+     * @param parentId the ID of the parent process of the view (optional)
+     * @param type the type of the view
+     * @return true if the neighbour is outside of the view
+     */
+    private static boolean isOutsideView(ProcessNode neighbour, Long parentId, String type) {
+        if (parentId == null) {
+            boolean otherType = neighbour.type() != null && type != null && !neighbour.type().equals(type);
+            return otherType || neighbour.parentId() != null;
+        }
+        return neighbour.parentId() == null || !neighbour.parentId().equals(parentId);
+    }
+
+    private void ensureProcessLoaded(Long processId) {
+        if (processId == null) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            if (nodeIndex.get(processId) >= 0) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        processRepository.findNodeById(processId).ifPresent(this::putProcess);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private ProcessEntity toEntity(ProcessNode node) {
+        return node.toEntity();
+    }
+
+    private Dataflow toDataflow(int edgeSlot) {
+        return edges[edgeSlot].toDataflow(toEntity(nodes[edgeSource[edgeSlot]]), toEntity(nodes[edgeTarget[edgeSlot]]));
+    }
+
+    /**
+     * State of a single breadth-first search. The queue holds slots,
+     * with organization slots stored as negative numbers (-1 - slot).
+     */
+    private final class ImpactSearch {
+        private final boolean downstream;
+        private final int maxDepth;
+        private final int maxNodes;
+        private final boolean[] seenProcesses = new boolean[nodeSlots];
+        private final boolean[] seenOrganizations = new boolean[organizationSlots];
+        private final List<ImpactNode> found = new ArrayList<>();
+        private int[] queue = new int[16];
+        private int[] queueDepth = new int[16];
+        private int head = 0;
+        private int tail = 0;
+        private boolean truncated = false;
+
+        ImpactSearch(boolean downstream, int maxDepth, int maxNodes) {
+            this.downstream = downstream;
+            this.maxDepth = maxDepth;
+            this.maxNodes = maxNodes;
+        }
+
+        ImpactResult run(Long processId, int start) {
+            seenProcesses[start] = true;
+            enqueue(start, 0);
+            while (head < tail && !truncated) {
+                int item = queue[head];
+                int depth = queueDepth[head++];
+                if (depth >= maxDepth) {
+                    continue;
+                }
+                if (item >= 0) {
+                    expandProcess(item, depth + 1);
+                } else {
+                    expandOrganization(-1 - item, depth + 1);
+                }
+            }
+            return new ImpactResult(processId, downstream ? "downstream" : "upstream", maxDepth, truncated, found);
+        }
+
+        private void expandProcess(int slot, int depth) {
+            IntLists flows = downstream ? outEdges : inEdges;
+            for (int i = 0; i < flows.size(slot) && !truncated; i++) {
+                int edge = flows.get(slot, i);
+                visitProcess(downstream ? edgeTarget[edge] : edgeSource[edge], depth);
+            }
+            for (int i = 0; i < processLinks.size(slot) && !truncated; i++) {
+                int link = processLinks.get(slot, i);
+                // Downstream a process leads to organizations through results, upstream through triggers
+                if (links[link].trigger() != downstream) {
+                    visitOrganization(linkOrganization[link], depth);
+                }
+            }
+        }
+
+        private void expandOrganization(int slot, int depth) {
+            for (int i = 0; i < organizationLinks.size(slot) && !truncated; i++) {
+                int link = organizationLinks.get(slot, i);
+                // Downstream an organization leads to processes through triggers, upstream through results
+                if (links[link].trigger() == downstream) {
+                    visitProcess(linkProcess[link], depth);
+                }
+            }
+        }
+
+        private void visitProcess(int slot, int depth) {
+            if (seenProcesses[slot] || isFull()) {
+                return;
+            }
+            seenProcesses[slot] = true;
+            ProcessNode node = nodes[slot];
+            found.add(new ImpactNode("process", node.id(), node.name(), node.type(), depth));
+            enqueue(slot, depth);
+        }
+
+        private void visitOrganization(int slot, int depth) {
+            if (seenOrganizations[slot] || isFull()) {
+                return;
+            }
+            seenOrganizations[slot] = true;
+            found.add(new ImpactNode("organization", organizationIds[slot], null, null, depth));
+            enqueue(-1 - slot, depth);
+        }
+
+        private boolean isFull() {
+            if (found.size() >= maxNodes) {
+                truncated = true;
+            }
+            return truncated;
+        }
+
+        private void enqueue(int item, int depth) {
+            if (tail == queue.length) {
+                queue = Arrays.copyOf(queue, tail * 2);
+                queueDepth = Arrays.copyOf(queueDepth, tail * 2);
+            }
+            queue[tail] = item;
+            queueDepth[tail++] = depth;
+        }
+    }
+
+    // - Mutations, callers must hold the write lock -
+
+    private void clear(int nodeCapacity, int edgeCapacity, int linkCapacity) {
+        nodeCapacity = Math.max(16, nodeCapacity);
+        edgeCapacity = Math.max(16, edgeCapacity);
+        linkCapacity = Math.max(16, linkCapacity);
+
+        nodeIndex = new LongIntMap(nodeCapacity);
+        nodes = new ProcessNode[nodeCapacity];
+        outEdges = new IntLists(nodeCapacity);
+        inEdges = new IntLists(nodeCapacity);
+        processLinks = new IntLists(nodeCapacity);
+        nodeSlots = 0;
+        freeNodeSlots = new IntStack();
+
+        edgeIndex = new LongIntMap(edgeCapacity);
+        edges = new DataflowEdge[edgeCapacity];
+        edgeSource = new int[edgeCapacity];
+        edgeTarget = new int[edgeCapacity];
+        edgeSlots = 0;
+        freeEdgeSlots = new IntStack();
+
+        organizationIndex = new LongIntMap(16);
+        organizationIds = new long[16];
+        organizationLinks = new IntLists(16);
+        organizationSlots = 0;
+        freeOrganizationSlots = new IntStack();
+
+        linkIndex = new LongIntMap(linkCapacity);
+        links = new OrganizationLink[linkCapacity];
+        linkProcess = new int[linkCapacity];
+        linkOrganization = new int[linkCapacity];
+        linkSlots = 0;
+        freeLinkSlots = new IntStack();
+    }
+
+    private void upsertNode(ProcessNode node) {
+        int slot = nodeIndex.get(node.id());
+        if (slot >= 0) {
+            nodes[slot] = node;
+            return;
+        }
+        slot = freeNodeSlots.isEmpty() ? nodeSlots++ : freeNodeSlots.pop();
+        if (slot >= nodes.length) {
+            nodes = Arrays.copyOf(nodes, nodes.length * 2);
+        }
+        nodes[slot] = node;
+        outEdges.reset(slot);
+        inEdges.reset(slot);
+        processLinks.reset(slot);
+        nodeIndex.put(node.id(), slot);
+    }
+
+    private void upsertEdge(DataflowEdge edge) {
+        removeInformationFlowSlot(edge.id());
+        int source = edge.sourceId() == null ? -1 : nodeIndex.get(edge.sourceId());
+        int target = edge.targetId() == null ? -1 : nodeIndex.get(edge.targetId());
+        if (source < 0 || target < 0) {
+            return;
+        }
+        int slot = freeEdgeSlots.isEmpty() ? edgeSlots++ : freeEdgeSlots.pop();
+        if (slot >= edges.length) {
+            int capacity = edges.length * 2;
+            edges = Arrays.copyOf(edges, capacity);
+            edgeSource = Arrays.copyOf(edgeSource, capacity);
+            edgeTarget = Arrays.copyOf(edgeTarget, capacity);
+        }
+        edges[slot] = edge;
+        edgeSource[slot] = source;
+        edgeTarget[slot] = target;
+        edgeIndex.put(edge.id(), slot);
+
+        // New dataflows usually have the highest ID, so ordered inserts are cheap
+        IntToLongFunction dataflowId = edgeSlot -> edges[edgeSlot].id();
+        outEdges.addOrdered(source, slot, dataflowId);
+        inEdges.addOrdered(target, slot, dataflowId);
+    }
+
+    private void upsertLink(OrganizationLink link) {
+        removeInformationFlowSlot(link.id());
+        int process = link.processId() == null ? -1 : nodeIndex.get(link.processId());
+        if (process < 0 || link.organizationId() == null) {
+            return;
+        }
+        int organization = organizationIndex.get(link.organizationId());
+        if (organization < 0) {
+            organization = freeOrganizationSlots.isEmpty() ? organizationSlots++ : freeOrganizationSlots.pop();
+            if (organization >= organizationIds.length) {
+                organizationIds = Arrays.copyOf(organizationIds, organizationIds.length * 2);
+            }
+            organizationIds[organization] = link.organizationId();
+            organizationLinks.reset(organization);
+            organizationIndex.put(link.organizationId(), organization);
+        }
+        int slot = freeLinkSlots.isEmpty() ? linkSlots++ : freeLinkSlots.pop();
+        if (slot >= links.length) {
+            int capacity = links.length * 2;
+            links = Arrays.copyOf(links, capacity);
+            linkProcess = Arrays.copyOf(linkProcess, capacity);
+            linkOrganization = Arrays.copyOf(linkOrganization, capacity);
+        }
+        links[slot] = link;
+        linkProcess[slot] = process;
+        linkOrganization[slot] = organization;
+        linkIndex.put(link.id(), slot);
+        processLinks.add(process, slot);
+        organizationLinks.add(organization, slot);
+    }
+
+    private void removeInformationFlowSlot(Long informationFlowId) {
+        int edge = edgeIndex.get(informationFlowId);
+        if (edge >= 0) {
+            removeEdgeSlot(edge);
+        }
+        int link = linkIndex.get(informationFlowId);
+        if (link >= 0) {
+            removeLinkSlot(link);
+        }
+    }
+
+    private void removeEdgeSlot(int slot) {
+        outEdges.remove(edgeSource[slot], slot);
+        inEdges.remove(edgeTarget[slot], slot);
+        edgeIndex.remove(edges[slot].id());
+        edges[slot] = null;
+        freeEdgeSlots.push(slot);
+    }
+
+    private void removeLinkSlot(int slot) {
+        int organization = linkOrganization[slot];
+        processLinks.remove(linkProcess[slot], slot);
+        organizationLinks.remove(organization, slot);
+        if (organizationLinks.size(organization) == 0) {
+            organizationIndex.remove(organizationIds[organization]);
+            freeOrganizationSlots.push(organization);
+        }
+        linkIndex.remove(links[slot].id());
+        links[slot] = null;
+        freeLinkSlots.push(slot);
+    }
+
+    /**
+     * A growable list of int arrays, one per owner slot.
+     * Used for the adjacency lists of processes and organizations.
+     */
+    static final class IntLists {
+        private static final int[] EMPTY = new int[0];
+        private int[][] lists;
+        private int[] sizes;
+
+        IntLists(int capacity) {
+            lists = new int[capacity][];
+            sizes = new int[capacity];
+        }
+
+        int size(int owner) {
+            return sizes[owner];
+        }
+
+        int get(int owner, int index) {
+            return lists[owner][index];
+        }
+
+        int[] toArray(int owner) {
+            return Arrays.copyOf(lists[owner], sizes[owner]);
+        }
+
+        void reset(int owner) {
+            if (owner >= lists.length) {
+                int capacity = Math.max(owner + 1, lists.length * 2);
+                lists = Arrays.copyOf(lists, capacity);
+                sizes = Arrays.copyOf(sizes, capacity);
+            }
+            lists[owner] = EMPTY;
+            sizes[owner] = 0;
+        }
+
+        void add(int owner, int value) {
+            grow(owner);
+            lists[owner][sizes[owner]++] = value;
+        }
+
+        /**
+         * Inserts a value so that the list stays ordered by the given key.
+         * The scan starts at the end, so appending the largest key is constant time.
+         */
+        void addOrdered(int owner, int value, IntToLongFunction key) {
+            grow(owner);
+            int[] list = lists[owner];
+            long valueKey = key.applyAsLong(value);
+            int i = sizes[owner]++;
+            while (i > 0 && key.applyAsLong(list[i - 1]) > valueKey) {
+                list[i] = list[i - 1];
+                i--;
+            }
+            list[i] = value;
+        }
+
+        void remove(int owner, int value) {
+            int[] list = lists[owner];
+            int size = sizes[owner];
+            for (int i = 0; i < size; i++) {
+                if (list[i] == value) {
+                    System.arraycopy(list, i + 1, list, i, size - i - 1);
+                    sizes[owner] = size - 1;
+                    return;
+                }
+            }
+        }
+
+        private void grow(int owner) {
+            if (sizes[owner] == lists[owner].length) {
+                lists[owner] = Arrays.copyOf(lists[owner], Math.max(4, sizes[owner] * 2));
+            }
+        }
+    }
+
+    /**
+     * Open addressing hash map from long keys to non-negative int values.
+     * get() returns -1 for missing keys. Deleted entries are removed with backward shifting,
+     * so the table never fills up with tombstones.
+     */
+    static final class LongIntMap {
+        private static final long EMPTY = Long.MIN_VALUE;
+        private long[] keys;
+        private int[] values;
+        private int mask;
+        private int size;
+
+        LongIntMap(int expectedSize) {
+            int capacity = Integer.highestOneBit(Math.max(8, expectedSize) * 2 - 1) << 1;
+            allocate(capacity);
+        }
+
+        int size() {
+            return size;
+        }
+
+        int get(long key) {
+            int index = hash(key) & mask;
+            while (keys[index] != EMPTY) {
+                if (keys[index] == key) {
+                    return values[index];
+                }
+                index = (index + 1) & mask;
+            }
+            return -1;
+        }
+
+        void put(long key, int value) {
+            if ((size + 1) * 2 > keys.length) {
+                resize();
+            }
+            int index = hash(key) & mask;
+            while (keys[index] != EMPTY) {
+                if (keys[index] == key) {
+                    values[index] = value;
+                    return;
+                }
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            values[index] = value;
+            size++;
+        }
+
+        void remove(long key) {
+            int gap = hash(key) & mask;
+            while (keys[gap] != key) {
+                if (keys[gap] == EMPTY) {
+                    return;
+                }
+                gap = (gap + 1) & mask;
+            }
+            int next = (gap + 1) & mask;
+            while (keys[next] != EMPTY) {
+                int home = hash(keys[next]) & mask;
+                // Move the entry into the gap if the gap lies between its home slot and its current slot
+                if (((next - home) & mask) >= ((next - gap) & mask)) {
+                    keys[gap] = keys[next];
+                    values[gap] = values[next];
+                    gap = next;
+                }
+                next = (next + 1) & mask;
+            }
+            keys[gap] = EMPTY;
+            size--;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            allocate(oldKeys.length * 2);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private void allocate(int capacity) {
+            keys = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+            values = new int[capacity];
+            mask = capacity - 1;
+            size = 0;
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+
+    /**
+     * Growable stack of ints, used to recycle free slots.
+     */
+    static final class IntStack {
+        private int[] items = new int[8];
+        private int size = 0;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void push(int value) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = value;
+        }
+
+        int pop() {
+            return items[--size];
+        }
+    }
+}
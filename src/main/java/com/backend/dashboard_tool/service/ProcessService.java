@@ -10,9 +10,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.backend.dashboard_tool.database.ProcessClosureRepository;
 import com.backend.dashboard_tool.database.ProcessRepository;
 import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
 import com.backend.dashboard_tool.DTO.ProcessDTO;
+import com.backend.dashboard_tool.DTO.ProcessNode;
+import com.backend.dashboard_tool.DTO.ProcessTreeNode;
 
 /**
  * Service class for handling process-related operations.
@@ -21,14 +24,21 @@ import com.backend.dashboard_tool.DTO.ProcessDTO;
 @Service
 public class ProcessService {
     private final ProcessRepository processRepository;
+    private final ProcessClosureRepository processClosureRepository;
+    private final ProcessGraph processGraph;
 
     /**
      * Constructor for ProcessService.
      * 
      * @param processRepository the ProcessRepository instance
+     * @param processClosureRepository the ProcessClosureRepository instance
+     * @param processGraph the in-memory ProcessGraph, updated when a process is created
      */
-    public ProcessService(ProcessRepository processRepository) {
+    public ProcessService(ProcessRepository processRepository, ProcessClosureRepository processClosureRepository,
+                          ProcessGraph processGraph) {
         this.processRepository = processRepository;
+        this.processClosureRepository = processClosureRepository;
+        this.processGraph = processGraph;
     }
 
     /**
@@ -37,14 +47,14 @@ public class ProcessService {
      * @param parentId the ID of the parent process (optional)
      * @param level the level of the process
      * @param type the type of the process (optional)
-     * @return a list of ProcessEntity objects matching the criteria
+     * @return a list of ProcessNode snapshots matching the criteria
      */
     @Transactional(readOnly = true)
     @Cacheable(value = "processes", key = "#parentId + '-' + '-' + #type")
-    public List<ProcessEntity> getSubProcesses(Long parentId, String type) {
+    public List<ProcessNode> getSubProcesses(Long parentId, String type) {
         //If parent id is not null, then we must look for subprocesses from the parent.
         if(parentId != null){
-            return processRepository.findSubprocessByParentId(parentId);
+            return processRepository.findSubprocessNodesByParentId(parentId);
         }
 
         //If type is null, we cannot return processes at level 0.
@@ -54,7 +64,7 @@ public class ProcessService {
         }
         
         //Return all processes at level 0 from type
-        return processRepository.findByTypeLevel0(type);
+        return processRepository.findNodesByTypeLevel0(type);
     }
 
     /**
@@ -92,19 +102,89 @@ public class ProcessService {
         } else {
             processEntity.setLevel(0);
         }
-        return processRepository.save(processEntity);
+        ProcessEntity savedProcess = processRepository.save(processEntity);
+        //Keep the hierarchy closure in sync, the database trigger may already have done this
+        processClosureRepository.insertForProcess(savedProcess.getId(), processDTO.parent());
+        processGraph.putProcessAfterCommit(savedProcess);
+        return savedProcess;
     }
 
     /**
      * Retrieves a process by its ID.
+     * The cached value is an immutable snapshot, so no Hibernate proxy or lazy collection is retained.
      * 
      * @param id the ID of the process
-     * @return the ProcessEntity object with the specified ID
+     * @return the ProcessNode snapshot with the specified ID
      */
     @Transactional(readOnly = true)
     @Cacheable(value = "process", key = "#id")
-    public ProcessEntity getProcessById(Long id) {
-        return processRepository.findById(id)
+    public ProcessNode getProcessById(Long id) {
+        return processRepository.findNodeById(id)
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Process not found."));
     }
+
+    /**
+     * Checks that a process exists, without loading it.
+     * The resident ProcessGraph answers for the processes it holds; only a process it does not hold,
+     * because the graph is not loaded yet or the notification of a new process has not arrived,
+     * is looked up in the database before a 404 is given.
+     *
+     * @param id the ID of the process
+     * @throws ResponseStatusException 404 if the process does not exist
+     */
+    public void requireProcess(Long id) {
+        if (processGraph.containsProcess(id)) {
+            return;
+        }
+        if (id == null || !processRepository.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Process with ID " + id + " not found.");
+        }
+    }
+
+    /**
+     * Retrieves a reference to a process, to be used as the target of an association.
+     * The process is not loaded, only its existence is checked.
+     * 
+     * @param id the ID of the process
+     * @param role the role of the process in the association, for the message when it does not exist (e.g. "Source process")
+     * @return a ProcessEntity reference with the specified ID
+     * @throws ResponseStatusException 404 if the process does not exist
+     */
+    @Transactional(readOnly = true)
+    public ProcessEntity getProcessReference(Long id, String role) {
+        if (id == null || !processRepository.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, role + " not found with ID: " + id);
+        }
+        return processRepository.getReferenceById(id);
+    }
+
+    /**
+     * Retrieves the subtree below a process with a single query on the closure table.
+     * 
+     * @param rootId the ID of the root process
+     * @param maxDepth the maximum number of levels below the root (optional, unlimited if null)
+     * @return the root ProcessTreeNode with its children filled in
+     */
+    @Transactional(readOnly = true)
+    public ProcessTreeNode getProcessTree(Long rootId, Integer maxDepth) {
+        if (maxDepth != null && maxDepth < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Max depth must not be negative.");
+        }
+        List<ProcessTreeNode> nodes = processClosureRepository.findSubtree(rootId,
+            maxDepth == null ? Integer.MAX_VALUE : maxDepth);
+        if (nodes.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Process not found.");
+        }
+
+        //The rows are ordered by depth, so every parent is registered before its children
+        Map<Long, ProcessTreeNode> byId = new HashMap<>();
+        for (ProcessTreeNode node : nodes) {
+            byId.put(node.id(), node);
+            ProcessTreeNode parent = node.depth() == 0 ? null : byId.get(node.parentId());
+            if (parent != null) {
+                parent.children().add(node);
+            }
+        }
+        return nodes.get(0);
+    }
 }
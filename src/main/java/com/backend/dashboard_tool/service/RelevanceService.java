@@ -1,20 +1,23 @@
 package com.backend.dashboard_tool.service;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.springframework.stereotype.Service;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.backend.dashboard_tool.DTO.LayerQuery;
+import com.backend.dashboard_tool.database.LayerRepository;
 import com.backend.dashboard_tool.database.Finance.CostRepository;
 import com.backend.dashboard_tool.database.Finance.RevenueRepository;
 import com.backend.dashboard_tool.database.Strategy.GoalRepository;
 import com.backend.dashboard_tool.database.Strategy.ProductRepository;
 import com.backend.dashboard_tool.database.Strategy.ServiceRepository;
-import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
 
 @Service
 public class RelevanceService {
@@ -57,14 +60,47 @@ public class RelevanceService {
     @Transactional(readOnly = true)
     @Cacheable(value = "relevances", key = "#type")
     public List<?> getAllRelevancesByType(@RequestParam String type) {
-        return switch (type.toLowerCase()) {
-            case "cost" -> costRepository.findAll();
-            case "revenue" -> revenueRepository.findAll();
-            case "product" -> productRepository.findAll();
-            case "service" -> serviceRepository.findAll();
-            case "goal" -> goalRepository.findAll();
-            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown performance type: " + type);
-        };
+        return repositoryFor(type).findAll();
+    }
+
+    /**
+     * Retrieves one page of relevance-related entities of a specific type, ordered by ID.
+     * Every page is cached on its own, so that no cache entry holds the whole table.
+     *
+     * @param type The type of relevance entity to retrieve.
+     * @param query The cursor, limit and filters of the page.
+     * @return A list of at most query.pageSize() entities, or throws an exception if the type is unknown.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = "relevances", key = "#type + ':' + #query")
+    public List<?> getRelevancesPage(String type, LayerQuery query) {
+        return repositoryFor(type).findPage(query);
+    }
+
+    /**
+     * Counts the relevance-related entities of a specific type that match the filters of a query,
+     * without loading them.
+     *
+     * @param type The type of relevance entity to count.
+     * @param query The filters to match; the cursor and limit are ignored.
+     * @return The number of matching entities, or throws an exception if the type is unknown.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = "relevances", key = "#type + ':count:' + #query.withoutCursor()")
+    public long countRelevances(String type, LayerQuery query) {
+        return repositoryFor(type).countMatching(query);
+    }
+
+    /**
+     * Streams all relevance-related entities of a specific type ordered by ID, without caching them.
+     * The caller must consume and close the Stream inside a read-only transaction, see JsonStreamService.
+     *
+     * @param type The type of relevance entity to stream.
+     * @return A Stream of all entities for the specified type, or throws an exception if the type is unknown.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<?> streamAllRelevancesByType(String type) {
+        return repositoryFor(type).streamAllByOrderByIdAsc();
     }
 
     /**
@@ -79,10 +115,7 @@ public class RelevanceService {
     @Transactional(readOnly = true)
     @Cacheable(value = "relevancesByProcess", key = "#type + '-' + #processId")
     public List<?> getRelevanceByTypeAndProcessId(@RequestParam String type, @RequestParam Long processId) {
-        ProcessEntity process = processService.getProcessById(processId);
-        if (process == null) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Process with ID " + processId + " not found.");
-        }
+        processService.requireProcess(processId);
 
         return switch (type.toLowerCase()) {
             case "cost" -> costRepository.findByProcessId(processId);
@@ -93,4 +126,21 @@ public class RelevanceService {
             default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown relevance type: " + type);
         };
     }
+
+    /**
+     * Finds the repository of a relevance type.
+     *
+     * @param type The type of relevance entity.
+     * @return The LayerRepository of the type, or throws an exception if the type is unknown.
+     */
+    private LayerRepository<?> repositoryFor(String type) {
+        return switch (type.toLowerCase()) {
+            case "cost" -> costRepository;
+            case "revenue" -> revenueRepository;
+            case "product" -> productRepository;
+            case "service" -> serviceRepository;
+            case "goal" -> goalRepository;
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown performance type: " + type);
+        };
+    }
 }
@@ -63,11 +63,7 @@ public class ResultService {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND,
                 "Target organization not found with ID: " + resultDTO.target());
         }
-        ProcessEntity sourceProcess = processService.getProcessById(resultDTO.source());
-        if (sourceProcess == null) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND,
-                "Source process not found with ID: " + resultDTO.source());
-        }
+        ProcessEntity sourceProcess = processService.getProcessReference(resultDTO.source(), "Source process");
 
         Result result = new Result();
         result.setName(resultDTO.name());
@@ -0,0 +1,209 @@
+package com.backend.dashboard_tool.service;
+
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.backend.dashboard_tool.DTO.ProcessNode;
+import com.backend.dashboard_tool.config.RequestPhases;
+import com.backend.dashboard_tool.sipocrecords.*;
+
+/**
+ * Service class for building the aggregated SIPOC view of a process.
+ * Instead of the dashboard calling the trigger, result, dataflow and seven layer
+ * endpoints one by one, all of them are queried concurrently on virtual threads,
+ * so the latency is the slowest call instead of the sum of all calls.
+ * The calls go through the other services, so their caches are used as usual.
+ * Every call that misses its cache takes a connection from the small pool for its own transaction,
+ * so at most app.sipoc.max-concurrency of those calls, one less than the pool size, run at the same time
+ * over all requests, and the others wait for a permit rather than for a connection.
+ * A call that is answered from its cache needs no connection, so it is returned without a permit
+ * and a view with a warm cache is never queued behind the database calls of other requests.
+ */
+@Service
+public class SipocService {
+    /**
+     * The types of every layer, in the order they are shown in the dashboard.
+     */
+    static final Map<String, List<String>> LAYER_TYPES = layerTypes();
+
+    private final ProcessService processService;
+    private final TriggerService triggerService;
+    private final ResultService resultService;
+    private final DataflowService dataflowService;
+    private final Map<String, LayerQuery> layerQueries;
+    private final CacheManager cacheManager;
+    private final Semaphore permits;
+
+    /**
+     * The query of one layer and the cache the service keeps its results in, under the key type-processId.
+     */
+    private record LayerQuery(String cache, BiFunction<String, Long, List<?>> query) {
+    }
+
+    /**
+     * Constructor for SipocService.
+     *
+     * @param processService the ProcessService instance
+     * @param triggerService the TriggerService instance
+     * @param resultService the ResultService instance
+     * @param dataflowService the DataflowService instance
+     * @param controlService the ControlService instance
+     * @param ictService the ICTService instance
+     * @param infrastructureService the InfrastructureService instance
+     * @param initiativeService the InitiativeService instance
+     * @param peopleService the PeopleService instance
+     * @param performanceService the PerformanceService instance
+     * @param relevanceService the RelevanceService instance
+     * @param cacheManager the CacheManager holding the caches of the services, to answer cached calls without a permit
+     * @param maxConcurrency the maximum number of calls that run at the same time, below the connection pool size
+     */
+    public SipocService(ProcessService processService, TriggerService triggerService, ResultService resultService,
+                        DataflowService dataflowService, ControlService controlService, ICTService ictService,
+                        InfrastructureService infrastructureService, InitiativeService initiativeService,
+                        PeopleService peopleService, PerformanceService performanceService,
+                        RelevanceService relevanceService, CacheManager cacheManager,
+                        @Value("${app.sipoc.max-concurrency:2}") int maxConcurrency) {
+        this.processService = processService;
+        this.triggerService = triggerService;
+        this.resultService = resultService;
+        this.dataflowService = dataflowService;
+        this.layerQueries = Map.of(
+            "control", new LayerQuery("controlByProcess", controlService::getControlsByTypeAndProcessId),
+            "ict", new LayerQuery("ictByProcess", ictService::getIctsByTypeAndProcessId),
+            "infrastructure", new LayerQuery("infrastructureByProcess", infrastructureService::getInfrastructuresByTypeAndProcessId),
+            "initiative", new LayerQuery("initiativesByProcess", initiativeService::getInitiativesByTypeAndProcessId),
+            "people", new LayerQuery("peopleByProcess", peopleService::getPeopleByTypeAndProcessId),
+            "performance", new LayerQuery("performancesByProcess", performanceService::getPerformancesByTypeAndProcessId),
+            "relevance", new LayerQuery("relevancesByProcess", relevanceService::getRelevanceByTypeAndProcessId)
+        );
+        this.cacheManager = cacheManager;
+        this.permits = new Semaphore(maxConcurrency, true);
+    }
+
+    private static Map<String, List<String>> layerTypes() {
+        Map<String, List<String>> types = new LinkedHashMap<>();
+        types.put("control", List.of("audit", "legislation", "document"));
+        types.put("ict", List.of("datastore", "application", "system"));
+        types.put("infrastructure", List.of("asset", "facility", "location"));
+        types.put("initiative", List.of("improvement", "project"));
+        types.put("people", List.of("department", "employee", "function", "organization", "role", "consultation"));
+        types.put("performance", List.of("kpi", "risk", "mitigation-measure"));
+        types.put("relevance", List.of("cost", "revenue", "product", "service", "goal"));
+        return Collections.unmodifiableMap(types);
+    }
+
+    /**
+     * Retrieves the complete SIPOC view of a process.
+     * The process is looked up first, so an unknown ID fails fast with a 404
+     * instead of every concurrent call failing on its own.
+     * The input and output dataflows leave out the siblings of the process,
+     * just like the dashboard does for the view the process is opened in.
+     *
+     * @param processId the ID of the process
+     * @return the SipocView with all panes and layers of the process
+     */
+    public SipocView getSipoc(Long processId) {
+        ProcessNode process = processService.getProcessById(processId);
+        Long parentId = process.parentId();
+        String processType = process.type();
+
+        // Each task runs on its own virtual thread; closing the executor waits for all of them
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Iterable<OrgTriggerPair>> triggers =
+                submit(executor, "triggers", processId, () -> triggerService.getTriggersByProcessId(processId));
+            // The keys of the dataflow caches, see DataflowService
+            String dataflowKey = processId + "-" + parentId + "-" + processType;
+            Future<Iterable<ProcessDataflowPair>> inputs = submit(executor, "inputDataflows", dataflowKey,
+                () -> dataflowService.getInputDataflows(processId, parentId, processType));
+            Future<Iterable<DataflowProcessPair>> outputs = submit(executor, "outputDataflows", dataflowKey,
+                () -> dataflowService.getOutputDataflows(processId, parentId, processType));
+            Future<Iterable<ResultOrgPair>> results =
+                submit(executor, "results", processId, () -> resultService.getResultsByProcessId(processId));
+
+            Map<String, Map<String, Future<List<?>>>> layerFutures = new LinkedHashMap<>();
+            LAYER_TYPES.forEach((layer, types) -> {
+                LayerQuery query = layerQueries.get(layer);
+                Map<String, Future<List<?>>> byType = new LinkedHashMap<>();
+                for (String type : types) {
+                    byType.put(type, submit(executor, query.cache(), type + "-" + processId,
+                        () -> query.query().apply(type, processId)));
+                }
+                layerFutures.put(layer, byType);
+            });
+
+            Map<String, Map<String, List<?>>> layers = new LinkedHashMap<>();
+            for (Map.Entry<String, Map<String, Future<List<?>>>> layer : layerFutures.entrySet()) {
+                Map<String, List<?>> byType = new LinkedHashMap<>();
+                for (Map.Entry<String, Future<List<?>>> type : layer.getValue().entrySet()) {
+                    byType.put(type.getKey(), join(type.getValue()));
+                }
+                layers.put(layer.getKey(), byType);
+            }
+            return new SipocView(process, join(triggers), join(inputs), join(outputs), join(results), layers);
+        }
+    }
+
+    /**
+     * Submits a task that is answered from the cache of its service when the result is cached,
+     * and otherwise runs once a permit is available, so the fan-out never holds more connections
+     * than the permits allow. The cache and database time of the task is added to the phases
+     * of the request, see RequestPhases; the wait for a permit is not.
+     *
+     * @param cacheName the cache the service keeps the result in
+     * @param key the key of the result in that cache, as the service's @Cacheable computes it
+     */
+    private <T> Future<T> submit(ExecutorService executor, String cacheName, Object key, Callable<T> task) {
+        Callable<T> timed = RequestPhases.propagate(() -> {
+            Cache.ValueWrapper cached = lookup(cacheName, key);
+            if (cached != null) {
+                @SuppressWarnings("unchecked")
+                T value = (T) cached.get();
+                return value;
+            }
+            permits.acquire();
+            try {
+                // A result cached in the meantime is still answered by the service without the database
+                return task.call();
+            } finally {
+                permits.release();
+            }
+        });
+        return executor.submit(timed);
+    }
+
+    private Cache.ValueWrapper lookup(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        return cache == null ? null : cache.get(key);
+    }
+
+    /**
+     * Waits for a single task, rethrowing a ResponseStatusException as is so that
+     * the status of the failing service is kept.
+     */
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Interrupted while building SIPOC view.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ResponseStatusException status) {
+                throw status;
+            }
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to build SIPOC view.", e.getCause());
+        }
+    }
+}
@@ -62,11 +62,7 @@ public class TriggerService {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, 
                 "Source organization not found with ID: " + triggerDTO.source());
         }
-        ProcessEntity targetProcess = processService.getProcessById(triggerDTO.target());
-        if (targetProcess == null) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, 
-                "Target process not found with ID: " + triggerDTO.target());
-        }
+        ProcessEntity targetProcess = processService.getProcessReference(triggerDTO.target(), "Target process");
 
         Trigger trigger = new Trigger();
         trigger.setName(triggerDTO.name());
@@ -0,0 +1,18 @@
+package com.backend.dashboard_tool.sipocrecords;
+
+import java.util.List;
+import java.util.Map;
+
+import com.backend.dashboard_tool.DTO.ProcessNode;
+
+/**
+ * Composite document with everything the dashboard shows for a single process:
+ * the SIPOC panes and, per layer, the linked entities grouped by type.
+ */
+public record SipocView(ProcessNode process,
+                        Iterable<OrgTriggerPair> triggers,
+                        Iterable<ProcessDataflowPair> inputs,
+                        Iterable<DataflowProcessPair> outputs,
+                        Iterable<ResultOrgPair> results,
+                        Map<String, Map<String, List<?>>> layers) {
+}
@@ -0,0 +1,1593 @@
+-- The schema of the entities as Hibernate maps them: one table and one sequence per entity,
+-- the join tables of the many-to-many relations and the foreign keys between them.
+-- Databases that were created by ddl-auto=update before the migrations are baselined at this version.
+
+create sequence application_seq start with 1 increment by 50;
+
+create sequence asset_seq start with 1 increment by 50;
+
+create sequence audit_seq start with 1 increment by 50;
+
+create sequence chance_seq start with 1 increment by 50;
+
+create sequence consultation_seq start with 1 increment by 50;
+
+create sequence cost_seq start with 1 increment by 50;
+
+create sequence data_attribute_seq start with 1 increment by 50;
+
+create sequence data_store_seq start with 1 increment by 50;
+
+create sequence department_seq start with 1 increment by 50;
+
+create sequence document_seq start with 1 increment by 50;
+
+create sequence employee_seq start with 1 increment by 50;
+
+create sequence facility_seq start with 1 increment by 50;
+
+create sequence function_seq start with 1 increment by 50;
+
+create sequence goal_seq start with 1 increment by 50;
+
+create sequence improvement_seq start with 1 increment by 50;
+
+create sequence information_flow_seq start with 1 increment by 50;
+
+create sequence kpi_seq start with 1 increment by 50;
+
+create sequence legislation_seq start with 1 increment by 50;
+
+create sequence location_seq start with 1 increment by 50;
+
+create sequence mitigation_measure_seq start with 1 increment by 50;
+
+create sequence organization_seq start with 1 increment by 50;
+
+create sequence problem_seq start with 1 increment by 50;
+
+create sequence process_seq start with 1 increment by 50;
+
+create sequence product_seq start with 1 increment by 50;
+
+create sequence program_seq start with 1 increment by 50;
+
+create sequence project_seq start with 1 increment by 50;
+
+create sequence revenue_seq start with 1 increment by 50;
+
+create sequence risk_seq start with 1 increment by 50;
+
+create sequence role_seq start with 1 increment by 50;
+
+create sequence service_seq start with 1 increment by 50;
+
+create sequence system_seq start with 1 increment by 50;
+
+create sequence threat_seq start with 1 increment by 50;
+
+create table application (
+    internal boolean,
+    level integer,
+    id bigint not null,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table applications_costs (
+    application_id bigint not null,
+    cost_id bigint not null
+);
+
+create table applications_locations (
+    application_id bigint not null,
+    location_id bigint not null
+);
+
+create table asset (
+    internal boolean,
+    level integer,
+    facility_id bigint,
+    id bigint not null,
+    location_id bigint,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table assets_applications (
+    application_id bigint not null,
+    asset_id bigint not null
+);
+
+create table assets_costs (
+    asset_id bigint not null,
+    cost_id bigint not null
+);
+
+create table assets_systems (
+    asset_id bigint not null,
+    system_id bigint not null
+);
+
+create table audit (
+    internal boolean,
+    level integer,
+    id bigint not null,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table audit_risk (
+    audit_id bigint not null,
+    risk_id bigint not null
+);
+
+create table chance (
+    internal boolean,
+    level integer,
+    id bigint not null,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table consultation (
+    internal boolean,
+    level integer,
+    id bigint not null,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table cost (
+    amount float(53) not null,
+    bruto float(53) not null,
+    internal boolean,
+    level integer,
+    netto float(53) not null,
+    id bigint not null,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table data_attribute (
+    internal boolean,
+    level integer,
+    data_store_id bigint,
+    id bigint not null,
+    informationflow_id bigint,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table data_store (
+    internal boolean,
+    level integer,
+    id bigint not null,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table department (
+    internal boolean,
+    level integer,
+    id bigint not null,
+    organization_id bigint,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table departments_consultations (
+    consultation_id bigint not null,
+    department_id bigint not null
+);
+
+create table departments_costs (
+    cost_id bigint not null,
+    department_id bigint not null
+);
+
+create table departments_functions (
+    department_id bigint not null,
+    function_id bigint not null
+);
+
+create table departments_roles (
+    department_id bigint not null,
+    role_id bigint not null
+);
+
+create table document (
+    date date,
+    internal boolean,
+    level integer,
+    version integer,
+    id bigint not null,
+    description varchar(255),
+    name varchar(255),
+    safety_level varchar(255),
+    soort varchar(255),
+    status varchar(255),
+    type varchar(255),
+    url varchar(255),
+    primary key (id)
+);
+
+create table employee (
+    internal boolean,
+    level integer,
+    department_id bigint,
+    function_id bigint,
+    id bigint not null,
+    organization_id bigint,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table employees_costs (
+    cost_id bigint not null,
+    employee_id bigint not null
+);
+
+create table facilities_applications (
+    application_id bigint not null,
+    facility_id bigint not null
+);
+
+create table facilities_costs (
+    cost_id bigint not null,
+    facility_id bigint not null
+);
+
+create table facilities_systems (
+    facility_id bigint not null,
+    system_id bigint not null
+);
+
+create table facility (
+    internal boolean,
+    level integer,
+    id bigint not null,
+    location_id bigint,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table function (
+    internal boolean,
+    level integer,
+    id bigint not null,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table goal (
+    internal boolean,
+    level integer,
+    id bigint not null,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table goal_kpi (
+    goal_id bigint not null,
+    kpi_id bigint not null
+);
+
+create table goal_product (
+    goal_id bigint not null,
+    product_id bigint not null
+);
+
+create table goal_program (
+    goal_id bigint not null,
+    program_id bigint not null
+);
+
+create table goal_project (
+    goal_id bigint not null,
+    project_id bigint not null
+);
+
+create table goal_service (
+    goal_id bigint not null,
+    service_id bigint not null
+);
+
+create table improvement (
+    internal boolean,
+    level integer,
+    id bigint not null,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table information_flow (
+    internal boolean,
+    level integer,
+    id bigint not null,
+    source_organization_id bigint,
+    source_process_id bigint,
+    target_organization_id bigint,
+    target_process_id bigint,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table kpi (
+    internal boolean,
+    level integer,
+    id bigint not null,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    status varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table legislation (
+    internal boolean,
+    level integer,
+    id bigint not null,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table legislation_audit (
+    audit_id bigint not null,
+    legislation_id bigint not null
+);
+
+create table legislation_document (
+    document_id bigint not null,
+    legislation_id bigint not null
+);
+
+create table location (
+    internal boolean,
+    level integer,
+    id bigint not null,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table mitigation_measure_risk (
+    mitigation_measure_id bigint not null,
+    risk_id bigint not null
+);
+
+create table mitigation_measure (
+    internal boolean,
+    level integer,
+    id bigint not null,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table organization (
+    internal boolean,
+    level integer,
+    id bigint not null,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table organizations_functions (
+    function_id bigint not null,
+    organization_id bigint not null
+);
+
+create table organizations_roles (
+    organization_id bigint not null,
+    role_id bigint not null
+);
+
+create table problem (
+    internal boolean,
+    level integer,
+    id bigint not null,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table problem_improvement (
+    improvement_id bigint not null,
+    problem_id bigint not null
+);
+
+create table process (
+    internal boolean,
+    level integer,
+    id bigint not null,
+    parent_process_id bigint,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table process_application (
+    application_id bigint not null,
+    process_id bigint not null
+);
+
+create table process_asset (
+    asset_id bigint not null,
+    process_id bigint not null
+);
+
+create table process_audit (
+    audit_id bigint not null,
+    process_id bigint not null
+);
+
+create table process_closure (
+    depth integer not null,
+    ancestor_id bigint not null,
+    descendant_id bigint not null,
+    primary key (ancestor_id, descendant_id)
+);
+
+create table process_consultation (
+    consultation_id bigint not null,
+    process_id bigint not null
+);
+
+create table process_cost (
+    cost_id bigint not null,
+    process_id bigint not null
+);
+
+create table process_datastore (
+    datastore_id bigint not null,
+    process_id bigint not null
+);
+
+create table process_department (
+    department_id bigint not null,
+    process_id bigint not null
+);
+
+create table process_document (
+    document_id bigint not null,
+    process_id bigint not null
+);
+
+create table process_employee (
+    employee_id bigint not null,
+    process_id bigint not null
+);
+
+create table process_facility (
+    facility_id bigint not null,
+    process_id bigint not null
+);
+
+create table process_function (
+    function_id bigint not null,
+    process_id bigint not null
+);
+
+create table process_goal (
+    goal_id bigint not null,
+    process_id bigint not null
+);
+
+create table process_improvement (
+    improvement_id bigint not null,
+    process_id bigint not null
+);
+
+create table process_kpi (
+    kpi_id bigint not null,
+    process_id bigint not null
+);
+
+create table process_legislation (
+    legislation_id bigint not null,
+    process_id bigint not null
+);
+
+create table process_location (
+    location_id bigint not null,
+    process_id bigint not null
+);
+
+create table process_mitigation_measure (
+    mitigation_measure_id bigint not null,
+    process_id bigint not null
+);
+
+create table process_organization (
+    organization_id bigint not null,
+    process_id bigint not null
+);
+
+create table process_problem (
+    problem_id bigint not null,
+    process_id bigint not null
+);
+
+create table process_product (
+    process_id bigint not null,
+    product_id bigint not null
+);
+
+create table process_program (
+    process_id bigint not null,
+    program_id bigint not null
+);
+
+create table process_project (
+    process_id bigint not null,
+    project_id bigint not null
+);
+
+create table process_revenue (
+    process_id bigint not null,
+    revenue_id bigint not null
+);
+
+create table process_risk (
+    process_id bigint not null,
+    risk_id bigint not null
+);
+
+create table process_role (
+    process_id bigint not null,
+    role_id bigint not null
+);
+
+create table process_service (
+    process_id bigint not null,
+    service_id bigint not null
+);
+
+create table process_system (
+    process_id bigint not null,
+    system_id bigint not null
+);
+
+create table product (
+    internal boolean,
+    level integer,
+    id bigint not null,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table product_revenue (
+    product_id bigint not null,
+    revenue_id bigint not null
+);
+
+create table product_service (
+    product_id bigint not null,
+    service_id bigint not null
+);
+
+create table program (
+    internal boolean,
+    level integer,
+    id bigint not null,
+    description varchar(255),
+    doel varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table program_audit (
+    audit_id bigint not null,
+    program_id bigint not null
+);
+
+create table program_cost (
+    cost_id bigint not null,
+    program_id bigint not null
+);
+
+create table program_kpi (
+    kpi_id bigint not null,
+    program_id bigint not null
+);
+
+create table program_risk (
+    program_id bigint not null,
+    risk_id bigint not null
+);
+
+create table project (
+    internal boolean,
+    level integer,
+    id bigint not null,
+    program_id bigint,
+    description varchar(255),
+    doel varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table project_audit (
+    audit_id bigint not null,
+    project_id bigint not null
+);
+
+create table project_cost (
+    cost_id bigint not null,
+    project_id bigint not null
+);
+
+create table project_kpi (
+    kpi_id bigint not null,
+    project_id bigint not null
+);
+
+create table project_risk (
+    project_id bigint not null,
+    risk_id bigint not null
+);
+
+create table revenue (
+    amount float(53) not null,
+    bruto float(53) not null,
+    internal boolean,
+    level integer,
+    netto float(53) not null,
+    id bigint not null,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table risk (
+    estimate float(53),
+    gross_impact float(53),
+    internal boolean,
+    level integer,
+    net_impact float(53),
+    id bigint not null,
+    cause varchar(255),
+    consequence varchar(255),
+    description varchar(255),
+    estimate_explanation varchar(255),
+    name varchar(255),
+    risk_level varchar(255) check (risk_level in ('LOW','MEDIUM','HIGH','CRITICAL')),
+    strategy varchar(255),
+    warning varchar(255),
+    primary key (id)
+);
+
+create table risk_chance (
+    chance_id bigint not null,
+    risk_id bigint not null
+);
+
+create table risk_threat (
+    risk_id bigint not null,
+    threat_id bigint not null
+);
+
+create table role (
+    internal boolean,
+    level integer,
+    function_id bigint,
+    id bigint not null,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table roles_employees (
+    employee_id bigint not null,
+    role_id bigint not null
+);
+
+create table service (
+    internal boolean,
+    level integer,
+    id bigint not null,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table service_revenue (
+    revenue_id bigint not null,
+    service_id bigint not null
+);
+
+create table system (
+    internal boolean,
+    level integer,
+    id bigint not null,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table systems_applications (
+    application_id bigint not null,
+    system_id bigint not null
+);
+
+create table systems_costs (
+    cost_id bigint not null,
+    system_id bigint not null
+);
+
+create table systems_locations (
+    location_id bigint not null,
+    system_id bigint not null
+);
+
+create table threat (
+    internal boolean,
+    level integer,
+    id bigint not null,
+    description varchar(255),
+    name varchar(255),
+    soort varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create index idx_source_process
+   on information_flow (source_process_id);
+
+create index idx_target_process
+   on information_flow (target_process_id);
+
+create index idx_source_organization
+   on information_flow (source_organization_id);
+
+create index idx_target_organization
+   on information_flow (target_organization_id);
+
+create index idx_process_closure_descendant
+   on process_closure (descendant_id, ancestor_id);
+
+alter table if exists applications_costs
+   add constraint FKiwvbq1pthqmqx282wf27wopph
+   foreign key (cost_id)
+   references cost;
+
+alter table if exists applications_costs
+   add constraint FKasx0ptv4ot8yrcy22gb1yhn45
+   foreign key (application_id)
+   references application;
+
+alter table if exists applications_locations
+   add constraint FKj4nqmfkuop9948gm7wn1n7lxf
+   foreign key (location_id)
+   references location;
+
+alter table if exists applications_locations
+   add constraint FK7vt5epusmfvskecplrj3cgmoq
+   foreign key (application_id)
+   references application;
+
+alter table if exists asset
+   add constraint FKcbkvdgfu1eoy1q41gf4w6b412
+   foreign key (facility_id)
+   references facility;
+
+alter table if exists asset
+   add constraint FKoo11h2f4j12wv0axk6d8u1wy0
+   foreign key (location_id)
+   references location;
+
+alter table if exists assets_applications
+   add constraint FKe198x9iv52be7haiaui4ikkkg
+   foreign key (application_id)
+   references application;
+
+alter table if exists assets_applications
+   add constraint FK462trwdmfoce1uy27r4vw9f5m
+   foreign key (asset_id)
+   references asset;
+
+alter table if exists assets_costs
+   add constraint FKj6159vpilkrlc1qiba9vut3cv
+   foreign key (cost_id)
+   references cost;
+
+alter table if exists assets_costs
+   add constraint FK3pxdfi15mfnp218id6mvxrdvu
+   foreign key (asset_id)
+   references asset;
+
+alter table if exists assets_systems
+   add constraint FKoie4m94v8t4exl9o2fo90fe44
+   foreign key (system_id)
+   references system;
+
+alter table if exists assets_systems
+   add constraint FKfssmqsctrbqor9k7a2smifp3r
+   foreign key (asset_id)
+   references asset;
+
+alter table if exists audit_risk
+   add constraint FKscd7dbf0khux3wklu8m9d5wo
+   foreign key (risk_id)
+   references risk;
+
+alter table if exists audit_risk
+   add constraint FK5xj7t87fl13cup798mdd6vgld
+   foreign key (audit_id)
+   references audit;
+
+alter table if exists data_attribute
+   add constraint FKdraw3b7qf39450frar1v1j95b
+   foreign key (data_store_id)
+   references data_store;
+
+alter table if exists data_attribute
+   add constraint FKqa15bhm7qv3w6fwkqt8lquwoo
+   foreign key (informationflow_id)
+   references information_flow;
+
+alter table if exists department
+   add constraint FKgt2jmae86v2aik1nklhdc2dnx
+   foreign key (organization_id)
+   references organization;
+
+alter table if exists departments_consultations
+   add constraint FKgu2q4qmorucvcihiphs86ftgh
+   foreign key (consultation_id)
+   references consultation;
+
+alter table if exists departments_consultations
+   add constraint FKh88qf5q4p87ud99g9bo511k7s
+   foreign key (department_id)
+   references department;
+
+alter table if exists departments_costs
+   add constraint FKbur75doj9uwddgqmnc1c3ll1a
+   foreign key (cost_id)
+   references cost;
+
+alter table if exists departments_costs
+   add constraint FKd3u9mubc6gu91id77p5vvv4wk
+   foreign key (department_id)
+   references department;
+
+alter table if exists departments_functions
+   add constraint FK6htjgqrfwd2s1ivsu6hwvc6fn
+   foreign key (function_id)
+   references function;
+
+alter table if exists departments_functions
+   add constraint FKq9erkrbbx4vws8vcaqluy7khq
+   foreign key (department_id)
+   references department;
+
+alter table if exists departments_roles
+   add constraint FK1fyxdbjh7r9wteh3cvnb0obv0
+   foreign key (role_id)
+   references role;
+
+alter table if exists departments_roles
+   add constraint FKqdktixkybcktqechq17r8pcdw
+   foreign key (department_id)
+   references department;
+
+alter table if exists employee
+   add constraint FKbejtwvg9bxus2mffsm3swj3u9
+   foreign key (department_id)
+   references department;
+
+alter table if exists employee
+   add constraint FKknfiwu4u6dcydpjlpwa1f1767
+   foreign key (function_id)
+   references function;
+
+alter table if exists employee
+   add constraint FK2rna2w2imtuuk9f2et8yllawk
+   foreign key (organization_id)
+   references organization;
+
+alter table if exists employees_costs
+   add constraint FKqkbi80tajr2b6igvfwuwmmkmv
+   foreign key (cost_id)
+   references cost;
+
+alter table if exists employees_costs
+   add constraint FKsi5kqwy5imvrnhwkt4wu223y2
+   foreign key (employee_id)
+   references employee;
+
+alter table if exists facilities_applications
+   add constraint FKk0mmbwo2v3f5ibohi1s6hqrnl
+   foreign key (application_id)
+   references application;
+
+alter table if exists facilities_applications
+   add constraint FKaupm5g45r0r2e8x54d4dhquh0
+   foreign key (facility_id)
+   references facility;
+
+alter table if exists facilities_costs
+   add constraint FK6lh91pr871xy19lchq1o88ohu
+   foreign key (cost_id)
+   references cost;
+
+alter table if exists facilities_costs
+   add constraint FKbw7pj2bj1xuo0myb01m8da7xj
+   foreign key (facility_id)
+   references facility;
+
+alter table if exists facilities_systems
+   add constraint FKo5ymy2nscq8s80xgonba4o8w6
+   foreign key (system_id)
+   references system;
+
+alter table if exists facilities_systems
+   add constraint FK3b39v2oiyiego1uxpe6hodim0
+   foreign key (facility_id)
+   references facility;
+
+alter table if exists facility
+   add constraint FKhbnsr6du6x8l5gd7b1my90tba
+   foreign key (location_id)
+   references location;
+
+alter table if exists goal_kpi
+   add constraint FK7n7rvail2vx3e3y9dvei6s8be
+   foreign key (kpi_id)
+   references kpi;
+
+alter table if exists goal_kpi
+   add constraint FKboiegv07vri2otd8kilnvd7kn
+   foreign key (goal_id)
+   references goal;
+
+alter table if exists goal_product
+   add constraint FKky8yvdnx5gcdrunaqj3mb98fa
+   foreign key (product_id)
+   references product;
+
+alter table if exists goal_product
+   add constraint FKgk8pf5xrfq0cdenfq1237vnre
+   foreign key (goal_id)
+   references goal;
+
+alter table if exists goal_program
+   add constraint FKp03tgoeca3o2nt08xot94cyoa
+   foreign key (program_id)
+   references program;
+
+alter table if exists goal_program
+   add constraint FK5nm5t1hw5mf37d7gx3mxcrgys
+   foreign key (goal_id)
+   references goal;
+
+alter table if exists goal_project
+   add constraint FKeo0h9hxr2xvvhuklpeey1ma27
+   foreign key (project_id)
+   references project;
+
+alter table if exists goal_project
+   add constraint FKmg8di3oo0kqg8ej914si7ebpr
+   foreign key (goal_id)
+   references goal;
+
+alter table if exists goal_service
+   add constraint FKjj2g24o4r38gbpe5huvhl9h4n
+   foreign key (service_id)
+   references service;
+
+alter table if exists goal_service
+   add constraint FK66o74k0y3t7qi4bruj8nqjqh1
+   foreign key (goal_id)
+   references goal;
+
+alter table if exists information_flow
+   add constraint FK9cmautvxd2jp0vx4ck0my9k0
+   foreign key (source_process_id)
+   references process;
+
+alter table if exists information_flow
+   add constraint FK63ws34n1f0k3a6vkvn92ypqe0
+   foreign key (target_process_id)
+   references process;
+
+alter table if exists information_flow
+   add constraint FKhopykg6hjol18euu4b45ko0n4
+   foreign key (target_organization_id)
+   references organization;
+
+alter table if exists information_flow
+   add constraint FKll221ye6p0bkldh7kspay14ae
+   foreign key (source_organization_id)
+   references organization;
+
+alter table if exists legislation_audit
+   add constraint FKjg4qb5qv5p7sdnhptyvuo3xx2
+   foreign key (audit_id)
+   references audit;
+
+alter table if exists legislation_audit
+   add constraint FKhm33mo0mtvtwpqepy01ee30cv
+   foreign key (legislation_id)
+   references legislation;
+
+alter table if exists legislation_document
+   add constraint FKi2utgfwpm6kc8a25qd5l6a8wl
+   foreign key (document_id)
+   references document;
+
+alter table if exists legislation_document
+   add constraint FKbq91m07hpbx4rynd1wjetdnjn
+   foreign key (legislation_id)
+   references legislation;
+
+alter table if exists mitigation_measure_risk
+   add constraint FK7y2bmv0xyoki0cveusq7r24ki
+   foreign key (risk_id)
+   references risk;
+
+alter table if exists mitigation_measure_risk
+   add constraint FK6qh2vamvj46eo1u2dlgphj71y
+   foreign key (mitigation_measure_id)
+   references mitigation_measure;
+
+alter table if exists organizations_functions
+   add constraint FKp2d1mvorlepuim3j4y0ch3jxr
+   foreign key (function_id)
+   references function;
+
+alter table if exists organizations_functions
+   add constraint FKrpktv3givqexaau9lib28ic6b
+   foreign key (organization_id)
+   references organization;
+
+alter table if exists organizations_roles
+   add constraint FKovbk83ysmom5gulcxx8gvute7
+   foreign key (role_id)
+   references role;
+
+alter table if exists organizations_roles
+   add constraint FKm60asr24n206q7j209mcbt62d
+   foreign key (organization_id)
+   references organization;
+
+alter table if exists problem_improvement
+   add constraint FK81uubh6btx57nx3s0egqvfpvt
+   foreign key (improvement_id)
+   references improvement;
+
+alter table if exists problem_improvement
+   add constraint FK7nulc9ffkdgc2oo7r5tqu0ltk
+   foreign key (problem_id)
+   references problem;
+
+alter table if exists process
+   add constraint FK929fxdhheqoe842clhi6webrg
+   foreign key (parent_process_id)
+   references process;
+
+alter table if exists process_application
+   add constraint FK169tql3mhcl5phdsl0mjav83b
+   foreign key (application_id)
+   references application;
+
+alter table if exists process_application
+   add constraint FK5fg01gov2evvqxo8qsdm59u7p
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_asset
+   add constraint FKgwx431jr3hn0m7dwnv024jbqn
+   foreign key (asset_id)
+   references asset;
+
+alter table if exists process_asset
+   add constraint FKd7tyd9sn6o2ilxg6cg6dyon7t
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_audit
+   add constraint FK23cf8ca8iq28q07d92w0ubcjc
+   foreign key (audit_id)
+   references audit;
+
+alter table if exists process_audit
+   add constraint FKdnui7a25rnhs7ptf4lx58b57h
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_consultation
+   add constraint FKjafqplb5fkeywlgvjbtqojnpw
+   foreign key (consultation_id)
+   references consultation;
+
+alter table if exists process_consultation
+   add constraint FK99qwdevp2reo89c4jsr7qv0a1
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_cost
+   add constraint FKnxkh2aak6b3rcfpvxw7vf4lc8
+   foreign key (cost_id)
+   references cost;
+
+alter table if exists process_cost
+   add constraint FKdb94sy5bwllmrxvouogl9d6yq
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_datastore
+   add constraint FK2vtgnmur7ksp4va4ogxqt1h4d
+   foreign key (datastore_id)
+   references data_store;
+
+alter table if exists process_datastore
+   add constraint FK49494yy7qknxqc4a6iqexnbjg
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_department
+   add constraint FKdh71gjprirlbm2u6psxw6mrp0
+   foreign key (department_id)
+   references department;
+
+alter table if exists process_department
+   add constraint FKeg8ul2bjwskeyeqbjwb2efbm4
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_document
+   add constraint FKinux2wmh2omaf7r30nn1hsjhm
+   foreign key (document_id)
+   references document;
+
+alter table if exists process_document
+   add constraint FKaofumxfkl65opdscl8ugtqdoi
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_employee
+   add constraint FKiseanma7l9iy8b5fw44cvdy4y
+   foreign key (employee_id)
+   references employee;
+
+alter table if exists process_employee
+   add constraint FKmi72i2r8h844q8d9sia9vug39
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_facility
+   add constraint FKbt5ynyyn4wed50aytc3q4gl07
+   foreign key (facility_id)
+   references facility;
+
+alter table if exists process_facility
+   add constraint FKb59nw55oewfha7dwqgvynbl9c
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_function
+   add constraint FKlwit0rpl45wnc2ebfaekurwt6
+   foreign key (function_id)
+   references function;
+
+alter table if exists process_function
+   add constraint FKodbed648m5w3wkt9u20s4efq9
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_goal
+   add constraint FKek9qbn6odg8qa30ri2fnw6t2v
+   foreign key (goal_id)
+   references goal;
+
+alter table if exists process_goal
+   add constraint FKs6mw4nb3jofgy3p0eihr2jmv6
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_improvement
+   add constraint FKit4m5cr9nrdrj8jcju03eisgg
+   foreign key (improvement_id)
+   references improvement;
+
+alter table if exists process_improvement
+   add constraint FK5teyftooqealc8cc6wut1q3aq
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_kpi
+   add constraint FK29k3sky1390yio3uxqvjlgu8h
+   foreign key (kpi_id)
+   references kpi;
+
+alter table if exists process_kpi
+   add constraint FKb7dqnrnhcn6sgph1c4ni98tkt
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_legislation
+   add constraint FKk7jat353xyxfvap5xw9y2a90f
+   foreign key (legislation_id)
+   references legislation;
+
+alter table if exists process_legislation
+   add constraint FKjyjtl4kgvxegn1nf5s0juub5
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_location
+   add constraint FK6rjynlt8ifon5xxm8f184ba2n
+   foreign key (location_id)
+   references location;
+
+alter table if exists process_location
+   add constraint FK6omgtnnxqmhibviykh277nixk
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_mitigation_measure
+   add constraint FK3a8mxv75vxy27ye1qsb9s5sbd
+   foreign key (mitigation_measure_id)
+   references mitigation_measure;
+
+alter table if exists process_mitigation_measure
+   add constraint FKjpcwjjr6rbqfrvvm4qbn9nui6
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_organization
+   add constraint FKiu28381bioc6yru8v8s7ty34u
+   foreign key (organization_id)
+   references organization;
+
+alter table if exists process_organization
+   add constraint FKs2o45voswfyc4jwvdak9r451v
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_problem
+   add constraint FKqn5shmem58ktp7f4lc902rnow
+   foreign key (problem_id)
+   references problem;
+
+alter table if exists process_problem
+   add constraint FK95thtmtnb37xc8va2n6n4ctrc
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_product
+   add constraint FKo85q8e3uo1fxuvv4jqtr6djga
+   foreign key (product_id)
+   references product;
+
+alter table if exists process_product
+   add constraint FKevt0cyq4hoxpmlefmni2k4m3k
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_program
+   add constraint FKa0fe0xre8wqgbectmkdrcqj3n
+   foreign key (program_id)
+   references program;
+
+alter table if exists process_program
+   add constraint FK2kd9gcb9m5vi2id6gwadsftgw
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_project
+   add constraint FKhs8tj72op98ny4ywqlvfiptnn
+   foreign key (project_id)
+   references project;
+
+alter table if exists process_project
+   add constraint FKh490hwgvj3uc8g8qvhd8v1jb2
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_revenue
+   add constraint FK1epg1vs5l07t3xhpp7t1mdw5g
+   foreign key (revenue_id)
+   references revenue;
+
+alter table if exists process_revenue
+   add constraint FKmwoi4oqtvii8p20o6r02y785r
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_risk
+   add constraint FKhahv9jgi5w40gfllabyh5lked
+   foreign key (risk_id)
+   references risk;
+
+alter table if exists process_risk
+   add constraint FK8xij39oxuyi54jw4a6mypoor4
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_role
+   add constraint FKb888cufx3bmf1nktmehdw1r3b
+   foreign key (role_id)
+   references role;
+
+alter table if exists process_role
+   add constraint FK13qv1swwhlf3d23mxehsix4l8
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_service
+   add constraint FK90vxbui7rffby63pgds42qsp2
+   foreign key (service_id)
+   references service;
+
+alter table if exists process_service
+   add constraint FKbuon1rltpdqro3geyvhagi7bu
+   foreign key (process_id)
+   references process;
+
+alter table if exists process_system
+   add constraint FK657pn1vtquu3acf8gsqxl5vyi
+   foreign key (system_id)
+   references system;
+
+alter table if exists process_system
+   add constraint FKo0tearsfo5jyg0x49bi50a2b5
+   foreign key (process_id)
+   references process;
+
+alter table if exists product_revenue
+   add constraint FKdw0qql0x9go5re92lwwla1o18
+   foreign key (revenue_id)
+   references revenue;
+
+alter table if exists product_revenue
+   add constraint FKjqkkablsi4eqyjlv9siv89sct
+   foreign key (product_id)
+   references product;
+
+alter table if exists product_service
+   add constraint FKaj2plt9hqdy648x4rrtawcuad
+   foreign key (service_id)
+   references service;
+
+alter table if exists product_service
+   add constraint FKb34h6ahu6i2b9vcibytjpif6j
+   foreign key (product_id)
+   references product;
+
+alter table if exists program_audit
+   add constraint FKmk1qkcb9latron0uhpjrc1kj7
+   foreign key (audit_id)
+   references audit;
+
+alter table if exists program_audit
+   add constraint FKjgtpe9qcdrd8d051e3ixi326s
+   foreign key (program_id)
+   references program;
+
+alter table if exists program_cost
+   add constraint FK5kfrgr25ch80uhensmgvh87i1
+   foreign key (cost_id)
+   references cost;
+
+alter table if exists program_cost
+   add constraint FKkb16upxsocrkpsv1v6ymoesxn
+   foreign key (program_id)
+   references program;
+
+alter table if exists program_kpi
+   add constraint FK9iyt3nty9froulyfpta0vqah8
+   foreign key (kpi_id)
+   references kpi;
+
+alter table if exists program_kpi
+   add constraint FKcn7iowajn5l3830lgwc7jgc1h
+   foreign key (program_id)
+   references program;
+
+alter table if exists program_risk
+   add constraint FKdet4qem47lp0d67ortryu3dhw
+   foreign key (risk_id)
+   references risk;
+
+alter table if exists program_risk
+   add constraint FK83iv1s1m6wxuj7w9q466wqix3
+   foreign key (program_id)
+   references program;
+
+alter table if exists project
+   add constraint FK1w7rn54wbthb7t2f2svn77fvj
+   foreign key (program_id)
+   references program;
+
+alter table if exists project_audit
+   add constraint FK8xrd5yv4mtxrfqfbs1dmlpmsr
+   foreign key (audit_id)
+   references audit;
+
+alter table if exists project_audit
+   add constraint FKcstmfr53f775edn93ye2loll7
+   foreign key (project_id)
+   references project;
+
+alter table if exists project_cost
+   add constraint FKruc1i8xvl7wminr30vp7j3r5t
+   foreign key (cost_id)
+   references cost;
+
+alter table if exists project_cost
+   add constraint FKn9ihbia8qx9ya9sjswvx1b59h
+   foreign key (project_id)
+   references project;
+
+alter table if exists project_kpi
+   add constraint FK6rrl9pmssdbxrm0hu9pat3pbv
+   foreign key (kpi_id)
+   references kpi;
+
+alter table if exists project_kpi
+   add constraint FKirql5n87e0kw5d435i5oqehtu
+   foreign key (project_id)
+   references project;
+
+alter table if exists project_risk
+   add constraint FK5r9o5b9ht26shl8e2twf5li59
+   foreign key (risk_id)
+   references risk;
+
+alter table if exists project_risk
+   add constraint FKou33f7vmmah42lubid0l11prm
+   foreign key (project_id)
+   references project;
+
+alter table if exists risk_chance
+   add constraint FKjwc6j5rjtag8k6stwc5jaspc9
+   foreign key (chance_id)
+   references chance;
+
+alter table if exists risk_chance
+   add constraint FKhlastcdlpea2isykm1sbr426m
+   foreign key (risk_id)
+   references risk;
+
+alter table if exists risk_threat
+   add constraint FKfnbqfcdir7r11nem8npl0y3w0
+   foreign key (threat_id)
+   references threat;
+
+alter table if exists risk_threat
+   add constraint FK6aav3h6f53k4kp62s3hf4qydv
+   foreign key (risk_id)
+   references risk;
+
+alter table if exists role
+   add constraint FKqcd4v1kt1hnfsrpoly9c68g4w
+   foreign key (function_id)
+   references function;
+
+alter table if exists roles_employees
+   add constraint FKf959gaq1p4ki7mxr4r963mwu2
+   foreign key (employee_id)
+   references employee;
+
+alter table if exists roles_employees
+   add constraint FKcit0s7ce8rgfwjdws3efqmni
+   foreign key (role_id)
+   references role;
+
+alter table if exists service_revenue
+   add constraint FKlqv2i1cqlghc9num9uu7lgv0x
+   foreign key (revenue_id)
+   references revenue;
+
+alter table if exists service_revenue
+   add constraint FK172kx9olu0ay94koeijvmsm8u
+   foreign key (service_id)
+   references service;
+
+alter table if exists systems_applications
+   add constraint FKgjjv0tu7i66jgonfi9yvey4nk
+   foreign key (application_id)
+   references application;
+
+alter table if exists systems_applications
+   add constraint FKldxq3wg3sxwjptrydhyr622e6
+   foreign key (system_id)
+   references system;
+
+alter table if exists systems_costs
+   add constraint FKow8ld3sg7t2bypixjm0hx54uu
+   foreign key (cost_id)
+   references cost;
+
+alter table if exists systems_costs
+   add constraint FKebf29k2avmkm72cfj9m7jou1h
+   foreign key (system_id)
+   references system;
+
+alter table if exists systems_locations
+   add constraint FKo9q9k2e54tmt4c7prd62n4mba
+   foreign key (location_id)
+   references location;
+
+alter table if exists systems_locations
+   add constraint FKrslot5pda7cdr7nwl03gqx973
+   foreign key (system_id)
+   references system;
@@ -0,0 +1,13 @@
+-- The process closure table, as in version 1, for databases that were created by ddl-auto=update before
+-- the table existed. Those are baselined at version 1 and never ran its create table, while the closure
+-- triggers and the queries of the process tree need it. It is filled from the existing processes together
+-- with the triggers that maintain it.
+
+CREATE TABLE IF NOT EXISTS process_closure (
+    depth integer not null,
+    ancestor_id bigint not null,
+    descendant_id bigint not null,
+    primary key (ancestor_id, descendant_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_process_closure_descendant ON process_closure (descendant_id, ancestor_id);
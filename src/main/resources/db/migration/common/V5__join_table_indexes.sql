@@ -0,0 +1,87 @@
+-- Every process join table is read in both directions: the layers of a process by process_id, and the
+-- processes of an entity by the entity id when it is deleted or its cache entry is invalidated.
+-- Each direction gets a composite index that starts with its column and covers the other one.
+
+CREATE INDEX IF NOT EXISTS idx_process_application_process ON process_application (process_id, application_id);
+CREATE INDEX IF NOT EXISTS idx_process_application_entity ON process_application (application_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_asset_process ON process_asset (process_id, asset_id);
+CREATE INDEX IF NOT EXISTS idx_process_asset_entity ON process_asset (asset_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_audit_process ON process_audit (process_id, audit_id);
+CREATE INDEX IF NOT EXISTS idx_process_audit_entity ON process_audit (audit_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_consultation_process ON process_consultation (process_id, consultation_id);
+CREATE INDEX IF NOT EXISTS idx_process_consultation_entity ON process_consultation (consultation_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_cost_process ON process_cost (process_id, cost_id);
+CREATE INDEX IF NOT EXISTS idx_process_cost_entity ON process_cost (cost_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_datastore_process ON process_datastore (process_id, datastore_id);
+CREATE INDEX IF NOT EXISTS idx_process_datastore_entity ON process_datastore (datastore_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_department_process ON process_department (process_id, department_id);
+CREATE INDEX IF NOT EXISTS idx_process_department_entity ON process_department (department_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_document_process ON process_document (process_id, document_id);
+CREATE INDEX IF NOT EXISTS idx_process_document_entity ON process_document (document_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_employee_process ON process_employee (process_id, employee_id);
+CREATE INDEX IF NOT EXISTS idx_process_employee_entity ON process_employee (employee_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_facility_process ON process_facility (process_id, facility_id);
+CREATE INDEX IF NOT EXISTS idx_process_facility_entity ON process_facility (facility_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_function_process ON process_function (process_id, function_id);
+CREATE INDEX IF NOT EXISTS idx_process_function_entity ON process_function (function_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_goal_process ON process_goal (process_id, goal_id);
+CREATE INDEX IF NOT EXISTS idx_process_goal_entity ON process_goal (goal_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_improvement_process ON process_improvement (process_id, improvement_id);
+CREATE INDEX IF NOT EXISTS idx_process_improvement_entity ON process_improvement (improvement_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_kpi_process ON process_kpi (process_id, kpi_id);
+CREATE INDEX IF NOT EXISTS idx_process_kpi_entity ON process_kpi (kpi_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_legislation_process ON process_legislation (process_id, legislation_id);
+CREATE INDEX IF NOT EXISTS idx_process_legislation_entity ON process_legislation (legislation_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_location_process ON process_location (process_id, location_id);
+CREATE INDEX IF NOT EXISTS idx_process_location_entity ON process_location (location_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_mitigation_measure_process ON process_mitigation_measure (process_id, mitigation_measure_id);
+CREATE INDEX IF NOT EXISTS idx_process_mitigation_measure_entity ON process_mitigation_measure (mitigation_measure_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_organization_process ON process_organization (process_id, organization_id);
+CREATE INDEX IF NOT EXISTS idx_process_organization_entity ON process_organization (organization_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_problem_process ON process_problem (process_id, problem_id);
+CREATE INDEX IF NOT EXISTS idx_process_problem_entity ON process_problem (problem_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_product_process ON process_product (process_id, product_id);
+CREATE INDEX IF NOT EXISTS idx_process_product_entity ON process_product (product_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_program_process ON process_program (process_id, program_id);
+CREATE INDEX IF NOT EXISTS idx_process_program_entity ON process_program (program_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_project_process ON process_project (process_id, project_id);
+CREATE INDEX IF NOT EXISTS idx_process_project_entity ON process_project (project_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_revenue_process ON process_revenue (process_id, revenue_id);
+CREATE INDEX IF NOT EXISTS idx_process_revenue_entity ON process_revenue (revenue_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_risk_process ON process_risk (process_id, risk_id);
+CREATE INDEX IF NOT EXISTS idx_process_risk_entity ON process_risk (risk_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_role_process ON process_role (process_id, role_id);
+CREATE INDEX IF NOT EXISTS idx_process_role_entity ON process_role (role_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_service_process ON process_service (process_id, service_id);
+CREATE INDEX IF NOT EXISTS idx_process_service_entity ON process_service (service_id, process_id);
+
+CREATE INDEX IF NOT EXISTS idx_process_system_process ON process_system (process_id, system_id);
+CREATE INDEX IF NOT EXISTS idx_process_system_entity ON process_system (system_id, process_id);
+
+-- The subprocesses of a process
+CREATE INDEX IF NOT EXISTS idx_process_parent ON process (parent_process_id);
@@ -0,0 +1,129 @@
+-- The join tables between the layer entities, such as risk_threat and organizations_roles, are read from
+-- both sides like the process join tables, so each direction gets a composite index that starts with its
+-- column and covers the other one.
+
+CREATE INDEX IF NOT EXISTS idx_applications_costs_application ON applications_costs (application_id, cost_id);
+CREATE INDEX IF NOT EXISTS idx_applications_costs_cost ON applications_costs (cost_id, application_id);
+
+CREATE INDEX IF NOT EXISTS idx_applications_locations_application ON applications_locations (application_id, location_id);
+CREATE INDEX IF NOT EXISTS idx_applications_locations_location ON applications_locations (location_id, application_id);
+
+CREATE INDEX IF NOT EXISTS idx_assets_applications_application ON assets_applications (application_id, asset_id);
+CREATE INDEX IF NOT EXISTS idx_assets_applications_asset ON assets_applications (asset_id, application_id);
+
+CREATE INDEX IF NOT EXISTS idx_assets_costs_asset ON assets_costs (asset_id, cost_id);
+CREATE INDEX IF NOT EXISTS idx_assets_costs_cost ON assets_costs (cost_id, asset_id);
+
+CREATE INDEX IF NOT EXISTS idx_assets_systems_asset ON assets_systems (asset_id, system_id);
+CREATE INDEX IF NOT EXISTS idx_assets_systems_system ON assets_systems (system_id, asset_id);
+
+CREATE INDEX IF NOT EXISTS idx_audit_risk_audit ON audit_risk (audit_id, risk_id);
+CREATE INDEX IF NOT EXISTS idx_audit_risk_risk ON audit_risk (risk_id, audit_id);
+
+CREATE INDEX IF NOT EXISTS idx_departments_consultations_consultation ON departments_consultations (consultation_id, department_id);
+CREATE INDEX IF NOT EXISTS idx_departments_consultations_department ON departments_consultations (department_id, consultation_id);
+
+CREATE INDEX IF NOT EXISTS idx_departments_costs_cost ON departments_costs (cost_id, department_id);
+CREATE INDEX IF NOT EXISTS idx_departments_costs_department ON departments_costs (department_id, cost_id);
+
+CREATE INDEX IF NOT EXISTS idx_departments_functions_department ON departments_functions (department_id, function_id);
+CREATE INDEX IF NOT EXISTS idx_departments_functions_function ON departments_functions (function_id, department_id);
+
+CREATE INDEX IF NOT EXISTS idx_departments_roles_department ON departments_roles (department_id, role_id);
+CREATE INDEX IF NOT EXISTS idx_departments_roles_role ON departments_roles (role_id, department_id);
+
+CREATE INDEX IF NOT EXISTS idx_employees_costs_cost ON employees_costs (cost_id, employee_id);
+CREATE INDEX IF NOT EXISTS idx_employees_costs_employee ON employees_costs (employee_id, cost_id);
+
+CREATE INDEX IF NOT EXISTS idx_facilities_applications_application ON facilities_applications (application_id, facility_id);
+CREATE INDEX IF NOT EXISTS idx_facilities_applications_facility ON facilities_applications (facility_id, application_id);
+
+CREATE INDEX IF NOT EXISTS idx_facilities_costs_cost ON facilities_costs (cost_id, facility_id);
+CREATE INDEX IF NOT EXISTS idx_facilities_costs_facility ON facilities_costs (facility_id, cost_id);
+
+CREATE INDEX IF NOT EXISTS idx_facilities_systems_facility ON facilities_systems (facility_id, system_id);
+CREATE INDEX IF NOT EXISTS idx_facilities_systems_system ON facilities_systems (system_id, facility_id);
+
+CREATE INDEX IF NOT EXISTS idx_goal_kpi_goal ON goal_kpi (goal_id, kpi_id);
+CREATE INDEX IF NOT EXISTS idx_goal_kpi_kpi ON goal_kpi (kpi_id, goal_id);
+
+CREATE INDEX IF NOT EXISTS idx_goal_product_goal ON goal_product (goal_id, product_id);
+CREATE INDEX IF NOT EXISTS idx_goal_product_product ON goal_product (product_id, goal_id);
+
+CREATE INDEX IF NOT EXISTS idx_goal_program_goal ON goal_program (goal_id, program_id);
+CREATE INDEX IF NOT EXISTS idx_goal_program_program ON goal_program (program_id, goal_id);
+
+CREATE INDEX IF NOT EXISTS idx_goal_project_goal ON goal_project (goal_id, project_id);
+CREATE INDEX IF NOT EXISTS idx_goal_project_project ON goal_project (project_id, goal_id);
+
+CREATE INDEX IF NOT EXISTS idx_goal_service_goal ON goal_service (goal_id, service_id);
+CREATE INDEX IF NOT EXISTS idx_goal_service_service ON goal_service (service_id, goal_id);
+
+CREATE INDEX IF NOT EXISTS idx_legislation_audit_audit ON legislation_audit (audit_id, legislation_id);
+CREATE INDEX IF NOT EXISTS idx_legislation_audit_legislation ON legislation_audit (legislation_id, audit_id);
+
+CREATE INDEX IF NOT EXISTS idx_legislation_document_document ON legislation_document (document_id, legislation_id);
+CREATE INDEX IF NOT EXISTS idx_legislation_document_legislation ON legislation_document (legislation_id, document_id);
+
+CREATE INDEX IF NOT EXISTS idx_mitigation_measure_risk_mitigation_measure ON mitigation_measure_risk (mitigation_measure_id, risk_id);
+CREATE INDEX IF NOT EXISTS idx_mitigation_measure_risk_risk ON mitigation_measure_risk (risk_id, mitigation_measure_id);
+
+CREATE INDEX IF NOT EXISTS idx_organizations_functions_function ON organizations_functions (function_id, organization_id);
+CREATE INDEX IF NOT EXISTS idx_organizations_functions_organization ON organizations_functions (organization_id, function_id);
+
+CREATE INDEX IF NOT EXISTS idx_organizations_roles_organization ON organizations_roles (organization_id, role_id);
+CREATE INDEX IF NOT EXISTS idx_organizations_roles_role ON organizations_roles (role_id, organization_id);
+
+CREATE INDEX IF NOT EXISTS idx_problem_improvement_improvement ON problem_improvement (improvement_id, problem_id);
+CREATE INDEX IF NOT EXISTS idx_problem_improvement_problem ON problem_improvement (problem_id, improvement_id);
+
+CREATE INDEX IF NOT EXISTS idx_product_revenue_product ON product_revenue (product_id, revenue_id);
+CREATE INDEX IF NOT EXISTS idx_product_revenue_revenue ON product_revenue (revenue_id, product_id);
+
+CREATE INDEX IF NOT EXISTS idx_product_service_product ON product_service (product_id, service_id);
+CREATE INDEX IF NOT EXISTS idx_product_service_service ON product_service (service_id, product_id);
+
+CREATE INDEX IF NOT EXISTS idx_program_audit_audit ON program_audit (audit_id, program_id);
+CREATE INDEX IF NOT EXISTS idx_program_audit_program ON program_audit (program_id, audit_id);
+
+CREATE INDEX IF NOT EXISTS idx_program_cost_cost ON program_cost (cost_id, program_id);
+CREATE INDEX IF NOT EXISTS idx_program_cost_program ON program_cost (program_id, cost_id);
+
+CREATE INDEX IF NOT EXISTS idx_program_kpi_kpi ON program_kpi (kpi_id, program_id);
+CREATE INDEX IF NOT EXISTS idx_program_kpi_program ON program_kpi (program_id, kpi_id);
+
+CREATE INDEX IF NOT EXISTS idx_program_risk_program ON program_risk (program_id, risk_id);
+CREATE INDEX IF NOT EXISTS idx_program_risk_risk ON program_risk (risk_id, program_id);
+
+CREATE INDEX IF NOT EXISTS idx_project_audit_audit ON project_audit (audit_id, project_id);
+CREATE INDEX IF NOT EXISTS idx_project_audit_project ON project_audit (project_id, audit_id);
+
+CREATE INDEX IF NOT EXISTS idx_project_cost_cost ON project_cost (cost_id, project_id);
+CREATE INDEX IF NOT EXISTS idx_project_cost_project ON project_cost (project_id, cost_id);
+
+CREATE INDEX IF NOT EXISTS idx_project_kpi_kpi ON project_kpi (kpi_id, project_id);
+CREATE INDEX IF NOT EXISTS idx_project_kpi_project ON project_kpi (project_id, kpi_id);
+
+CREATE INDEX IF NOT EXISTS idx_project_risk_project ON project_risk (project_id, risk_id);
+CREATE INDEX IF NOT EXISTS idx_project_risk_risk ON project_risk (risk_id, project_id);
+
+CREATE INDEX IF NOT EXISTS idx_risk_chance_chance ON risk_chance (chance_id, risk_id);
+CREATE INDEX IF NOT EXISTS idx_risk_chance_risk ON risk_chance (risk_id, chance_id);
+
+CREATE INDEX IF NOT EXISTS idx_risk_threat_risk ON risk_threat (risk_id, threat_id);
+CREATE INDEX IF NOT EXISTS idx_risk_threat_threat ON risk_threat (threat_id, risk_id);
+
+CREATE INDEX IF NOT EXISTS idx_roles_employees_employee ON roles_employees (employee_id, role_id);
+CREATE INDEX IF NOT EXISTS idx_roles_employees_role ON roles_employees (role_id, employee_id);
+
+CREATE INDEX IF NOT EXISTS idx_service_revenue_revenue ON service_revenue (revenue_id, service_id);
+CREATE INDEX IF NOT EXISTS idx_service_revenue_service ON service_revenue (service_id, revenue_id);
+
+CREATE INDEX IF NOT EXISTS idx_systems_applications_application ON systems_applications (application_id, system_id);
+CREATE INDEX IF NOT EXISTS idx_systems_applications_system ON systems_applications (system_id, application_id);
+
+CREATE INDEX IF NOT EXISTS idx_systems_costs_cost ON systems_costs (cost_id, system_id);
+CREATE INDEX IF NOT EXISTS idx_systems_costs_system ON systems_costs (system_id, cost_id);
+
+CREATE INDEX IF NOT EXISTS idx_systems_locations_location ON systems_locations (location_id, system_id);
+CREATE INDEX IF NOT EXISTS idx_systems_locations_system ON systems_locations (system_id, location_id);
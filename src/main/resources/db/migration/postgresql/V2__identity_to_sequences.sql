@@ -0,0 +1,23 @@
+-- Databases created by ddl-auto=update before the entities took their ids from sequences still have
+-- identity id columns. For every such table the sequence is created if it is missing and restarted after
+-- the highest id, the identity is dropped, and the column defaults to the sequence so that rows inserted
+-- with plain SQL still get an id. Every sequence value hands out a block of 50 ids, see IdSequences.
+DO $$
+DECLARE
+    t RECORD;
+    max_id BIGINT;
+BEGIN
+    FOR t IN
+        SELECT c.table_name FROM information_schema.columns c
+        WHERE c.table_schema = current_schema() AND c.column_name = 'id' AND c.is_identity = 'YES'
+    LOOP
+        EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I START WITH 1 INCREMENT BY 50', t.table_name || '_seq');
+        EXECUTE format('SELECT MAX(id) FROM %I', t.table_name) INTO max_id;
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY', t.table_name);
+        IF max_id IS NOT NULL THEN
+            EXECUTE format('ALTER SEQUENCE %I RESTART WITH %s', t.table_name || '_seq', max_id + 50);
+        END IF;
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id SET DEFAULT nextval(%L)', t.table_name, t.table_name || '_seq');
+    END LOOP;
+END;
+$$;
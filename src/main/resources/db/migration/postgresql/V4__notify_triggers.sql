@@ -0,0 +1,382 @@
+-- The triggers that keep the caches of the application and the process closure table up to date.
+-- Changes to processes, information flows and layer entities send table:OPERATION:id on the cache_update
+-- channel, changes to the process join tables send table:OPERATION:process_id:entity_id for the old and the
+-- new link, see DatabaseNotificationListener. Databases that had the triggers from before the migrations
+-- get them replaced, and their older join table triggers without the process id are dropped.
+
+CREATE OR REPLACE FUNCTION notify_cache_update_trigger_function()
+RETURNS TRIGGER AS $func$
+DECLARE
+  payload TEXT;
+  id_val TEXT;
+BEGIN
+  IF (TG_OP = 'DELETE') THEN
+    id_val := OLD.id::TEXT;
+  ELSE
+    id_val := NEW.id::TEXT;
+  END IF;
+  payload := TG_TABLE_NAME || ':' || TG_OP || ':' || id_val;
+  PERFORM pg_notify('cache_update', payload);
+  RETURN NULL;
+END;
+$func$ LANGUAGE plpgsql;
+
+-- The linked entity column is named after the table, e.g. employee_id for process_employee
+CREATE OR REPLACE FUNCTION notify_process_jointable_cache_update_trigger_function()
+RETURNS TRIGGER AS $func$
+DECLARE
+  entity_column TEXT := substr(TG_TABLE_NAME, 9) || '_id';
+  link JSONB;
+BEGIN
+  IF (TG_OP <> 'INSERT') THEN
+    link := to_jsonb(OLD);
+    PERFORM pg_notify('cache_update', TG_TABLE_NAME || ':' || TG_OP || ':'
+      || COALESCE(link->>'process_id', 'NULL') || ':' || COALESCE(link->>entity_column, 'NULL'));
+  END IF;
+  IF (TG_OP <> 'DELETE') THEN
+    link := to_jsonb(NEW);
+    PERFORM pg_notify('cache_update', TG_TABLE_NAME || ':' || TG_OP || ':'
+      || COALESCE(link->>'process_id', 'NULL') || ':' || COALESCE(link->>entity_column, 'NULL'));
+  END IF;
+  RETURN NULL;
+END;
+$func$ LANGUAGE plpgsql;
+
+-- Keeps process_closure in sync when a process is inserted, moved to another parent, or deleted
+CREATE OR REPLACE FUNCTION maintain_process_closure_trigger_function()
+RETURNS TRIGGER AS $func$
+BEGIN
+  IF (TG_OP = 'DELETE') THEN
+    DELETE FROM process_closure WHERE descendant_id = OLD.id OR ancestor_id = OLD.id;
+    RETURN NULL;
+  END IF;
+  IF (TG_OP = 'INSERT') THEN
+    INSERT INTO process_closure (ancestor_id, descendant_id, depth)
+    SELECT NEW.id, NEW.id, 0
+    UNION ALL
+    SELECT c.ancestor_id, NEW.id, c.depth + 1
+    FROM process_closure c WHERE c.descendant_id = NEW.parent_process_id
+    ON CONFLICT DO NOTHING;
+    RETURN NULL;
+  END IF;
+  IF (OLD.parent_process_id IS DISTINCT FROM NEW.parent_process_id) THEN
+    -- Detach the subtree from its old ancestors
+    DELETE FROM process_closure
+    WHERE descendant_id IN (SELECT descendant_id FROM process_closure WHERE ancestor_id = NEW.id)
+      AND ancestor_id NOT IN (SELECT descendant_id FROM process_closure WHERE ancestor_id = NEW.id);
+    -- Attach the subtree below the ancestors of the new parent
+    INSERT INTO process_closure (ancestor_id, descendant_id, depth)
+    SELECT a.ancestor_id, d.descendant_id, a.depth + d.depth + 1
+    FROM process_closure a
+    CROSS JOIN process_closure d
+    WHERE a.descendant_id = NEW.parent_process_id AND d.ancestor_id = NEW.id
+    ON CONFLICT DO NOTHING;
+  END IF;
+  RETURN NULL;
+END;
+$func$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS process_cache_update_trigger ON process;
+CREATE TRIGGER process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS process_closure_trigger ON process;
+CREATE TRIGGER process_closure_trigger
+AFTER INSERT OR UPDATE OF parent_process_id OR DELETE ON process
+FOR EACH ROW EXECUTE FUNCTION maintain_process_closure_trigger_function();
+
+-- Processes created before the closure table existed
+INSERT INTO process_closure (ancestor_id, descendant_id, depth)
+WITH RECURSIVE tree (ancestor_id, descendant_id, depth) AS (
+    SELECT id, id, 0 FROM process
+    UNION ALL
+    SELECT t.ancestor_id, p.id, t.depth + 1
+    FROM tree t JOIN process p ON p.parent_process_id = t.descendant_id
+)
+SELECT ancestor_id, descendant_id, depth FROM tree
+WHERE NOT EXISTS (SELECT 1 FROM process_closure);
+
+DROP TRIGGER IF EXISTS informationflow_cache_update_trigger ON information_flow;
+CREATE TRIGGER informationflow_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON information_flow
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+-- Layer entities
+DROP TRIGGER IF EXISTS audit_cache_update_trigger ON audit;
+CREATE TRIGGER audit_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON audit
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS legislation_cache_update_trigger ON legislation;
+CREATE TRIGGER legislation_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON legislation
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS document_cache_update_trigger ON document;
+CREATE TRIGGER document_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON document
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS data_store_cache_update_trigger ON data_store;
+CREATE TRIGGER data_store_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON data_store
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS application_cache_update_trigger ON application;
+CREATE TRIGGER application_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON application
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS system_cache_update_trigger ON system;
+CREATE TRIGGER system_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON system
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS asset_cache_update_trigger ON asset;
+CREATE TRIGGER asset_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON asset
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS facility_cache_update_trigger ON facility;
+CREATE TRIGGER facility_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON facility
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS location_cache_update_trigger ON location;
+CREATE TRIGGER location_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON location
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS improvement_cache_update_trigger ON improvement;
+CREATE TRIGGER improvement_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON improvement
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS project_cache_update_trigger ON project;
+CREATE TRIGGER project_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON project
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS department_cache_update_trigger ON department;
+CREATE TRIGGER department_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON department
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS employee_cache_update_trigger ON employee;
+CREATE TRIGGER employee_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON employee
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS function_cache_update_trigger ON function;
+CREATE TRIGGER function_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON function
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS organization_cache_update_trigger ON organization;
+CREATE TRIGGER organization_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON organization
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS role_cache_update_trigger ON role;
+CREATE TRIGGER role_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON role
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS consultation_cache_update_trigger ON consultation;
+CREATE TRIGGER consultation_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON consultation
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS kpi_cache_update_trigger ON kpi;
+CREATE TRIGGER kpi_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON kpi
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS risk_cache_update_trigger ON risk;
+CREATE TRIGGER risk_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON risk
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS mitigation_measure_cache_update_trigger ON mitigation_measure;
+CREATE TRIGGER mitigation_measure_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON mitigation_measure
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS cost_cache_update_trigger ON cost;
+CREATE TRIGGER cost_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON cost
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS revenue_cache_update_trigger ON revenue;
+CREATE TRIGGER revenue_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON revenue
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS product_cache_update_trigger ON product;
+CREATE TRIGGER product_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON product
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS service_cache_update_trigger ON service;
+CREATE TRIGGER service_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON service
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS goal_cache_update_trigger ON goal;
+CREATE TRIGGER goal_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON goal
+FOR EACH ROW EXECUTE FUNCTION notify_cache_update_trigger_function();
+
+-- Process join tables
+DROP TRIGGER IF EXISTS process_audit_cache_update_trigger ON process_audit;
+DROP TRIGGER IF EXISTS process_audit_process_cache_update_trigger ON process_audit;
+CREATE TRIGGER process_audit_process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process_audit
+FOR EACH ROW EXECUTE FUNCTION notify_process_jointable_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS process_legislation_cache_update_trigger ON process_legislation;
+DROP TRIGGER IF EXISTS process_legislation_process_cache_update_trigger ON process_legislation;
+CREATE TRIGGER process_legislation_process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process_legislation
+FOR EACH ROW EXECUTE FUNCTION notify_process_jointable_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS process_document_cache_update_trigger ON process_document;
+DROP TRIGGER IF EXISTS process_document_process_cache_update_trigger ON process_document;
+CREATE TRIGGER process_document_process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process_document
+FOR EACH ROW EXECUTE FUNCTION notify_process_jointable_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS process_datastore_cache_update_trigger ON process_datastore;
+DROP TRIGGER IF EXISTS process_datastore_process_cache_update_trigger ON process_datastore;
+CREATE TRIGGER process_datastore_process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process_datastore
+FOR EACH ROW EXECUTE FUNCTION notify_process_jointable_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS process_application_cache_update_trigger ON process_application;
+DROP TRIGGER IF EXISTS process_application_process_cache_update_trigger ON process_application;
+CREATE TRIGGER process_application_process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process_application
+FOR EACH ROW EXECUTE FUNCTION notify_process_jointable_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS process_system_cache_update_trigger ON process_system;
+DROP TRIGGER IF EXISTS process_system_process_cache_update_trigger ON process_system;
+CREATE TRIGGER process_system_process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process_system
+FOR EACH ROW EXECUTE FUNCTION notify_process_jointable_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS process_asset_cache_update_trigger ON process_asset;
+DROP TRIGGER IF EXISTS process_asset_process_cache_update_trigger ON process_asset;
+CREATE TRIGGER process_asset_process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process_asset
+FOR EACH ROW EXECUTE FUNCTION notify_process_jointable_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS process_facility_cache_update_trigger ON process_facility;
+DROP TRIGGER IF EXISTS process_facility_process_cache_update_trigger ON process_facility;
+CREATE TRIGGER process_facility_process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process_facility
+FOR EACH ROW EXECUTE FUNCTION notify_process_jointable_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS process_location_cache_update_trigger ON process_location;
+DROP TRIGGER IF EXISTS process_location_process_cache_update_trigger ON process_location;
+CREATE TRIGGER process_location_process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process_location
+FOR EACH ROW EXECUTE FUNCTION notify_process_jointable_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS process_improvement_cache_update_trigger ON process_improvement;
+DROP TRIGGER IF EXISTS process_improvement_process_cache_update_trigger ON process_improvement;
+CREATE TRIGGER process_improvement_process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process_improvement
+FOR EACH ROW EXECUTE FUNCTION notify_process_jointable_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS process_project_cache_update_trigger ON process_project;
+DROP TRIGGER IF EXISTS process_project_process_cache_update_trigger ON process_project;
+CREATE TRIGGER process_project_process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process_project
+FOR EACH ROW EXECUTE FUNCTION notify_process_jointable_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS process_department_cache_update_trigger ON process_department;
+DROP TRIGGER IF EXISTS process_department_process_cache_update_trigger ON process_department;
+CREATE TRIGGER process_department_process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process_department
+FOR EACH ROW EXECUTE FUNCTION notify_process_jointable_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS process_employee_cache_update_trigger ON process_employee;
+DROP TRIGGER IF EXISTS process_employee_process_cache_update_trigger ON process_employee;
+CREATE TRIGGER process_employee_process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process_employee
+FOR EACH ROW EXECUTE FUNCTION notify_process_jointable_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS process_function_cache_update_trigger ON process_function;
+DROP TRIGGER IF EXISTS process_function_process_cache_update_trigger ON process_function;
+CREATE TRIGGER process_function_process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process_function
+FOR EACH ROW EXECUTE FUNCTION notify_process_jointable_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS process_organization_cache_update_trigger ON process_organization;
+DROP TRIGGER IF EXISTS process_organization_process_cache_update_trigger ON process_organization;
+CREATE TRIGGER process_organization_process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process_organization
+FOR EACH ROW EXECUTE FUNCTION notify_process_jointable_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS process_role_cache_update_trigger ON process_role;
+DROP TRIGGER IF EXISTS process_role_process_cache_update_trigger ON process_role;
+CREATE TRIGGER process_role_process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process_role
+FOR EACH ROW EXECUTE FUNCTION notify_process_jointable_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS process_consultation_cache_update_trigger ON process_consultation;
+DROP TRIGGER IF EXISTS process_consultation_process_cache_update_trigger ON process_consultation;
+CREATE TRIGGER process_consultation_process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process_consultation
+FOR EACH ROW EXECUTE FUNCTION notify_process_jointable_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS process_kpi_cache_update_trigger ON process_kpi;
+DROP TRIGGER IF EXISTS process_kpi_process_cache_update_trigger ON process_kpi;
+CREATE TRIGGER process_kpi_process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process_kpi
+FOR EACH ROW EXECUTE FUNCTION notify_process_jointable_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS process_risk_cache_update_trigger ON process_risk;
+DROP TRIGGER IF EXISTS process_risk_process_cache_update_trigger ON process_risk;
+CREATE TRIGGER process_risk_process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process_risk
+FOR EACH ROW EXECUTE FUNCTION notify_process_jointable_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS process_mitigation_measure_cache_update_trigger ON process_mitigation_measure;
+DROP TRIGGER IF EXISTS process_mitigation_measure_process_cache_update_trigger ON process_mitigation_measure;
+CREATE TRIGGER process_mitigation_measure_process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process_mitigation_measure
+FOR EACH ROW EXECUTE FUNCTION notify_process_jointable_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS process_cost_cache_update_trigger ON process_cost;
+DROP TRIGGER IF EXISTS process_cost_process_cache_update_trigger ON process_cost;
+CREATE TRIGGER process_cost_process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process_cost
+FOR EACH ROW EXECUTE FUNCTION notify_process_jointable_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS process_revenue_cache_update_trigger ON process_revenue;
+DROP TRIGGER IF EXISTS process_revenue_process_cache_update_trigger ON process_revenue;
+CREATE TRIGGER process_revenue_process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process_revenue
+FOR EACH ROW EXECUTE FUNCTION notify_process_jointable_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS process_product_cache_update_trigger ON process_product;
+DROP TRIGGER IF EXISTS process_product_process_cache_update_trigger ON process_product;
+CREATE TRIGGER process_product_process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process_product
+FOR EACH ROW EXECUTE FUNCTION notify_process_jointable_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS process_service_cache_update_trigger ON process_service;
+DROP TRIGGER IF EXISTS process_service_process_cache_update_trigger ON process_service;
+CREATE TRIGGER process_service_process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process_service
+FOR EACH ROW EXECUTE FUNCTION notify_process_jointable_cache_update_trigger_function();
+
+DROP TRIGGER IF EXISTS process_goal_cache_update_trigger ON process_goal;
+DROP TRIGGER IF EXISTS process_goal_process_cache_update_trigger ON process_goal;
+CREATE TRIGGER process_goal_process_cache_update_trigger
+AFTER INSERT OR UPDATE OR DELETE ON process_goal
+FOR EACH ROW EXECUTE FUNCTION notify_process_jointable_cache_update_trigger_function();
+
+DROP FUNCTION IF EXISTS notify_jointable_cache_update_trigger_function();
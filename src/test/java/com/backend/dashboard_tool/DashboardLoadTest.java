@@ -0,0 +1,237 @@
+package com.backend.dashboard_tool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.backend.dashboard_tool.database.SyntheticDataGenerator;
+import com.backend.dashboard_tool.service.DatabaseNotificationListener;
+import com.backend.dashboard_tool.service.ProcessGraph;
+
+/**
+ * End-to-end load test of the dashboard's read endpoints.
+ * It boots the application on an in-memory H2 database in PostgreSQL mode, seeds a synthetic
+ * enterprise model with the SyntheticDataGenerator and drives the dashboard's call mix over HTTP
+ * at a fixed concurrency. Latency percentiles and requests per second are printed per endpoint
+ * and written to target/load-test-report.csv.
+ *
+ * The test is skipped unless it is asked for:
+ * mvn test -Dtest=DashboardLoadTest -Dloadtest=true
+ * Sizes can be changed with -Dloadtest.processes, -Dloadtest.dataflows, -Dloadtest.entities,
+ * -Dloadtest.concurrency, -Dloadtest.requests and -Dloadtest.warmup.
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "app.migrations.enabled=false",
+    "spring.jpa.show-sql=false"
+})
+class DashboardLoadTest {
+    private static final int PROCESSES = Integer.getInteger("loadtest.processes", 10_000);
+    private static final int DATAFLOWS = Integer.getInteger("loadtest.dataflows", 50_000);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 32);
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 20_000);
+    private static final int WARMUP = Integer.getInteger("loadtest.warmup", 2_000);
+
+    private static final int ENTITIES = Integer.getInteger("loadtest.entities", 2_000);
+    private static final int ORGANIZATIONS = 500;
+    private static final String[] TYPES = {"Primary", "Facilitating", "Management"};
+
+    @MockitoBean
+    private DatabaseNotificationListener databaseNotificationListener;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProcessGraph processGraph;
+
+    @LocalServerPort
+    private int port;
+
+    private final Random random = new Random(42);
+    private Map<Long, String> contexts;
+    private List<Long> processIds;
+    private List<Long> parents;
+    private List<Long> withApplications;
+    private List<Long> withEmployees;
+
+    /**
+     * One weighted entry of the call mix.
+     */
+    private record Call(String name, int weight, IntFunction<String> url) {
+    }
+
+    /**
+     * Test that drives the call mix and reports latency and throughput per endpoint.
+     */
+    @Test
+    void callMix() throws Exception {
+        long seedStart = System.nanoTime();
+        seed();
+        processGraph.rebuild();
+        System.out.printf("Seeded %d processes and %d dataflows in %d ms%n",
+            PROCESSES, DATAFLOWS, (System.nanoTime() - seedStart) / 1_000_000);
+
+        List<Call> mix = List.of(
+            new Call("/process/subprocess?parentId", 20, i -> "/process/subprocess?parentId=" + randomParent()),
+            new Call("/process/subprocess?type", 5, i -> "/process/subprocess?type=" + TYPES[i % TYPES.length]),
+            new Call("/dataflow/filter", 15, i -> "/dataflow/filter?parentId=" + randomParent()),
+            new Call("/dataflow/inputs", 15, i -> withContext("/dataflow/inputs", randomProcess())),
+            new Call("/dataflow/outputs", 15, i -> withContext("/dataflow/outputs", randomProcess())),
+            new Call("/ict/process", 10, i -> "/ict/process?type=application&processId=" + randomOf(withApplications)),
+            new Call("/people/process", 10, i -> "/people/process?type=employee&processId=" + randomOf(withEmployees)),
+            new Call("/trigger/supplierinput", 5, i -> "/trigger/supplierinput?processId=" + randomProcess()),
+            new Call("/result/outputconsumer", 5, i -> "/result/outputconsumer?processId=" + randomProcess())
+        );
+
+        HttpClient client = HttpClient.newHttpClient();
+        run(client, mix, WARMUP, new ConcurrentHashMap<>(), new ConcurrentLinkedQueue<>());
+
+        Map<String, Queue<Long>> latencies = new ConcurrentHashMap<>();
+        Queue<String> failures = new ConcurrentLinkedQueue<>();
+        long start = System.nanoTime();
+        run(client, mix, REQUESTS, latencies, failures);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        report(mix, latencies, seconds);
+        assertThat(failures).as("failed requests").isEmpty();
+    }
+
+    private void run(HttpClient client, List<Call> mix, int requests, Map<String, Queue<Long>> latencies,
+                     Queue<String> failures) throws InterruptedException {
+        int totalWeight = mix.stream().mapToInt(Call::weight).sum();
+        Semaphore permits = new Semaphore(CONCURRENCY);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                Call call = pick(mix, random.nextInt(totalWeight));
+                String url = call.url().apply(i);
+                permits.acquire();
+                executor.submit(() -> {
+                    try {
+                        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + url)).GET().build();
+                        long begin = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        long elapsed = System.nanoTime() - begin;
+                        latencies.computeIfAbsent(call.name(), name -> new ConcurrentLinkedQueue<>()).add(elapsed);
+                        if (response.statusCode() != 200) {
+                            failures.add(response.statusCode() + " " + url);
+                        }
+                    } catch (IOException | InterruptedException e) {
+                        failures.add(e + " " + url);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+    }
+
+    private static Call pick(List<Call> mix, int ticket) {
+        for (Call call : mix) {
+            ticket -= call.weight();
+            if (ticket < 0) {
+                return call;
+            }
+        }
+        return mix.get(mix.size() - 1);
+    }
+
+    private void report(List<Call> mix, Map<String, Queue<Long>> latencies, double seconds) throws IOException {
+        StringBuilder csv = new StringBuilder("endpoint,requests,rps,p50_ms,p99_ms,max_ms\n");
+        System.out.printf("%-32s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "rps", "p50 ms", "p99 ms", "max ms");
+        long total = 0;
+        for (Call call : mix) {
+            long[] sorted = latencies.getOrDefault(call.name(), new ConcurrentLinkedQueue<>()).stream()
+                .mapToLong(Long::longValue).sorted().toArray();
+            if (sorted.length == 0) {
+                continue;
+            }
+            total += sorted.length;
+            double rps = sorted.length / seconds;
+            double p50 = percentile(sorted, 0.50);
+            double p99 = percentile(sorted, 0.99);
+            double max = sorted[sorted.length - 1] / 1e6;
+            System.out.printf("%-32s %9d %9.1f %9.2f %9.2f %9.2f%n", call.name(), sorted.length, rps, p50, p99, max);
+            csv.append(String.format(Locale.ROOT, "%s,%d,%.1f,%.2f,%.2f,%.2f%n", call.name(), sorted.length, rps, p50, p99, max));
+        }
+        System.out.printf("Total: %d requests in %.1f s, %.1f requests/s at concurrency %d%n",
+            total, seconds, total / seconds, CONCURRENCY);
+        Files.writeString(Path.of("target", "load-test-report.csv"), csv);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+
+    private long randomOf(List<Long> ids) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private long randomProcess() {
+        return randomOf(processIds);
+    }
+
+    private long randomParent() {
+        return randomOf(parents);
+    }
+
+    private String withContext(String path, long processId) {
+        return path + "?processId=" + processId + "&type=" + contexts.get(processId);
+    }
+
+    /**
+     * Seeds the synthetic model with the generator and reads back what the call mix needs:
+     * the parent and type of every process, and the processes that have applications and employees,
+     * since the /ict/process and /people/process endpoints answer 404 for a process without links.
+     */
+    private void seed() {
+        SyntheticDataGenerator.Settings defaults = SyntheticDataGenerator.Settings.defaults();
+        SyntheticDataGenerator.Settings settings = new SyntheticDataGenerator.Settings(PROCESSES, ENTITIES,
+            Map.of("organization", ORGANIZATIONS), defaults.depth(), defaults.branching(),
+            (double) DATAFLOWS / PROCESSES, defaults.siblingShare(), 1.0, 1.0, defaults.fanOut(), Map.of(),
+            defaults.batchSize(), 42);
+        new SyntheticDataGenerator(jdbcTemplate, settings).generate();
+
+        contexts = new HashMap<>();
+        Set<Long> parentIds = new HashSet<>();
+        jdbcTemplate.query("SELECT id, type, parent_process_id FROM process", rs -> {
+            long parentId = rs.getLong(3);
+            contexts.put(rs.getLong(1), rs.getString(2) + (rs.wasNull() ? "" : "&parentId=" + parentId));
+            if (parentId != 0) {
+                parentIds.add(parentId);
+            }
+        });
+        processIds = new ArrayList<>(contexts.keySet());
+        parents = new ArrayList<>(parentIds);
+        withApplications = jdbcTemplate.queryForList("SELECT DISTINCT process_id FROM process_application", Long.class);
+        withEmployees = jdbcTemplate.queryForList("SELECT DISTINCT process_id FROM process_employee", Long.class);
+    }
+}
@@ -0,0 +1,40 @@
+package com.backend.dashboard_tool.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class LogSamplerTest {
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final LogSampler sampler = new LogSampler(Duration.ofNanos(100), now::get);
+
+    /**
+     * Test to verify that the first event is logged and the next ones within the interval are not.
+     */
+    @Test
+    void testSuppressesWithinInterval() {
+        assertThat(sampler.sample()).isZero();
+        now.addAndGet(50);
+        assertThat(sampler.sample()).isEqualTo(-1);
+        assertThat(sampler.sample()).isEqualTo(-1);
+    }
+
+    /**
+     * Test to verify that the next sampled event reports how many events were suppressed.
+     */
+    @Test
+    void testReportsSuppressedCount() {
+        sampler.sample();
+        sampler.sample();
+        sampler.sample();
+        now.addAndGet(100);
+
+        assertThat(sampler.sample()).isEqualTo(2);
+        assertThat(sampler.sample()).isEqualTo(-1);
+        now.addAndGet(100);
+        assertThat(sampler.sample()).isEqualTo(1);
+    }
+}
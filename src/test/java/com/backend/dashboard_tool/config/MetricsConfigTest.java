@@ -0,0 +1,168 @@
+package com.backend.dashboard_tool.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+
+public class MetricsConfigTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        RequestPhases.stop();
+    }
+
+    private ObjectProvider<MeterRegistry> provider(MeterRegistry registry) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        if (registry != null) {
+            beanFactory.addBean("meterRegistry", registry);
+        }
+        return beanFactory.getBeanProvider(MeterRegistry.class);
+    }
+
+    /**
+     * Test to verify that the interceptor records every phase with the uri template of the request.
+     */
+    @Test
+    void testInterceptorRecordsPhases() {
+        MetricsConfig.PhaseInterceptor interceptor = new MetricsConfig.PhaseInterceptor(provider(meterRegistry));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/process/7");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/process/{id}");
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+        RequestPhases.addDb(2_000_000);
+        RequestPhases.addRepository(5_000_000);
+        RequestPhases.addSerialization(1_000_000);
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), new Object(), null);
+
+        assertThat(phase("db").totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2.0);
+        assertThat(phase("hydration").totalTime(TimeUnit.MILLISECONDS)).isEqualTo(3.0);
+        assertThat(phase("serialization").totalTime(TimeUnit.MILLISECONDS)).isEqualTo(1.0);
+        assertThat(phase("cache").count()).isEqualTo(1);
+    }
+
+    /**
+     * Test to verify that the interceptor does nothing when metrics are disabled.
+     */
+    @Test
+    void testInterceptorWithoutRegistry() {
+        MetricsConfig.PhaseInterceptor interceptor = new MetricsConfig.PhaseInterceptor(provider(null));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/process/7");
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), new Object(), null);
+
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+
+    /**
+     * Test to verify that nothing is collected outside of a request and that hydration is never negative.
+     */
+    @Test
+    void testPhasesOutsideRequest() {
+        RequestPhases.addDb(1_000);
+        assertThat(RequestPhases.stop()).isEmpty();
+
+        RequestPhases.start();
+        RequestPhases.addDb(1_000);
+        Map<RequestPhases.Phase, Long> phases = RequestPhases.stop();
+        assertThat(phases).containsEntry(RequestPhases.Phase.DB, 1_000L).containsEntry(RequestPhases.Phase.HYDRATION, 0L);
+    }
+
+    /**
+     * Test to verify that cache lookups and updates are added to the cache phase.
+     */
+    @Test
+    void testCacheIsTimed() {
+        CacheConfig.PhaseTimedCache cache = new CacheConfig.PhaseTimedCache("processes", Caffeine.newBuilder().build(), true);
+
+        RequestPhases.start();
+        cache.put("Primary", "value");
+        assertThat(cache.get("Primary").get()).isEqualTo("value");
+        Map<RequestPhases.Phase, Long> phases = RequestPhases.stop();
+
+        assertThat(phases.get(RequestPhases.Phase.CACHE)).isPositive();
+    }
+
+    /**
+     * Test to verify that a propagated task adds to the request that created it, from another thread.
+     */
+    @Test
+    void testPropagatedTaskAddsToRequest() throws Exception {
+        RequestPhases.start();
+        Callable<Void> task = RequestPhases.propagate(() -> {
+            RequestPhases.addDb(1_000);
+            return null;
+        });
+        Thread thread = Thread.ofVirtual().start(() -> {
+            try {
+                task.call();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        thread.join();
+
+        assertThat(RequestPhases.stop()).containsEntry(RequestPhases.Phase.DB, 1_000L);
+    }
+
+    /**
+     * Test to verify that the phases of a streamed body, written on an async thread, are recorded with the request.
+     */
+    @Test
+    void testInterceptorRecordsAsyncBody() throws Exception {
+        MetricsConfig.PhaseInterceptor interceptor = new MetricsConfig.PhaseInterceptor(provider(meterRegistry));
+        MetricsConfig.PhaseCallableInterceptor callableInterceptor = new MetricsConfig.PhaseCallableInterceptor();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/process/7");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/process/{id}");
+        ServletWebRequest webRequest = new ServletWebRequest(request);
+        Callable<Void> body = () -> null;
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+        interceptor.afterConcurrentHandlingStarted(request, new MockHttpServletResponse(), new Object());
+        assertThat(RequestPhases.current()).isNull();
+
+        Thread thread = Thread.ofVirtual().start(() -> {
+            callableInterceptor.preProcess(webRequest, body);
+            RequestPhases.addDb(2_000_000);
+            long start = System.nanoTime();
+            while (System.nanoTime() - start < 5_000_000) {
+                Thread.onSpinWait();
+            }
+            callableInterceptor.postProcess(webRequest, body, null);
+        });
+        thread.join();
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), new Object(), null);
+
+        assertThat(phase("db").totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2.0);
+        // The body took at least 5 ms, of which the 2 ms in the database are not serialization
+        assertThat(phase("serialization").totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(3.0);
+        assertThat(phase("db").count()).isEqualTo(1);
+    }
+
+    private Timer phase(String phase) {
+        return meterRegistry.get(MetricsConfig.PHASE_METER)
+            .tag("uri", "/process/{id}").tag("method", "GET").tag("phase", phase).timer();
+    }
+}
@@ -0,0 +1,47 @@
+package com.backend.dashboard_tool.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.backend.dashboard_tool.database.ProcessRepository;
+import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+
+/**
+ * Checks that the Hibernate session listener and the repository listener of MetricsConfig
+ * feed the phases of the current request.
+ */
+@DataJpaTest
+@Import(MetricsConfig.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+public class RequestPhasesRepositoryTest {
+    @Autowired
+    private ProcessRepository processRepository;
+
+    /**
+     * Test to verify that a repository call adds database time and no more hydration time than it took.
+     */
+    @Test
+    void testRepositoryCallIsTimed() {
+        ProcessEntity process = new ProcessEntity();
+        process.setName("Timed");
+        process.setType("Primary");
+        processRepository.saveAndFlush(process);
+
+        RequestPhases.start();
+        long start = System.nanoTime();
+        assertThat(processRepository.findByType("Primary")).isNotEmpty();
+        long elapsed = System.nanoTime() - start;
+        Map<RequestPhases.Phase, Long> phases = RequestPhases.stop();
+
+        assertThat(phases.get(RequestPhases.Phase.DB)).isPositive();
+        assertThat(phases.get(RequestPhases.Phase.DB) + phases.get(RequestPhases.Phase.HYDRATION)).isBetween(1L, elapsed);
+    }
+}
@@ -0,0 +1,133 @@
+package com.backend.dashboard_tool.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.backend.dashboard_tool.service.DatabaseNotificationListener;
+
+/**
+ * Checks that the migrations create the schema the entities map, which Hibernate validates while the
+ * context starts, and that they are applied once, baseline existing schemas and detect changed scripts.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=validate",
+    "app.migrations.enabled=true"
+})
+@AutoConfigureTestDatabase
+public class SchemaMigrationsTest {
+    @MockitoBean
+    private DatabaseNotificationListener databaseNotificationListener;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static DataSource newDatabase() {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static List<Integer> versions(JdbcTemplate jdbc) {
+        return jdbc.queryForList("SELECT version FROM " + SchemaMigrations.HISTORY_TABLE + " ORDER BY version", Integer.class);
+    }
+
+    private static boolean hasIndex(JdbcTemplate jdbc, String name) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM information_schema.indexes WHERE LOWER(index_name) = ?",
+            Integer.class, name) > 0;
+    }
+
+    private static List<String> tables(JdbcTemplate jdbc) {
+        return jdbc.queryForList("SELECT LOWER(table_name) FROM information_schema.tables WHERE table_schema = 'PUBLIC'"
+            + " ORDER BY 1", String.class);
+    }
+
+    /**
+     * The schema that ddl-auto=update created before the migrations: identity ids and no closure table.
+     */
+    private static String mainBranchSchema() {
+        return SchemaMigrations.load("h2").get(0).sql()
+            .replaceAll("create sequence \\w+ start with 1 increment by 50;", "")
+            .replaceAll("(?s)create table process_closure \\(.*?\\);", "")
+            .replaceAll("(?s)create index idx_process_closure_descendant.*?;", "")
+            .replaceAll("(?m)^    id bigint not null,", "    id bigint generated by default as identity,");
+    }
+
+    @Test
+    void testContextSchemaIsMigrated() {
+        List<SchemaMigrations.Migration> migrations = SchemaMigrations.load("h2");
+        assertEquals(migrations.stream().map(SchemaMigrations.Migration::version).toList(), versions(jdbcTemplate));
+        assertTrue(hasIndex(jdbcTemplate, "idx_process_employee_process"));
+        assertTrue(hasIndex(jdbcTemplate, "idx_process_employee_entity"));
+    }
+
+    @Test
+    void testLoadOrdersCommonAndVendorScripts() {
+        List<Integer> versions = SchemaMigrations.load("postgresql").stream().map(SchemaMigrations.Migration::version).toList();
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), versions);
+    }
+
+    @Test
+    void testMigrationsAreAppliedOnce() {
+        DataSource dataSource = newDatabase();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        new SchemaMigrations(dataSource).migrate();
+        List<Integer> applied = versions(jdbc);
+
+        new SchemaMigrations(dataSource).migrate();
+        assertEquals(applied, versions(jdbc));
+    }
+
+    @Test
+    void testExistingSchemaIsBaselined() {
+        DataSource dataSource = newDatabase();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute(SchemaMigrations.load("h2").get(0).sql());
+        assertFalse(hasIndex(jdbc, "idx_process_employee_entity"));
+
+        new SchemaMigrations(dataSource).migrate();
+        assertEquals(SchemaMigrations.BASELINE_VERSION, versions(jdbc).get(0));
+        assertTrue(jdbc.queryForList("SELECT checksum FROM " + SchemaMigrations.HISTORY_TABLE + " WHERE version = ?",
+            Integer.class, SchemaMigrations.BASELINE_VERSION).contains(null));
+        assertTrue(hasIndex(jdbc, "idx_process_employee_entity"));
+    }
+
+    @Test
+    void testMainBranchSchemaGetsClosureTable() {
+        DataSource dataSource = newDatabase();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute(mainBranchSchema());
+        assertFalse(tables(jdbc).contains("process_closure"));
+
+        new SchemaMigrations(dataSource).migrate();
+        assertEquals(SchemaMigrations.BASELINE_VERSION, versions(jdbc).get(0));
+        assertTrue(hasIndex(jdbc, "idx_process_closure_descendant"));
+        JdbcTemplate fresh = new JdbcTemplate(newDatabase());
+        new SchemaMigrations(fresh.getDataSource()).migrate();
+        assertEquals(tables(fresh), tables(jdbc));
+    }
+
+    @Test
+    void testChangedMigrationFailsStartup() {
+        DataSource dataSource = newDatabase();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        new SchemaMigrations(dataSource).migrate();
+        jdbc.update("UPDATE " + SchemaMigrations.HISTORY_TABLE + " SET checksum = checksum + 1 WHERE version = 1");
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> new SchemaMigrations(dataSource).migrate());
+        assertTrue(e.getMessage().contains("V1__create_schema.sql"));
+    }
+}
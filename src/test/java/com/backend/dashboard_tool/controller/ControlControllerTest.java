@@ -18,6 +18,7 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.backend.dashboard_tool.service.JsonStreamService;
 import com.backend.dashboard_tool.service.ControlService;
 import com.backend.dashboard_tool.entity.Strategy.Audit;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -32,6 +33,9 @@ public class ControlControllerTest {
     @MockitoBean
     private ControlService controlService;
 
+    @MockitoBean
+    private JsonStreamService jsonStreamService;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     private Audit createAudit(Long id, String name) {
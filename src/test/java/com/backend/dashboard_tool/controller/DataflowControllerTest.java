@@ -22,6 +22,8 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.backend.dashboard_tool.DTO.DataflowDTO;
+import com.backend.dashboard_tool.DTO.ImpactNode;
+import com.backend.dashboard_tool.DTO.ImpactResult;
 import com.backend.dashboard_tool.entity.Process_Data.Dataflow;
 import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
 import com.backend.dashboard_tool.service.DataflowService;
@@ -392,5 +394,38 @@ public class DataflowControllerTest {
         MvcResult result4 = mockMvc.perform(MockMvcRequestBuilders.get("/dataflow/outputs?processId=invalid&type=Primary")).andReturn();
         assertEquals(400, result4.getResponse().getStatus());
     }
-}
 
+    /**
+     * Test method for the getImpact() method in DataflowController.
+     * This test checks that the default direction and depth are passed to the service.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void impactDefaults() throws Exception {
+        ImpactResult impact = new ImpactResult(1L, "downstream", 3, false,
+            List.of(new ImpactNode("process", 2L, "Process 2", "Primary", 1)));
+        when(dataflowService.getImpact(1L, "downstream", 3)).thenReturn(impact);
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/dataflow/impact?processId=1")).andReturn();
+
+        assertEquals(HttpStatus.OK.value(), result.getResponse().getStatus());
+        assertEquals(objectMapper.writeValueAsString(impact), result.getResponse().getContentAsString());
+        verify(dataflowService, times(1)).getImpact(1L, "downstream", 3);
+    }
+
+    /**
+     * Test method for the getImpact() method in DataflowController.
+     * This test checks that errors from the service are returned as their status.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void impactNotFound() throws Exception {
+        when(dataflowService.getImpact(99L, "upstream", 5)).thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND));
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/dataflow/impact?processId=99&direction=upstream&depth=5")).andReturn();
+
+        assertEquals(HttpStatus.NOT_FOUND.value(), result.getResponse().getStatus());
+    }
+}
@@ -0,0 +1,324 @@
+package com.backend.dashboard_tool.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.backend.dashboard_tool.database.ProcessClosureRepository;
+import com.backend.dashboard_tool.entity.Document;
+import com.backend.dashboard_tool.entity.Assets_Facilities.*;
+import com.backend.dashboard_tool.entity.Finance.*;
+import com.backend.dashboard_tool.entity.People.*;
+import com.backend.dashboard_tool.entity.Process_Data.*;
+import com.backend.dashboard_tool.entity.Strategy.*;
+import com.backend.dashboard_tool.service.DatabaseNotificationListener;
+import com.backend.dashboard_tool.service.ProcessGraph;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Statement-count regression test for every read endpoint.
+ * Each endpoint is called once with cold caches against a seeded H2 database, and again after
+ * the same rows have been seeded a second time. The number of SQL statements it causes, including
+ * lazy loads during JSON serialization, must be the same for both, so no endpoint runs a query per
+ * row, and must stay within the budget listed in endpoints(); the rows it reads from the first seed
+ * must stay within the row budget.
+ * When a change legitimately needs more queries, raise the budget in the same change.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "app.migrations.enabled=false",
+    "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@Import(QueryCounter.Config.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class EndpointQueryBudgetTest {
+    /**
+     * Number of rows seeded per layer type and per kind of neighbour, in each of the two seeds.
+     */
+    private static final int ROWS = 5;
+
+    @MockitoBean
+    private DatabaseNotificationListener databaseNotificationListener;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ProcessGraph processGraph;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProcessClosureRepository processClosureRepository;
+
+    private ProcessEntity root;
+    private ProcessEntity focus;
+    private Map<String, long[]> counts;
+    private Map<String, long[]> doubledCounts;
+
+    /**
+     * Seeds a small process landscape: a root with subprocesses connected by dataflows,
+     * organizations with triggers and results, and a few rows of every layer type
+     * linked to the focus process. Seeding again adds as many rows below the same root and focus.
+     */
+    private void seed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            root = root == null ? process("Root", "Primary", null) : entityManager.find(ProcessEntity.class, root.getId());
+            List<ProcessEntity> children = new ArrayList<>();
+            for (int i = 0; i < ROWS; i++) {
+                children.add(process("Child " + i, "Primary", root));
+            }
+            focus = focus == null ? children.get(0) : entityManager.find(ProcessEntity.class, focus.getId());
+            for (int i = 0; i < ROWS; i++) {
+                ProcessEntity outside = process("Outside " + i, "Facilitating", null);
+                dataflow(outside, focus);
+                dataflow(focus, outside);
+                dataflow(children.get(i), children.get((i + 1) % ROWS));
+            }
+            for (int i = 0; i < ROWS; i++) {
+                Organization organization = persist(Organization::new);
+                organization.setName("Organization " + i);
+                Trigger trigger = new Trigger();
+                trigger.setSourceOrganization(organization);
+                trigger.setTargetProcess(focus);
+                entityManager.persist(trigger);
+                Result result = new Result();
+                result.setSourceProcess(focus);
+                result.setTargetOrganization(organization);
+                entityManager.persist(result);
+            }
+
+            link(Audit::new, ProcessEntity::getAudits);
+            link(Legislation::new, ProcessEntity::getLegislations);
+            link(Document::new, ProcessEntity::getDocuments);
+            link(DataStore::new, ProcessEntity::getDataStores);
+            link(Application::new, ProcessEntity::getApplications);
+            link(SystemEntity::new, ProcessEntity::getSystems);
+            link(Location::new, ProcessEntity::getLocations);
+            for (Facility facility : link(Facility::new, ProcessEntity::getFacilities)) {
+                facility.setLocation(persist(Location::new));
+            }
+            for (Asset asset : link(Asset::new, ProcessEntity::getAssets)) {
+                asset.setLocation(persist(Location::new));
+                asset.setFacility(persist(Facility::new));
+            }
+            link(Improvement::new, ProcessEntity::getImprovements);
+            for (Project project : link(Project::new, ProcessEntity::getProjects)) {
+                project.setProgram(persist(Program::new));
+            }
+            link(Organization::new, ProcessEntity::getOrganizations);
+            link(com.backend.dashboard_tool.entity.People.Function::new, ProcessEntity::getFunctions);
+            link(Consultation::new, ProcessEntity::getConsultations);
+            for (Department department : link(Department::new, ProcessEntity::getDepartments)) {
+                department.setOrganization(persist(Organization::new));
+            }
+            for (Role role : link(Role::new, ProcessEntity::getRoles)) {
+                role.setFunction(persist(com.backend.dashboard_tool.entity.People.Function::new));
+            }
+            for (Employee employee : link(Employee::new, ProcessEntity::getEmployees)) {
+                employee.setFunction(persist(com.backend.dashboard_tool.entity.People.Function::new));
+                employee.setOrganization(persist(Organization::new));
+                employee.setDepartment(persist(Department::new));
+            }
+            link(KPI::new, ProcessEntity::getKpis);
+            link(Risk::new, ProcessEntity::getRisks);
+            link(MitigationMeasure::new, ProcessEntity::getMitigationMeasures);
+            link(Cost::new, ProcessEntity::getCosts);
+            link(Revenue::new, ProcessEntity::getRevenues);
+            link(Product::new, ProcessEntity::getProducts);
+            link(com.backend.dashboard_tool.entity.Strategy.Service::new, ProcessEntity::getServices);
+            link(Goal::new, ProcessEntity::getGoals);
+        });
+        processGraph.rebuild();
+    }
+
+    /**
+     * Calls every endpoint once with cold caches and records its statements and rows.
+     */
+    private Map<String, long[]> measure() throws Exception {
+        Map<String, long[]> measured = new HashMap<>();
+        for (Arguments endpoint : endpoints().toList()) {
+            String url = (String) endpoint.get()[0];
+            clearCaches();
+            QueryCounter.reset();
+            mockMvc.perform(get(url)).andExpect(status().isOk());
+            measured.put(url, new long[] {QueryCounter.statements(), QueryCounter.rows()});
+        }
+        return measured;
+    }
+
+    /**
+     * Measures every endpoint against the seeded landscape, then seeds the same landscape once more,
+     * doubling the rows every endpoint reads, and measures again.
+     */
+    @BeforeAll
+    void seedAndMeasure() throws Exception {
+        seed();
+        counts = measure();
+        seed();
+        doubledCounts = measure();
+    }
+
+    private void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    private ProcessEntity process(String name, String type, ProcessEntity parent) {
+        ProcessEntity process = new ProcessEntity();
+        process.setName(name);
+        process.setType(type);
+        process.setLevel(parent == null ? 0 : parent.getLevel() + 1);
+        process.setParentProcess(parent);
+        entityManager.persist(process);
+        entityManager.flush();
+        processClosureRepository.insertForProcess(process.getId(), parent == null ? null : parent.getId());
+        return process;
+    }
+
+    private void dataflow(ProcessEntity source, ProcessEntity target) {
+        Dataflow dataflow = new Dataflow();
+        dataflow.setSourceProcess(source);
+        dataflow.setTargetProcess(target);
+        entityManager.persist(dataflow);
+    }
+
+    private <T> T persist(Supplier<T> factory) {
+        T entity = factory.get();
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    private <T> List<T> link(Supplier<T> factory, Function<ProcessEntity, List<T>> processList) {
+        List<T> entities = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            T entity = persist(factory);
+            processList.apply(focus).add(entity);
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    /**
+     * Every read endpoint with its budget: the maximum number of statements for a cold call,
+     * whatever the number of rows, and the maximum number of result rows against the first seed.
+     * Layer types whose entities have eager many-to-one references load those with one batch
+     * query per reference, which shows in their statement budgets.
+     */
+    Stream<Arguments> endpoints() {
+        long rootId = root.getId();
+        long focusId = focus.getId();
+        return Stream.of(
+            Arguments.of("/process/all", 1, 11),
+            Arguments.of("/process/" + focusId, 1, 1),
+            Arguments.of("/process/subprocess?type=Primary", 1, 1),
+            Arguments.of("/process/subprocess?parentId=" + rootId, 1, 5),
+            Arguments.of("/process/tree?rootId=" + rootId, 1, 6),
+            Arguments.of("/process/" + focusId + "/sipoc", 41, 193),
+            Arguments.of("/dataflow/filter?parentId=" + rootId, 1, 5),
+            Arguments.of("/dataflow/inputs?processId=" + focusId + "&parentId=" + rootId + "&type=Primary", 0, 0),
+            Arguments.of("/dataflow/outputs?processId=" + focusId + "&parentId=" + rootId + "&type=Primary", 0, 0),
+            Arguments.of("/dataflow/impact?processId=" + focusId, 1, 5),
+            Arguments.of("/trigger/supplierinput?processId=" + focusId, 3, 11),
+            Arguments.of("/result/outputconsumer?processId=" + focusId, 3, 11),
+            Arguments.of("/control/all?type=audit", 1, 5),
+            Arguments.of("/control/process?type=audit&processId=" + focusId, 1, 5),
+            Arguments.of("/control/all?type=legislation", 1, 5),
+            Arguments.of("/control/process?type=legislation&processId=" + focusId, 1, 5),
+            Arguments.of("/control/all?type=document", 1, 5),
+            Arguments.of("/control/process?type=document&processId=" + focusId, 1, 5),
+            Arguments.of("/ict/all?type=datastore", 1, 5),
+            Arguments.of("/ict/process?type=datastore&processId=" + focusId, 1, 5),
+            Arguments.of("/ict/all?type=application", 1, 5),
+            Arguments.of("/ict/process?type=application&processId=" + focusId, 1, 5),
+            Arguments.of("/ict/all?type=system", 1, 5),
+            Arguments.of("/ict/process?type=system&processId=" + focusId, 1, 5),
+            Arguments.of("/infrastructure/all?type=asset", 3, 15),
+            Arguments.of("/infrastructure/process?type=asset&processId=" + focusId, 3, 15),
+            Arguments.of("/infrastructure/all?type=facility", 2, 15),
+            Arguments.of("/infrastructure/process?type=facility&processId=" + focusId, 2, 10),
+            Arguments.of("/infrastructure/all?type=location", 1, 15),
+            Arguments.of("/infrastructure/process?type=location&processId=" + focusId, 1, 5),
+            Arguments.of("/initiative/all?type=improvement", 1, 5),
+            Arguments.of("/initiative/process?type=improvement&processId=" + focusId, 1, 5),
+            Arguments.of("/initiative/all?type=project", 2, 10),
+            Arguments.of("/initiative/process?type=project&processId=" + focusId, 2, 10),
+            Arguments.of("/people/all?type=department", 2, 15),
+            Arguments.of("/people/process?type=department&processId=" + focusId, 2, 10),
+            Arguments.of("/people/all?type=employee", 4, 20),
+            Arguments.of("/people/process?type=employee&processId=" + focusId, 4, 20),
+            Arguments.of("/people/all?type=function", 1, 15),
+            Arguments.of("/people/process?type=function&processId=" + focusId, 1, 5),
+            Arguments.of("/people/all?type=organization", 1, 20),
+            Arguments.of("/people/process?type=organization&processId=" + focusId, 1, 5),
+            Arguments.of("/people/all?type=role", 2, 10),
+            Arguments.of("/people/process?type=role&processId=" + focusId, 2, 10),
+            Arguments.of("/people/all?type=consultation", 1, 5),
+            Arguments.of("/people/process?type=consultation&processId=" + focusId, 1, 5),
+            Arguments.of("/performance/all?type=kpi", 1, 5),
+            Arguments.of("/performance/process?type=kpi&processId=" + focusId, 1, 5),
+            Arguments.of("/performance/all?type=risk", 1, 5),
+            Arguments.of("/performance/process?type=risk&processId=" + focusId, 1, 5),
+            Arguments.of("/performance/all?type=mitigation-measure", 1, 5),
+            Arguments.of("/performance/process?type=mitigation-measure&processId=" + focusId, 1, 5),
+            Arguments.of("/relevance/all?type=cost", 1, 5),
+            Arguments.of("/relevance/process?type=cost&processId=" + focusId, 1, 5),
+            Arguments.of("/relevance/all?type=revenue", 1, 5),
+            Arguments.of("/relevance/process?type=revenue&processId=" + focusId, 1, 5),
+            Arguments.of("/relevance/all?type=product", 1, 5),
+            Arguments.of("/relevance/process?type=product&processId=" + focusId, 1, 5),
+            Arguments.of("/relevance/all?type=service", 1, 5),
+            Arguments.of("/relevance/process?type=service&processId=" + focusId, 1, 5),
+            Arguments.of("/relevance/all?type=goal", 1, 5),
+            Arguments.of("/relevance/process?type=goal&processId=" + focusId, 1, 5)
+        );
+    }
+
+    /**
+     * Test that a cold call to the endpoint stays within its statement and row budget,
+     * and that its number of statements does not grow with the number of rows.
+     */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("endpoints")
+    void staysWithinQueryBudget(String url, int maxStatements, int maxRows) {
+        long statements = counts.get(url)[0];
+        long rows = counts.get(url)[1];
+
+        assertThat(doubledCounts.get(url)[0]).as("statements for %s with twice the rows", url).isEqualTo(statements);
+        assertThat(statements).as("statements for %s", url).isLessThanOrEqualTo(maxStatements);
+        assertThat(rows).as("rows for %s", url).isLessThanOrEqualTo(maxRows);
+    }
+}
@@ -0,0 +1,179 @@
+package com.backend.dashboard_tool.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.backend.dashboard_tool.database.ProcessRepository;
+import com.backend.dashboard_tool.database.TriggerRepository;
+import com.backend.dashboard_tool.database.People.EmployeeRepository;
+import com.backend.dashboard_tool.database.People.OrganizationRepository;
+import com.backend.dashboard_tool.entity.People.Employee;
+import com.backend.dashboard_tool.entity.People.Organization;
+import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+import com.backend.dashboard_tool.entity.Process_Data.Trigger;
+import com.backend.dashboard_tool.service.DatabaseNotificationListener;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Checks that the export holds every row of every table, once, in an order that can be imported.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "app.migrations.enabled=false"
+})
+@AutoConfigureMockMvc(addFilters = false)
+@AutoConfigureTestDatabase
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ExportControllerTest {
+    @MockitoBean
+    private DatabaseNotificationListener databaseNotificationListener;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProcessRepository processRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private TriggerRepository triggerRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    void seed() {
+        ProcessEntity root = new ProcessEntity();
+        root.setName("Export root");
+        root.setType("Primary");
+        root.setLevel(0);
+        processRepository.save(root);
+
+        Employee employee = new Employee();
+        employee.setName("Exported");
+        employee.setProcesses(List.of(root));
+        employeeRepository.save(employee);
+        root.setEmployees(new ArrayList<>(List.of(employee)));
+        processRepository.save(root);
+
+        Organization organization = new Organization();
+        organization.setName("Supplier");
+        organizationRepository.save(organization);
+        Trigger trigger = new Trigger();
+        trigger.setSourceOrganization(organization);
+        trigger.setTargetProcess(root);
+        triggerRepository.save(trigger);
+    }
+
+    private byte[] export(String url) throws Exception {
+        MvcResult started = mockMvc.perform(get(url)).andExpect(request().asyncStarted()).andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "application/x-ndjson"))
+            .andReturn();
+        return result.getResponse().getContentAsByteArray();
+    }
+
+    private List<JsonNode> lines(byte[] body) throws Exception {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : new String(body, StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    /**
+     * Test that every table is exported with all of its rows, except the derived closure table.
+     */
+    @Test
+    void exportsEveryRowOfEveryTable() throws Exception {
+        Map<String, Integer> rowsPerTable = new LinkedHashMap<>();
+        for (JsonNode line : lines(export("/export"))) {
+            rowsPerTable.merge(line.get("table").asText(), 1, Integer::sum);
+        }
+
+        assertThat(rowsPerTable).doesNotContainKey("process_closure");
+        assertThat(rowsPerTable).containsKeys("process", "employee", "process_employee");
+        for (Map.Entry<String, Integer> entry : rowsPerTable.entrySet()) {
+            Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + entry.getKey(), Integer.class);
+            assertThat(entry.getValue()).as(entry.getKey()).isEqualTo(count);
+        }
+    }
+
+    /**
+     * Test that referenced rows come before the rows that reference them.
+     */
+    @Test
+    void exportsReferencedTablesFirst() throws Exception {
+        List<String> order = lines(export("/export")).stream().map(line -> line.get("table").asText()).distinct().toList();
+
+        assertThat(order).contains("process", "organization", "information_flow", "employee", "process_employee");
+        assertThat(order.indexOf("process")).isLessThan(order.indexOf("information_flow"));
+        assertThat(order.indexOf("organization")).isLessThan(order.indexOf("information_flow"));
+        assertThat(order.indexOf("employee")).isLessThan(order.indexOf("process_employee"));
+    }
+
+    /**
+     * Test that a join row holds both of its columns.
+     */
+    @Test
+    void exportsJoinRows() throws Exception {
+        JsonNode link = lines(export("/export")).stream()
+            .filter(line -> line.get("table").asText().equals("process_employee"))
+            .findFirst().orElseThrow();
+
+        assertThat(link.get("row").has("process_id")).isTrue();
+        assertThat(link.get("row").has("employee_id")).isTrue();
+    }
+
+    /**
+     * Test that the compressed export holds the same lines.
+     */
+    @Test
+    void gzipExportMatchesPlainExport() throws Exception {
+        MvcResult started = mockMvc.perform(get("/export?gzip=true")).andExpect(request().asyncStarted()).andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+            .andExpect(header().string("Content-Encoding", "gzip"))
+            .andReturn();
+        byte[] compressed = result.getResponse().getContentAsByteArray();
+        byte[] plain;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            plain = in.readAllBytes();
+        }
+
+        assertThat(new String(plain, StandardCharsets.UTF_8)).isEqualTo(new String(export("/export"), StandardCharsets.UTF_8));
+    }
+}
@@ -18,6 +18,7 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.web.server.ResponseStatusException;
 import com.backend.dashboard_tool.entity.Process_Data.DataStore;
+import com.backend.dashboard_tool.service.JsonStreamService;
 import com.backend.dashboard_tool.service.ICTService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -31,6 +32,9 @@ public class ICTControllerTest {
     @MockitoBean
     private ICTService ictService;
 
+    @MockitoBean
+    private JsonStreamService jsonStreamService;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     private DataStore createDataStore(Long id, String name) {
@@ -0,0 +1,263 @@
+package com.backend.dashboard_tool.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.backend.dashboard_tool.database.IdSequences;
+import com.backend.dashboard_tool.database.ProcessRepository;
+import com.backend.dashboard_tool.database.People.EmployeeRepository;
+import com.backend.dashboard_tool.database.People.OrganizationRepository;
+import com.backend.dashboard_tool.entity.People.Employee;
+import com.backend.dashboard_tool.entity.People.Organization;
+import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+import com.backend.dashboard_tool.service.DatabaseNotificationListener;
+
+/**
+ * Checks that an import resolves the references within the file and is applied completely or not at all.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "app.migrations.enabled=false"
+})
+@AutoConfigureMockMvc(addFilters = false)
+@AutoConfigureTestDatabase
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class ImportControllerTest {
+    @MockitoBean
+    private DatabaseNotificationListener databaseNotificationListener;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProcessRepository processRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Long organizationId;
+    private Long employeeId;
+
+    @BeforeAll
+    void seed() {
+        Organization organization = new Organization();
+        organization.setName("Customer");
+        organizationId = organizationRepository.save(organization).getId();
+        Employee employee = new Employee();
+        employee.setName("Owner");
+        employeeId = employeeRepository.save(employee).getId();
+    }
+
+    private static String ndjson(String... lines) {
+        return String.join("\n", lines) + "\n";
+    }
+
+    private Long processId(String name) {
+        return jdbcTemplate.queryForObject("SELECT id FROM process WHERE name = ?", Long.class, name);
+    }
+
+    private long processCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM process", Long.class);
+    }
+
+    /**
+     * Test that a tree is imported with its parents resolved, also when a child comes before its parent,
+     * together with the information flows, the join rows and the closure rows.
+     */
+    @Test
+    void importsProcessTreeWithReferences() throws Exception {
+        String body = ndjson(
+            "{\"table\":\"process\",\"row\":{\"id\":3,\"name\":\"Import leaf\",\"type\":\"Primary\",\"parent_process_id\":2}}",
+            "{\"table\":\"process\",\"row\":{\"id\":1,\"name\":\"Import root\",\"type\":\"Primary\",\"internal\":true}}",
+            "{\"table\":\"process\",\"row\":{\"id\":2,\"name\":\"Import child\",\"type\":\"Primary\",\"parent_process_id\":1}}",
+            "{\"table\":\"information_flow\",\"row\":{\"name\":\"Import flow\",\"source_process_id\":2,\"target_process_id\":3}}",
+            "{\"table\":\"information_flow\",\"row\":{\"name\":\"Import trigger\",\"source_organization_id\":" + organizationId
+                + ",\"target_process_id\":1}}",
+            "{\"table\":\"process_employee\",\"row\":{\"process_id\":3,\"employee_id\":" + employeeId + "}}");
+
+        mockMvc.perform(post("/import").contentType(MediaType.APPLICATION_NDJSON).content(body))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported.process").value(3))
+            .andExpect(jsonPath("$.imported.information_flow").value(2))
+            .andExpect(jsonPath("$.imported.process_employee").value(1))
+            .andExpect(jsonPath("$.errorCount").value(0));
+
+        Long root = processId("Import root");
+        Long child = processId("Import child");
+        Long leaf = processId("Import leaf");
+        assertThat(jdbcTemplate.queryForObject("SELECT parent_process_id FROM process WHERE id = ?", Long.class, leaf)).isEqualTo(child);
+        assertThat(jdbcTemplate.queryForObject("SELECT level FROM process WHERE id = ?", Integer.class, leaf)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT internal FROM process WHERE id = ?", Boolean.class, root)).isTrue();
+        assertThat(jdbcTemplate.queryForList("SELECT ancestor_id FROM process_closure WHERE descendant_id = ? ORDER BY depth",
+            Long.class, leaf)).containsExactly(leaf, child, root);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM information_flow WHERE source_process_id = ? AND target_process_id = ?", Long.class, child, leaf))
+            .isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM information_flow WHERE source_organization_id = ? AND target_process_id = ?", Long.class,
+            organizationId, root)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT employee_id FROM process_employee WHERE process_id = ?", Long.class, leaf))
+            .isEqualTo(employeeId);
+    }
+
+    /**
+     * Test that the imported rows and the rows the application creates meanwhile take their IDs
+     * from different blocks of the same sequence.
+     */
+    @Test
+    void importedIdsDoNotCollideWithApplicationIds() throws Exception {
+        int rows = 2 * IdSequences.ALLOCATION_SIZE + 1;
+        List<ProcessEntity> created = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            ProcessEntity process = new ProcessEntity();
+            process.setName("Created " + i);
+            process.setType("Primary");
+            created.add(process);
+        }
+        processRepository.save(created.get(0));
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            body.append("{\"table\":\"process\",\"row\":{\"id\":").append(i)
+                .append(",\"name\":\"Imported ").append(i).append("\",\"type\":\"Primary\"}}\n");
+        }
+
+        mockMvc.perform(post("/import").contentType(MediaType.APPLICATION_NDJSON).content(body.toString()))
+            .andExpect(status().isOk());
+        processRepository.saveAll(created.subList(1, rows));
+
+        List<Long> ids = jdbcTemplate.queryForList(
+            "SELECT id FROM process WHERE name LIKE 'Created %' OR name LIKE 'Imported %'", Long.class);
+        assertThat(ids).hasSize(2 * rows).doesNotHaveDuplicates();
+    }
+
+    /**
+     * Test that rows that are invalid on their own are all reported and that nothing is imported.
+     */
+    @Test
+    void rejectsInvalidRows() throws Exception {
+        long before = processCount();
+        String body = ndjson(
+            "{\"table\":\"process\",\"row\":{\"id\":1,\"name\":\"Rejected\",\"type\":\"Primary\"}}",
+            "{not json",
+            "{\"table\":\"employee\",\"row\":{\"id\":1,\"name\":\"Someone\"}}",
+            "{\"table\":\"process\",\"row\":{\"id\":2,\"type\":\"Primary\"}}",
+            "{\"table\":\"information_flow\",\"row\":{\"source_process_id\":1}}");
+
+        mockMvc.perform(post("/import").contentType(MediaType.APPLICATION_NDJSON).content(body))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errorCount").value(4))
+            .andExpect(jsonPath("$.errors[0].line").value(2))
+            .andExpect(jsonPath("$.errors[1].message").value("Table employee cannot be imported"))
+            .andExpect(jsonPath("$.errors[2].message").value("name is required"))
+            .andExpect(jsonPath("$.errors[3].line").value(5));
+
+        assertThat(processCount()).isEqualTo(before);
+    }
+
+    /**
+     * Test that references that cannot be resolved are reported with their lines and that nothing is imported.
+     */
+    @Test
+    void rejectsUnresolvedReferences() throws Exception {
+        long before = processCount();
+        String body = ndjson(
+            "{\"table\":\"process\",\"row\":{\"id\":1,\"name\":\"Unresolved\",\"type\":\"Primary\"}}",
+            "{\"table\":\"process\",\"row\":{\"id\":2,\"name\":\"Orphan\",\"type\":\"Primary\",\"parent_process_id\":9}}",
+            "{\"table\":\"process\",\"row\":{\"id\":1,\"name\":\"Duplicate\",\"type\":\"Primary\"}}",
+            "{\"table\":\"information_flow\",\"row\":{\"source_organization_id\":-1,\"target_process_id\":1}}",
+            "{\"table\":\"process_employee\",\"row\":{\"process_id\":1,\"employee_id\":-1}}");
+
+        mockMvc.perform(post("/import").contentType(MediaType.APPLICATION_NDJSON).content(body))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errorCount").value(4))
+            .andExpect(jsonPath("$.errors[0].message").value("Unknown parent process 9"))
+            .andExpect(jsonPath("$.errors[1].message").value("Duplicate process id 1"))
+            .andExpect(jsonPath("$.errors[2].message").value("Unknown source organization -1"))
+            .andExpect(jsonPath("$.errors[3].message").value("Unknown employee -1"));
+
+        assertThat(processCount()).isEqualTo(before);
+    }
+
+    /**
+     * Test that processes that are their own ancestors are rejected.
+     */
+    @Test
+    void rejectsParentCycles() throws Exception {
+        String body = ndjson(
+            "{\"table\":\"process\",\"row\":{\"id\":1,\"name\":\"Cycle one\",\"type\":\"Primary\",\"parent_process_id\":2}}",
+            "{\"table\":\"process\",\"row\":{\"id\":2,\"name\":\"Cycle two\",\"type\":\"Primary\",\"parent_process_id\":1}}");
+
+        mockMvc.perform(post("/import").contentType(MediaType.APPLICATION_NDJSON).content(body))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errorCount").value(2))
+            .andExpect(jsonPath("$.errors[0].message").value("Parent cycle through process 1"));
+    }
+
+    /**
+     * Test that CSV rows are imported, with quoted fields and empty fields as null.
+     */
+    @Test
+    void importsCsv() throws Exception {
+        String body = "id,name,type,description,parent_process_id\n"
+            + "r,Csv root,Primary,\"Plan, do, \"\"check\"\"\",\n"
+            + "c,Csv child,Support,,r\n";
+
+        mockMvc.perform(post("/import?table=process").contentType("text/csv").content(body))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported.process").value(2));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT description FROM process WHERE name = 'Csv root'", String.class))
+            .isEqualTo("Plan, do, \"check\"");
+        assertThat(jdbcTemplate.queryForObject("SELECT description FROM process WHERE name = 'Csv child'", String.class)).isNull();
+        assertThat(jdbcTemplate.queryForObject("SELECT parent_process_id FROM process WHERE name = 'Csv child'", Long.class))
+            .isEqualTo(processId("Csv root"));
+    }
+
+    /**
+     * Test that a compressed body is imported.
+     */
+    @Test
+    void importsGzipBody() throws Exception {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(ndjson("{\"table\":\"process\",\"row\":{\"id\":1,\"name\":\"Compressed\",\"type\":\"Primary\"}}")
+                .getBytes(StandardCharsets.UTF_8));
+        }
+
+        mockMvc.perform(post("/import").contentType(MediaType.APPLICATION_NDJSON).header("Content-Encoding", "gzip")
+                .content(compressed.toByteArray()))
+            .andExpect(status().isOk());
+
+        assertThat(jdbcTemplate.queryForList("SELECT name FROM process WHERE name = 'Compressed'", String.class))
+            .isEqualTo(List.of("Compressed"));
+    }
+}
@@ -19,6 +19,7 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.backend.dashboard_tool.entity.Assets_Facilities.Asset;
+import com.backend.dashboard_tool.service.JsonStreamService;
 import com.backend.dashboard_tool.service.InfrastructureService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -32,6 +33,9 @@ public class InfrastructureControllerTest {
     @MockitoBean
     private InfrastructureService infrastructureService;
 
+    @MockitoBean
+    private JsonStreamService jsonStreamService;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     /**
@@ -19,6 +19,7 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.backend.dashboard_tool.entity.Process_Data.Improvement;
+import com.backend.dashboard_tool.service.JsonStreamService;
 import com.backend.dashboard_tool.service.InitiativeService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -32,6 +33,9 @@ public class InitiativeControllerTest {
     @MockitoBean
     private InitiativeService initiativeService;
 
+    @MockitoBean
+    private JsonStreamService jsonStreamService;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     private Improvement createImprovement(Long id, String name) {
@@ -4,6 +4,8 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -11,13 +13,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.backend.dashboard_tool.DTO.LayerQuery;
 import com.backend.dashboard_tool.entity.People.Department;
+import com.backend.dashboard_tool.service.JsonStreamService;
 import com.backend.dashboard_tool.service.PeopleService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -35,6 +40,9 @@ public class PeopleControllerTest {
     @MockitoBean
     private PeopleService peopleService;
 
+    @MockitoBean
+    private JsonStreamService jsonStreamService;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     /**
@@ -90,6 +98,73 @@ public class PeopleControllerTest {
         assertEquals(HttpStatus.NOT_FOUND.value(), result.getResponse().getStatus());
     }
 
+    /**
+     * Test method for the getAllPeopleByType() method in PeopleController.
+     * This test checks if the cursor, limit and filters select a page instead of all entities.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void getDepartmentsPage() throws Exception {
+        LayerQuery query = new LayerQuery(5L, 1, "dept", null, true);
+        List<Department> departments = List.of(createDepartment(6L, "Dept 6"));
+        when(peopleService.getPeoplePage("department", query)).thenReturn((List) departments);
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/people/all?type=Department&after=5&limit=1&name=dept&internal=true")).andReturn();
+        assertEquals(HttpStatus.OK.value(), result.getResponse().getStatus());
+        assertEquals(objectMapper.writeValueAsString(departments), result.getResponse().getContentAsString());
+        verify(peopleService, never()).getAllPeopleByType("department");
+    }
+
+    @Test
+    void getDepartmentsPageEmpty() throws Exception {
+        when(peopleService.getPeoplePage("department", new LayerQuery(9L, null, null, null, null))).thenReturn(List.of());
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/people/all?type=department&after=9")).andReturn();
+        assertEquals(HttpStatus.OK.value(), result.getResponse().getStatus());
+        assertEquals("[]", result.getResponse().getContentAsString());
+    }
+
+    @Test
+    void getDepartmentsPage_LimitTooLarge() throws Exception {
+        when(peopleService.getPeoplePage("department", new LayerQuery(null, 5000, null, null, null)))
+            .thenThrow(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Limit must be between 1 and 1000: 5000"));
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/people/all?type=department&limit=5000")).andReturn();
+        assertEquals(HttpStatus.BAD_REQUEST.value(), result.getResponse().getStatus());
+    }
+
+    /**
+     * Test method for the getAllPeopleByType() method in PeopleController.
+     * This test checks if stream=true hands the listing to the JsonStreamService instead of collecting it.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void getAllEmployeesStreamed() throws Exception {
+        when(jsonStreamService.streamArray(any())).thenReturn(ResponseEntity.ok(out -> out.write("[]".getBytes())));
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/people/all?type=employee&stream=true")).andReturn();
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result));
+        assertEquals("[]", result.getResponse().getContentAsString());
+        verify(jsonStreamService, times(1)).streamArray(any());
+        verify(peopleService, never()).getAllPeopleByType("employee");
+    }
+
+    // --- /count endpoint tests ---
+
+    /**
+     * Test method for the countPeople() method in PeopleController.
+     * This test checks if the number of matching entities is returned.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void countEmployees() throws Exception {
+        when(peopleService.countPeople("employee", new LayerQuery(null, null, null, "Intern", null))).thenReturn(42L);
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/people/count?type=employee&soort=Intern")).andReturn();
+        assertEquals(HttpStatus.OK.value(), result.getResponse().getStatus());
+        assertEquals("42", result.getResponse().getContentAsString());
+    }
+
     // --- /process endpoint tests ---
 
     /**
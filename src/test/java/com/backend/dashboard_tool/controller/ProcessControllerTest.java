@@ -3,6 +3,7 @@ package com.backend.dashboard_tool.controller;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -20,9 +21,20 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.RequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import com.backend.dashboard_tool.DTO.LayerItem;
+import com.backend.dashboard_tool.DTO.LayerQuery;
+import com.backend.dashboard_tool.DTO.LayerSummary;
+import com.backend.dashboard_tool.DTO.ProcessLayers;
+import com.backend.dashboard_tool.DTO.ProcessNode;
+import com.backend.dashboard_tool.DTO.ProcessTreeNode;
 import com.backend.dashboard_tool.database.ProcessRepository;
 import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+import com.backend.dashboard_tool.service.JsonStreamService;
+import com.backend.dashboard_tool.service.LayerSummaryService;
 import com.backend.dashboard_tool.service.ProcessService;
+import com.backend.dashboard_tool.service.SipocService;
+import com.backend.dashboard_tool.sipocrecords.SipocView;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
@@ -41,6 +53,15 @@ public class ProcessControllerTest {
     @MockitoBean
     private ProcessService processService;
 
+    @MockitoBean
+    private SipocService sipocService;
+
+    @MockitoBean
+    private JsonStreamService jsonStreamService;
+
+    @MockitoBean
+    private LayerSummaryService layerSummaryService;
+
     private ObjectMapper objectMapper = new ObjectMapper();
 
     private ProcessEntity createProcessEntity(Long id, String type, int level) {
@@ -193,9 +214,9 @@ public class ProcessControllerTest {
         Long parentId = 1L;
         int level = 2;
         String type = "Main";
-        List<ProcessEntity> subProcesses = List.of(
-            createProcessEntity(10L, "Main", 2),
-            createProcessEntity(11L, "Main", 2)
+        List<ProcessNode> subProcesses = List.of(
+            new ProcessNode(10L, null, "Main", null, null, 2, null, parentId),
+            new ProcessNode(11L, null, "Main", null, null, 2, null, parentId)
         );
 
         when(processService.getSubProcesses(parentId, type)).thenReturn(subProcesses);
@@ -208,7 +229,7 @@ public class ProcessControllerTest {
 
         MvcResult result = mockMvc.perform(request).andReturn();
 
-        List<ProcessEntity> response = Arrays.asList(objectMapper.readValue(result.getResponse().getContentAsString(), ProcessEntity[].class));
+        List<ProcessNode> response = Arrays.asList(objectMapper.readValue(result.getResponse().getContentAsString(), ProcessNode[].class));
         assertEquals(subProcesses, response);
         verify(processService, times(1)).getSubProcesses(parentId, type);
     }
@@ -221,8 +242,8 @@ public class ProcessControllerTest {
     @Test
     void getSubProcesses_OnlyLevel() throws Exception {
         int level = 1;
-        List<ProcessEntity> subProcesses = List.of(
-            createProcessEntity(20L, "Facilitating", 1)
+        List<ProcessNode> subProcesses = List.of(
+            new ProcessNode(20L, null, "Facilitating", null, null, 1, null, null)
         );
 
         when(processService.getSubProcesses(null, null)).thenReturn(subProcesses);
@@ -233,8 +254,77 @@ public class ProcessControllerTest {
 
         MvcResult result = mockMvc.perform(request).andReturn();
 
-        List<ProcessEntity> response = Arrays.asList(objectMapper.readValue(result.getResponse().getContentAsString(), ProcessEntity[].class));
+        List<ProcessNode> response = Arrays.asList(objectMapper.readValue(result.getResponse().getContentAsString(), ProcessNode[].class));
         assertEquals(subProcesses, response);
         verify(processService, times(1)).getSubProcesses(null, null);
     }
+
+    /**
+     * Test for getProcessTree() method in ProcessController.
+     * This test checks if the endpoint returns the nested subtree from the service.
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void getProcessTree() throws Exception {
+        ProcessTreeNode root = new ProcessTreeNode(1L, "Root", "Primary", null, null, 0, null, null, 0);
+        root.children().add(new ProcessTreeNode(2L, "Child", "Primary", null, null, 1, null, 1L, 1));
+
+        when(processService.getProcessTree(1L, 2)).thenReturn(root);
+
+        RequestBuilder request = MockMvcRequestBuilders.get("/process/tree")
+            .param("rootId", "1")
+            .param("maxDepth", "2");
+
+        MvcResult result = mockMvc.perform(request).andReturn();
+
+        ProcessTreeNode response = objectMapper.readValue(result.getResponse().getContentAsString(), ProcessTreeNode.class);
+        assertEquals(root, response);
+        verify(processService, times(1)).getProcessTree(1L, 2);
+    }
+
+    /**
+     * Test for getSipoc() method in ProcessController.
+     * This test checks if the endpoint returns the composite view from the service.
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void getSipoc() throws Exception {
+        SipocView view = new SipocView(new ProcessNode(1L, null, "Primary", null, null, 0, null, null), List.of(), List.of(), List.of(), List.of(),
+            Map.of("control", Map.of("audit", List.of())));
+
+        when(sipocService.getSipoc(1L)).thenReturn(view);
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/process/1/sipoc")).andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        JsonNode json = objectMapper.readTree(result.getResponse().getContentAsString());
+        assertEquals(1L, json.get("process").get("id").asLong());
+        assertEquals(0, json.get("layers").get("control").get("audit").size());
+        verify(sipocService, times(1)).getSipoc(1L);
+    }
+
+    /**
+     * Test for getLayers() method in ProcessController.
+     * This test checks that the default limit is used and the summary is grouped by layer and type.
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void getLayers() throws Exception {
+        ProcessLayers layers = new ProcessLayers(1L, "Primary",
+            Map.of("people", Map.of("employee", new LayerSummary(3, List.of(new LayerItem(7L, "Anna"))))));
+
+        when(layerSummaryService.getLayers(1L, LayerQuery.DEFAULT_LIMIT)).thenReturn(layers);
+        when(layerSummaryService.getLayers(1L, 0)).thenReturn(layers);
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/process/1/layers")).andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        JsonNode json = objectMapper.readTree(result.getResponse().getContentAsString());
+        assertEquals(3, json.get("layers").get("people").get("employee").get("count").asLong());
+        assertEquals("Anna", json.get("layers").get("people").get("employee").get("items").get(0).get("name").asText());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/process/1/layers").param("limit", "0")).andReturn();
+        verify(layerSummaryService, times(1)).getLayers(1L, LayerQuery.DEFAULT_LIMIT);
+        verify(layerSummaryService, times(1)).getLayers(1L, 0);
+    }
 }
@@ -0,0 +1,131 @@
+package com.backend.dashboard_tool.controller;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Test-scope datasource proxy that counts the SQL statements executed and the rows read.
+ * Importing QueryCounter.Config wraps every DataSource bean of the test context, so
+ * everything a request does is counted, including lazy loads during JSON serialization
+ * and queries issued on other threads.
+ */
+public final class QueryCounter {
+    private static final Set<String> EXECUTE_METHODS =
+        Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private static final AtomicLong statements = new AtomicLong();
+    private static final AtomicLong rows = new AtomicLong();
+
+    private QueryCounter() {
+    }
+
+    /**
+     * Resets both counters to zero.
+     */
+    public static void reset() {
+        statements.set(0);
+        rows.set(0);
+    }
+
+    /**
+     * @return the number of statements executed since the last reset
+     */
+    public static long statements() {
+        return statements.get();
+    }
+
+    /**
+     * @return the number of result set rows read since the last reset
+     */
+    public static long rows() {
+        return rows.get();
+    }
+
+    /**
+     * Wraps a DataSource so that the connections it hands out are counted.
+     *
+     * @param dataSource the DataSource to wrap
+     * @return a proxy implementing the same interfaces as the DataSource
+     */
+    public static DataSource wrap(DataSource dataSource) {
+        return proxy(dataSource, (target, method, args) -> {
+            Object result = method.invoke(target, args);
+            return result instanceof Connection connection ? wrapConnection(connection) : result;
+        });
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(connection, (target, method, args) -> {
+            Object result = method.invoke(target, args);
+            return result instanceof Statement statement ? wrapStatement(statement) : result;
+        });
+    }
+
+    private static Statement wrapStatement(Statement statement) {
+        return proxy(statement, (target, method, args) -> {
+            if (EXECUTE_METHODS.contains(method.getName())) {
+                statements.incrementAndGet();
+            }
+            Object result = method.invoke(target, args);
+            return result instanceof ResultSet resultSet ? wrapResultSet(resultSet) : result;
+        });
+    }
+
+    private static ResultSet wrapResultSet(ResultSet resultSet) {
+        return proxy(resultSet, (target, method, args) -> {
+            Object result = method.invoke(target, args);
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                rows.incrementAndGet();
+            }
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(T target, Handler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> {
+            try {
+                return handler.invoke(target, method, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+        return (T) Proxy.newProxyInstance(QueryCounter.class.getClassLoader(),
+            ClassUtils.getAllInterfaces(target), invocationHandler);
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object invoke(Object target, Method method, Object[] args) throws Throwable;
+    }
+
+    /**
+     * Test configuration that wraps every DataSource bean with the counting proxy.
+     */
+    @TestConfiguration
+    public static class Config {
+        @Bean
+        static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+}
@@ -19,6 +19,7 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.web.server.ResponseStatusException;
 import com.backend.dashboard_tool.entity.Finance.Cost;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.backend.dashboard_tool.service.JsonStreamService;
 import com.backend.dashboard_tool.service.RelevanceService;
 
 @AutoConfigureMockMvc(addFilters = false)
@@ -31,6 +32,9 @@ public class RelevanceControllerTest {
     @MockitoBean
     private RelevanceService relevanceService;
 
+    @MockitoBean
+    private JsonStreamService jsonStreamService;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     private Cost createCost(Long id, String name) {
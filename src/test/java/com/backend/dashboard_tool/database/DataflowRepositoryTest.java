@@ -3,6 +3,9 @@ package com.backend.dashboard_tool.database;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import com.backend.dashboard_tool.DTO.DataflowEdge;
+import com.backend.dashboard_tool.DTO.DataflowProcessRow;
+import com.backend.dashboard_tool.DTO.ProcessNode;
 import com.backend.dashboard_tool.entity.Process_Data.Dataflow;
 import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
 import java.util.*;
@@ -301,4 +304,84 @@ public class DataflowRepositoryTest {
         assertThat(foundDataflows.get(2)).isEqualTo(dataflow3);
         assertThat(foundDataflows.size()).isEqualTo(3);
     }
+
+    /**
+     * Test that findInputDataflowRows applies the input filter and carries the columns of the source process.
+     */
+    @Test
+    void findInputDataflowRowsWithParentId() {
+        ProcessEntity process1 = createProcessEntity("Primary", 1);
+        ProcessEntity process2 = createProcessEntity("Primary", 1);
+        ProcessEntity process3 = createProcessEntity("Primary", 0);
+        ProcessEntity process5 = createProcessEntity("Primary", 1);
+
+        process1.setParentProcess(process3);
+        process2.setParentProcess(process3);
+        process5.setName("Supplier");
+        Dataflow sibling = createDataflow(process2, process1);
+        Dataflow dataflow = createDataflow(process5, process1);
+
+        processRepository.save(process3);
+        processRepository.save(process1);
+        processRepository.save(process2);
+        processRepository.save(process5);
+        dataflowRepository.save(sibling);
+        dataflowRepository.save(dataflow);
+
+        List<DataflowProcessRow> rows = dataflowRepository.findInputDataflowRows(process1.getId(), process3.getId(), "Primary");
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).edge()).isEqualTo(new DataflowEdge(dataflow.getId(), null, null, null, null, null, null,
+            process5.getId(), process1.getId()));
+        assertThat(rows.get(0).process()).isEqualTo(new ProcessNode(process5.getId(), "Supplier", "Primary", null, null, 1, null, null));
+    }
+
+    /**
+     * Test that findOutputDataflowRows applies the output filter and carries the columns of the target process.
+     */
+    @Test
+    void findOutputDataflowRowsWithParentId() {
+        ProcessEntity process1 = createProcessEntity("Primary", 1);
+        ProcessEntity process2 = createProcessEntity("Primary", 1);
+        ProcessEntity process3 = createProcessEntity("Primary", 0);
+        ProcessEntity process4 = createProcessEntity("Primary", 0);
+
+        process1.setParentProcess(process3);
+        process2.setParentProcess(process4);
+        process2.setName("Consumer");
+        Dataflow dataflow = createDataflow(process1, process2);
+
+        processRepository.save(process3);
+        processRepository.save(process4);
+        processRepository.save(process1);
+        processRepository.save(process2);
+        dataflowRepository.save(dataflow);
+
+        List<DataflowProcessRow> rows = dataflowRepository.findOutputDataflowRows(process1.getId(), process3.getId(), "Primary");
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).sourceId()).isEqualTo(process1.getId());
+        assertThat(rows.get(0).process()).isEqualTo(new ProcessNode(process2.getId(), "Consumer", "Primary", null, null, 1, null, process4.getId()));
+    }
+
+    /**
+     * Test that findAllEdges and findEdgeById return the scalar columns and endpoint IDs of dataflows.
+     */
+    @Test
+    void findEdges() {
+        ProcessEntity process1 = createProcessEntity("Primary", 0);
+        ProcessEntity process2 = createProcessEntity("Primary", 0);
+        Dataflow dataflow = createDataflow(process1, process2);
+        dataflow.setName("Flow");
+
+        processRepository.save(process1);
+        processRepository.save(process2);
+        dataflowRepository.save(dataflow);
+
+        DataflowEdge expected = new DataflowEdge(dataflow.getId(), "Flow", null, null, null, null, null,
+            process1.getId(), process2.getId());
+        assertThat(dataflowRepository.findAllEdges()).containsExactly(expected);
+        assertThat(dataflowRepository.findEdgeById(dataflow.getId())).contains(expected);
+        assertThat(dataflowRepository.findEdgeById(999L)).isEmpty();
+    }
 }
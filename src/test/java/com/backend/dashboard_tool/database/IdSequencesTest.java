@@ -0,0 +1,72 @@
+package com.backend.dashboard_tool.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+
+@DataJpaTest
+public class IdSequencesTest {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProcessRepository processRepository;
+
+    /**
+     * Test that every entity table has its own sequence with the increment the helpers assume.
+     */
+    @Test
+    void everyEntityTableHasSequence() {
+        List<String> entityTables = DatabaseSchema.read(jdbcTemplate).stream()
+            .filter(table -> table.hasId())
+            .map(table -> table.name())
+            .toList();
+
+        assertThat(entityTables).contains("process", "information_flow", "employee", "cost", "revenue");
+        for (String table : entityTables) {
+            Long increment = jdbcTemplate.queryForObject(
+                "SELECT MAX(increment) FROM information_schema.sequences WHERE LOWER(sequence_name) = ?",
+                Long.class, IdSequences.sequenceName(table));
+            assertThat(increment).as(table).isEqualTo(IdSequences.ALLOCATION_SIZE);
+        }
+    }
+
+    /**
+     * Test that a reserved block lies after every ID Hibernate has handed out, and that blocks do not overlap.
+     */
+    @Test
+    void reservedBlocksFollowHibernateBlocks() {
+        List<ProcessEntity> processes = new ArrayList<>();
+        for (int i = 0; i < IdSequences.ALLOCATION_SIZE + 1; i++) {
+            ProcessEntity process = new ProcessEntity();
+            process.setName("Process " + i);
+            processes.add(process);
+        }
+        long maxSaved = processRepository.saveAll(processes).stream().mapToLong(ProcessEntity::getId).max().orElseThrow();
+
+        long first = IdSequences.reserveBlock(jdbcTemplate, "process");
+        long second = IdSequences.reserveBlock(jdbcTemplate, "process");
+
+        assertThat(first).isGreaterThan(maxSaved);
+        assertThat(second).isGreaterThanOrEqualTo(first + IdSequences.ALLOCATION_SIZE);
+    }
+
+    /**
+     * Test that after a restart the next block starts right after the given ID.
+     */
+    @Test
+    void restartAfterMovesNextBlock() {
+        IdSequences.restartAfter(jdbcTemplate, "employee", 1000);
+
+        assertThat(IdSequences.reserveBlock(jdbcTemplate, "employee")).isEqualTo(1001);
+        assertThat(IdSequences.nextFreeId(jdbcTemplate, "employee")).isEqualTo(1001 + 2L * IdSequences.ALLOCATION_SIZE);
+    }
+}
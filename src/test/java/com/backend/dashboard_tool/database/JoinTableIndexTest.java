@@ -0,0 +1,109 @@
+package com.backend.dashboard_tool.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.repository.Repository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.ReflectionUtils;
+
+import com.backend.dashboard_tool.database.DatabaseSchema.Table;
+
+/**
+ * Checks with EXPLAIN that the join tables are read through the indexes of the migrations, on the schema
+ * the migrations create. H2 marks a sequential scan as tableScan in its plans, and names the index it reads.
+ * H2 also indexes every foreign key column by itself, which PostgreSQL does not, so the plans must use
+ * the managed idx_ indexes rather than just any index.
+ */
+@DataJpaTest(properties =
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.backend.dashboard_tool.database.JoinTableIndexTest$Recorder")
+public class JoinTableIndexTest {
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Records the SQL of the statements Hibernate prepares.
+     */
+    public static class Recorder implements StatementInspector {
+        static final List<String> statements = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+
+    /**
+     * The SQL of the findByProcessId query of every repository that has one, by repository.
+     */
+    private Map<String, String> findByProcessIdQueries() {
+        Map<String, String> queries = new TreeMap<>();
+        for (Object repository : applicationContext.getBeansOfType(Repository.class).values()) {
+            for (Class<?> type : repository.getClass().getInterfaces()) {
+                Method method = ReflectionUtils.findMethod(type, "findByProcessId", Long.class);
+                if (method == null) {
+                    continue;
+                }
+                Recorder.statements.clear();
+                ReflectionUtils.invokeMethod(method, repository, 1L);
+                assertThat(Recorder.statements).as(type.getSimpleName()).hasSize(1);
+                queries.put(type.getSimpleName(), Recorder.statements.get(0));
+            }
+        }
+        return queries;
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, 1L).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Test that every findByProcessId query reads its process join table by process_id through the
+     * join table's covering index, and the layer table by primary key.
+     */
+    @Test
+    void findByProcessIdUsesIndexes() {
+        Map<String, String> queries = findByProcessIdQueries();
+        assertThat(queries).hasSizeGreaterThanOrEqualTo(25);
+
+        queries.forEach((repository, sql) -> {
+            String plan = explain(sql);
+            assertThat(plan).as(repository + ":\n" + plan)
+                .doesNotContain("tablescan")
+                .containsPattern("/\\* public\\.idx_process_\\w+_process: process_id = ");
+        });
+    }
+
+    /**
+     * Test that every join table can be read from either side through an index that starts with that side.
+     */
+    @Test
+    void joinTablesAreIndexedInBothDirections() {
+        List<Table> joinTables = DatabaseSchema.read(jdbcTemplate).stream().filter(Table::isJoinTable).toList();
+        assertThat(joinTables).hasSizeGreaterThanOrEqualTo(60);
+
+        for (Table table : joinTables) {
+            for (String column : table.foreignKeys().keySet()) {
+                String plan = explain("SELECT * FROM " + table.name() + " WHERE " + column + " = ?");
+                assertThat(plan).as(table.name() + "." + column + ":\n" + plan)
+                    .doesNotContain("tablescan")
+                    .containsPattern("/\\* public\\.idx_\\w+: " + column + " = ");
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.backend.dashboard_tool.database;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.backend.dashboard_tool.DTO.LayerQuery;
+import com.backend.dashboard_tool.database.People.EmployeeRepository;
+import com.backend.dashboard_tool.entity.People.Employee;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+public class LayerRepositoryTest {
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private List<Employee> employees;
+
+    @BeforeEach
+    void setUp() {
+        employees = employeeRepository.saveAll(List.of(
+            createEmployee("Anna", "Intern", true),
+            createEmployee("Bram", "Extern", false),
+            createEmployee("Anouk", "Extern", true),
+            createEmployee("Daan", "Intern", false),
+            createEmployee("100%_Jan", "Intern", true)));
+    }
+
+    private Employee createEmployee(String name, String soort, boolean internal) {
+        Employee employee = new Employee();
+        employee.setName(name);
+        employee.setSoort(soort);
+        employee.setInternal(internal);
+        return employee;
+    }
+
+    private List<Long> ids(List<Employee> page) {
+        return page.stream().map(Employee::getId).toList();
+    }
+
+    /**
+     * Test walking through all employees page by page with the ID of the last employee as cursor.
+     */
+    @Test
+    void findPageWalksAllEntitiesInIdOrder() {
+        List<Employee> first = employeeRepository.findPage(new LayerQuery(null, 2, null, null, null));
+        List<Employee> second = employeeRepository.findPage(new LayerQuery(first.get(1).getId(), 2, null, null, null));
+        List<Employee> third = employeeRepository.findPage(new LayerQuery(second.get(1).getId(), 2, null, null, null));
+        List<Employee> end = employeeRepository.findPage(new LayerQuery(third.get(0).getId(), 2, null, null, null));
+
+        assertThat(ids(first)).containsExactly(employees.get(0).getId(), employees.get(1).getId());
+        assertThat(ids(second)).containsExactly(employees.get(2).getId(), employees.get(3).getId());
+        assertThat(ids(third)).containsExactly(employees.get(4).getId());
+        assertThat(end).isEmpty();
+    }
+
+    /**
+     * Test combining the filters of a page.
+     */
+    @Test
+    void findPageAppliesFilters() {
+        List<Employee> page = employeeRepository.findPage(new LayerQuery(null, null, "an", "Intern", true));
+
+        assertThat(ids(page)).containsExactly(employees.get(0).getId(), employees.get(4).getId());
+    }
+
+    /**
+     * Test that wildcards in the name filter are matched literally.
+     */
+    @Test
+    void findPageEscapesWildcardsInName() {
+        List<Employee> page = employeeRepository.findPage(new LayerQuery(null, null, "0%_", null, null));
+
+        assertThat(ids(page)).containsExactly(employees.get(4).getId());
+    }
+
+    /**
+     * Test counting the matching employees, ignoring the cursor and the limit.
+     */
+    @Test
+    void countMatchingIgnoresCursor() {
+        assertThat(employeeRepository.countMatching(new LayerQuery(null, null, null, null, null))).isEqualTo(5);
+        assertThat(employeeRepository.countMatching(new LayerQuery(employees.get(3).getId(), 1, null, "Extern", null))).isEqualTo(2);
+    }
+
+    /**
+     * Test that a limit above the maximum is rejected.
+     */
+    @Test
+    void findPageRejectsTooLargeLimit() {
+        LayerQuery query = new LayerQuery(null, LayerQuery.MAX_LIMIT + 1, null, null, null);
+
+        assertThatThrownBy(() -> employeeRepository.findPage(query)).isInstanceOf(ResponseStatusException.class);
+    }
+}
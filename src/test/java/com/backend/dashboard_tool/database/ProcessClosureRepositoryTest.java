@@ -0,0 +1,79 @@
+package com.backend.dashboard_tool.database;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.backend.dashboard_tool.DTO.ProcessTreeNode;
+import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+public class ProcessClosureRepositoryTest {
+    @Autowired
+    private ProcessRepository processRepository;
+
+    @Autowired
+    private ProcessClosureRepository processClosureRepository;
+
+    /**
+     * Helper method to save a process below the given parent and add its closure rows.
+     */
+    private ProcessEntity saveProcess(String name, ProcessEntity parent) {
+        ProcessEntity process = new ProcessEntity();
+        process.setName(name);
+        process.setType("Primary");
+        process.setLevel(parent == null ? 0 : parent.getLevel() + 1);
+        process.setParentProcess(parent);
+        process = processRepository.save(process);
+        processClosureRepository.insertForProcess(process.getId(), parent == null ? null : parent.getId());
+        return process;
+    }
+
+    /**
+     * Test to verify that insertForProcess adds a self row and one row per ancestor.
+     */
+    @Test
+    void testInsertForProcess() {
+        ProcessEntity root = saveProcess("Root", null);
+        ProcessEntity child = saveProcess("Child", root);
+        ProcessEntity grandChild = saveProcess("GrandChild", child);
+
+        assertThat(processClosureRepository.count()).isEqualTo(6);
+        //Inserting again is a no-op, as the database trigger may already have added the rows
+        assertThat(processClosureRepository.insertForProcess(grandChild.getId(), child.getId())).isZero();
+        assertThat(processClosureRepository.count()).isEqualTo(6);
+    }
+
+    /**
+     * Test to verify that findSubtree returns the whole subtree ordered by depth.
+     */
+    @Test
+    void testFindSubtree() {
+        ProcessEntity root = saveProcess("Root", null);
+        ProcessEntity child1 = saveProcess("Child1", root);
+        ProcessEntity child2 = saveProcess("Child2", root);
+        ProcessEntity grandChild = saveProcess("GrandChild", child1);
+        saveProcess("Other", null);
+
+        List<ProcessTreeNode> subtree = processClosureRepository.findSubtree(root.getId(), Integer.MAX_VALUE);
+        assertThat(subtree).extracting(ProcessTreeNode::id)
+            .containsExactly(root.getId(), child1.getId(), child2.getId(), grandChild.getId());
+        assertThat(subtree).extracting(ProcessTreeNode::depth).containsExactly(0, 1, 1, 2);
+        assertThat(subtree.get(3).parentId()).isEqualTo(child1.getId());
+
+        assertThat(processClosureRepository.findSubtree(root.getId(), 1)).hasSize(3);
+        assertThat(processClosureRepository.findSubtree(child1.getId(), 5)).extracting(ProcessTreeNode::id)
+            .containsExactly(child1.getId(), grandChild.getId());
+    }
+
+    /**
+     * Test to verify that findSubtree returns an empty list for an unknown process.
+     */
+    @Test
+    void testFindSubtreeNotFound() {
+        assertThat(processClosureRepository.findSubtree(999L, 3)).isEmpty();
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import com.backend.dashboard_tool.DTO.ProcessNode;
 import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
 import java.util.List;
 
@@ -166,4 +167,44 @@ public class ProcessRepositoryTest {
         // Assertions to verify that no subprocesses are found
         assertThat(result).isEmpty();
     }
+
+    /**
+     * Test to verify that findAllNodes returns the scalar columns and parent ID of every process.
+     */
+    @Test
+    void testFindAllNodes() {
+        ProcessEntity parent = new ProcessEntity();
+        parent.setName("Parent");
+        parent.setType("Primary");
+        parent.setLevel(0);
+        processRepository.save(parent);
+
+        ProcessEntity child = new ProcessEntity();
+        child.setName("Child");
+        child.setType("Primary");
+        child.setLevel(1);
+        child.setParentProcess(parent);
+        processRepository.save(child);
+
+        List<ProcessNode> result = processRepository.findAllNodes();
+
+        assertThat(result).containsExactlyInAnyOrder(
+            new ProcessNode(parent.getId(), "Parent", "Primary", null, null, 0, null, null),
+            new ProcessNode(child.getId(), "Child", "Primary", null, null, 1, null, parent.getId()));
+    }
+
+    /**
+     * Test to verify that findNodeById returns a snapshot of an existing process and empty otherwise.
+     */
+    @Test
+    void testFindNodeById() {
+        ProcessEntity process = new ProcessEntity();
+        process.setName("Process");
+        process.setType("Primary");
+        processRepository.save(process);
+
+        assertThat(processRepository.findNodeById(process.getId()))
+            .contains(new ProcessNode(process.getId(), "Process", "Primary", null, null, null, null, null));
+        assertThat(processRepository.findNodeById(999L)).isEmpty();
+    }
 }
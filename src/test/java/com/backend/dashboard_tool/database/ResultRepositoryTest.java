@@ -8,6 +8,7 @@ import com.backend.dashboard_tool.database.People.OrganizationRepository;
 import com.backend.dashboard_tool.entity.People.Organization;
 import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
 import com.backend.dashboard_tool.entity.Process_Data.Result;
+import com.backend.dashboard_tool.DTO.OrganizationLink;
 import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -62,4 +63,28 @@ public class ResultRepositoryTest {
         List<Result> result = resultRepository.findBySourceProcessId(999L);
         assertThat(result).isEmpty();
     }
+
+    /**
+     * Test to verify that findAllLinks projects results onto organization links.
+     */
+    @Test
+    void testFindAllLinks() {
+        ProcessEntity process = new ProcessEntity();
+        process.setType("Primary");
+        process = processRepository.save(process);
+
+        Organization organization = new Organization();
+        organization.setName("Test Organization");
+        organization = organizationRepository.save(organization);
+
+        Result result = new Result();
+        result.setSourceProcess(process);
+        result.setTargetOrganization(organization);
+        result = resultRepository.save(result);
+
+        List<OrganizationLink> links = resultRepository.findAllLinks();
+        assertThat(links).containsExactly(
+            new OrganizationLink(result.getId(), organization.getId(), process.getId(), false));
+        assertThat(resultRepository.findLinkById(result.getId())).contains(links.get(0));
+    }
 }
@@ -0,0 +1,126 @@
+package com.backend.dashboard_tool.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+
+/**
+ * The generator commits its rows and restarts identity columns, so it runs against a
+ * database of its own instead of the shared, rolled back test database.
+ */
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:generator;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class SyntheticDataGeneratorTest {
+    private static final int PROCESSES = 300;
+    private static final int ENTITIES = 40;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProcessRepository processRepository;
+
+    private Map<String, Integer> report;
+
+    @BeforeAll
+    void generate() {
+        SyntheticDataGenerator.Settings settings = new SyntheticDataGenerator.Settings(PROCESSES, ENTITIES,
+            Map.of("organization", 10), 3, 4, 2.0, 0.6, 1.0, 0.5, 2, Map.of("process_employee", 5), 64, 7);
+        report = new SyntheticDataGenerator(jdbcTemplate, settings).generate();
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    /**
+     * Test to verify that every entity package gets the configured number of rows.
+     */
+    @Test
+    void testEntityCounts() {
+        assertThat(count("SELECT COUNT(*) FROM process")).isEqualTo(PROCESSES);
+        assertThat(count("SELECT COUNT(*) FROM organization")).isEqualTo(10);
+        assertThat(count("SELECT COUNT(*) FROM employee")).isEqualTo(ENTITIES);
+        assertThat(count("SELECT COUNT(*) FROM goal")).isEqualTo(ENTITIES);
+        assertThat(count("SELECT COUNT(*) FROM cost")).isEqualTo(ENTITIES);
+        assertThat(count("SELECT COUNT(*) FROM facility")).isEqualTo(ENTITIES);
+        assertThat(count("SELECT COUNT(*) FROM document")).isEqualTo(ENTITIES);
+        assertThat(count("SELECT COUNT(*) FROM risk WHERE risk_level IS NULL")).isZero();
+        assertThat(report).containsEntry("process", PROCESSES);
+    }
+
+    /**
+     * Test to verify that the processes form a hierarchy of the configured depth with consistent types and closure.
+     */
+    @Test
+    void testProcessHierarchy() {
+        assertThat(count("SELECT MAX(level) FROM process")).isEqualTo(2);
+        assertThat(count("SELECT COUNT(*) FROM process WHERE parent_process_id IS NULL")).isEqualTo(count(
+            "SELECT COUNT(*) FROM process WHERE level = 0"));
+        assertThat(count("SELECT COUNT(*) FROM process c JOIN process p ON p.id = c.parent_process_id "
+            + "WHERE c.type <> p.type OR c.level <> p.level + 1")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM process WHERE type NOT IN ('Primary', 'Facilitating', 'Management')")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM process_closure")).isEqualTo(count("SELECT SUM(level + 1) FROM process"));
+    }
+
+    /**
+     * Test to verify that information_flow holds dataflows, triggers and results in the configured density.
+     */
+    @Test
+    void testInformationFlows() {
+        assertThat(count("SELECT COUNT(*) FROM information_flow WHERE source_process_id IS NOT NULL "
+            + "AND target_process_id IS NOT NULL")).isEqualTo(2L * PROCESSES);
+        assertThat(count("SELECT COUNT(*) FROM information_flow WHERE source_process_id = target_process_id")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM information_flow WHERE source_organization_id IS NOT NULL "
+            + "AND target_process_id IS NOT NULL AND source_process_id IS NULL")).isEqualTo(PROCESSES);
+        assertThat(count("SELECT COUNT(*) FROM information_flow WHERE source_process_id IS NOT NULL "
+            + "AND target_organization_id IS NOT NULL AND target_process_id IS NULL")).isEqualTo(PROCESSES / 2);
+    }
+
+    /**
+     * Test to verify that join tables get links with the configured fan-out and without duplicates.
+     */
+    @Test
+    void testJoinTables() {
+        long employeeLinks = count("SELECT COUNT(*) FROM process_employee");
+        assertThat(employeeLinks).isBetween(3L * PROCESSES, 7L * PROCESSES);
+        assertThat(count("SELECT COUNT(*) FROM process_application")).isBetween(1L * PROCESSES, 3L * PROCESSES);
+        assertThat(employeeLinks).isEqualTo(count("SELECT COUNT(*) FROM (SELECT DISTINCT process_id, employee_id FROM process_employee) l"));
+        assertThat(count("SELECT COUNT(*) FROM goal_kpi")).isPositive();
+    }
+
+    /**
+     * Test to verify that rows saved by the application afterwards get ids after the generated ones.
+     */
+    @Test
+    void testSequenceRestarted() {
+        long lastGenerated = count("SELECT MAX(id) FROM process");
+        ProcessEntity process = new ProcessEntity();
+        process.setName("After generation");
+        process.setType("Primary");
+        process.setLevel(0);
+
+        assertThat(processRepository.save(process).getId()).isEqualTo(lastGenerated + 1);
+        processRepository.delete(process);
+    }
+}
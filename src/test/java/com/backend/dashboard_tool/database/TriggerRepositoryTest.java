@@ -8,6 +8,7 @@ import com.backend.dashboard_tool.database.People.OrganizationRepository;
 import com.backend.dashboard_tool.entity.People.Organization;
 import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
 import com.backend.dashboard_tool.entity.Process_Data.Trigger;
+import com.backend.dashboard_tool.DTO.OrganizationLink;
 import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -62,4 +63,28 @@ public class TriggerRepositoryTest {
         List<Trigger> result = triggerRepository.findByTargetProcessId(999L);
         assertThat(result).isEmpty();
     }
+
+    /**
+     * Test to verify that findAllLinks projects triggers onto organization links.
+     */
+    @Test
+    void testFindAllLinks() {
+        ProcessEntity process = new ProcessEntity();
+        process.setType("Primary");
+        process = processRepository.save(process);
+
+        Organization organization = new Organization();
+        organization.setName("Test Organization");
+        organization = organizationRepository.save(organization);
+
+        Trigger trigger = new Trigger();
+        trigger.setTargetProcess(process);
+        trigger.setSourceOrganization(organization);
+        trigger = triggerRepository.save(trigger);
+
+        List<OrganizationLink> links = triggerRepository.findAllLinks();
+        assertThat(links).containsExactly(
+            new OrganizationLink(trigger.getId(), organization.getId(), process.getId(), true));
+        assertThat(triggerRepository.findLinkById(trigger.getId())).contains(links.get(0));
+    }
 }
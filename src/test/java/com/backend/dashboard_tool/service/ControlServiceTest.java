@@ -16,7 +16,8 @@ import com.backend.dashboard_tool.entity.Strategy.Legislation;
 import com.backend.dashboard_tool.entity.Document;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.springframework.web.server.ResponseStatusException;
-import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+import static org.mockito.Mockito.doThrow;
+import org.springframework.http.HttpStatus;
 
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -124,7 +125,6 @@ public class ControlServiceTest {
     void getAuditsByProcessId() throws Exception {
         Long processId = 10L;
         List<Audit> audits = List.of(createAudit(1L, "Audit 1"));
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
         when(auditRepository.findByProcessId(processId)).thenReturn(audits);
 
         List<?> result = controlService.getControlsByTypeAndProcessId("audit", processId);
@@ -136,7 +136,6 @@ public class ControlServiceTest {
     void getLegislationsByProcessId() throws Exception {
         Long processId = 11L;
         List<Legislation> legislations = List.of(createLegislation(1L, "Legislation 1"));
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
         when(legislationRepository.findByProcessId(processId)).thenReturn(legislations);
 
         List<?> result = controlService.getControlsByTypeAndProcessId("legislation", processId);
@@ -148,7 +147,6 @@ public class ControlServiceTest {
     void getDocumentsByProcessId() throws Exception {
         Long processId = 12L;
         List<Document> documents = List.of(createDocument(1L, "Document 1"));
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
         when(documentRepository.findByProcessId(processId)).thenReturn(documents);
 
         List<?> result = controlService.getControlsByTypeAndProcessId("document", processId);
@@ -159,7 +157,7 @@ public class ControlServiceTest {
     @Test
     void getControlByTypeAndProcessId_ProcessNotFound() throws Exception {
         Long processId = 13L;
-        when(processService.getProcessById(processId)).thenReturn(null);
+        doThrow(new ResponseStatusException(HttpStatus.NOT_FOUND)).when(processService).requireProcess(processId);
 
         assertThrows(ResponseStatusException.class, () -> {
             controlService.getControlsByTypeAndProcessId("audit", processId);
@@ -169,7 +167,6 @@ public class ControlServiceTest {
     @Test
     void getControlByTypeAndProcessId_UnknownType() throws Exception {
         Long processId = 14L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         assertThrows(ResponseStatusException.class, () -> {
             controlService.getControlsByTypeAndProcessId("unknown", processId);
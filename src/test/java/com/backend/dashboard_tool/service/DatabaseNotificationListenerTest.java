@@ -1,14 +1,38 @@
 package com.backend.dashboard_tool.service;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.CacheManager;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 
+import com.backend.dashboard_tool.DTO.LayerQuery;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -19,6 +43,8 @@ class DatabaseNotificationListenerTest {
     @Mock
     private DataSourceProperties dbProps;
     @Mock
+    private ProcessGraph processGraph;
+    @Mock
     private Cache processCache;
     @Mock
     private Cache processesCache;
@@ -38,17 +64,23 @@ class DatabaseNotificationListenerTest {
     private Cache byProcessCache;
 
     private DatabaseNotificationListener listener;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() throws Exception {
         listener = new DatabaseNotificationListener();
         inject(listener, "cacheManager", cacheManager);
         inject(listener, "dbProps", dbProps);
+        inject(listener, "processGraph", processGraph);
+        meterRegistry = new SimpleMeterRegistry();
+        inject(listener, "meterRegistry", meterRegistry);
+        // Most tests leave the layer summaries out, they are checked by the tests that stub them
+        lenient().when(cacheManager.getCache(DatabaseNotificationListener.LAYER_SUMMARIES)).thenReturn(null);
     }
 
     private void inject(Object target, String field, Object value) {
         try {
-            var f = target.getClass().getDeclaredField(field);
+            var f = DatabaseNotificationListener.class.getDeclaredField(field);
             f.setAccessible(true);
             f.set(target, value);
         } catch (Exception e) {
@@ -285,7 +317,7 @@ class DatabaseNotificationListenerTest {
         when(cacheManager.getCache("controlByProcess")).thenReturn(byProcessCache);
 
         listener.handleNotification("audit:UPDATE");
-        verify(allCache).clear();
+        verify(allCache).evict("audit");
         verify(byProcessCache).clear();
     }
 
@@ -304,7 +336,7 @@ class DatabaseNotificationListenerTest {
         when(cacheManager.getCache("ictByProcess")).thenReturn(byProcessCache);
 
         listener.handleNotification("data_store:UPDATE");
-        verify(allCache).clear();
+        verify(allCache).evict("datastore");
         verify(byProcessCache).clear();
     }
 
@@ -323,7 +355,7 @@ class DatabaseNotificationListenerTest {
         when(cacheManager.getCache("infrastructureByProcess")).thenReturn(byProcessCache);
 
         listener.handleNotification("asset:UPDATE");
-        verify(allCache).clear();
+        verify(allCache).evict("asset");
         verify(byProcessCache).clear();
     }
 
@@ -339,17 +371,17 @@ class DatabaseNotificationListenerTest {
     @Test
     void initiativeCacheUpdate() {
         when(cacheManager.getCache("initiatives")).thenReturn(allCache);
-        when(cacheManager.getCache("initiativeByProcess")).thenReturn(byProcessCache);
+        when(cacheManager.getCache("initiativesByProcess")).thenReturn(byProcessCache);
 
         listener.handleNotification("improvement:UPDATE");
-        verify(allCache).clear();
+        verify(allCache).evict("improvement");
         verify(byProcessCache).clear();
     }
 
     @Test
     void initiativeNullCacheUpdate() {
         when(cacheManager.getCache("initiatives")).thenReturn(null);
-        when(cacheManager.getCache("initiativeByProcess")).thenReturn(null);
+        when(cacheManager.getCache("initiativesByProcess")).thenReturn(null);
 
         listener.handleNotification("improvement:UPDATE");
         verifyNoInteractions(allCache, byProcessCache);
@@ -361,7 +393,7 @@ class DatabaseNotificationListenerTest {
         when(cacheManager.getCache("peopleByProcess")).thenReturn(byProcessCache);
 
         listener.handleNotification("department:UPDATE");
-        verify(allCache).clear();
+        verify(allCache).evict("department");
         verify(byProcessCache).clear();
     }
 
@@ -377,17 +409,17 @@ class DatabaseNotificationListenerTest {
     @Test
     void performanceCacheUpdate() {
         when(cacheManager.getCache("performances")).thenReturn(allCache);
-        when(cacheManager.getCache("performanceByProcess")).thenReturn(byProcessCache);
+        when(cacheManager.getCache("performancesByProcess")).thenReturn(byProcessCache);
 
         listener.handleNotification("kpi:UPDATE");
-        verify(allCache).clear();
+        verify(allCache).evict("kpi");
         verify(byProcessCache).clear();
     }   
 
     @Test
     void performanceNullCacheUpdate() {
         when(cacheManager.getCache("performances")).thenReturn(null);
-        when(cacheManager.getCache("performanceByProcess")).thenReturn(null);
+        when(cacheManager.getCache("performancesByProcess")).thenReturn(null);
 
         listener.handleNotification("kpi:UPDATE");
         verifyNoInteractions(allCache, byProcessCache);
@@ -396,19 +428,422 @@ class DatabaseNotificationListenerTest {
     @Test
     void relevanceCacheUpdate() {
         when(cacheManager.getCache("relevances")).thenReturn(allCache);
-        when(cacheManager.getCache("relevanceByProcess")).thenReturn(byProcessCache);
+        when(cacheManager.getCache("relevancesByProcess")).thenReturn(byProcessCache);
 
         listener.handleNotification("cost:UPDATE");
-        verify(allCache).clear();
+        verify(allCache).evict("cost");
         verify(byProcessCache).clear();
     }  
     
     @Test
     void relevanceNullCacheUpdate() {
         when(cacheManager.getCache("relevances")).thenReturn(null);
-        when(cacheManager.getCache("relevanceByProcess")).thenReturn(null);
+        when(cacheManager.getCache("relevancesByProcess")).thenReturn(null);
 
         listener.handleNotification("cost:UPDATE");
         verifyNoInteractions(allCache, byProcessCache);
     }
-}
\ No newline at end of file
+
+    @Test
+    void procUpdateRefreshesGraph() {
+        listener.handleNotification("process:UPDATE:42");
+        verify(processGraph).refreshProcess("UPDATE", 42L);
+        verify(processGraph, never()).refreshInformationFlow(any(), any());
+    }
+
+    @Test
+    void flowDeleteRefreshesGraph() {
+        listener.handleNotification("information_flow:DELETE:7");
+        verify(processGraph).refreshInformationFlow("DELETE", 7L);
+        verify(processGraph, never()).refreshProcess(any(), any());
+    }
+
+    @Test
+    void layerChangeDoesNotTouchGraph() {
+        listener.handleNotification("employee:UPDATE:3");
+        verifyNoInteractions(processGraph);
+    }
+
+    /**
+     * Creates a listener that hands out the given connections in order, where null means
+     * that opening the connection fails. The listener stops itself once all are used up.
+     */
+    private DatabaseNotificationListener listenerWithConnections(Connection... connections) {
+        Deque<Optional<Connection>> remaining = new ArrayDeque<>();
+        for (Connection connection : connections) {
+            remaining.add(Optional.ofNullable(connection));
+        }
+        DatabaseNotificationListener connecting = new DatabaseNotificationListener() {
+            @Override
+            Connection openConnection() throws SQLException {
+                Optional<Connection> next = remaining.poll();
+                if (remaining.isEmpty()) {
+                    stopListening();
+                }
+                if (next == null || next.isEmpty()) {
+                    throw new SQLException("Connection refused");
+                }
+                return next.get();
+            }
+        };
+        inject(connecting, "cacheManager", cacheManager);
+        inject(connecting, "dbProps", dbProps);
+        inject(connecting, "processGraph", processGraph);
+        inject(connecting, "meterRegistry", meterRegistry);
+        inject(connecting, "running", true);
+        connecting.initialBackoffMillis = 1;
+        return connecting;
+    }
+
+    /**
+     * Creates a connection mock that delivers the given notification batches one by one
+     * and then throws, as if the connection had dropped.
+     */
+    private Connection connectionDelivering(List<String[]> batches) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        PGConnection pgConnection = mock(PGConnection.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+
+        Deque<String[]> pending = new ArrayDeque<>(batches);
+        when(pgConnection.getNotifications(anyInt())).thenAnswer(invocation -> {
+            String[] payloads = pending.poll();
+            if (payloads == null) {
+                throw new SQLException("Connection reset");
+            }
+            PGNotification[] notifications = new PGNotification[payloads.length];
+            for (int i = 0; i < payloads.length; i++) {
+                PGNotification notification = mock(PGNotification.class);
+                when(notification.getParameter()).thenReturn(payloads[i]);
+                notifications[i] = notification;
+            }
+            return notifications;
+        });
+        return connection;
+    }
+
+    @Test
+    void listenBlocksAndHandlesNotifications() throws Exception {
+        Connection connection = connectionDelivering(List.<String[]>of(new String[] {"process:UPDATE:42"}));
+        DatabaseNotificationListener connecting = listenerWithConnections(connection, null);
+
+        connecting.listen();
+
+        verify(connection.createStatement()).execute("LISTEN cache_update");
+        verify(connection.unwrap(PGConnection.class), atLeastOnce()).getNotifications(DatabaseNotificationListener.WAIT_TIMEOUT_MS);
+        verify(processGraph).refreshProcess("UPDATE", 42L);
+        verify(connection).close();
+    }
+
+    @Test
+    void listenReconnectsAfterFailureAndInvalidatesEverything() throws Exception {
+        Connection first = connectionDelivering(List.of());
+        Connection second = connectionDelivering(List.<String[]>of(new String[] {"information_flow:DELETE:7"}));
+        when(cacheManager.getCacheNames()).thenReturn(List.of("dataflows"));
+        when(cacheManager.getCache("dataflows")).thenReturn(dataflowsCache);
+        DatabaseNotificationListener connecting = listenerWithConnections(null, first, null, second, null);
+
+        connecting.listen();
+
+        // Only the reconnect clears every cache and rebuilds the graph, the first connect does not
+        verify(processGraph, times(1)).rebuild();
+        verify(dataflowsCache, atLeastOnce()).clear();
+        verify(processGraph).refreshInformationFlow("DELETE", 7L);
+        verify(first).close();
+        verify(second).close();
+    }
+
+    @Test
+    void listenChecksConnectionWhenIdle() throws Exception {
+        Connection connection = connectionDelivering(List.<String[]>of(new String[0]));
+        when(connection.isValid(anyInt())).thenReturn(false);
+        DatabaseNotificationListener connecting = listenerWithConnections(connection, null);
+
+        connecting.listen();
+
+        verify(connection).isValid(DatabaseNotificationListener.VALIDATION_TIMEOUT_S);
+        verify(connection).close();
+    }
+
+    @Test
+    void listenSurvivesFailingHandler() throws Exception {
+        doThrow(new IllegalStateException("boom")).when(processGraph).refreshProcess("UPDATE", 1L);
+        Connection connection = connectionDelivering(List.<String[]>of(new String[] {"process:UPDATE:1", "process:UPDATE:2"}));
+        DatabaseNotificationListener connecting = listenerWithConnections(connection, null);
+
+        connecting.listen();
+
+        verify(processGraph).refreshProcess("UPDATE", 2L);
+    }
+
+    @Test
+    void stopListeningEndsThread() throws Exception {
+        lenient().when(dbProps.getUrl()).thenReturn("jdbc:postgresql://127.0.0.1:1/none");
+        listener.listenForDatabaseChanges();
+        Thread thread = (Thread) readField(listener, "listenerThread");
+        assertTrue(thread.isVirtual());
+
+        listener.stopListening();
+        thread.join(5_000);
+        assertTrue(!thread.isAlive());
+    }
+
+    private Object readField(Object target, String field) throws Exception {
+        var f = DatabaseNotificationListener.class.getDeclaredField(field);
+        f.setAccessible(true);
+        return f.get(target);
+    }
+
+    @Test
+    void burstClearsEachRegionOnce() {
+        when(cacheManager.getCache("dataflows")).thenReturn(dataflowsCache);
+        List<String> payloads = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            payloads.add("information_flow:INSERT:" + id);
+        }
+
+        listener.handleNotifications(payloads);
+
+        verify(dataflowsCache, times(1)).clear();
+        verify(processGraph, times(100)).refreshInformationFlow(eq("INSERT"), any());
+        assertEquals(100, listener.getReceivedInvalidations());
+        assertEquals(1, listener.getAppliedInvalidations());
+    }
+
+    @Test
+    void largeBurstRebuildsGraphOnce() {
+        List<String> payloads = new ArrayList<>();
+        for (long id = 1; id <= DatabaseNotificationListener.InvalidationBatch.GRAPH_REBUILD_THRESHOLD + 1; id++) {
+            payloads.add("information_flow:INSERT:" + id);
+        }
+
+        listener.handleNotifications(payloads);
+
+        verify(processGraph, times(1)).rebuild();
+        verify(processGraph, never()).refreshInformationFlow(any(), any());
+    }
+
+    @Test
+    void repeatedRowIsRefreshedOnceWithLastOperation() {
+        when(cacheManager.getCache("process")).thenReturn(processCache);
+        when(cacheManager.getCache("processes")).thenReturn(processesCache);
+
+        listener.handleNotifications(List.of("process:UPDATE:1", "process:UPDATE:1", "process:DELETE:1"));
+
+        verify(processGraph, times(1)).refreshProcess(any(), any());
+        verify(processGraph).refreshProcess("DELETE", 1L);
+        verify(processCache, times(1)).evict(1L);
+        verify(processesCache, times(1)).clear();
+        assertEquals(3, listener.getReceivedInvalidations());
+        assertEquals(2, listener.getAppliedInvalidations());
+    }
+
+    /**
+     * Creates a real Caffeine backed cache holding the given keys.
+     */
+    private CaffeineCache cacheWith(String name, String... keys) {
+        CaffeineCache cache = new CaffeineCache(name, Caffeine.newBuilder().build());
+        for (String key : keys) {
+            cache.put(key, List.of());
+        }
+        return cache;
+    }
+
+    @Test
+    void joinTableChangeEvictsOnlyThatProcess() {
+        CaffeineCache people = cacheWith("people", "employee", "role");
+        CaffeineCache peopleByProcess = cacheWith("peopleByProcess", "employee-1", "employee-2", "role-1");
+        when(cacheManager.getCache("peopleByProcess")).thenReturn(peopleByProcess);
+
+        listener.handleNotifications(List.of("process_employee:INSERT:1:10", "process_employee:DELETE:1:11"));
+
+        assertNull(peopleByProcess.get("employee-1"));
+        assertNotNull(peopleByProcess.get("employee-2"));
+        assertNotNull(peopleByProcess.get("role-1"));
+        assertNotNull(people.get("employee"));
+        assertEquals(1, listener.getAppliedInvalidations());
+    }
+
+    @Test
+    void joinTableChangeWithoutProcessIdEvictsType() {
+        CaffeineCache peopleByProcess = cacheWith("peopleByProcess", "employee-1", "employee-2", "role-1");
+        when(cacheManager.getCache("peopleByProcess")).thenReturn(peopleByProcess);
+
+        listener.handleNotification("process_employee:INSERT");
+
+        assertNull(peopleByProcess.get("employee-1"));
+        assertNull(peopleByProcess.get("employee-2"));
+        assertNotNull(peopleByProcess.get("role-1"));
+    }
+
+    @Test
+    void entityChangeEvictsItsType() {
+        CaffeineCache ict = cacheWith("icts", "datastore", "system");
+        CaffeineCache ictByProcess = cacheWith("ictByProcess", "datastore-1", "datastore-2", "system-1");
+        when(cacheManager.getCache("icts")).thenReturn(ict);
+        when(cacheManager.getCache("ictByProcess")).thenReturn(ictByProcess);
+
+        listener.handleNotifications(List.of("data_store:UPDATE:3", "data_store:DELETE:4"));
+
+        assertNull(ict.get("datastore"));
+        assertNotNull(ict.get("system"));
+        assertNull(ictByProcess.get("datastore-1"));
+        assertNull(ictByProcess.get("datastore-2"));
+        assertNotNull(ictByProcess.get("system-1"));
+    }
+
+    @Test
+    void entityChangeEvictsPagesAndCountsOfItsType() {
+        String page = "employee:" + new LayerQuery(null, 10, null, null, null);
+        String count = "employee:count:" + new LayerQuery(null, null, "a", null, null);
+        String otherCount = "role:count:" + new LayerQuery(null, null, "a", null, null);
+        CaffeineCache people = cacheWith("people", "employee", page, count, otherCount);
+        when(cacheManager.getCache("people")).thenReturn(people);
+
+        listener.handleNotification("employee:INSERT:5");
+
+        assertNull(people.get("employee"));
+        assertNull(people.get(page));
+        assertNull(people.get(count));
+        assertNotNull(people.get(otherCount));
+    }
+
+    @Test
+    void mitigationMeasureUsesServiceType() {
+        CaffeineCache performancesByProcess = cacheWith("performancesByProcess", "mitigation-measure-7", "kpi-7");
+        when(cacheManager.getCache("performancesByProcess")).thenReturn(performancesByProcess);
+
+        listener.handleNotification("process_mitigation_measure:INSERT:7:1");
+
+        assertNull(performancesByProcess.get("mitigation-measure-7"));
+        assertNotNull(performancesByProcess.get("kpi-7"));
+    }
+
+    @Test
+    void organizationChangeClearsTriggersAndResults() {
+        lenient().when(cacheManager.getCache(anyString())).thenReturn(null);
+        when(cacheManager.getCache("triggers")).thenReturn(triggerCache);
+        when(cacheManager.getCache("results")).thenReturn(resultCache);
+
+        listener.handleNotification("organization:UPDATE:1");
+
+        verify(triggerCache).clear();
+        verify(resultCache).clear();
+    }
+
+    @Test
+    void invalidPayloadsAreNotCounted() {
+        listener.handleNotifications(List.of("", "justonepart", "unknown_table:UPDATE:1"));
+
+        verifyNoInteractions(processGraph);
+        assertEquals(1, listener.getReceivedInvalidations());
+        assertEquals(0, listener.getAppliedInvalidations());
+    }
+
+    /**
+     * Reads the invalidation counter of a cache, table and scope, summed over the operations.
+     */
+    private double invalidations(String cache, String table, String scope) {
+        return meterRegistry.find(DatabaseNotificationListener.INVALIDATIONS_METER)
+            .tag("cache", cache).tag("table", table).tag("scope", scope)
+            .counters().stream().mapToDouble(Counter::count).sum();
+    }
+
+    @Test
+    void burstIsCountedPerNotification() {
+        when(cacheManager.getCache("process")).thenReturn(processCache);
+        when(cacheManager.getCache("processes")).thenReturn(processesCache);
+
+        listener.handleNotifications(List.of("process:UPDATE:1", "process:UPDATE:2", "process:INSERT:3"));
+
+        assertEquals(3, invalidations("processes", "process", "clear"));
+        assertEquals(2, invalidations("process", "process", "targeted"));
+        assertEquals(1, meterRegistry.find(DatabaseNotificationListener.INVALIDATIONS_METER)
+            .tag("cache", "processes").tag("operation", "INSERT").counter().count());
+    }
+
+    @Test
+    void joinTableChangeIsCountedAsTargeted() {
+        CaffeineCache peopleByProcess = cacheWith("peopleByProcess", "employee-1");
+        when(cacheManager.getCache("peopleByProcess")).thenReturn(peopleByProcess);
+
+        listener.handleNotifications(List.of("process_employee:INSERT:1:10", "process_employee:INSERT"));
+
+        assertEquals(2, invalidations("peopleByProcess", "process_employee", "targeted"));
+        assertEquals(0, invalidations("peopleByProcess", "process_employee", "clear"));
+    }
+
+    @Test
+    void evictionInClearedCacheIsCountedAsClear() {
+        lenient().when(cacheManager.getCache(anyString())).thenReturn(null);
+
+        listener.handleNotifications(List.of("process:UPDATE:1", "process:INSERT"));
+
+        // Both notifications clear 'processes', the targeted eviction of 'process' stays targeted
+        assertEquals(2, invalidations("processes", "process", "clear"));
+        assertEquals(1, invalidations("process", "process", "targeted"));
+    }
+
+    @Test
+    void reconnectIsCountedAsClearOfEveryCache() {
+        when(cacheManager.getCacheNames()).thenReturn(List.of("processes", "dataflows"));
+        when(cacheManager.getCache("processes")).thenReturn(processesCache);
+        when(cacheManager.getCache("dataflows")).thenReturn(dataflowsCache);
+
+        listener.handleReconnect();
+
+        assertEquals(1, invalidations("processes", "*", "clear"));
+        assertEquals(1, invalidations("dataflows", "*", "clear"));
+    }
+
+    @Test
+    void listenCoalescesNotificationsWithinWindow() throws Exception {
+        when(cacheManager.getCache("processes")).thenReturn(processesCache);
+        Connection connection = connectionDelivering(List.<String[]>of(
+            new String[] {"process:INSERT:1"}, new String[] {"process:INSERT:2", "process:INSERT:3"}));
+        DatabaseNotificationListener connecting = listenerWithConnections(connection, null);
+
+        connecting.listen();
+
+        verify(processesCache, times(1)).clear();
+        verify(processGraph, times(3)).refreshProcess(eq("INSERT"), any());
+        assertEquals(3, connecting.getReceivedInvalidations());
+    }
+
+    @Test
+    void procUpdateEvictsLayerSummariesOfThatProcess() {
+        CaffeineCache summaries = cacheWith(DatabaseNotificationListener.LAYER_SUMMARIES, "42-100", "42-0", "420-100");
+        lenient().when(cacheManager.getCache(DatabaseNotificationListener.LAYER_SUMMARIES)).thenReturn(summaries);
+
+        listener.handleNotification("process:UPDATE:42");
+
+        assertNull(summaries.get("42-100"));
+        assertNull(summaries.get("42-0"));
+        assertNotNull(summaries.get("420-100"));
+    }
+
+    @Test
+    void joinTableChangeEvictsLayerSummariesOfThatProcess() {
+        CaffeineCache summaries = cacheWith(DatabaseNotificationListener.LAYER_SUMMARIES, "1-100", "2-100");
+        lenient().when(cacheManager.getCache(DatabaseNotificationListener.LAYER_SUMMARIES)).thenReturn(summaries);
+
+        listener.handleNotification("process_risk:INSERT:1:10");
+
+        assertNull(summaries.get("1-100"));
+        assertNotNull(summaries.get("2-100"));
+    }
+
+    @Test
+    void layerEntityChangeClearsLayerSummariesUnlessInserted() {
+        CaffeineCache summaries = cacheWith(DatabaseNotificationListener.LAYER_SUMMARIES, "1-100", "2-100");
+        lenient().when(cacheManager.getCache(DatabaseNotificationListener.LAYER_SUMMARIES)).thenReturn(summaries);
+
+        listener.handleNotification("risk:INSERT:10");
+        assertNotNull(summaries.get("1-100"));
+
+        listener.handleNotification("risk:UPDATE:10");
+        assertNull(summaries.get("1-100"));
+        assertNull(summaries.get("2-100"));
+    }
+}
@@ -0,0 +1,174 @@
+package com.backend.dashboard_tool.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.backend.dashboard_tool.database.DataflowRepository;
+import com.backend.dashboard_tool.database.People.OrganizationRepository;
+import com.backend.dashboard_tool.entity.Process_Data.Dataflow;
+import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Regression test for the input and output dataflow listings.
+ * Each call must issue the same number of SQL statements, however many
+ * dataflows and neighbouring processes are returned.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class DataflowServiceStatementCountTest {
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataflowRepository dataflowRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    private DataflowService dataflowService;
+    private Statistics statistics;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        // The graph is never ready here, so the service always takes the database path.
+        dataflowService = new DataflowService(dataflowRepository, organizationRepository,
+            mock(ProcessService.class), mock(ProcessGraph.class));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Helper method to save a process with a parent and a subprocess, so every
+     * lazy association of it has something to load.
+     */
+    private ProcessEntity saveNeighbour(String name) {
+        ProcessEntity parent = new ProcessEntity();
+        parent.setName(name + " parent");
+        parent.setType("Facilitating");
+        parent.setLevel(0);
+        entityManager.persist(parent);
+
+        ProcessEntity process = new ProcessEntity();
+        process.setName(name);
+        process.setType("Facilitating");
+        process.setLevel(1);
+        process.setParentProcess(parent);
+        entityManager.persist(process);
+
+        ProcessEntity child = new ProcessEntity();
+        child.setName(name + " child");
+        child.setType("Facilitating");
+        child.setLevel(2);
+        child.setParentProcess(process);
+        entityManager.persist(child);
+        return process;
+    }
+
+    /**
+     * Helper method to save a process with the given number of incoming and outgoing dataflows.
+     */
+    private ProcessEntity seed(int neighbours) {
+        ProcessEntity center = new ProcessEntity();
+        center.setName("Center");
+        center.setType("Primary");
+        center.setLevel(0);
+        entityManager.persist(center);
+
+        for (int i = 0; i < neighbours; i++) {
+            ProcessEntity neighbour = saveNeighbour("Neighbour " + i);
+            Dataflow input = new Dataflow();
+            input.setName("In " + i);
+            input.setSourceProcess(neighbour);
+            input.setTargetProcess(center);
+            entityManager.persist(input);
+
+            Dataflow output = new Dataflow();
+            output.setName("Out " + i);
+            output.setSourceProcess(center);
+            output.setTargetProcess(neighbour);
+            entityManager.persist(output);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return center;
+    }
+
+    /**
+     * Counts the statements of one service call, including serializing the result to JSON.
+     */
+    private long countStatements(Runnable call) {
+        statistics.clear();
+        call.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Test that listing input dataflows takes a single statement for any number of suppliers.
+     */
+    @Test
+    void inputDataflowsUseConstantStatements() {
+        ProcessEntity small = seed(2);
+        ProcessEntity large = seed(10);
+
+        long smallCount = countStatements(() -> serialize(dataflowService.getInputDataflows(small.getId(), null, "Primary")));
+        entityManager.clear();
+        long largeCount = countStatements(() -> serialize(dataflowService.getInputDataflows(large.getId(), null, "Primary")));
+
+        assertThat(smallCount).isEqualTo(1);
+        assertThat(largeCount).isEqualTo(smallCount);
+    }
+
+    /**
+     * Test that listing output dataflows takes a single statement for any number of consumers.
+     */
+    @Test
+    void outputDataflowsUseConstantStatements() {
+        ProcessEntity small = seed(2);
+        ProcessEntity large = seed(10);
+
+        long smallCount = countStatements(() -> serialize(dataflowService.getOutputDataflows(small.getId(), null, "Primary")));
+        entityManager.clear();
+        long largeCount = countStatements(() -> serialize(dataflowService.getOutputDataflows(large.getId(), null, "Primary")));
+
+        assertThat(smallCount).isEqualTo(1);
+        assertThat(largeCount).isEqualTo(smallCount);
+    }
+
+    /**
+     * Test that the listing still returns every supplier with its own columns.
+     */
+    @Test
+    void inputDataflowsReturnSuppliers() {
+        ProcessEntity center = seed(3);
+
+        List<String> suppliers = new ArrayList<>();
+        dataflowService.getInputDataflows(center.getId(), null, "Primary")
+            .forEach(pair -> suppliers.add(pair.supplier().getName()));
+
+        assertThat(suppliers).containsExactly("Neighbour 0", "Neighbour 1", "Neighbour 2");
+    }
+
+    private void serialize(Object value) {
+        try {
+            objectMapper.writeValueAsString(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
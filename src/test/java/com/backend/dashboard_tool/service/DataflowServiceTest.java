@@ -17,11 +17,17 @@ import java.util.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import com.backend.dashboard_tool.database.DataflowRepository;
+import com.backend.dashboard_tool.database.People.OrganizationRepository;
+import com.backend.dashboard_tool.entity.People.Organization;
 import com.backend.dashboard_tool.entity.Process_Data.Dataflow;
 import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
 import com.backend.dashboard_tool.sipocrecords.DataflowProcessPair;
 import com.backend.dashboard_tool.sipocrecords.ProcessDataflowPair;
 import com.backend.dashboard_tool.DTO.DataflowDTO;
+import com.backend.dashboard_tool.DTO.DataflowProcessRow;
+import com.backend.dashboard_tool.DTO.ImpactNode;
+import com.backend.dashboard_tool.DTO.ImpactResult;
+import com.backend.dashboard_tool.DTO.ProcessNode;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -29,7 +35,11 @@ public class DataflowServiceTest {
     @Mock
     private DataflowRepository dataflowRepository;
     @Mock
+    private OrganizationRepository organizationRepository;
+    @Mock
     private ProcessService processService;
+    @Mock
+    private ProcessGraph processGraph;
     @InjectMocks
     private DataflowService dataflowService;
 
@@ -51,6 +61,32 @@ public class DataflowServiceTest {
         return process;
     }
 
+    /**
+     * Helper method to create a ProcessNode snapshot.
+     * 
+     * @param id the ID of the process
+     * @param type the type of the process
+     * @return a ProcessNode at level 0 with the specified parameters
+     */
+    private ProcessNode createProcessNode(Long id, String type) {
+        return new ProcessNode(id, null, type, null, null, 0, null, null);
+    }
+
+    /**
+     * Helper method to create the projection row the repository returns for a dataflow.
+     * 
+     * @param dataflow the dataflow of the row
+     * @param process the process on the other end of the dataflow
+     * @return a DataflowProcessRow with the columns of both
+     */
+    private DataflowProcessRow createRow(Dataflow dataflow, ProcessEntity process) {
+        return new DataflowProcessRow(dataflow.getId(), dataflow.getName(), dataflow.getType(), dataflow.getSoort(),
+            dataflow.getInternal(), dataflow.getLevel(), dataflow.getDescription(),
+            dataflow.getSourceProcess().getId(), dataflow.getTargetProcess().getId(),
+            process.getId(), process.getName(), process.getType(), process.getSoort(), process.getInternal(),
+            process.getLevel(), process.getDescription(), null);
+    }
+
      /**
      * Test method for the getDataflows() method in DataflowController.
      * This test checks if the method returns the expected dataflows based on the provided parameters.
@@ -60,11 +96,9 @@ public class DataflowServiceTest {
     @Test
     void successfulFilter() throws Exception {
         //Mock the process service to return a list of processes
-        List<ProcessEntity> processes = new ArrayList<>();
+        List<ProcessNode> processes = List.of(createProcessNode(1L, "Facilitating"), createProcessNode(123L, "Facilitating"));
         ProcessEntity p = createProcessEntity(1L, "Facilitating", 0);
         ProcessEntity p2 = createProcessEntity(123L, "Facilitating", 0);
-        processes.add(p);
-        processes.add(p2);
 
         when(processService.getSubProcesses(null, "Facilitating")).thenReturn(processes);
 
@@ -143,8 +177,8 @@ public class DataflowServiceTest {
         dataflow.setLevel(sourceProcess.getLevel());
         dataflow.setType(sourceProcess.getType());
         
-        when(processService.getProcessById(1L)).thenReturn(sourceProcess);
-        when(processService.getProcessById(2L)).thenReturn(targetProcess);
+        when(processService.getProcessReference(1L, "Source process")).thenReturn(sourceProcess);
+        when(processService.getProcessReference(2L, "Target process")).thenReturn(targetProcess);
         when(dataflowRepository.save(Mockito.any(Dataflow.class))).thenReturn(dataflow);
 
         // Call the createDataflow method
@@ -178,8 +212,8 @@ public class DataflowServiceTest {
         dataflow.setLevel(sourceProcess.getLevel());
         dataflow.setType(sourceProcess.getType());
 
-        when(processService.getProcessById(1L)).thenReturn(sourceProcess);
-        when(processService.getProcessById(2L)).thenReturn(targetProcess);
+        when(processService.getProcessReference(1L, "Source process")).thenReturn(sourceProcess);
+        when(processService.getProcessReference(2L, "Target process")).thenReturn(targetProcess);
         when(dataflowRepository.save(Mockito.any(Dataflow.class))).thenReturn(dataflow);
 
         // Call the createDataflow method
@@ -210,13 +244,14 @@ public class DataflowServiceTest {
         // Create a DataflowDTO object with a non-existing source process ID
         DataflowDTO dataflowDTO = new DataflowDTO("Test Dataflow", null, null, "Test Description", 1L, 2L);
 
-        // Mock the process service to return null for the non-existing source process
-        when(processService.getProcessById(1L)).thenReturn(null);
+        // Mock the process service to throw for the non-existing source process
+        when(processService.getProcessReference(1L, "Source process")).thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Source process not found with ID: " + 1L));
 
         // Call the createDataflow method and expect a ResponseStatusException
-        assertThrows(ResponseStatusException.class, () -> {
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> {
             dataflowService.createDataflow(dataflowDTO);
         });
+        assertEquals(HttpStatus.NOT_FOUND, e.getStatusCode());
 
         // Verify that the dataflow repository was never called
         verify(dataflowRepository, times(0)).save(Mockito.any(Dataflow.class));
@@ -227,14 +262,15 @@ public class DataflowServiceTest {
         // Create a DataflowDTO object with a non-existing target process ID
         DataflowDTO dataflowDTO = new DataflowDTO("Test Dataflow", null, null, "Test Description", 1L, 2L);
 
-        // Mock the process service to return null for the non-existing target process
-        when(processService.getProcessById(1L)).thenReturn(createProcessEntity(1L, "Facilitating", 0));
-        when(processService.getProcessById(2L)).thenReturn(null);
+        // Mock the process service to throw for the non-existing target process
+        when(processService.getProcessReference(1L, "Source process")).thenReturn(createProcessEntity(1L, "Facilitating", 0));
+        when(processService.getProcessReference(2L, "Target process")).thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Target process not found with ID: " + 2L));
 
         // Call the createDataflow method and expect a ResponseStatusException
-        assertThrows(ResponseStatusException.class, () -> {
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> {
             dataflowService.createDataflow(dataflowDTO);
         });
+        assertEquals(HttpStatus.NOT_FOUND, e.getStatusCode());
 
         // Verify that the dataflow repository was never called
         verify(dataflowRepository, times(0)).save(Mockito.any(Dataflow.class));
@@ -278,13 +314,14 @@ public class DataflowServiceTest {
         results.add(new ProcessDataflowPair(processThree, dataflowTwo));
         results.add(new ProcessDataflowPair(processTwo, dataflowThree));
 
-        when(dataflowRepository.findInputDataflows(4L, null,"Primary")).thenReturn(dataflows);
+        when(dataflowRepository.findInputDataflowRows(4L, null,"Primary"))
+            .thenReturn(dataflows.stream().map(d -> createRow(d, d.getSourceProcess())).toList());
 
         Iterable<ProcessDataflowPair> dataflowPair = dataflowService.getInputDataflows(4L, null,"Primary");
         String actualJson = objectMapper.writeValueAsString(dataflowPair);
         String expectedJson = objectMapper.writeValueAsString(results);
         assertEquals(expectedJson, actualJson);
-        verify(dataflowRepository, times(1)).findInputDataflows(4L, null,"Primary");
+        verify(dataflowRepository, times(1)).findInputDataflowRows(4L, null,"Primary");
         verify(dataflowRepository, times(0)).findBySourceProcessId(any());
         verify(dataflowRepository, times(0)).findAll();
     }
@@ -331,7 +368,7 @@ public class DataflowServiceTest {
      */
     @Test
     void inputDataflowsNoneFound() throws Exception {
-        when(dataflowRepository.findInputDataflows(99L, null,"NoFilter")).thenReturn(Collections.emptyList());
+        when(dataflowRepository.findInputDataflowRows(99L, null,"NoFilter")).thenReturn(Collections.emptyList());
 
         Iterable<ProcessDataflowPair> dataflowPair = dataflowService.getInputDataflows(99L,null, "NoFilter");
         String actualJson = objectMapper.writeValueAsString(dataflowPair);
@@ -378,13 +415,14 @@ public class DataflowServiceTest {
         results.add(new DataflowProcessPair(dataflowTwo, processThree));
         results.add(new DataflowProcessPair(dataflowThree, processTwo));
 
-        when(dataflowRepository.findOutputDataflows(4L, null,"Primary")).thenReturn(dataflows);
+        when(dataflowRepository.findOutputDataflowRows(4L, null,"Primary"))
+            .thenReturn(dataflows.stream().map(d -> createRow(d, d.getTargetProcess())).toList());
 
         Iterable<DataflowProcessPair> dataflowPair = dataflowService.getOutputDataflows(4L, null, "Primary");
         String actualJson = objectMapper.writeValueAsString(dataflowPair);
         String expectedJson = objectMapper.writeValueAsString(results);
         assertEquals(expectedJson, actualJson);
-        verify(dataflowRepository, times(1)).findOutputDataflows(4L, null, "Primary");
+        verify(dataflowRepository, times(1)).findOutputDataflowRows(4L, null, "Primary");
         verify(dataflowRepository, times(0)).findByTargetProcessId(any());
         verify(dataflowRepository, times(0)).findAll();
     }
@@ -431,7 +469,7 @@ public class DataflowServiceTest {
      */
     @Test
     void outputDataflowsNoneFound() throws Exception {
-        when(dataflowRepository.findOutputDataflows(99L, null,"NoFilter")).thenReturn(Collections.emptyList());
+        when(dataflowRepository.findOutputDataflowRows(99L, null,"NoFilter")).thenReturn(Collections.emptyList());
     
 
         Iterable<DataflowProcessPair> dataflowPair = dataflowService.getOutputDataflows(99L, null, "NoFilter");
@@ -441,4 +479,146 @@ public class DataflowServiceTest {
     }
 
 
+
+    /**
+     * Test method for the getInputDataflows() method in DataflowService.
+     * This test checks that the process graph is used instead of the database once it is loaded.
+     */
+    @Test
+    void inputDataflowsFromGraph() {
+        ProcessEntity source = createProcessEntity(1L, "Facilitating", 0);
+        Dataflow dataflow = new Dataflow();
+        dataflow.setId(1L);
+        List<ProcessDataflowPair> pairs = List.of(new ProcessDataflowPair(source, dataflow));
+
+        when(processGraph.isReady()).thenReturn(true);
+        when(processGraph.findInputDataflows(4L, null, "Primary")).thenReturn(pairs);
+
+        Iterable<ProcessDataflowPair> result = dataflowService.getInputDataflows(4L, null, "Primary");
+
+        assertEquals(pairs, result);
+        verify(dataflowRepository, times(0)).findInputDataflowRows(any(), any(), any());
+    }
+
+    /**
+     * Test method for the getOutputDataflows() method in DataflowService.
+     * This test checks that the process graph is used instead of the database once it is loaded.
+     */
+    @Test
+    void outputDataflowsFromGraph() {
+        ProcessEntity target = createProcessEntity(2L, "Facilitating", 0);
+        Dataflow dataflow = new Dataflow();
+        dataflow.setId(1L);
+        List<DataflowProcessPair> pairs = List.of(new DataflowProcessPair(dataflow, target));
+
+        when(processGraph.isReady()).thenReturn(true);
+        when(processGraph.findOutputDataflows(4L, 3L, "Primary")).thenReturn(pairs);
+
+        Iterable<DataflowProcessPair> result = dataflowService.getOutputDataflows(4L, 3L, "Primary");
+
+        assertEquals(pairs, result);
+        verify(dataflowRepository, times(0)).findOutputDataflowRows(any(), any(), any());
+    }
+
+    /**
+     * Test method for the getDataflows() method in DataflowService.
+     * This test checks that the dataflows between the subprocesses are read from the process graph.
+     */
+    @Test
+    void filterFromGraph() {
+        List<ProcessNode> processes = List.of(createProcessNode(1L, "Facilitating"), createProcessNode(2L, "Facilitating"));
+        Dataflow dataflow = new Dataflow();
+        dataflow.setId(1L);
+
+        when(processService.getSubProcesses(null, "Facilitating")).thenReturn(processes);
+        when(processGraph.isReady()).thenReturn(true);
+        when(processGraph.findDataflowsBetween(List.of(1L, 2L))).thenReturn(List.of(dataflow));
+
+        Iterable<Dataflow> result = dataflowService.getDataflows(null, "Facilitating");
+
+        assertEquals(List.of(dataflow), result);
+        verify(dataflowRepository, times(0)).findByProcessIds(any());
+    }
+
+    /**
+     * Test method for the createDataflow() method in DataflowService.
+     * This test checks that the saved dataflow is handed to the process graph.
+     */
+    @Test
+    void createDataflowUpdatesGraph() {
+        DataflowDTO dataflowDTO = new DataflowDTO("Test Dataflow", null, null, "Test Description", 1L, 2L);
+        Dataflow saved = new Dataflow();
+        saved.setId(7L);
+
+        when(processService.getProcessReference(1L, "Source process")).thenReturn(createProcessEntity(1L, "Facilitating", 0));
+        when(processService.getProcessReference(2L, "Target process")).thenReturn(createProcessEntity(2L, "Facilitating", 0));
+        when(dataflowRepository.save(Mockito.any(Dataflow.class))).thenReturn(saved);
+
+        dataflowService.createDataflow(dataflowDTO);
+
+        verify(processGraph).putDataflowAfterCommit(saved);
+    }
+
+    /**
+     * Test method for the getImpact() method in DataflowService.
+     * This test checks that organization names are filled in with a single query.
+     */
+    @Test
+    void impactResolvesOrganizationNames() {
+        ImpactResult impact = new ImpactResult(1L, "downstream", 3, false, List.of(
+            new ImpactNode("process", 2L, "Process 2", "Primary", 1),
+            new ImpactNode("organization", 101L, null, null, 2)));
+        Organization organization = new Organization();
+        organization.setId(101L);
+        organization.setName("Customer");
+        organization.setType("External");
+
+        when(processGraph.isReady()).thenReturn(true);
+        when(processGraph.findImpact(1L, true, 3, DataflowService.MAX_IMPACT_NODES)).thenReturn(impact);
+        when(organizationRepository.findAllById(List.of(101L))).thenReturn(List.of(organization));
+
+        ImpactResult result = dataflowService.getImpact(1L, "Downstream", 3);
+
+        assertEquals(new ImpactNode("process", 2L, "Process 2", "Primary", 1), result.nodes().get(0));
+        assertEquals(new ImpactNode("organization", 101L, "Customer", "External", 2), result.nodes().get(1));
+    }
+
+    /**
+     * Test method for the getImpact() method in DataflowService.
+     * This test checks that the depth is capped and that no query runs when no organization is reached.
+     */
+    @Test
+    void impactDepthCapped() {
+        ImpactResult impact = new ImpactResult(1L, "upstream", DataflowService.MAX_IMPACT_DEPTH, false, List.of());
+
+        when(processGraph.isReady()).thenReturn(true);
+        when(processGraph.findImpact(1L, false, DataflowService.MAX_IMPACT_DEPTH, DataflowService.MAX_IMPACT_NODES)).thenReturn(impact);
+
+        assertEquals(impact, dataflowService.getImpact(1L, "upstream", 50));
+        verify(organizationRepository, times(0)).findAllById(any());
+    }
+
+    /**
+     * Test method for the getImpact() method in DataflowService.
+     * This test checks the error responses for invalid input, an unknown process and an unloaded graph.
+     */
+    @Test
+    void impactErrors() {
+        ResponseStatusException direction = assertThrows(ResponseStatusException.class,
+            () -> dataflowService.getImpact(1L, "sideways", 3));
+        assertEquals(HttpStatus.BAD_REQUEST, direction.getStatusCode());
+
+        ResponseStatusException depth = assertThrows(ResponseStatusException.class,
+            () -> dataflowService.getImpact(1L, "upstream", 0));
+        assertEquals(HttpStatus.BAD_REQUEST, depth.getStatusCode());
+
+        ResponseStatusException loading = assertThrows(ResponseStatusException.class,
+            () -> dataflowService.getImpact(1L, "upstream", 3));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, loading.getStatusCode());
+
+        when(processGraph.isReady()).thenReturn(true);
+        ResponseStatusException notFound = assertThrows(ResponseStatusException.class,
+            () -> dataflowService.getImpact(99L, "upstream", 3));
+        assertEquals(HttpStatus.NOT_FOUND, notFound.getStatusCode());
+    }
 }
@@ -18,7 +18,8 @@ import com.backend.dashboard_tool.database.Process_Data.DataStoreRepository;
 import com.backend.dashboard_tool.entity.Assets_Facilities.Application;
 import com.backend.dashboard_tool.entity.Assets_Facilities.SystemEntity;
 import com.backend.dashboard_tool.entity.Process_Data.DataStore;
-import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+import static org.mockito.Mockito.doThrow;
+import org.springframework.http.HttpStatus;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -123,7 +124,6 @@ public class ICTServiceTest {
     @Test
     void getDataStoresByProcessId() throws Exception {
         Long processId = 10L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         List<DataStore> dataStores = List.of(createDataStore(1L, "DataStore 1"));
         when(dataStoreRepository.findByProcessId(processId)).thenReturn(dataStores);
@@ -136,7 +136,6 @@ public class ICTServiceTest {
     @Test
     void getApplicationsByProcessId() throws Exception {
         Long processId = 11L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         List<Application> applications = List.of(createApplication(1L, "Application 1"));
         when(applicationRepository.findByProcessId(processId)).thenReturn(applications);
@@ -150,7 +149,6 @@ public class ICTServiceTest {
     @Test
     void getSystemEntitiesByProcessId() throws Exception {
         Long processId = 12L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         List<SystemEntity> systems = List.of(createSystemEntity(1L, "SystemEntity 1"));
         when(systemEntityRepository.findByProcessId(processId)).thenReturn(systems);
@@ -163,7 +161,7 @@ public class ICTServiceTest {
     @Test
     void getIctsByTypeAndProcessId_UnknownProcessId() throws Exception {
         Long processId = 99L;
-        when(processService.getProcessById(processId)).thenReturn(null);
+        doThrow(new ResponseStatusException(HttpStatus.NOT_FOUND)).when(processService).requireProcess(processId);
 
         assertThrows(ResponseStatusException.class, () -> {
             ictService.getIctsByTypeAndProcessId("datastore", processId);
@@ -173,7 +171,6 @@ public class ICTServiceTest {
     @Test
     void getIctsByTypeAndProcessId_UnknownType() throws Exception {
         Long processId = 99L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         assertThrows(ResponseStatusException.class, () -> {
             ictService.getIctsByTypeAndProcessId("unknown", processId);
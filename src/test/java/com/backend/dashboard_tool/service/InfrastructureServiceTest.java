@@ -17,7 +17,8 @@ import com.backend.dashboard_tool.database.Assets.LocationRepository;
 import com.backend.dashboard_tool.entity.Assets_Facilities.Asset;
 import com.backend.dashboard_tool.entity.Assets_Facilities.Facility;
 import com.backend.dashboard_tool.entity.Assets_Facilities.Location;
-import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+import static org.mockito.Mockito.doThrow;
+import org.springframework.http.HttpStatus;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -123,7 +124,6 @@ public class InfrastructureServiceTest {
     @Test
     void getAssetsByProcessId() throws Exception {
         Long processId = 10L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         List<Asset> assets = List.of(createAsset(1L, "Asset 1"));
         when(assetRepository.findByProcessId(processId)).thenReturn(assets);
@@ -136,7 +136,6 @@ public class InfrastructureServiceTest {
     @Test
     void getFacilitiesByProcessId() throws Exception {
         Long processId = 11L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         List<Facility> facilities = List.of(createFacility(1L, "Facility 1"));
         when(facilityRepository.findByProcessId(processId)).thenReturn(facilities);
@@ -149,7 +148,6 @@ public class InfrastructureServiceTest {
     @Test
     void getLocationsByProcessId() throws Exception {
         Long processId = 12L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         List<Location> locations = List.of(createLocation(1L, "Location 1"));
         when(locationRepository.findByProcessId(processId)).thenReturn(locations);
@@ -162,7 +160,7 @@ public class InfrastructureServiceTest {
     @Test
     void getInfrastructureByTypeAndProcessId_ProcessNotFound() throws Exception {
         Long processId = 13L;
-        when(processService.getProcessById(processId)).thenReturn(null);
+        doThrow(new ResponseStatusException(HttpStatus.NOT_FOUND)).when(processService).requireProcess(processId);
 
         assertThrows(ResponseStatusException.class, () -> {
             infrastructureService.getInfrastructuresByTypeAndProcessId("asset", processId);
@@ -172,7 +170,6 @@ public class InfrastructureServiceTest {
     @Test
     void getAssetByTypeAndProcessId_UnknownType() throws Exception {
         Long processId = 14L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         assertThrows(ResponseStatusException.class, () -> {
             infrastructureService.getInfrastructuresByTypeAndProcessId("unknown", processId);
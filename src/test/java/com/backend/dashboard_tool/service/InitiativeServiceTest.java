@@ -15,7 +15,8 @@ import org.springframework.web.server.ResponseStatusException;
 import com.backend.dashboard_tool.database.Strategy.ImprovementRepository;
 import com.backend.dashboard_tool.database.Strategy.ProjectRepository;
 import com.backend.dashboard_tool.entity.Process_Data.Improvement;
-import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+import static org.mockito.Mockito.doThrow;
+import org.springframework.http.HttpStatus;
 import com.backend.dashboard_tool.entity.Strategy.Project;
 
 import org.mockito.InjectMocks;
@@ -97,7 +98,6 @@ public class InitiativeServiceTest {
     @Test
     void getImprovementsByProcessId() throws Exception {
         Long processId = 10L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         List<Improvement> improvements = List.of(createImprovement(1L, "Improvement 1"));
         when(improvementRepository.findByProcessId(processId)).thenReturn(improvements);
@@ -110,7 +110,6 @@ public class InitiativeServiceTest {
     @Test
     void getProjectsByProcessId() throws Exception {
         Long processId = 11L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         List<Project> projects = List.of(createProject(1L, "Project 1"));
         when(projectRepository.findByProcessId(processId)).thenReturn(projects);
@@ -122,7 +121,7 @@ public class InitiativeServiceTest {
     @Test
     void getInitiativesByTypeAndProcessId_UnknownProcessId() throws Exception {
         Long processId = 99L;
-        when(processService.getProcessById(processId)).thenReturn(null);
+        doThrow(new ResponseStatusException(HttpStatus.NOT_FOUND)).when(processService).requireProcess(processId);
 
         assertThrows(ResponseStatusException.class, () -> {
             initiativeService.getInitiativesByTypeAndProcessId("improvement", processId);
@@ -132,7 +131,6 @@ public class InitiativeServiceTest {
     @Test
     void getInitiativesByTypeAndProcessId_UnknownType() throws Exception {
         Long processId = 99L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         assertThrows(ResponseStatusException.class, () -> {
             initiativeService.getInitiativesByTypeAndProcessId("unknown", processId);
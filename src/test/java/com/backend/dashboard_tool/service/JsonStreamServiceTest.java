@@ -0,0 +1,132 @@
+package com.backend.dashboard_tool.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.backend.dashboard_tool.database.ProcessRepository;
+import com.backend.dashboard_tool.database.People.EmployeeRepository;
+import com.backend.dashboard_tool.entity.People.Employee;
+import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Checks that the streamed listings hold the same JSON as the regular ones,
+ * also when they are longer than the interval at which the persistence context is cleared.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "app.migrations.enabled=false"
+})
+@AutoConfigureMockMvc(addFilters = false)
+@AutoConfigureTestDatabase
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class JsonStreamServiceTest {
+    private static final int EMPLOYEES = 2 * JsonStreamService.FLUSH_INTERVAL + 7;
+
+    @MockitoBean
+    private DatabaseNotificationListener databaseNotificationListener;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ProcessRepository processRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    void seed() {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            Employee employee = new Employee();
+            employee.setName("Employee " + i);
+            employee.setInternal(i % 2 == 0);
+            employees.add(employee);
+        }
+        employeeRepository.saveAll(employees);
+
+        ProcessEntity root = new ProcessEntity();
+        root.setName("Root");
+        root.setType("Primary");
+        root.setLevel(0);
+        processRepository.save(root);
+        ProcessEntity child = new ProcessEntity();
+        child.setName("Child");
+        child.setType("Primary");
+        child.setLevel(1);
+        child.setParentProcess(root);
+        processRepository.save(child);
+    }
+
+    private JsonNode streamed(String url) throws Exception {
+        MvcResult started = mockMvc.perform(get(url)).andExpect(request().asyncStarted()).andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk()).andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private JsonNode collected(String url) throws Exception {
+        MvcResult result = mockMvc.perform(get(url)).andExpect(status().isOk()).andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    /**
+     * Test that a streamed layer listing holds every entity in ID order, like the regular listing.
+     */
+    @Test
+    void streamedLayerListingMatchesCollectedListing() throws Exception {
+        JsonNode streamed = streamed("/people/all?type=Employee&stream=true");
+
+        assertThat(streamed.size()).isEqualTo(EMPLOYEES);
+        assertThat(streamed).isEqualTo(collected("/people/all?type=employee"));
+    }
+
+    /**
+     * Test that the streamed process listing matches the regular one.
+     */
+    @Test
+    void streamedProcessListingMatchesCollectedListing() throws Exception {
+        JsonNode streamed = streamed("/process/all?stream=true");
+
+        assertThat(streamed.size()).isEqualTo(2);
+        assertThat(streamed).isEqualTo(collected("/process/all"));
+    }
+
+    /**
+     * Test that an empty table is streamed as an empty array.
+     */
+    @Test
+    void streamedEmptyListingIsEmptyArray() throws Exception {
+        assertThat(streamed("/performance/all?type=kpi&stream=true").isEmpty()).isTrue();
+    }
+
+    /**
+     * Test that an unknown type is rejected before anything is written.
+     */
+    @Test
+    void streamedUnknownTypeIsBadRequest() throws Exception {
+        MvcResult started = mockMvc.perform(get("/people/all?type=unknown&stream=true")).andExpect(request().asyncStarted()).andReturn();
+        mockMvc.perform(asyncDispatch(started)).andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,138 @@
+package com.backend.dashboard_tool.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.backend.dashboard_tool.DTO.LayerItem;
+import com.backend.dashboard_tool.DTO.ProcessLayers;
+import com.backend.dashboard_tool.controller.QueryCounter;
+import com.backend.dashboard_tool.entity.People.Employee;
+import com.backend.dashboard_tool.entity.Process_Data.DataStore;
+import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+import com.backend.dashboard_tool.entity.Strategy.MitigationMeasure;
+
+/**
+ * Checks that the layer summary of a process reads every layer type with one statement.
+ */
+@DataJpaTest
+@Import(QueryCounter.Config.class)
+public class LayerSummaryServiceTest {
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LayerSummaryService layerSummaryService;
+    private ProcessEntity process;
+    private List<Employee> employees;
+    private DataStore dataStore;
+    private MitigationMeasure measure;
+
+    @BeforeEach
+    void setUp() {
+        layerSummaryService = new LayerSummaryService(jdbcTemplate);
+
+        process = new ProcessEntity();
+        process.setName("Inkoop");
+        process.setType("Main");
+        process.setLevel(0);
+        entityManager.persist(process);
+        ProcessEntity other = new ProcessEntity();
+        other.setName("Verkoop");
+        other.setType("Main");
+        other.setLevel(0);
+        entityManager.persist(other);
+
+        employees = List.of(employee("Anna"), employee("Bram"), employee("Daan"));
+        dataStore = new DataStore();
+        dataStore.setName("CRM");
+        entityManager.persist(dataStore);
+        measure = new MitigationMeasure();
+        measure.setName("Vier ogen");
+        entityManager.persist(measure);
+        entityManager.flush();
+
+        for (Employee employee : employees) {
+            link("process_employee", "employee_id", process.getId(), employee.getId());
+        }
+        link("process_employee", "employee_id", other.getId(), employees.get(0).getId());
+        link("process_datastore", "datastore_id", process.getId(), dataStore.getId());
+        link("process_mitigation_measure", "mitigation_measure_id", process.getId(), measure.getId());
+    }
+
+    private Employee employee(String name) {
+        Employee employee = new Employee();
+        employee.setName(name);
+        entityManager.persist(employee);
+        return employee;
+    }
+
+    private void link(String table, String column, Long processId, Long entityId) {
+        jdbcTemplate.update("INSERT INTO " + table + " (process_id, " + column + ") VALUES (?, ?)", processId, entityId);
+    }
+
+    /**
+     * Test that every layer type is summarized by one statement, with its count and items in ID order.
+     */
+    @Test
+    void getLayersReadsAllLayersInOneStatement() {
+        QueryCounter.reset();
+        ProcessLayers layers = layerSummaryService.getLayers(process.getId(), 100);
+        assertThat(QueryCounter.statements()).isEqualTo(1);
+
+        assertThat(layers.processId()).isEqualTo(process.getId());
+        assertThat(layers.name()).isEqualTo("Inkoop");
+        assertThat(layers.layers().keySet()).containsExactlyElementsOf(SipocService.LAYER_TYPES.keySet());
+        assertThat(layers.layers().get("people").get("employee").count()).isEqualTo(3);
+        assertThat(layers.layers().get("people").get("employee").items()).containsExactly(
+            new LayerItem(employees.get(0).getId(), "Anna"),
+            new LayerItem(employees.get(1).getId(), "Bram"),
+            new LayerItem(employees.get(2).getId(), "Daan"));
+        assertThat(layers.layers().get("ict").get("datastore").items()).containsExactly(new LayerItem(dataStore.getId(), "CRM"));
+        assertThat(layers.layers().get("performance").get("mitigation-measure").count()).isEqualTo(1);
+        assertThat(layers.layers().get("people").get("role").count()).isZero();
+        assertThat(layers.layers().get("people").get("role").items()).isEmpty();
+        assertThat(layers.itemCount()).isEqualTo(5);
+    }
+
+    /**
+     * Test that the limit caps the items per type but not the counts.
+     */
+    @Test
+    void getLayersLimitsItemsButNotCounts() {
+        ProcessLayers layers = layerSummaryService.getLayers(process.getId(), 2);
+        assertThat(layers.layers().get("people").get("employee").count()).isEqualTo(3);
+        assertThat(layers.layers().get("people").get("employee").items()).extracting(LayerItem::name).containsExactly("Anna", "Bram");
+
+        ProcessLayers counts = layerSummaryService.getLayers(process.getId(), 0);
+        assertThat(counts.layers().get("people").get("employee").count()).isEqualTo(3);
+        assertThat(counts.layers().get("ict").get("datastore").count()).isEqualTo(1);
+        assertThat(counts.itemCount()).isZero();
+    }
+
+    /**
+     * Test that an unknown process gives 404 and a limit out of range 400.
+     */
+    @Test
+    void getLayersRejectsUnknownProcessAndInvalidLimit() {
+        assertThatThrownBy(() -> layerSummaryService.getLayers(-1L, 10))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+        assertThatThrownBy(() -> layerSummaryService.getLayers(process.getId(), -1))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+}
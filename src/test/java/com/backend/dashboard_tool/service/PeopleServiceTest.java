@@ -22,7 +22,9 @@ import com.backend.dashboard_tool.entity.People.Employee;
 import com.backend.dashboard_tool.entity.People.Function;
 import com.backend.dashboard_tool.entity.People.Organization;
 import com.backend.dashboard_tool.entity.People.Role;
-import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+import com.backend.dashboard_tool.DTO.LayerQuery;
+import static org.mockito.Mockito.doThrow;
+import org.springframework.http.HttpStatus;
 import com.backend.dashboard_tool.entity.People.Consultation;
 
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -262,7 +264,6 @@ public class PeopleServiceTest {
     @Test
     void getDepartmentsByProcessId() throws Exception {
         Long processId = 10L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         List<Department> departments = List.of(createDepartment(1L, "Dept 1"));
         when(departmentRepository.findByProcessId(processId)).thenReturn(departments);
@@ -281,7 +282,6 @@ public class PeopleServiceTest {
     @Test
     void getEmployeesByProcessId() throws Exception {
         Long processId = 11L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         List<Employee> employees = List.of(createEmployee(1L, "Emp 1"));
         when(employeeRepository.findByProcessId(processId)).thenReturn(employees);
@@ -300,7 +300,6 @@ public class PeopleServiceTest {
     @Test
     void getFunctionsByProcessId() throws Exception {
         Long processId = 12L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         List<Function> functions = List.of(createFunction(1L, "Func 1"));
         when(functionRepository.findByProcessId(processId)).thenReturn(functions);
@@ -319,7 +318,6 @@ public class PeopleServiceTest {
     @Test
     void getOrganizationsByProcessId() throws Exception {
         Long processId = 13L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         List<Organization> orgs = List.of(createOrganization(1L, "Org 1"));
         when(organizationRepository.findByProcessId(processId)).thenReturn(orgs);
@@ -338,7 +336,6 @@ public class PeopleServiceTest {
     @Test
     void getRolesByProcessId() throws Exception {
         Long processId = 14L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         List<Role> roles = List.of(createRole(1L, "Role 1"));
         when(roleRepository.findByProcessId(processId)).thenReturn(roles);
@@ -357,7 +354,6 @@ public class PeopleServiceTest {
     @Test
     void getConsultationsByProcessId() throws Exception {
         Long processId = 15L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         List<Consultation> consultations = List.of(createConsultation(1L, "Consultation 1"));
         when(consultationRepository.findByProcessId(processId)).thenReturn(consultations);
@@ -370,7 +366,7 @@ public class PeopleServiceTest {
     @Test
     void getPeopleServicesByTypeAndProcessId_UnknownProcessId() throws Exception {
         Long processId = 99L;
-        when(processService.getProcessById(processId)).thenReturn(null);
+        doThrow(new ResponseStatusException(HttpStatus.NOT_FOUND)).when(processService).requireProcess(processId);
 
         assertThrows(ResponseStatusException.class, () -> {
             peopleService.getPeopleByTypeAndProcessId("improvement", processId);
@@ -386,10 +382,47 @@ public class PeopleServiceTest {
     @Test
     void getPeopleByTypeAndProcessId_UnknownType() throws Exception {
         Long processId = 99L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         assertThrows(ResponseStatusException.class, () -> {
             peopleService.getPeopleByTypeAndProcessId("unknown", processId);
         });
     }
+
+    // --- page and count tests ---
+
+    /**
+     * Test method for the getPeoplePage() method in PeopleService.
+     * This test checks if the page is fetched from the repository of the type.
+     */
+    @Test
+    void getEmployeesPage() {
+        LayerQuery query = new LayerQuery(10L, 2, null, null, null);
+        List<Employee> employees = List.of(createEmployee(11L, "Emp 11"), createEmployee(12L, "Emp 12"));
+        when(employeeRepository.findPage(query)).thenReturn(employees);
+
+        assertEquals(employees, peopleService.getPeoplePage("employee", query));
+    }
+
+    /**
+     * Test method for the countPeople() method in PeopleService.
+     * This test checks if the count is taken from the repository of the type.
+     */
+    @Test
+    void countRoles() {
+        LayerQuery query = new LayerQuery(null, null, "lead", null, null);
+        when(roleRepository.countMatching(query)).thenReturn(3L);
+
+        assertEquals(3L, peopleService.countPeople("role", query));
+    }
+
+    /**
+     * Test method for the countPeople() method in PeopleService.
+     * This test checks if an unknown type is rejected.
+     */
+    @Test
+    void countPeople_UnknownType() {
+        LayerQuery query = new LayerQuery(null, null, null, null, null);
+
+        assertThrows(ResponseStatusException.class, () -> peopleService.countPeople("unknown", query));
+    }
 }
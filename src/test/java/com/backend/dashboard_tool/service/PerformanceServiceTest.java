@@ -16,7 +16,8 @@ import org.springframework.web.server.ResponseStatusException;
 import com.backend.dashboard_tool.database.Strategy.KPIRepository;
 import com.backend.dashboard_tool.database.Strategy.MitigationMeasureRepository;
 import com.backend.dashboard_tool.database.Strategy.RiskRepository;
-import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+import static org.mockito.Mockito.doThrow;
+import org.springframework.http.HttpStatus;
 import com.backend.dashboard_tool.entity.Strategy.KPI;
 import com.backend.dashboard_tool.entity.Strategy.MitigationMeasure;
 import com.backend.dashboard_tool.entity.Strategy.Risk;
@@ -122,7 +123,6 @@ public class PerformanceServiceTest {
     @Test
     void getKPIsByProcessId() throws Exception {
         Long processId = 10L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         List<KPI> kpis = List.of(createKPI(1L, "KPI 1"));
         when(kpiRepository.findByProcessId(processId)).thenReturn(kpis);
@@ -135,7 +135,6 @@ public class PerformanceServiceTest {
     @Test
     void getRisksByProcessId() throws Exception {
         Long processId = 11L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         List<Risk> risks = List.of(createRisk(1L, "Risk 1"));
         when(riskRepository.findByProcessId(processId)).thenReturn(risks);
@@ -148,7 +147,6 @@ public class PerformanceServiceTest {
     @Test
     void getMitigationMeasuresByProcessId() throws Exception {
         Long processId = 12L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         List<MitigationMeasure> measures = List.of(createMitigationMeasure(1L, "Measure 1"));
         when(mitigationMeasureRepository.findByProcessId(processId)).thenReturn(measures);
@@ -161,7 +159,7 @@ public class PerformanceServiceTest {
     @Test
     void getPerformancesByTypeAndProcessId_UnknownProcessId() throws Exception {
         Long processId = 99L;
-        when(processService.getProcessById(processId)).thenReturn(null);
+        doThrow(new ResponseStatusException(HttpStatus.NOT_FOUND)).when(processService).requireProcess(processId);
 
         assertThrows(ResponseStatusException.class, () -> {
             performanceService.getPerformancesByTypeAndProcessId("kpi", processId);
@@ -171,7 +169,6 @@ public class PerformanceServiceTest {
     @Test
     void getPerformancesByTypeAndProcessId_UnknownType() throws Exception {
         Long processId = 99L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         assertThrows(ResponseStatusException.class, () -> {
             performanceService.getPerformancesByTypeAndProcessId("unknown", processId);
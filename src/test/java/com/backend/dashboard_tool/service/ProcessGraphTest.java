@@ -0,0 +1,479 @@
+package com.backend.dashboard_tool.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import com.backend.dashboard_tool.DTO.DataflowEdge;
+import com.backend.dashboard_tool.DTO.ImpactNode;
+import com.backend.dashboard_tool.DTO.ImpactResult;
+import com.backend.dashboard_tool.DTO.OrganizationLink;
+import com.backend.dashboard_tool.DTO.ProcessNode;
+import com.backend.dashboard_tool.database.DataflowRepository;
+import com.backend.dashboard_tool.database.ProcessRepository;
+import com.backend.dashboard_tool.database.ResultRepository;
+import com.backend.dashboard_tool.database.TriggerRepository;
+import com.backend.dashboard_tool.entity.Process_Data.Dataflow;
+import com.backend.dashboard_tool.sipocrecords.DataflowProcessPair;
+import com.backend.dashboard_tool.sipocrecords.ProcessDataflowPair;
+
+/**
+ * Test class for ProcessGraph.
+ * This class contains unit tests for loading, querying and incrementally updating the graph.
+ */
+@ExtendWith(MockitoExtension.class)
+public class ProcessGraphTest {
+    @Mock
+    private ProcessRepository processRepository;
+    @Mock
+    private DataflowRepository dataflowRepository;
+    @Mock
+    private TriggerRepository triggerRepository;
+    @Mock
+    private ResultRepository resultRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @InjectMocks
+    private ProcessGraph processGraph;
+
+    /**
+     * Helper method to create a ProcessNode object.
+     *
+     * @param id the ID of the process
+     * @param type the type of the process
+     * @param parentId the ID of the parent process (optional)
+     * @return a ProcessNode with the specified parameters
+     */
+    private ProcessNode node(long id, String type, Long parentId) {
+        return new ProcessNode(id, "Process " + id, type, null, null, parentId == null ? 0 : 1, null, parentId);
+    }
+
+    /**
+     * Helper method to create a DataflowEdge object.
+     *
+     * @param id the ID of the dataflow
+     * @param source the ID of the source process
+     * @param target the ID of the target process
+     * @return a DataflowEdge with the specified parameters
+     */
+    private DataflowEdge edge(long id, long source, long target) {
+        return new DataflowEdge(id, "Dataflow " + id, null, null, null, null, null, source, target);
+    }
+
+    /**
+     * Helper method to create a trigger or result OrganizationLink.
+     *
+     * @param id the ID of the trigger or result
+     * @param organization the ID of the organization
+     * @param process the ID of the process
+     * @param trigger true for a trigger (organization to process), false for a result (process to organization)
+     * @return an OrganizationLink with the specified parameters
+     */
+    private OrganizationLink link(long id, long organization, long process, boolean trigger) {
+        return new OrganizationLink(id, organization, process, trigger);
+    }
+
+    /**
+     * Helper method to map impact nodes to "kind:id@depth" strings for compact assertions.
+     *
+     * @param impact the ImpactResult to map
+     * @return a list of strings describing the nodes
+     */
+    private List<String> describe(ImpactResult impact) {
+        return impact.nodes().stream()
+            .map(node -> node.kind() + ":" + node.id() + "@" + node.depth())
+            .toList();
+    }
+
+    /**
+     * Loads a small graph: processes 1 and 2 are level 0 "Primary", 3 is level 0 "Facilitating",
+     * 4 and 5 are subprocesses of 1.
+     * Organization 100 triggers process 1, process 2 delivers a result to organization 101,
+     * and organization 101 triggers process 3.
+     */
+    @BeforeEach
+    void setUp() {
+        when(processRepository.findAllNodes()).thenReturn(List.of(
+            node(1L, "Primary", null),
+            node(2L, "Primary", null),
+            node(3L, "Facilitating", null),
+            node(4L, "Primary", 1L),
+            node(5L, "Primary", 1L)));
+        when(dataflowRepository.findAllEdges()).thenReturn(List.of(
+            edge(12L, 3L, 2L),
+            edge(10L, 1L, 2L),
+            edge(11L, 4L, 2L),
+            edge(13L, 4L, 5L)));
+        when(triggerRepository.findAllLinks()).thenReturn(List.of(
+            link(30L, 100L, 1L, true),
+            link(32L, 101L, 3L, true)));
+        when(resultRepository.findAllLinks()).thenReturn(List.of(
+            link(31L, 101L, 2L, false)));
+        processGraph.rebuild();
+    }
+
+    /**
+     * Test that the graph reports its size after loading.
+     */
+    @Test
+    void rebuildLoadsNodesAndEdges() {
+        assertTrue(processGraph.isReady());
+        assertEquals(5, processGraph.size());
+        assertEquals(4, processGraph.edgeCount());
+        assertEquals(3, processGraph.linkCount());
+    }
+
+    /**
+     * Test that input dataflows from processes already in the level 0 view are filtered out,
+     * and that the result is ordered by dataflow ID.
+     */
+    @Test
+    void inputDataflowsLevelZeroView() {
+        List<ProcessDataflowPair> pairs = processGraph.findInputDataflows(2L, null, "Primary");
+
+        assertEquals(2, pairs.size());
+        assertEquals(11L, pairs.get(0).trigger().getId());
+        assertEquals(4L, pairs.get(0).supplier().getId());
+        assertEquals(12L, pairs.get(1).trigger().getId());
+        assertEquals(3L, pairs.get(1).supplier().getId());
+        assertEquals(2L, pairs.get(1).trigger().getTargetProcess().getId());
+    }
+
+    /**
+     * Test that output dataflows to subprocesses of the viewed parent are filtered out.
+     */
+    @Test
+    void outputDataflowsSubprocessView() {
+        List<DataflowProcessPair> pairs = processGraph.findOutputDataflows(4L, 1L, "Primary");
+
+        assertEquals(1, pairs.size());
+        assertEquals(11L, pairs.get(0).result().getId());
+        assertEquals(2L, pairs.get(0).consumer().getId());
+    }
+
+    /**
+     * Test that unknown processes have no dataflows.
+     */
+    @Test
+    void unknownProcessHasNoDataflows() {
+        assertTrue(processGraph.findInputDataflows(99L, null, "Primary").isEmpty());
+        assertTrue(processGraph.findOutputDataflows(99L, null, "Primary").isEmpty());
+    }
+
+    /**
+     * Test that only dataflows with both endpoints in the given set are returned.
+     */
+    @Test
+    void dataflowsBetweenProcesses() {
+        List<Dataflow> dataflows = processGraph.findDataflowsBetween(List.of(1L, 2L, 3L));
+
+        assertEquals(List.of(10L, 12L), dataflows.stream().map(Dataflow::getId).toList());
+    }
+
+    /**
+     * Test that an inserted dataflow is loaded from the database and added to the graph.
+     */
+    @Test
+    void refreshDataflowInsert() {
+        when(dataflowRepository.findEdgeById(14L)).thenReturn(Optional.of(edge(14L, 5L, 2L)));
+
+        processGraph.refreshInformationFlow("INSERT", 14L);
+
+        assertEquals(5, processGraph.edgeCount());
+        assertEquals(List.of(11L, 12L, 14L), processGraph.findInputDataflows(2L, null, "Primary").stream()
+            .map(pair -> pair.trigger().getId()).toList());
+    }
+
+    /**
+     * Test that an updated dataflow is moved to its new endpoints.
+     */
+    @Test
+    void refreshDataflowUpdateMovesEdge() {
+        when(dataflowRepository.findEdgeById(12L)).thenReturn(Optional.of(edge(12L, 3L, 5L)));
+
+        processGraph.refreshInformationFlow("UPDATE", 12L);
+
+        assertEquals(4, processGraph.edgeCount());
+        assertEquals(1, processGraph.findInputDataflows(2L, null, "Primary").size());
+        assertEquals(12L, processGraph.findInputDataflows(5L, 1L, "Primary").get(0).trigger().getId());
+    }
+
+    /**
+     * Test that a deleted dataflow is removed without a database round-trip.
+     */
+    @Test
+    void refreshDataflowDelete() {
+        processGraph.refreshInformationFlow("DELETE", 10L);
+
+        assertEquals(3, processGraph.edgeCount());
+        assertTrue(processGraph.findOutputDataflows(1L, null, "Facilitating").isEmpty());
+        verify(dataflowRepository, never()).findEdgeById(10L);
+    }
+
+    /**
+     * Test that an information flow that is not a dataflow (trigger or result) is ignored.
+     */
+    @Test
+    void refreshNonDataflowIgnored() {
+        when(dataflowRepository.findEdgeById(20L)).thenReturn(Optional.empty());
+
+        processGraph.refreshInformationFlow("INSERT", 20L);
+
+        assertEquals(4, processGraph.edgeCount());
+    }
+
+    /**
+     * Test that a dataflow to a process that is not yet in the graph loads that process first.
+     */
+    @Test
+    void refreshDataflowLoadsMissingProcess() {
+        when(dataflowRepository.findEdgeById(15L)).thenReturn(Optional.of(edge(15L, 6L, 2L)));
+        when(processRepository.findNodeById(6L)).thenReturn(Optional.of(node(6L, "Steering", null)));
+
+        processGraph.refreshInformationFlow("INSERT", 15L);
+
+        assertEquals(6, processGraph.size());
+        assertEquals(5, processGraph.edgeCount());
+    }
+
+    /**
+     * Test that an updated process changes how it is filtered, without touching its dataflows.
+     */
+    @Test
+    void refreshProcessUpdate() {
+        when(processRepository.findNodeById(3L)).thenReturn(Optional.of(node(3L, "Primary", null)));
+
+        processGraph.refreshProcess("UPDATE", 3L);
+
+        assertEquals(List.of(11L), processGraph.findInputDataflows(2L, null, "Primary").stream()
+            .map(pair -> pair.trigger().getId()).toList());
+        assertEquals(4, processGraph.edgeCount());
+    }
+
+    /**
+     * Test that a deleted process is removed together with its dataflows,
+     * and that freed slots are reused.
+     */
+    @Test
+    void refreshProcessDelete() {
+        processGraph.refreshProcess("DELETE", 4L);
+
+        assertEquals(4, processGraph.size());
+        assertEquals(2, processGraph.edgeCount());
+        assertTrue(processGraph.findInputDataflows(5L, null, "Facilitating").isEmpty());
+
+        processGraph.putProcess(node(7L, "Primary", null));
+        processGraph.putDataflow(edge(16L, 7L, 2L));
+        assertEquals(5, processGraph.size());
+        assertEquals(16L, processGraph.findOutputDataflows(7L, 1L, "Primary").get(0).result().getId());
+    }
+
+    /**
+     * Test that the graph knows its processes, also after they are added or removed,
+     * and knows none until it is loaded.
+     */
+    @Test
+    void containsProcess() {
+        assertTrue(processGraph.containsProcess(4L));
+        assertFalse(processGraph.containsProcess(7L));
+        assertFalse(processGraph.containsProcess(null));
+
+        processGraph.refreshProcess("DELETE", 4L);
+        processGraph.putProcess(node(7L, "Primary", null));
+        assertFalse(processGraph.containsProcess(4L));
+        assertTrue(processGraph.containsProcess(7L));
+
+        ProcessGraph unloaded = new ProcessGraph(processRepository, dataflowRepository, triggerRepository, resultRepository, transactionManager);
+        assertFalse(unloaded.containsProcess(1L));
+    }
+
+    /**
+     * Test that notifications are ignored while the graph is not loaded and no load runs.
+     */
+    @Test
+    void notReadyIgnoresNotifications() {
+        ProcessGraph unloaded = new ProcessGraph(processRepository, dataflowRepository, triggerRepository, resultRepository, transactionManager);
+
+        unloaded.refreshInformationFlow("INSERT", 14L);
+
+        assertFalse(unloaded.isReady());
+        verify(dataflowRepository, never()).findEdgeById(14L);
+    }
+
+    /**
+     * Test that the rows of a rebuild are read in one read-only, repeatable-read transaction.
+     */
+    @Test
+    void rebuildReadsOneSnapshot() {
+        verify(transactionManager).getTransaction(argThat(definition -> definition.isReadOnly()
+            && definition.getIsolationLevel() == TransactionDefinition.ISOLATION_REPEATABLE_READ));
+    }
+
+    /**
+     * Test that a process created while the graph is first loaded, after its processes were read,
+     * is added once the load is done instead of being dropped.
+     */
+    @Test
+    void notificationDuringFirstLoadIsApplied() {
+        ProcessGraph loading = new ProcessGraph(processRepository, dataflowRepository, triggerRepository, resultRepository, transactionManager);
+        when(processRepository.findNodeById(7L)).thenReturn(Optional.of(node(7L, "Primary", null)));
+        when(dataflowRepository.findAllEdges()).thenAnswer(invocation -> {
+            loading.refreshProcess("INSERT", 7L);
+            return List.of();
+        });
+
+        loading.rebuild();
+
+        assertTrue(loading.isReady());
+        assertTrue(loading.containsProcess(7L));
+        assertEquals(6, loading.size());
+    }
+
+    /**
+     * Test that a process deleted while the graph is rebuilt, after its processes were read,
+     * is not brought back by the older snapshot.
+     */
+    @Test
+    void notificationDuringRebuildIsNotOverwritten() {
+        when(dataflowRepository.findAllEdges()).thenAnswer(invocation -> {
+            processGraph.refreshProcess("DELETE", 4L);
+            return List.of(edge(10L, 1L, 2L), edge(11L, 4L, 2L));
+        });
+
+        processGraph.rebuild();
+
+        assertFalse(processGraph.containsProcess(4L));
+        assertEquals(1, processGraph.edgeCount());
+    }
+
+    /**
+     * Test that a full refresh asked for while the graph is rebuilt runs once the rebuild is done.
+     */
+    @Test
+    void rebuildRequestedDuringRebuildRunsAgain() {
+        when(dataflowRepository.findAllEdges()).thenAnswer(invocation -> {
+            processGraph.refreshInformationFlow("UPDATE", null);
+            return List.of();
+        }).thenReturn(List.of(edge(10L, 1L, 2L)));
+
+        processGraph.rebuild();
+
+        assertEquals(1, processGraph.edgeCount());
+    }
+
+    /**
+     * Test that the ID map keeps working across many inserts, removals and resizes.
+     */
+    @Test
+    void longIntMapInsertRemove() {
+        ProcessGraph.LongIntMap map = new ProcessGraph.LongIntMap(4);
+        for (int i = 0; i < 1000; i++) {
+            map.put(i * 31L, i);
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            map.remove(i * 31L);
+        }
+        assertEquals(500, map.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 0 ? -1 : i, map.get(i * 31L));
+        }
+    }
+
+    /**
+     * Test that a new result is loaded from the database when it is not a dataflow.
+     */
+    @Test
+    void refreshInformationFlowInsertResult() {
+        when(resultRepository.findLinkById(33L)).thenReturn(Optional.of(link(33L, 102L, 5L, false)));
+
+        processGraph.refreshInformationFlow("INSERT", 33L);
+
+        assertEquals(4, processGraph.linkCount());
+        assertEquals(4, processGraph.edgeCount());
+        assertEquals(List.of("organization:102@1"), describe(processGraph.findImpact(5L, true, 1, 10)));
+    }
+
+    /**
+     * Test that a deleted trigger is removed, together with the organization that no longer has flows.
+     */
+    @Test
+    void refreshInformationFlowDeleteTrigger() {
+        processGraph.refreshInformationFlow("DELETE", 30L);
+
+        assertEquals(2, processGraph.linkCount());
+        assertTrue(processGraph.findImpact(1L, false, 3, 10).nodes().isEmpty());
+    }
+
+    /**
+     * Test that a downstream impact analysis follows dataflows, results and triggers up to the depth.
+     */
+    @Test
+    void impactDownstream() {
+        ImpactResult impact = processGraph.findImpact(1L, true, 3, 10);
+
+        assertEquals(List.of("process:2@1", "organization:101@2", "process:3@3"), describe(impact));
+        assertEquals("downstream", impact.direction());
+        assertFalse(impact.truncated());
+        assertEquals(List.of("process:2@1", "organization:101@2"), describe(processGraph.findImpact(1L, true, 2, 10)));
+    }
+
+    /**
+     * Test that an upstream impact analysis follows dataflows and triggers backwards.
+     */
+    @Test
+    void impactUpstream() {
+        ImpactResult impact = processGraph.findImpact(2L, false, 2, 10);
+
+        assertEquals(List.of("process:1@1", "process:4@1", "process:3@1", "organization:100@2", "organization:101@2"),
+            describe(impact));
+        ImpactNode first = impact.nodes().get(0);
+        assertEquals("Process 1", first.name());
+        assertEquals("Primary", first.type());
+    }
+
+    /**
+     * Test that cycles do not return the start process or visit a node twice.
+     */
+    @Test
+    void impactCycle() {
+        processGraph.putDataflow(edge(17L, 2L, 1L));
+
+        ImpactResult impact = processGraph.findImpact(1L, true, 10, 10);
+
+        assertEquals(List.of("process:2@1", "organization:101@2", "process:3@3"), describe(impact));
+    }
+
+    /**
+     * Test that the result is cut off at the maximum number of nodes.
+     */
+    @Test
+    void impactTruncated() {
+        ImpactResult impact = processGraph.findImpact(2L, false, 2, 2);
+
+        assertEquals(List.of("process:1@1", "process:4@1"), describe(impact));
+        assertTrue(impact.truncated());
+    }
+
+    /**
+     * Test that an impact analysis of an unknown process returns null.
+     */
+    @Test
+    void impactUnknownProcess() {
+        assertEquals(null, processGraph.findImpact(99L, true, 3, 10));
+    }
+}
@@ -3,24 +3,30 @@ package com.backend.dashboard_tool.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import java.util.*;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+import com.backend.dashboard_tool.database.ProcessClosureRepository;
 import com.backend.dashboard_tool.database.ProcessRepository;
 import com.backend.dashboard_tool.DTO.ProcessDTO;
+import com.backend.dashboard_tool.DTO.ProcessNode;
+import com.backend.dashboard_tool.DTO.ProcessTreeNode;
 
 /**
  * Test class for ProcessService.
@@ -31,6 +37,12 @@ public class ProcessServiceTest {
     @Mock 
     private ProcessRepository processRepository;
 
+    @Mock
+    private ProcessClosureRepository processClosureRepository;
+
+    @Mock
+    private ProcessGraph processGraph;
+
     @InjectMocks
     private ProcessService processService;
 
@@ -49,6 +61,18 @@ public class ProcessServiceTest {
         process.setLevel(level);
         return process;
     }
+
+    /**
+     * Helper method to create a ProcessNode snapshot.
+     * 
+     * @param id the ID of the process
+     * @param type the type of the process
+     * @param level the level of the process
+     * @return a ProcessNode with the specified parameters
+     */
+    private ProcessNode createProcessNode(Long id, String type, int level) {
+        return new ProcessNode(id, null, type, null, null, level, null, null);
+    }
     
     /**
      * Test for getSubProcesses() method in ProcessService.
@@ -56,25 +80,25 @@ public class ProcessServiceTest {
      */
     @Test
     void getSubProcessesParentIdNotNullTypeFacilitating(){
-        ProcessEntity process1 = createProcessEntity(1L, "Facilitating", 0);
-        ProcessEntity process2 = createProcessEntity(2L, "Facilitating", 1);
+        ProcessNode process1 = createProcessNode(1L, "Facilitating", 0);
+        ProcessNode process2 = createProcessNode(2L, "Facilitating", 1);
 
-        List<ProcessEntity> processes = Arrays.asList(process1, process2);
+        List<ProcessNode> processes = Arrays.asList(process1, process2);
 
-        //Mock the process repository to return the list of processes when findSubprocessByParentId is called
-        when(processRepository.findSubprocessByParentId(1L)).thenReturn(processes);
+        //Mock the process repository to return the list of processes when findSubprocessNodesByParentId is called
+        when(processRepository.findSubprocessNodesByParentId(1L)).thenReturn(processes);
 
         //Call the getSubProcesses method with parent id 1L and type "Facilitating"
-        List<ProcessEntity> result = processService.getSubProcesses(1L, "Facilitating");
+        List<ProcessNode> result = processService.getSubProcesses(1L, "Facilitating");
 
         //Assert that the result is not null and contains the expected processes
         assertEquals(2, result.size());
-        assertEquals("Facilitating", result.get(0).getType());
-        assertEquals(0, result.get(0).getLevel());
-        assertEquals("Facilitating", result.get(1).getType());
-        assertEquals(1, result.get(1).getLevel());
+        assertEquals("Facilitating", result.get(0).type());
+        assertEquals(0, result.get(0).level());
+        assertEquals("Facilitating", result.get(1).type());
+        assertEquals(1, result.get(1).level());
         //Verify that the process repository was called once with the correct parent id
-        verify(processRepository, times(1)).findSubprocessByParentId(1L);
+        verify(processRepository, times(1)).findSubprocessNodesByParentId(1L);
     }
 
     /**
@@ -98,22 +122,22 @@ public class ProcessServiceTest {
      */
     @Test
     void getSubProcessesParentIdNullTypeFacilitating() throws Exception {
-        ProcessEntity process1 = createProcessEntity(1L, "Facilitating", 0);
+        ProcessNode process1 = createProcessNode(1L, "Facilitating", 0);
 
-        List<ProcessEntity> processes = Arrays.asList(process1);
+        List<ProcessNode> processes = Arrays.asList(process1);
 
-        //Mock the process repository to return the list of processes when findSubprocessByParentId is called
-        when(processRepository.findByTypeLevel0("Facilitating")).thenReturn(processes);
+        //Mock the process repository to return the list of processes when findNodesByTypeLevel0 is called
+        when(processRepository.findNodesByTypeLevel0("Facilitating")).thenReturn(processes);
 
         //Call the getSubProcesses method with parent id null and type "Facilitating"
-        List<ProcessEntity> result = processService.getSubProcesses(null, "Facilitating");
+        List<ProcessNode> result = processService.getSubProcesses(null, "Facilitating");
 
         //Assert that the result is not null and contains the expected processes
         assertEquals(1, result.size());
-        assertEquals("Facilitating", result.get(0).getType());
-        assertEquals(0, result.get(0).getLevel());
-        //Verify that the process repository was called once with the correct parent id
-        verify(processRepository, times(1)).findByTypeLevel0("Facilitating");
+        assertEquals("Facilitating", result.get(0).type());
+        assertEquals(0, result.get(0).level());
+        //Verify that the process repository was called once with the correct type
+        verify(processRepository, times(1)).findNodesByTypeLevel0("Facilitating");
     }
 
     /**
@@ -196,6 +220,8 @@ public class ProcessServiceTest {
 
         //Verify that the save method was called once with the correct parameters
         verify(processRepository, times(1)).save(any(ProcessEntity.class));
+        //Verify that the closure rows were added below the parent
+        verify(processClosureRepository, times(1)).insertForProcess(result.getId(), 1L);
     }
 
     /**
@@ -259,20 +285,20 @@ public class ProcessServiceTest {
      */
     @Test
     void getProcessByIdSuccess() {
-        ProcessEntity processEntity = createProcessEntity(1L, "Primary", 0);
+        ProcessNode processNode = createProcessNode(1L, "Primary", 0);
 
-        //Mock the repository to return the process when findById is called
-        when(processRepository.findById(1L)).thenReturn(Optional.of(processEntity));
+        //Mock the repository to return the process when findNodeById is called
+        when(processRepository.findNodeById(1L)).thenReturn(Optional.of(processNode));
 
         //Call the getProcessById method
-        ProcessEntity result = processService.getProcessById(1L);
+        ProcessNode result = processService.getProcessById(1L);
 
         //Assert that the result is not null and contains the expected values
-        assertEquals("Primary", result.getType());
-        assertEquals(0, result.getLevel());
+        assertEquals("Primary", result.type());
+        assertEquals(0, result.level());
 
-        //Verify that the findById method was called once with the correct ID
-        verify(processRepository, times(1)).findById(1L);
+        //Verify that the findNodeById method was called once with the correct ID
+        verify(processRepository, times(1)).findNodeById(1L);
     }
 
     /**
@@ -282,12 +308,136 @@ public class ProcessServiceTest {
     @Test
     void getProcessByIdNotFound() {
         //Mock the repository to return an empty Optional when trying to find a process by ID
-        when(processRepository.findById(999L)).thenReturn(Optional.empty());
+        when(processRepository.findNodeById(999L)).thenReturn(Optional.empty());
         
         //Assert that a ResponseStatusException is thrown when trying to retrieve a process with a non-existing ID
         assertThrows(ResponseStatusException.class, () -> processService.getProcessById(999L));
 
-        //Verify that the findById method was called once with the correct ID
-        verify(processRepository, times(1)).findById(999L);
+        //Verify that the findNodeById method was called once with the correct ID
+        verify(processRepository, times(1)).findNodeById(999L);
+    }
+
+    /**
+     * Test for getProcessReference() method in ProcessService.
+     * This test will verify that a reference is returned without loading the process.
+     */
+    @Test
+    void getProcessReferenceSuccess() {
+        ProcessEntity reference = createProcessEntity(1L, "Primary", 0);
+        when(processRepository.existsById(1L)).thenReturn(true);
+        when(processRepository.getReferenceById(1L)).thenReturn(reference);
+
+        assertEquals(reference, processService.getProcessReference(1L, "Source process"));
+        verify(processRepository, never()).findById(anyLong());
+    }
+
+    /**
+     * Test for getProcessReference() method in ProcessService.
+     * This test will verify the case when the process with the given ID does not exist.
+     */
+    @Test
+    void getProcessReferenceNotFound() {
+        when(processRepository.existsById(999L)).thenReturn(false);
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+            () -> processService.getProcessReference(999L, "Source process"));
+        assertEquals("Source process not found with ID: 999", e.getReason());
+        verify(processRepository, never()).getReferenceById(anyLong());
+    }
+
+    /**
+     * Test for requireProcess() method in ProcessService.
+     * This test will verify that a process in the ProcessGraph is checked without a query.
+     */
+    @Test
+    void requireProcessFromGraph() {
+        when(processGraph.containsProcess(1L)).thenReturn(true);
+
+        processService.requireProcess(1L);
+        verifyNoInteractions(processRepository);
+    }
+
+    /**
+     * Test for requireProcess() method in ProcessService.
+     * This test will verify that a process the ProcessGraph does not hold yet is looked up in the database.
+     */
+    @Test
+    void requireProcessFallsBackToDatabase() {
+        when(processGraph.containsProcess(2L)).thenReturn(false);
+        when(processRepository.existsById(2L)).thenReturn(true);
+
+        processService.requireProcess(2L);
+        verify(processRepository, never()).findNodeById(anyLong());
+    }
+
+    /**
+     * Test for requireProcess() method in ProcessService.
+     * This test will verify the case when the process with the given ID does not exist.
+     */
+    @Test
+    void requireProcessNotFound() {
+        when(processGraph.containsProcess(999L)).thenReturn(false);
+        when(processRepository.existsById(999L)).thenReturn(false);
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> processService.requireProcess(999L));
+        assertEquals(HttpStatus.NOT_FOUND, e.getStatusCode());
+    }
+
+    /**
+     * Helper method to create a flat ProcessTreeNode as returned by the closure query.
+     */
+    private ProcessTreeNode treeNode(Long id, Long parentId, int depth) {
+        return new ProcessTreeNode(id, "P" + id, "Primary", null, null, depth, null, parentId, depth);
+    }
+
+    /**
+     * Test for getProcessTree() method in ProcessService.
+     * This test will verify that the flat closure rows are assembled into a nested tree.
+     */
+    @Test
+    void getProcessTreeAssemblesChildren() {
+        when(processClosureRepository.findSubtree(1L, Integer.MAX_VALUE)).thenReturn(List.of(
+            treeNode(1L, null, 0), treeNode(2L, 1L, 1), treeNode(3L, 1L, 1), treeNode(4L, 2L, 2)));
+
+        ProcessTreeNode root = processService.getProcessTree(1L, null);
+
+        assertEquals(1L, root.id());
+        assertEquals(List.of(2L, 3L), root.children().stream().map(ProcessTreeNode::id).toList());
+        assertEquals(4L, root.children().get(0).children().get(0).id());
+        assertEquals(0, root.children().get(1).children().size());
+    }
+
+    /**
+     * Test for getProcessTree() method in ProcessService.
+     * This test will verify that the root keeps its own parent out of the tree and that
+     * maxDepth is passed on to the query.
+     */
+    @Test
+    void getProcessTreeSubtreeWithDepth() {
+        when(processClosureRepository.findSubtree(2L, 1)).thenReturn(List.of(
+            treeNode(2L, 1L, 0), treeNode(4L, 2L, 1)));
+
+        ProcessTreeNode root = processService.getProcessTree(2L, 1);
+
+        assertEquals(2L, root.id());
+        assertEquals(1, root.children().size());
+        verify(processClosureRepository, times(1)).findSubtree(2L, 1);
+    }
+
+    /**
+     * Test for getProcessTree() method in ProcessService.
+     * This test will verify the errors for an unknown root and a negative depth.
+     */
+    @Test
+    void getProcessTreeErrors() {
+        when(processClosureRepository.findSubtree(999L, Integer.MAX_VALUE)).thenReturn(List.of());
+
+        ResponseStatusException notFound = assertThrows(ResponseStatusException.class,
+            () -> processService.getProcessTree(999L, null));
+        assertEquals(404, notFound.getStatusCode().value());
+
+        ResponseStatusException badRequest = assertThrows(ResponseStatusException.class,
+            () -> processService.getProcessTree(1L, -1));
+        assertEquals(400, badRequest.getStatusCode().value());
     }
 }
@@ -18,7 +18,8 @@ import com.backend.dashboard_tool.database.Strategy.ProductRepository;
 import com.backend.dashboard_tool.database.Strategy.ServiceRepository;
 import com.backend.dashboard_tool.entity.Finance.Cost;
 import com.backend.dashboard_tool.entity.Finance.Revenue;
-import com.backend.dashboard_tool.entity.Process_Data.ProcessEntity;
+import static org.mockito.Mockito.doThrow;
+import org.springframework.http.HttpStatus;
 import com.backend.dashboard_tool.entity.Strategy.Goal;
 import com.backend.dashboard_tool.entity.Strategy.Product;
 import com.backend.dashboard_tool.entity.Strategy.Service;
@@ -178,7 +179,6 @@ public class RelevanceServiceTest {
     @Test
     void getCostsByProcessId() throws Exception {
         Long processId = 10L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         List<Cost> costs = List.of(createCost(1L, "Cost 1"));
         when(costRepository.findByProcessId(processId)).thenReturn(costs);
@@ -191,7 +191,6 @@ public class RelevanceServiceTest {
     @Test
     void getRevenuesByProcessId() throws Exception {
         Long processId = 11L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         List<Revenue> revenues = List.of(createRevenue(1L, "Revenue 1"));
         when(revenueRepository.findByProcessId(processId)).thenReturn(revenues);
@@ -204,7 +203,6 @@ public class RelevanceServiceTest {
     @Test
     void getProductsByProcessId() throws Exception {
         Long processId = 12L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         List<Product> products = List.of(createProduct(1L, "Product 1"));
         when(productRepository.findByProcessId(processId)).thenReturn(products);
@@ -217,7 +215,6 @@ public class RelevanceServiceTest {
     @Test
     void getServicesByProcessId() throws Exception {
         Long processId = 13L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         List<Service> services = List.of(createService(1L, "Service 1"));
         when(serviceRepository.findByProcessId(processId)).thenReturn(services);
@@ -230,7 +227,6 @@ public class RelevanceServiceTest {
     @Test
     void getGoalsByProcessId() throws Exception {
         Long processId = 14L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         List<Goal> goals = List.of(createGoal(1L, "Goal 1"));
         when(goalRepository.findByProcessId(processId)).thenReturn(goals);
@@ -243,7 +239,7 @@ public class RelevanceServiceTest {
     @Test
     void getRelevanceServicesByTypeAndProcessId_UnknownProcessId() throws Exception {
         Long processId = 99L;
-        when(processService.getProcessById(processId)).thenReturn(null);
+        doThrow(new ResponseStatusException(HttpStatus.NOT_FOUND)).when(processService).requireProcess(processId);
 
         assertThrows(ResponseStatusException.class, () -> {
             relevanceService.getRelevanceByTypeAndProcessId("improvement", processId);
@@ -253,7 +249,6 @@ public class RelevanceServiceTest {
     @Test
     void getLayerByTypeAndProcessId_UnknownType() throws Exception {
         Long processId = 99L;
-        when(processService.getProcessById(processId)).thenReturn(new ProcessEntity());
 
         assertThrows(ResponseStatusException.class, () -> {
             relevanceService.getRelevanceByTypeAndProcessId("unknown", processId);
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.backend.dashboard_tool.DTO.ResultDTO;
@@ -125,7 +126,7 @@ public class ResultServiceTest {
         Result result = createResult(1L, "Test Result", sourceOrganization, targetProcess);
 
         when(organizationRepository.getReferenceById(resultDTO.source())).thenReturn(sourceOrganization);
-        when(processService.getProcessById(resultDTO.target())).thenReturn(targetProcess);
+        when(processService.getProcessReference(resultDTO.source(), "Source process")).thenReturn(targetProcess);
         when(resultRepository.save(any(Result.class))).thenReturn(result);
 
         Result createdResult = resultService.createResult(resultDTO);
@@ -134,7 +135,7 @@ public class ResultServiceTest {
         assertEquals(result.getId(), createdResult.getId());
         assertEquals(result.getName(), createdResult.getName());
         verify(organizationRepository, times(1)).getReferenceById(resultDTO.source());
-        verify(processService, times(1)).getProcessById(resultDTO.target());
+        verify(processService, times(1)).getProcessReference(resultDTO.source(), "Source process");
         verify(resultRepository, times(1)).save(any(Result.class));
     }
 
@@ -175,10 +176,11 @@ public class ResultServiceTest {
         Organization sourceOrganization = createOrganization(1L, "Test Org");
 
         when(organizationRepository.getReferenceById(resultDTO.source())).thenReturn(sourceOrganization);
-        when(processService.getProcessById(resultDTO.target())).thenReturn(null);
+        when(processService.getProcessReference(resultDTO.source(), "Source process")).thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Source process not found with ID: " + resultDTO.source()));
 
-        assertThrows(ResponseStatusException.class, () -> {
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> {
             resultService.createResult(resultDTO);
         });
+        assertEquals(HttpStatus.NOT_FOUND, e.getStatusCode());
     }
 }
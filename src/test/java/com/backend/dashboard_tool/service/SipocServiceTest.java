@@ -0,0 +1,248 @@
+package com.backend.dashboard_tool.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.backend.dashboard_tool.DTO.ProcessNode;
+import com.backend.dashboard_tool.config.RequestPhases;
+import com.backend.dashboard_tool.sipocrecords.*;
+
+/**
+ * Test class for SipocService.
+ * This class contains unit tests for the aggregated SIPOC view.
+ */
+@ExtendWith(MockitoExtension.class)
+public class SipocServiceTest {
+    @Mock
+    private ProcessService processService;
+    @Mock
+    private TriggerService triggerService;
+    @Mock
+    private ResultService resultService;
+    @Mock
+    private DataflowService dataflowService;
+    @Mock
+    private ControlService controlService;
+    @Mock
+    private ICTService ictService;
+    @Mock
+    private InfrastructureService infrastructureService;
+    @Mock
+    private InitiativeService initiativeService;
+    @Mock
+    private PeopleService peopleService;
+    @Mock
+    private PerformanceService performanceService;
+    @Mock
+    private RelevanceService relevanceService;
+
+    private final CacheManager cacheManager = new ConcurrentMapCacheManager();
+
+    private SipocService sipocService;
+
+    @BeforeEach
+    void setUp() {
+        sipocService = new SipocService(processService, triggerService, resultService, dataflowService, controlService,
+            ictService, infrastructureService, initiativeService, peopleService, performanceService, relevanceService,
+            cacheManager, 2);
+    }
+
+    /**
+     * Test for getSipoc() method in SipocService.
+     * This test will verify that every pane and every layer type is gathered into one view.
+     */
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void getSipocGathersEverything() {
+        ProcessNode process = new ProcessNode(1L, null, "Primary", null, null, 1, null, 5L);
+        when(processService.getProcessById(1L)).thenReturn(process);
+
+        List<OrgTriggerPair> triggers = List.of(new OrgTriggerPair(null, null));
+        List<ResultOrgPair> results = List.of(new ResultOrgPair(null, null));
+        List<ProcessDataflowPair> inputs = List.of(new ProcessDataflowPair(null, null));
+        List<DataflowProcessPair> outputs = List.of(new DataflowProcessPair(null, null));
+        when(triggerService.getTriggersByProcessId(1L)).thenReturn(triggers);
+        when(resultService.getResultsByProcessId(1L)).thenReturn(results);
+        when(dataflowService.getInputDataflows(1L, 5L, "Primary")).thenReturn(inputs);
+        when(dataflowService.getOutputDataflows(1L, 5L, "Primary")).thenReturn(outputs);
+
+        when(controlService.getControlsByTypeAndProcessId(anyString(), anyLong())).thenReturn(List.of());
+        when(controlService.getControlsByTypeAndProcessId("audit", 1L)).thenReturn((List) List.of("audit-1"));
+        when(ictService.getIctsByTypeAndProcessId(anyString(), anyLong())).thenReturn(List.of());
+        when(infrastructureService.getInfrastructuresByTypeAndProcessId(anyString(), anyLong())).thenReturn(List.of());
+        when(initiativeService.getInitiativesByTypeAndProcessId(anyString(), anyLong())).thenReturn(List.of());
+        when(peopleService.getPeopleByTypeAndProcessId(anyString(), anyLong())).thenReturn(List.of());
+        when(performanceService.getPerformancesByTypeAndProcessId(anyString(), anyLong())).thenReturn(List.of());
+        when(relevanceService.getRelevanceByTypeAndProcessId(anyString(), anyLong())).thenReturn(List.of());
+
+        SipocView view = sipocService.getSipoc(1L);
+
+        assertSame(process, view.process());
+        assertSame(triggers, view.triggers());
+        assertSame(results, view.results());
+        assertSame(inputs, view.inputs());
+        assertSame(outputs, view.outputs());
+        assertEquals(SipocService.LAYER_TYPES.keySet(), view.layers().keySet());
+        SipocService.LAYER_TYPES.forEach((layer, types) ->
+            assertEquals(types, List.copyOf(view.layers().get(layer).keySet())));
+        assertEquals(List.of("audit-1"), view.layers().get("control").get("audit"));
+        verify(peopleService, times(1)).getPeopleByTypeAndProcessId("consultation", 1L);
+    }
+
+    /**
+     * Test for getSipoc() method in SipocService.
+     * This test will verify that an unknown process fails before anything else is queried.
+     */
+    @Test
+    void getSipocProcessNotFound() {
+        when(processService.getProcessById(999L))
+            .thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Process not found."));
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+            () -> sipocService.getSipoc(999L));
+
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+        verify(triggerService, never()).getTriggersByProcessId(999L);
+    }
+
+    /**
+     * Test for getSipoc() method in SipocService.
+     * This test will verify that the status of a failing service is passed on unchanged.
+     */
+    @Test
+    void getSipocKeepsFailingStatus() {
+        when(processService.getProcessById(1L)).thenReturn(new ProcessNode(1L, null, null, null, null, 0, null, null));
+        when(triggerService.getTriggersByProcessId(1L))
+            .thenThrow(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Broken trigger."));
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+            () -> sipocService.getSipoc(1L));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+    }
+
+    /**
+     * Test for getSipoc() method in SipocService.
+     * This test will verify that no more calls run at the same time than the permits allow.
+     */
+    @Test
+    void getSipocLimitsConcurrentCalls() {
+        when(processService.getProcessById(1L)).thenReturn(new ProcessNode(1L, null, null, null, null, 0, null, null));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(peopleService.getPeopleByTypeAndProcessId(anyString(), anyLong())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return List.of();
+        });
+
+        sipocService.getSipoc(1L);
+
+        assertTrue(maxRunning.get() <= 2, "at most 2 calls at the same time, but was " + maxRunning.get());
+        verify(peopleService, times(SipocService.LAYER_TYPES.get("people").size())).getPeopleByTypeAndProcessId(anyString(), anyLong());
+    }
+
+    /**
+     * Test for getSipoc() method in SipocService.
+     * This test will verify that the database time of the calls on the virtual threads is added to the request.
+     */
+    @Test
+    void getSipocAddsPhasesOfCallsToRequest() {
+        when(processService.getProcessById(1L)).thenReturn(new ProcessNode(1L, null, null, null, null, 0, null, null));
+        when(peopleService.getPeopleByTypeAndProcessId(anyString(), anyLong())).thenAnswer(invocation -> {
+            RequestPhases.addDb(1_000);
+            return List.of();
+        });
+
+        RequestPhases.start();
+        try {
+            sipocService.getSipoc(1L);
+        } finally {
+            Map<RequestPhases.Phase, Long> phases = RequestPhases.stop();
+            assertEquals(SipocService.LAYER_TYPES.get("people").size() * 1_000L, phases.get(RequestPhases.Phase.DB));
+        }
+    }
+
+    /**
+     * Test for getSipoc() method in SipocService.
+     * This test will verify that a view with a warm cache is built while the database calls
+     * of another view hold every permit, without calling the services.
+     */
+    @Test
+    void getSipocCachedCallsNeedNoPermit() throws Exception {
+        when(processService.getProcessById(1L)).thenReturn(new ProcessNode(1L, null, "Primary", null, null, 0, null, null));
+        ProcessNode cachedProcess = new ProcessNode(2L, null, "Primary", null, null, 0, null, null);
+        when(processService.getProcessById(2L)).thenReturn(cachedProcess);
+
+        // The calls of process 1 miss the cache and block while they hold the permits
+        CountDownLatch holding = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        when(peopleService.getPeopleByTypeAndProcessId(anyString(), anyLong())).thenAnswer(invocation -> {
+            holding.countDown();
+            release.await();
+            return List.of();
+        });
+
+        // Everything of process 2 is cached under the keys of the services
+        List<OrgTriggerPair> triggers = List.of(new OrgTriggerPair(null, null));
+        cacheManager.getCache("triggers").put(2L, triggers);
+        cacheManager.getCache("results").put(2L, List.of());
+        cacheManager.getCache("inputDataflows").put("2-null-Primary", List.of());
+        cacheManager.getCache("outputDataflows").put("2-null-Primary", List.of());
+        Map<String, String> layerCaches = Map.of("control", "controlByProcess", "ict", "ictByProcess",
+            "infrastructure", "infrastructureByProcess", "initiative", "initiativesByProcess",
+            "people", "peopleByProcess", "performance", "performancesByProcess", "relevance", "relevancesByProcess");
+        SipocService.LAYER_TYPES.forEach((layer, types) -> types.forEach(type ->
+            cacheManager.getCache(layerCaches.get(layer)).put(type + "-2", List.of(type))));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<SipocView> cold = executor.submit(() -> sipocService.getSipoc(1L));
+            assertTrue(holding.await(5, TimeUnit.SECONDS), "the calls of process 1 hold both permits");
+
+            SipocView warm = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> sipocService.getSipoc(2L));
+
+            assertSame(triggers, warm.triggers());
+            assertEquals(List.of("audit"), warm.layers().get("control").get("audit"));
+            verify(triggerService, never()).getTriggersByProcessId(2L);
+            verify(peopleService, never()).getPeopleByTypeAndProcessId("employee", 2L);
+            assertFalse(cold.isDone());
+
+            release.countDown();
+            cold.get(5, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
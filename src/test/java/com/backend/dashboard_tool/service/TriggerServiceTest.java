@@ -13,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.backend.dashboard_tool.DTO.TriggerDTO;
@@ -125,7 +126,7 @@ public class TriggerServiceTest {
         Trigger trigger = createTrigger(1L, "Test Trigger", sourceOrganization, targetProcess);
 
         when(organizationRepository.getReferenceById(triggerDTO.source())).thenReturn(sourceOrganization);
-        when(processService.getProcessById(triggerDTO.target())).thenReturn(targetProcess);
+        when(processService.getProcessReference(triggerDTO.target(), "Target process")).thenReturn(targetProcess);
         when(triggerRepository.save(any(Trigger.class))).thenReturn(trigger);
         
         Trigger createdTrigger = triggerService.createTrigger(triggerDTO);
@@ -134,7 +135,7 @@ public class TriggerServiceTest {
         assertEquals(trigger.getId(), createdTrigger.getId());
         assertEquals(trigger.getName(), createdTrigger.getName());
         verify(organizationRepository, times(1)).getReferenceById(triggerDTO.source());
-        verify(processService, times(1)).getProcessById(triggerDTO.target());
+        verify(processService, times(1)).getProcessReference(triggerDTO.target(), "Target process");
         verify(triggerRepository, times(1)).save(any(Trigger.class));
     }
 
@@ -175,10 +176,11 @@ public class TriggerServiceTest {
         Organization sourceOrganization = createOrganization(1L, "Test Org");
 
         when(organizationRepository.getReferenceById(triggerDTO.source())).thenReturn(sourceOrganization);
-        when(processService.getProcessById(triggerDTO.target())).thenReturn(null);
+        when(processService.getProcessReference(triggerDTO.target(), "Target process")).thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Target process not found with ID: " + triggerDTO.target()));
 
-        assertThrows(ResponseStatusException.class, () -> {
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> {
             triggerService.createTrigger(triggerDTO);
         });
+        assertEquals(HttpStatus.NOT_FOUND, e.getStatusCode());
     }
 }